@@ -0,0 +1,36 @@
+package io.blueharvest.bank.benchmark;
+
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.service.AccountService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link AccountService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountServiceBenchmark {
+
+    /**
+     * Benchmarks {@link AccountService#create(Account)}, i.e. inserting an account together with its initial
+     * transaction and balance
+     */
+    @Benchmark
+    public Account create(BankState state) {
+        return state.getAccountService().create(state.newAccount(state.randomCustomer()));
+    }
+}
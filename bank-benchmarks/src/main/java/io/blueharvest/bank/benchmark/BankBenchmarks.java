@@ -0,0 +1,42 @@
+package io.blueharvest.bank.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. It accepts the usual JMH command line options, e.g. a benchmark name pattern or
+ * "-p customers=10000" for a larger dataset, and always adds the GC profiler, so that allocation rates are reported
+ * next to the timings. Unless given otherwise, the results are written as JSON to "jmh-result.json" so that they can
+ * be compared between releases.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class BankBenchmarks {
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BankBenchmarks() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        OptionsBuilder optionsBuilder = new OptionsBuilder();
+        optionsBuilder.parent(commandLineOptions);
+        optionsBuilder.addProfiler(GCProfiler.class);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            optionsBuilder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            optionsBuilder.result(DEFAULT_RESULT_FILE);
+        }
+
+        new Runner(optionsBuilder.build()).run();
+    }
+}
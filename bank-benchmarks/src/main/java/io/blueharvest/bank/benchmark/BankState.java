@@ -0,0 +1,181 @@
+package io.blueharvest.bank.benchmark;
+
+import io.blueharvest.bank.Application;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.PostingService;
+import io.blueharvest.bank.service.StatementService;
+import io.blueharvest.bank.service.TransactionService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark state that starts the application against an embedded H2 database and fills it with a dataset of
+ * configurable size, i.e. customers, each of them with accounts and each account with transactions. The database is
+ * either kept in memory or, as in the production profile, in a file, so that the two storage modes can be compared.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@State(Scope.Benchmark)
+public class BankState {
+    private static final String NAME = "John";
+    private static final String SURNAME = "Smith";
+    private static final String ADDRESS = "Amsterdam";
+    private static final String POSTCODE = "1234AB";
+    private static final Money CREDIT = Money.valueOf("1000.50");
+    private static final Money AMOUNT = Money.valueOf("10.25");
+
+    public static final String MEMORY_STORAGE = "memory";
+    public static final String FILE_STORAGE = "file";
+
+    @Param({MEMORY_STORAGE, FILE_STORAGE})
+    private String storage;
+
+    @Param("1000")
+    private int customers;
+
+    @Param("2")
+    private int accountsPerCustomer;
+
+    @Param("10")
+    private int transactionsPerAccount;
+
+    private Path dataDirectory;
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private TransactionService transactionService;
+    private PostingService postingService;
+    private StatementService statementService;
+
+    private List<Customer> existingCustomers;
+    private List<Long> existingAccountIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Passed as arguments, as these take precedence over the application.properties of the application
+        List<String> arguments = new ArrayList<>();
+        if (FILE_STORAGE.equals(storage)) {
+            dataDirectory = Files.createTempDirectory("benchmarkdb");
+            arguments.add("--spring.profiles.active=production");
+            arguments.add("--bank.data-dir=" + dataDirectory.toAbsolutePath());
+        } else {
+            arguments.add("--spring.datasource.url=jdbc:h2:mem:benchmarkdb;DB_CLOSE_ON_EXIT=FALSE;DB_CLOSE_DELAY=-1");
+        }
+        arguments.add("--spring.main.banner-mode=off");
+        arguments.add("--logging.level.root=WARN");
+
+        context = new SpringApplicationBuilder(Application.class)
+                .web(false)
+                .run(arguments.toArray(new String[0]));
+
+        accountService = context.getBean(AccountService.class);
+        transactionService = context.getBean(TransactionService.class);
+        postingService = context.getBean(PostingService.class);
+        statementService = context.getBean(StatementService.class);
+        CustomerRepository customerRepository = context.getBean(CustomerRepository.class);
+
+        existingCustomers = new ArrayList<>(customers);
+        existingAccountIds = new ArrayList<>(customers * accountsPerCustomer);
+        for (int i = 0; i < customers; i++) {
+            Customer customer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+            existingCustomers.add(customer);
+
+            for (int j = 0; j < accountsPerCustomer; j++) {
+                Account account = accountService.create(new Account(0L, CREDIT, customer));
+                existingAccountIds.add(account.getId());
+
+                List<Transaction> transactions = new ArrayList<>(transactionsPerAccount);
+                for (int k = 1; k < transactionsPerAccount; k++) { // The initial transaction is created with the account
+                    transactions.add(new Transaction(0L, AMOUNT, new Account(account.getId())));
+                }
+                transactionService.createAll(transactions);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        if (dataDirectory != null) {
+            FileSystemUtils.deleteRecursively(dataDirectory.toFile());
+        }
+    }
+
+    public AccountService getAccountService() {
+        return accountService;
+    }
+
+    public TransactionService getTransactionService() {
+        return transactionService;
+    }
+
+    public PostingService getPostingService() {
+        return postingService;
+    }
+
+    public StatementService getStatementService() {
+        return statementService;
+    }
+
+    public Money getAmount() {
+        return AMOUNT;
+    }
+
+    /**
+     * Returns a randomly chosen customer of the dataset
+     *
+     * @return A customer
+     */
+    public Customer randomCustomer() {
+        return existingCustomers.get(ThreadLocalRandom.current().nextInt(existingCustomers.size()));
+    }
+
+    /**
+     * Returns the ID of a randomly chosen account of the dataset
+     *
+     * @return An account ID
+     */
+    public long randomAccountId() {
+        return existingAccountIds.get(ThreadLocalRandom.current().nextInt(existingAccountIds.size()));
+    }
+
+    /**
+     * Returns the ID of an account of the dataset by its index, so that concurrent threads can each use an account of
+     * their own
+     *
+     * @param index The index of the account, wrapped around the number of accounts of the dataset
+     * @return An account ID
+     */
+    public long accountId(int index) {
+        return existingAccountIds.get(index % existingAccountIds.size());
+    }
+
+    /**
+     * Returns a new, not yet persisted account with the initial credit used by the dataset
+     *
+     * @param customer The customer the account belongs to
+     * @return The account
+     */
+    public Account newAccount(Customer customer) {
+        return new Account(0L, CREDIT, customer);
+    }
+}
@@ -0,0 +1,137 @@
+package io.blueharvest.bank.benchmark;
+
+import io.blueharvest.bank.dto.AccountDto;
+import io.blueharvest.bank.dto.CustomerDto;
+import io.blueharvest.bank.dto.TransactionDto;
+import io.blueharvest.bank.mapper.AccountMapper;
+import io.blueharvest.bank.mapper.CustomerMapper;
+import io.blueharvest.bank.mapper.TransactionMapper;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the conversion between entities and DTOs, comparing the hand-rolled mappers of the application
+ * against the reflective ModelMapper they replaced
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+    private static final long CUSTOMER_ID = 1L;
+    private static final long ACCOUNT_ID = 1L;
+    private static final long TRANSACTION_ID = 1L;
+    private static final Money CREDIT = Money.valueOf("1000.50");
+    private static final Money AMOUNT = Money.valueOf("10.25");
+
+    private ModelMapper modelMapper;
+    private Customer customer;
+    private CustomerDto customerDto;
+    private Account account;
+    private AccountDto accountDto;
+    private Transaction transaction;
+    private TransactionDto transactionDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        customer = new Customer(CUSTOMER_ID, "John", "Smith", "Amsterdam", "1234AB");
+        customerDto = new CustomerDto(CUSTOMER_ID, "John", "Smith", "Amsterdam", "1234AB");
+        account = new Account(ACCOUNT_ID, CREDIT, customer);
+        accountDto = new AccountDto(ACCOUNT_ID, CREDIT, CUSTOMER_ID);
+        transaction = new Transaction(TRANSACTION_ID, AMOUNT, account);
+        transactionDto = new TransactionDto(TRANSACTION_ID, AMOUNT, ACCOUNT_ID);
+    }
+
+    //region customers
+    @Benchmark
+    public Customer customerDtoToEntity() {
+        return CustomerMapper.toEntity(customerDto);
+    }
+
+    @Benchmark
+    public Customer customerDtoToEntityModelMapper() {
+        Customer mappedCustomer = new Customer();
+        modelMapper.map(customerDto, mappedCustomer);
+        return mappedCustomer;
+    }
+
+    @Benchmark
+    public CustomerDto customerEntityToDto() {
+        return CustomerMapper.toDto(customer);
+    }
+
+    @Benchmark
+    public CustomerDto customerEntityToDtoModelMapper() {
+        return modelMapper.map(customer, CustomerDto.class);
+    }
+    //endregion
+
+    //region accounts
+    @Benchmark
+    public Account accountDtoToEntity() {
+        return AccountMapper.toEntity(accountDto);
+    }
+
+    @Benchmark
+    public Account accountDtoToEntityModelMapper() {
+        Account mappedAccount = new Account();
+        modelMapper.map(accountDto, mappedAccount);
+        return mappedAccount;
+    }
+
+    @Benchmark
+    public AccountDto accountEntityToDto() {
+        return AccountMapper.toDto(account);
+    }
+
+    @Benchmark
+    public AccountDto accountEntityToDtoModelMapper() {
+        return modelMapper.map(account, AccountDto.class);
+    }
+    //endregion
+
+    //region transactions
+    @Benchmark
+    public Transaction transactionDtoToEntity() {
+        return TransactionMapper.toEntity(transactionDto);
+    }
+
+    @Benchmark
+    public Transaction transactionDtoToEntityModelMapper() {
+        Transaction mappedTransaction = new Transaction();
+        modelMapper.map(transactionDto, mappedTransaction);
+        return mappedTransaction;
+    }
+
+    @Benchmark
+    public TransactionDto transactionEntityToDto() {
+        return TransactionMapper.toDto(transaction);
+    }
+
+    @Benchmark
+    public TransactionDto transactionEntityToDtoModelMapper() {
+        return modelMapper.map(transaction, TransactionDto.class);
+    }
+    //endregion
+}
@@ -0,0 +1,100 @@
+package io.blueharvest.bank.benchmark;
+
+import io.blueharvest.bank.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for summing up the amounts of a batch of transactions per account, as done by the bulk import, comparing
+ * the minor units of {@link Money} against the boxed doubles they replaced and against {@link BigDecimal}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private static final int ACCOUNTS = 10;
+
+    @Param("1000")
+    private int transactions;
+
+    private long[] accountIds;
+    private Money[] amounts;
+    private Double[] doubleAmounts;
+    private BigDecimal[] decimalAmounts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0L);
+        accountIds = new long[transactions];
+        amounts = new Money[transactions];
+        doubleAmounts = new Double[transactions];
+        decimalAmounts = new BigDecimal[transactions];
+
+        for (int i = 0; i < transactions; i++) {
+            accountIds[i] = 1 + random.nextInt(ACCOUNTS);
+            amounts[i] = Money.ofMinorUnits(random.nextInt(2000000) - 1000000);
+            doubleAmounts[i] = amounts[i].getAmount().doubleValue();
+            decimalAmounts[i] = amounts[i].getAmount();
+        }
+    }
+
+    /**
+     * Sums up the minor units in place, as the bulk import does
+     */
+    @Benchmark
+    public Map<Long, long[]> sumMinorUnits() {
+        Map<Long, long[]> totals = new HashMap<>();
+        for (int i = 0; i < transactions; i++) {
+            totals.computeIfAbsent(accountIds[i], accountId -> new long[1])[0] += amounts[i].getMinorUnits();
+        }
+
+        return totals;
+    }
+
+    /**
+     * Sums up boxed doubles, which allocates a new {@link Double} for every transaction and loses cents
+     */
+    @Benchmark
+    public Map<Long, Double> sumBoxedDoubles() {
+        Map<Long, Double> totals = new HashMap<>();
+        for (int i = 0; i < transactions; i++) {
+            totals.merge(accountIds[i], doubleAmounts[i], Double::sum);
+        }
+
+        return totals;
+    }
+
+    /**
+     * Sums up decimals, which is exact but allocates a new {@link BigDecimal} for every transaction
+     */
+    @Benchmark
+    public Map<Long, BigDecimal> sumBigDecimals() {
+        Map<Long, BigDecimal> totals = new HashMap<>();
+        for (int i = 0; i < transactions; i++) {
+            totals.merge(accountIds[i], decimalAmounts[i], BigDecimal::add);
+        }
+
+        return totals;
+    }
+}
@@ -0,0 +1,49 @@
+package io.blueharvest.bank.benchmark;
+
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.service.PostingService;
+import io.blueharvest.bank.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmarks comparing the in-memory database with the file-backed one of the production profile, run by
+ * concurrent threads sharing the connection pool. The storage mode is selected by the {@code storage} parameter of
+ * {@link BankState}.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PersistenceModeBenchmark {
+
+    /**
+     * Benchmarks {@link PostingService#credit(long, Money)}, i.e. writing a transaction and updating a balance
+     */
+    @Benchmark
+    public Transaction credit(BankState state) {
+        return state.getPostingService().credit(state.randomAccountId(), state.getAmount());
+    }
+
+    /**
+     * Benchmarks {@link TransactionService#getTransactionsForAccount(long)}, i.e. an indexed read by account
+     */
+    @Benchmark
+    public List<Transaction> getTransactionsForAccount(BankState state) {
+        return state.getTransactionService().getTransactionsForAccount(state.randomAccountId());
+    }
+}
@@ -0,0 +1,67 @@
+package io.blueharvest.bank.benchmark;
+
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.service.PostingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmarks of {@link PostingService#credit(long, Money)} by one and by eight threads, each thread crediting
+ * an account of its own. Credits to disjoint accounts do not wait for each other's locks, so the throughput should grow
+ * with the number of threads, as far as the database allows, while a global lock would keep it flat.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostingScalingBenchmark {
+
+    /**
+     * Benchmarks credits by a single thread
+     */
+    @Benchmark
+    @Threads(1)
+    public Transaction creditOwnAccountByOneThread(BankState state, OwnAccount ownAccount) {
+        return state.getPostingService().credit(ownAccount.accountId, state.getAmount());
+    }
+
+    /**
+     * Benchmarks credits by eight threads, each crediting another account
+     */
+    @Benchmark
+    @Threads(8)
+    public Transaction creditOwnAccountByEightThreads(BankState state, OwnAccount ownAccount) {
+        return state.getPostingService().credit(ownAccount.accountId, state.getAmount());
+    }
+
+    /**
+     * The account credited by a thread, which is picked by the index of the thread
+     */
+    @State(Scope.Thread)
+    public static class OwnAccount {
+        private long accountId;
+
+        @Setup(Level.Trial)
+        public void setUp(BankState state, ThreadParams threadParams) {
+            accountId = state.accountId(threadParams.getThreadIndex());
+        }
+    }
+}
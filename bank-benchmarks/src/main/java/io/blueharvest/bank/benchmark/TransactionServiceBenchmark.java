@@ -0,0 +1,59 @@
+package io.blueharvest.bank.benchmark;
+
+import io.blueharvest.bank.dto.AccountStatement;
+import io.blueharvest.bank.dto.TransactionSummary;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.service.StatementService;
+import io.blueharvest.bank.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link TransactionService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    /**
+     * Benchmarks {@link TransactionService#getTransactionsForAccount(long)} for a random account of the dataset
+     */
+    @Benchmark
+    public List<Transaction> getTransactionsForAccount(BankState state) {
+        return state.getTransactionService().getTransactionsForAccount(state.randomAccountId());
+    }
+
+    /**
+     * Benchmarks {@link TransactionService#summarizeTransactionsForAccount(long, Date, Date)} over the whole history of
+     * a random account, to be compared with reading the history
+     */
+    @Benchmark
+    public TransactionSummary summarizeTransactionsForAccount(BankState state) {
+        return state.getTransactionService().summarizeTransactionsForAccount(state.randomAccountId(), null, null);
+    }
+
+    /**
+     * Benchmarks {@link StatementService#getYearlyStatement(long, int)} for the current year of a random account, which
+     * sums up its daily statements, to be compared with summarizing the transactions
+     */
+    @Benchmark
+    public AccountStatement getYearlyStatement(BankState state) {
+        return state.getStatementService().getYearlyStatement(state.randomAccountId(), LocalDate.now().getYear());
+    }
+}
@@ -1,18 +1,27 @@
 package io.blueharvest.bank;
 
-import org.apache.log4j.Logger;
+import com.codahale.metrics.MetricRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InjectionPoint;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Scope;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @SpringBootApplication
 @EnableAutoConfiguration
+@EnableCaching
+@EnableScheduling
 public class Application {
+    public static final String API_EXECUTOR = "apiExecutor";
 
     public static void main(final String[] args) {
         SpringApplication.run(Application.class, args);
@@ -34,6 +43,36 @@ public class Application {
     public Logger logger(InjectionPoint injectionPoint) {
         Class<?> clazz = injectionPoint.getMethodParameter().getContainingClass();
 
-        return Logger.getLogger(clazz);
+        return LoggerFactory.getLogger(clazz);
+    }
+
+    /**
+     * Producer for the registry holding the latency timers of controllers, services and repositories
+     *
+     * @return
+     */
+    @Bean
+    public MetricRegistry metricRegistry() {
+        return new MetricRegistry();
+    }
+
+    /**
+     * Producer for the executor running the database work of the JSON API, so that servlet threads are released while
+     * a request waits for the database
+     *
+     * @param poolSize      The number of threads, which should not exceed the size of the connection pool
+     * @param queueCapacity The number of requests that may wait for a thread before further requests are rejected
+     * @return
+     */
+    @Bean(name = API_EXECUTOR)
+    public ThreadPoolTaskExecutor apiExecutor(@Value("${bank.api.pool-size:10}") int poolSize,
+                                              @Value("${bank.api.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(API_EXECUTOR + "-");
+
+        return executor;
     }
 }
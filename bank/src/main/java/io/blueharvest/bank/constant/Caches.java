@@ -0,0 +1,17 @@
+package io.blueharvest.bank.constant;
+
+/**
+ * Container for cache names
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class Caches {
+    public static final String CUSTOMERS_CACHE = "customers";
+    public static final String CUSTOMER_EXISTENCE_CACHE = "customerExistence";
+    public static final String ACCOUNTS_CACHE = "accounts";
+
+    private Caches() {
+        // Private constructor to prevent instantiation
+    }
+}
@@ -23,6 +23,34 @@ public final class Fields {
 
     // region field names of transaction
     public static final String ACCOUNT_ID_PARAMETER = "accountId";
+    public static final String FORMAT_PARAMETER = "format";
+    public static final String FILE_PARAMETER = "file";
+    public static final String FROM_PARAMETER = "from";
+    public static final String TO_PARAMETER = "to";
+    public static final String MIN_AMOUNT_PARAMETER = "minAmount";
+    public static final String MAX_AMOUNT_PARAMETER = "maxAmount";
+    // endregion
+
+    // region parameter names of statements
+    public static final String YEAR_PARAMETER = "year";
+    public static final String MONTH_PARAMETER = "month";
+    // endregion
+
+    // region header names
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // endregion
+
+    // region parameter names of logging
+    public static final String ENABLED_PARAMETER = "enabled";
+    // endregion
+
+    // region parameter names of paging
+    public static final String AFTER_ID_PARAMETER = "afterId";
+    public static final String LIMIT_PARAMETER = "limit";
+    // endregion
+
+    // region parameter names of search, which searches by the field names of customer as well
+    public static final String FUZZY_PARAMETER = "fuzzy";
     // endregion
 
     private Fields() {
@@ -8,14 +8,34 @@ package io.blueharvest.bank.constant;
  **/
 public final class Messages {
 
-    //region success messages
-    public static final String COUNT_CUSTOMERS_READ_SUCCESSFULLY = "%d customers read successfully";
-    public static final String COUNT_ACCOUNTS_READ_SUCCESSFULLY = "%d accounts read successfully";
-    public static final String COUNT_TRANSACTIONS_READ_SUCCESSFULLY = "%d transactions read successfully";
+    //region success messages, which are logged with their arguments as parameters
+    public static final String COUNT_CUSTOMERS_READ_SUCCESSFULLY = "{} customers read successfully";
+    public static final String COUNT_ACCOUNTS_READ_SUCCESSFULLY = "{} accounts read successfully";
+    public static final String COUNT_TRANSACTIONS_READ_SUCCESSFULLY = "{} transactions read successfully";
+    public static final String COUNT_DAILY_TOTALS_READ_SUCCESSFULLY = "{} daily totals read successfully";
 
     public static final String CUSTOMER_CREATED_SUCCESSFULLY = "Customer created successfully";
     public static final String ACCOUNT_CREATED_SUCCESSFULLY = "Account created successfully";
     public static final String TRANSACTION_CREATED_SUCCESSFULLY = "Transaction created successfully";
+    public static final String COUNT_CUSTOMERS_CREATED_SUCCESSFULLY = "{} customers created successfully";
+    public static final String COUNT_CUSTOMERS_IMPORTED_SUCCESSFULLY =
+            "{} customers imported successfully, {} rows rejected";
+    public static final String COUNT_TRANSACTIONS_CREATED_SUCCESSFULLY = "{} transactions created successfully";
+    public static final String COUNT_TRANSACTIONS_EXPORTED_SUCCESSFULLY = "{} transactions exported successfully";
+    public static final String TRANSFER_POSTED_SUCCESSFULLY = "Transfer posted successfully";
+    public static final String COUNT_BALANCE_DISCREPANCIES_FOUND = "{} balance discrepancies found";
+    public static final String COUNT_REJECTED_JOURNAL_ENTRIES_FOUND = "{} rejected journal entries found";
+    public static final String PARTITION_RECONCILED_SUCCESSFULLY =
+            "Accounts {} to {} reconciled: {} accounts, {} transactions, {} discrepancies in {} ms ({} transactions/s)";
+    public static final String SQL_TRACING_SWITCHED = "SQL tracing switched {}";
+    public static final String IDEMPOTENT_REQUEST_REPLAYED = "Result of {} replayed for a repeated idempotency key";
+    public static final String COUNT_DAILY_STATEMENTS_REBUILT_SUCCESSFULLY = "{} daily statements rebuilt successfully";
+    public static final String COUNT_STATEMENTS_BACKFILLED_SUCCESSFULLY = "Statements of {} accounts backfilled";
+    public static final String COUNT_JOURNAL_ENTRIES_APPLIED_SUCCESSFULLY = "{} journal entries applied successfully";
+    public static final String COUNT_JOURNAL_ENTRIES_TO_BE_REPLAYED = "{} journal entries to be replayed";
+    public static final String COUNT_ACCOUNT_EVENTS_READ_SUCCESSFULLY = "{} account events read successfully";
+    public static final String ACCOUNT_SNAPSHOT_TAKEN_SUCCESSFULLY = "Snapshot of account {} taken at event {}";
+    public static final String COUNT_CUSTOMERS_INDEXED_SUCCESSFULLY = "{} customers added to the search index";
     //endregion
 
     //region generic error messages
@@ -23,6 +43,11 @@ public final class Messages {
     public static final String INVALID_PARAMETER_ERROR = "Invalid parameter value";
     public static final String OBJECT_NOT_FOUND_ERROR = "Object not found";
     public static final String OPERATION_FAILURE_ERROR = "Operation failed";
+    public static final String INVALID_PAGE_SIZE_ERROR = "Invalid page size";
+    public static final String SERVICE_BUSY_ERROR = "Service is busy, please retry later";
+    public static final String INVALID_IDEMPOTENCY_KEY_ERROR = "Invalid idempotency key";
+    public static final String IDEMPOTENCY_KEY_REUSED_ERROR = "Idempotency key already used for a different request";
+    public static final String CONCURRENT_UPDATE_ERROR = "Object was updated concurrently, please reload and retry";
     //endregion
 
     //region error messages for customers
@@ -32,6 +57,12 @@ public final class Messages {
     public static final String BLANK_INVALID_POSTCODE_ERROR = "Blank or invalid postcode";
     public static final String CUSTOMER_NULL_ERROR = "Customer cannot be null";
     public static final String CUSTOMER_NOT_FOUND_ERROR = "Customer not found";
+    public static final String INVALID_CUSTOMER_IMPORT_HEADER_ERROR =
+            "The header of a customer import must name the columns name, surname, address and postcode";
+    public static final String INVALID_CUSTOMER_IMPORT_ROW_ERROR = "Row has fewer columns than the header";
+    public static final String UNTERMINATED_CSV_FIELD_ERROR =
+            "Unterminated quoted field in the CSV record starting at line %s";
+    public static final String BLANK_CUSTOMER_SEARCH_ERROR = "A name, surname or postcode must be given to search for";
     //endregion
 
     //region error messages for accounts
@@ -43,7 +74,48 @@ public final class Messages {
 
     //region error messages for transactions
     public static final String TRANSACTION_NULL_ERROR = "Transaction cannot be null";
+    public static final String TRANSACTION_NOT_FOUND_ERROR = "Transaction not found";
     public static final String TRANSACTION_CREATION_FAILED_ERROR = "Failed to create transaction";
+    public static final String INVALID_AMOUNT_ERROR = "Invalid amount";
+    public static final String CURRENCY_MISMATCH_ERROR = "Amounts must be in the same currency";
+    public static final String INSUFFICIENT_FUNDS_ERROR = "Insufficient funds";
+    public static final String INVALID_EXPORT_FORMAT_ERROR = "Invalid export format";
+    public static final String INVALID_TIME_RANGE_ERROR = "Invalid time range";
+    public static final String INVALID_AMOUNT_RANGE_ERROR = "Invalid amount range";
+    public static final String SAME_ACCOUNT_TRANSFER_ERROR = "Source and target accounts of a transfer must differ";
+    //endregion
+
+    //region error messages for ledger
+    public static final String BALANCE_DISCREPANCY_ERROR = "Balance discrepancy detected: {}";
+    public static final String INVALID_PARTITION_SIZE_ERROR = "Invalid reconciliation partition size";
+    public static final String INVALID_PARALLELISM_ERROR = "Invalid reconciliation parallelism";
+    //endregion
+
+    //region error messages for statements
+    public static final String INVALID_STATEMENT_PERIOD_ERROR = "Invalid statement period";
+    //endregion
+
+    //region error messages for account events
+    public static final String INVALID_SNAPSHOT_INTERVAL_ERROR = "Invalid snapshot interval";
+    //endregion
+
+    //region error messages for the transaction journal
+    public static final String INVALID_JOURNAL_CAPACITY_ERROR = "Invalid journal capacity";
+    public static final String INVALID_JOURNAL_SEQUENCE_ERROR = "Invalid journal sequence";
+    public static final String JOURNAL_OPEN_FAILED_ERROR = "Failed to open transaction journal";
+    public static final String JOURNAL_ENTRY_REJECTED_ERROR =
+            "Journal entry rejected by the database, kept for reconciliation: {}";
+    public static final String REJECTED_JOURNAL_ENTRY_ERROR = "Rejected journal entry awaiting resolution: {}";
+    public static final String JOURNAL_APPLY_FAILED_ERROR = "Failed to apply journal entries, retrying later";
+    //endregion
+
+    //region error messages for caches
+    public static final String CACHE_NOT_FOUND_ERROR = "Cache not found";
+    //endregion
+
+    //region error messages for metrics
+    public static final String METRIC_NOT_FOUND_ERROR = "Metric not found";
+    public static final String CONNECTION_POOL_NOT_FOUND_ERROR = "Connection pool not found";
     //endregion
 
     private Messages() {
@@ -0,0 +1,17 @@
+package io.blueharvest.bank.constant;
+
+/**
+ * Container for paging settings of list views
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class Pagination {
+    public static final long FIRST_PAGE_AFTER_ID = 0L; // IDs are generated starting at 1, so 0 precedes all items
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private Pagination() {
+        // Private constructor to prevent instantiation
+    }
+}
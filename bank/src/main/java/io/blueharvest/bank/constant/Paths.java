@@ -12,6 +12,18 @@ public final class Paths {
     public static final String TRANSACTIONS_CONTEXT_PTAH = "transactions";
     public static final String ERROR_CONTEXT_PATH = "error";
     public static final String LIST_CONTEXT_PATH = "list";
+    public static final String EXPORT_CONTEXT_PATH = "export";
+    public static final String IMPORT_CONTEXT_PATH = "import";
+    public static final String SEARCH_CONTEXT_PATH = "search";
+    public static final String SUMMARY_CONTEXT_PATH = "summary";
+    public static final String DAILY_TOTALS_CONTEXT_PATH = "daily-totals";
+    public static final String STATEMENTS_CONTEXT_PATH = "statements";
+    public static final String CACHES_CONTEXT_PATH = "caches";
+    public static final String API_CONTEXT_PATH = "api";
+    public static final String METRICS_CONTEXT_PATH = "metrics";
+    public static final String CONNECTION_POOL_CONTEXT_PATH = "connection-pool";
+    public static final String LOGGING_CONTEXT_PATH = "logging";
+    public static final String SQL_CONTEXT_PATH = "sql";
 
     private Paths() {
         // Private constructor to prevent instantiation
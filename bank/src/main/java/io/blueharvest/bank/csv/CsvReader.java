@@ -0,0 +1,135 @@
+package io.blueharvest.bank.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.UNTERMINATED_CSV_FIELD_ERROR;
+
+/**
+ * Reads comma separated values record by record, so a file of any size is read with a fixed amount of memory besides
+ * the current record. Fields may be enclosed in double quotes, in which case they may contain commas, line breaks and
+ * double quotes written twice. Records are separated by LF or CRLF line breaks. A byte order mark at the start of the
+ * input, which some editors write, e.g. Excel when saving as UTF-8, and the decoder keeps, is skipped.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int END_OF_INPUT = -1;
+    private static final char BYTE_ORDER_MARK = '\ufeff';
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private long lineNumber = 1;
+    private long recordLineNumber;
+    private boolean atStart = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = checkNotNull(reader);
+    }
+
+    /**
+     * Reads the next record
+     *
+     * @return The fields of the record, null if there are no more records
+     * @throws IOException              If reading fails
+     * @throws IllegalArgumentException If a quoted field is not terminated before the end of the input
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (atStart) {
+            atStart = false;
+            if (c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+        }
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            if (quoted) {
+                checkArgument(c != END_OF_INPUT, UNTERMINATED_CSV_FIELD_ERROR, recordLineNumber);
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') { // A single quote ends the quoted part, a double one is a literal quote
+                        quoted = false;
+                        continue;
+                    }
+                }
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == END_OF_INPUT || c == '\n') {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                fields.add(removeTrailingCarriageReturn(field));
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line the last record read starts at, counting from 1
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END_OF_INPUT;
+            }
+        }
+
+        return buffer[position++];
+    }
+
+    private static String removeTrailingCarriageReturn(StringBuilder field) {
+        int length = field.length();
+        if (length > 0 && field.charAt(length - 1) == '\r') {
+            field.setLength(length - 1);
+        }
+
+        return field.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package io.blueharvest.bank.dto;
 
 import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Money;
 
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
@@ -15,27 +16,28 @@ import java.util.Date;
  **/
 public class AccountDto {
     private long id;
-    private double credit;
+    private long version;
+    private Money credit;
     private long customerId;
 
     @NotNull
     private Date establishDate;
 
     public AccountDto() {
-        this(0L, 0.0D);
+        this(0L, Money.ZERO);
     }
 
     public AccountDto(long id) {
-        this(id, 0.0D);
+        this(id, Money.ZERO);
     }
 
-    public AccountDto(long id, double credit) {
+    public AccountDto(long id, Money credit) {
         this.id = id;
         this.credit = credit;
         this.establishDate = new Date();
     }
 
-    public AccountDto(long id, double credit, long customerId) {
+    public AccountDto(long id, Money credit, long customerId) {
         this(id, credit);
         this.customerId = customerId;
     }
@@ -50,11 +52,22 @@ public class AccountDto {
         this.id = id;
     }
 
-    public double getCredit() {
+    /**
+     * Returns the version of the account this DTO was read from, which an update of the account is based on
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Money getCredit() {
         return credit;
     }
 
-    public void setCredit(double credit) {
+    public void setCredit(Money credit) {
         this.credit = credit;
     }
 
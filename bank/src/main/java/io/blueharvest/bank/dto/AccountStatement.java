@@ -0,0 +1,92 @@
+package io.blueharvest.bank.dto;
+
+import io.blueharvest.bank.model.Money;
+
+import java.util.Date;
+
+/**
+ * Statement of an account over a range of days, such as a month or a year, computed from its daily rollups
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class AccountStatement {
+    private final long accountId;
+    private final Date firstDay;
+    private final Date lastDay;
+    private final long openingBalance;
+    private final long closingBalance;
+    private final long credits;
+    private final long debits;
+    private final long transactionCount;
+
+    public AccountStatement(long accountId, Date firstDay, Date lastDay, long openingBalance,
+                            TransactionSummary summary) {
+        this.accountId = accountId;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.openingBalance = openingBalance;
+        this.closingBalance = openingBalance + summary.getTotal().getMinorUnits();
+        this.credits = summary.getCredits().getMinorUnits();
+        this.debits = summary.getDebits().getMinorUnits();
+        this.transactionCount = summary.getCount();
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public Date getFirstDay() {
+        return firstDay;
+    }
+
+    public Date getLastDay() {
+        return lastDay;
+    }
+
+    /**
+     * Returns the balance at the start of the first day
+     */
+    public Money getOpeningBalance() {
+        return Money.ofMinorUnits(openingBalance);
+    }
+
+    /**
+     * Returns the balance at the end of the last day
+     */
+    public Money getClosingBalance() {
+        return Money.ofMinorUnits(closingBalance);
+    }
+
+    /**
+     * Returns the sum of the positive amounts
+     */
+    public Money getCredits() {
+        return Money.ofMinorUnits(credits);
+    }
+
+    /**
+     * Returns the sum of the negative amounts
+     */
+    public Money getDebits() {
+        return Money.ofMinorUnits(debits);
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountStatement{" +
+                "accountId=" + accountId +
+                ", firstDay=" + firstDay +
+                ", lastDay=" + lastDay +
+                ", openingBalance=" + getOpeningBalance() +
+                ", closingBalance=" + getClosingBalance() +
+                ", credits=" + getCredits() +
+                ", debits=" + getDebits() +
+                ", transactionCount=" + transactionCount +
+                '}';
+    }
+}
@@ -0,0 +1,43 @@
+package io.blueharvest.bank.dto;
+
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Money;
+
+/**
+ * A mismatch between the materialized {@link AccountBalance} of an account and the sum of its transactions
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class BalanceDiscrepancy {
+    private final long accountId;
+    private final long balance;
+    private final long transactionsTotal;
+
+    public BalanceDiscrepancy(long accountId, Long balance, Long transactionsTotal) {
+        this.accountId = accountId;
+        this.balance = balance;
+        this.transactionsTotal = transactionsTotal;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public Money getBalance() {
+        return Money.ofMinorUnits(balance);
+    }
+
+    public Money getTransactionsTotal() {
+        return Money.ofMinorUnits(transactionsTotal);
+    }
+
+    @Override
+    public String toString() {
+        return "BalanceDiscrepancy{" +
+                "accountId=" + accountId +
+                ", balance=" + getBalance() +
+                ", transactionsTotal=" + getTransactionsTotal() +
+                '}';
+    }
+}
@@ -0,0 +1,90 @@
+package io.blueharvest.bank.dto;
+
+/**
+ * Hit, miss and eviction counters of a cache
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CacheStatisticsDto {
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRate;
+
+    public CacheStatisticsDto() {
+        // Required for deserialization
+    }
+
+    public CacheStatisticsDto(String name, long size, long hitCount, long missCount, long evictionCount,
+                              double hitRate) {
+        this.name = name;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.hitRate = hitRate;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public void setEvictionCount(long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "name='" + name + '\'' +
+                ", size=" + size +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", hitRate=" + hitRate +
+                '}';
+    }
+}
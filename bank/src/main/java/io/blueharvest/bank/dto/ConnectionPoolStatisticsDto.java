@@ -0,0 +1,112 @@
+package io.blueharvest.bank.dto;
+
+/**
+ * Size, usage and lifetime counters of the database connection pool
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class ConnectionPoolStatisticsDto {
+    private int maxActive;
+    private int size;
+    private int active;
+    private int idle;
+    private int waitCount;
+    private long borrowedCount;
+    private long createdCount;
+    private long releasedCount;
+
+    public ConnectionPoolStatisticsDto() {
+        // Required for deserialization
+    }
+
+    public ConnectionPoolStatisticsDto(int maxActive, int size, int active, int idle, int waitCount,
+                                       long borrowedCount, long createdCount, long releasedCount) {
+        this.maxActive = maxActive;
+        this.size = size;
+        this.active = active;
+        this.idle = idle;
+        this.waitCount = waitCount;
+        this.borrowedCount = borrowedCount;
+        this.createdCount = createdCount;
+        this.releasedCount = releasedCount;
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    public void setMaxActive(int maxActive) {
+        this.maxActive = maxActive;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive(int active) {
+        this.active = active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public void setIdle(int idle) {
+        this.idle = idle;
+    }
+
+    public int getWaitCount() {
+        return waitCount;
+    }
+
+    public void setWaitCount(int waitCount) {
+        this.waitCount = waitCount;
+    }
+
+    public long getBorrowedCount() {
+        return borrowedCount;
+    }
+
+    public void setBorrowedCount(long borrowedCount) {
+        this.borrowedCount = borrowedCount;
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(long createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public long getReleasedCount() {
+        return releasedCount;
+    }
+
+    public void setReleasedCount(long releasedCount) {
+        this.releasedCount = releasedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{" +
+                "maxActive=" + maxActive +
+                ", size=" + size +
+                ", active=" + active +
+                ", idle=" + idle +
+                ", waitCount=" + waitCount +
+                ", borrowedCount=" + borrowedCount +
+                ", createdCount=" + createdCount +
+                ", releasedCount=" + releasedCount +
+                '}';
+    }
+}
@@ -15,6 +15,7 @@ import javax.persistence.Id;
  **/
 public class CustomerDto {
     private long id;
+    private long version;
 
     @NotBlank
     private String name;
@@ -54,6 +55,17 @@ public class CustomerDto {
         this.id = id;
     }
 
+    /**
+     * Returns the version of the customer this DTO was read from, which an update of the customer is based on
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,46 @@
+package io.blueharvest.bank.dto;
+
+/**
+ * A row of a customer import that was rejected, along with the field that was rejected and the reason
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CustomerImportError {
+    private final long row;
+    private final String field;
+    private final String message;
+
+    public CustomerImportError(long row, String field, String message) {
+        this.row = row;
+        this.field = field;
+        this.message = message;
+    }
+
+    /**
+     * Returns the line of the imported file the row starts at, counting from 1 for the header
+     */
+    public long getRow() {
+        return row;
+    }
+
+    /**
+     * Returns the name of the rejected field, null if the row as a whole was rejected
+     */
+    public String getField() {
+        return field;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerImportError{" +
+                "row=" + row +
+                ", field='" + field + '\'' +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
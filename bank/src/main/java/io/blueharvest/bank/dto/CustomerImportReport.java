@@ -0,0 +1,58 @@
+package io.blueharvest.bank.dto;
+
+import java.util.List;
+
+/**
+ * The result of importing customers from a file, i.e. the number of rows read, created and rejected, along with the
+ * errors of the rejected rows. Only the errors of the first rejected rows are kept, so the report of a large file that
+ * is rejected as a whole stays small.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CustomerImportReport {
+    private final long rowCount;
+    private final long createdCount;
+    private final long rejectedCount;
+    private final List<CustomerImportError> errors;
+
+    public CustomerImportReport(long rowCount, long createdCount, long rejectedCount,
+                                List<CustomerImportError> errors) {
+        this.rowCount = rowCount;
+        this.createdCount = createdCount;
+        this.rejectedCount = rejectedCount;
+        this.errors = errors;
+    }
+
+    /**
+     * Returns the number of rows read, not counting the header and empty lines
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Returns the errors of the rejected rows in the order of the rows, at most one per rejected field
+     */
+    public List<CustomerImportError> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerImportReport{" +
+                "rowCount=" + rowCount +
+                ", createdCount=" + createdCount +
+                ", rejectedCount=" + rejectedCount +
+                ", errors=" + errors +
+                '}';
+    }
+}
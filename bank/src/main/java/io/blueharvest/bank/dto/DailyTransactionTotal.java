@@ -0,0 +1,44 @@
+package io.blueharvest.bank.dto;
+
+import io.blueharvest.bank.model.Money;
+
+import java.util.Date;
+
+/**
+ * Number and total amount of the transactions of an account on a single day, computed by the database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class DailyTransactionTotal {
+    private final Date day;
+    private final long count;
+    private final long total;
+
+    public DailyTransactionTotal(Date day, Long count, Long total) {
+        this.day = day;
+        this.count = count;
+        this.total = total;
+    }
+
+    public Date getDay() {
+        return day;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Money getTotal() {
+        return Money.ofMinorUnits(total);
+    }
+
+    @Override
+    public String toString() {
+        return "DailyTransactionTotal{" +
+                "day=" + day +
+                ", count=" + count +
+                ", total=" + getTotal() +
+                '}';
+    }
+}
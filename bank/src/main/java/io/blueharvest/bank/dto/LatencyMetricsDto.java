@@ -0,0 +1,113 @@
+package io.blueharvest.bank.dto;
+
+/**
+ * Call count, throughput and latency percentiles of a timed method. Rates are in calls per second and latencies in
+ * milliseconds, the percentiles covering the calls since the metric was last read.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class LatencyMetricsDto {
+    private String name;
+    private long count;
+    private double meanRate;
+    private double oneMinuteRate;
+    private double p50;
+    private double p99;
+    private double p999;
+    private double max;
+
+    public LatencyMetricsDto() {
+        // Required for deserialization
+    }
+
+    public LatencyMetricsDto(String name, long count, double meanRate, double oneMinuteRate, double p50, double p99,
+                             double p999, double max) {
+        this.name = name;
+        this.count = count;
+        this.meanRate = meanRate;
+        this.oneMinuteRate = oneMinuteRate;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getMeanRate() {
+        return meanRate;
+    }
+
+    public void setMeanRate(double meanRate) {
+        this.meanRate = meanRate;
+    }
+
+    public double getOneMinuteRate() {
+        return oneMinuteRate;
+    }
+
+    public void setOneMinuteRate(double oneMinuteRate) {
+        this.oneMinuteRate = oneMinuteRate;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public void setP50(double p50) {
+        this.p50 = p50;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public void setP99(double p99) {
+        this.p99 = p99;
+    }
+
+    public double getP999() {
+        return p999;
+    }
+
+    public void setP999(double p999) {
+        this.p999 = p999;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public void setMax(double max) {
+        this.max = max;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyMetrics{" +
+                "name='" + name + '\'' +
+                ", count=" + count +
+                ", meanRate=" + meanRate +
+                ", oneMinuteRate=" + oneMinuteRate +
+                ", p50=" + p50 +
+                ", p99=" + p99 +
+                ", p999=" + p999 +
+                ", max=" + max +
+                '}';
+    }
+}
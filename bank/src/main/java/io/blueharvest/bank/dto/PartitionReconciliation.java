@@ -0,0 +1,78 @@
+package io.blueharvest.bank.dto;
+
+import java.util.List;
+
+/**
+ * The result of reconciling the accounts within a range of IDs, i.e. the discrepancies found along with the number of
+ * accounts and transactions checked and the time it took
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class PartitionReconciliation {
+    private final long firstAccountId;
+    private final long lastAccountId;
+    private final long accountCount;
+    private final long transactionCount;
+    private final List<BalanceDiscrepancy> discrepancies;
+    private final long elapsedMillis;
+
+    public PartitionReconciliation(long firstAccountId, long lastAccountId, long accountCount, long transactionCount,
+                                   List<BalanceDiscrepancy> discrepancies, long elapsedMillis) {
+        this.firstAccountId = firstAccountId;
+        this.lastAccountId = lastAccountId;
+        this.accountCount = accountCount;
+        this.transactionCount = transactionCount;
+        this.discrepancies = discrepancies;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Returns the first ID of the range, inclusive
+     */
+    public long getFirstAccountId() {
+        return firstAccountId;
+    }
+
+    /**
+     * Returns the last ID of the range, inclusive
+     */
+    public long getLastAccountId() {
+        return lastAccountId;
+    }
+
+    public long getAccountCount() {
+        return accountCount;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public List<BalanceDiscrepancy> getDiscrepancies() {
+        return discrepancies;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Returns the number of transactions checked per second
+     */
+    public long getThroughput() {
+        return transactionCount * 1000L / Math.max(elapsedMillis, 1L);
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionReconciliation{" +
+                "firstAccountId=" + firstAccountId +
+                ", lastAccountId=" + lastAccountId +
+                ", accountCount=" + accountCount +
+                ", transactionCount=" + transactionCount +
+                ", discrepancies=" + discrepancies +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
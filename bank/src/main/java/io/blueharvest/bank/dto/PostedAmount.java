@@ -0,0 +1,50 @@
+package io.blueharvest.bank.dto;
+
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Money;
+
+/**
+ * The amount of a single transaction of an account along with the materialized {@link AccountBalance} of the account,
+ * as streamed by the reconciliation. The amounts are held in minor units, so they are summed up by integer arithmetic.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class PostedAmount {
+    private final long accountId;
+    private final long balance;
+    private final long amount;
+
+    public PostedAmount(long accountId, long balance, Money amount) {
+        this.accountId = accountId;
+        this.balance = balance;
+        this.amount = amount.getMinorUnits();
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    /**
+     * Returns the balance of the account in minor units
+     */
+    public long getBalance() {
+        return balance;
+    }
+
+    /**
+     * Returns the amount of the transaction in minor units
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String toString() {
+        return "PostedAmount{" +
+                "accountId=" + accountId +
+                ", balance=" + balance +
+                ", amount=" + amount +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package io.blueharvest.bank.dto;
 
+import io.blueharvest.bank.model.Money;
 import io.blueharvest.bank.model.Transaction;
 
 import javax.persistence.GeneratedValue;
@@ -15,27 +16,34 @@ import java.util.Date;
  **/
 public class TransactionDto {
     private long id;
-    private double amount;
+    private Money amount;
     private long accountId;
 
     @NotNull
     private Date transactionTime;
 
     public TransactionDto() {
-        this(0L, 0.0D);
+        this(0L, Money.ZERO);
     }
 
-    public TransactionDto(long id, Double amount) {
+    public TransactionDto(long id, Money amount) {
         this.id = id;
         this.amount = amount;
         this.transactionTime = new Date();
     }
 
-    public TransactionDto(long id, double amount, long accountId) {
+    public TransactionDto(long id, Money amount, long accountId) {
         this(id, amount);
         this.accountId = accountId;
     }
 
+    public TransactionDto(long id, Money amount, long accountId, Date transactionTime) {
+        this.id = id;
+        this.amount = amount;
+        this.accountId = accountId;
+        this.transactionTime = transactionTime;
+    }
+
     @Id
     @GeneratedValue
     public long getId() {
@@ -46,11 +54,11 @@ public class TransactionDto {
         this.id = id;
     }
 
-    public double getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(double amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
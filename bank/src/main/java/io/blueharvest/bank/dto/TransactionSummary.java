@@ -0,0 +1,55 @@
+package io.blueharvest.bank.dto;
+
+import io.blueharvest.bank.model.Money;
+
+/**
+ * Number and totals of the transactions of an account within a time range, computed by the database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class TransactionSummary {
+    private final long count;
+    private final long total;
+    private final long credits;
+    private final long debits;
+
+    public TransactionSummary(Long count, Long total, Long credits, Long debits) {
+        this.count = count;
+        this.total = total;
+        this.credits = credits;
+        this.debits = debits;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Money getTotal() {
+        return Money.ofMinorUnits(total);
+    }
+
+    /**
+     * Returns the sum of the positive amounts
+     */
+    public Money getCredits() {
+        return Money.ofMinorUnits(credits);
+    }
+
+    /**
+     * Returns the sum of the negative amounts
+     */
+    public Money getDebits() {
+        return Money.ofMinorUnits(debits);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionSummary{" +
+                "count=" + count +
+                ", total=" + getTotal() +
+                ", credits=" + getCredits() +
+                ", debits=" + getDebits() +
+                '}';
+    }
+}
@@ -3,18 +3,26 @@ package io.blueharvest.bank.error;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.hibernate.ObjectNotFoundException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
+import static io.blueharvest.bank.constant.Messages.CONCURRENT_UPDATE_ERROR;
+import static io.blueharvest.bank.constant.Messages.IDEMPOTENCY_KEY_REUSED_ERROR;
 import static io.blueharvest.bank.constant.Messages.INVALID_PARAMETER_ERROR;
 import static io.blueharvest.bank.constant.Messages.OBJECT_NOT_FOUND_ERROR;
 import static io.blueharvest.bank.constant.Messages.OPERATION_FAILURE_ERROR;
+import static io.blueharvest.bank.constant.Messages.SERVICE_BUSY_ERROR;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_CONFLICT;
 import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
 import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
 
 /**
  * Handler for exceptions thrown by REST controller
@@ -70,4 +78,45 @@ public class BankExceptionHandler {
         logger.error(errorMessage, exp);
         response.sendError(SC_INTERNAL_SERVER_ERROR, errorMessage);
     }
+
+    /**
+     * Handler for {@link OptimisticLockingFailureException} that can be thrown if an item was updated concurrently,
+     * so the client can reload the item and retry
+     *
+     * @param exp Exception to be handled
+     * @param response The response object
+     * @throws IOException
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    private void handleOptimisticLockingFailureException(OptimisticLockingFailureException exp, HttpServletResponse response) throws IOException {
+        logger.warn(CONCURRENT_UPDATE_ERROR, exp);
+        response.sendError(SC_CONFLICT, CONCURRENT_UPDATE_ERROR);
+    }
+
+    /**
+     * Handler for {@link IdempotencyKeyReusedException} that can be thrown if an idempotency key is reused for a
+     * different request
+     *
+     * @param exp Exception to be handled
+     * @param response The response object
+     * @throws IOException
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    private void handleIdempotencyKeyReusedException(IdempotencyKeyReusedException exp, HttpServletResponse response) throws IOException {
+        logger.warn(IDEMPOTENCY_KEY_REUSED_ERROR, exp);
+        response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), IDEMPOTENCY_KEY_REUSED_ERROR);
+    }
+
+    /**
+     * Handler for {@link TaskRejectedException} that can be thrown if the executor of the JSON API is saturated
+     *
+     * @param exp Exception to be handled
+     * @param response The response object
+     * @throws IOException
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    private void handleTaskRejectedException(TaskRejectedException exp, HttpServletResponse response) throws IOException {
+        logger.warn(SERVICE_BUSY_ERROR, exp);
+        response.sendError(SC_SERVICE_UNAVAILABLE, SERVICE_BUSY_ERROR);
+    }
 }
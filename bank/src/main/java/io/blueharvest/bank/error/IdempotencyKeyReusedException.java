@@ -0,0 +1,13 @@
+package io.blueharvest.bank.error;
+
+/**
+ * Thrown when an idempotency key is reused for a request differing from the one it was first used for
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
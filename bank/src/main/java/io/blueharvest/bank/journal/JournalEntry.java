@@ -0,0 +1,57 @@
+package io.blueharvest.bank.journal;
+
+/**
+ * A transaction recorded in the {@link TransactionJournal}, which is yet to be applied to the database or has already
+ * been applied
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class JournalEntry {
+    private final long sequence;
+    private final long accountId;
+    private final long amount;
+    private final long transactionTime;
+
+    public JournalEntry(long sequence, long accountId, long amount, long transactionTime) {
+        this.sequence = sequence;
+        this.accountId = accountId;
+        this.amount = amount;
+        this.transactionTime = transactionTime;
+    }
+
+    /**
+     * Returns the sequence number of the entry, which starts at 1 and increases by 1 with every appended entry
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    /**
+     * Returns the amount in minor units, negative for debits
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns the time of the transaction in milliseconds since the epoch
+     */
+    public long getTransactionTime() {
+        return transactionTime;
+    }
+
+    @Override
+    public String toString() {
+        return "JournalEntry{" +
+                "sequence=" + sequence +
+                ", accountId=" + accountId +
+                ", amount=" + amount +
+                ", transactionTime=" + transactionTime +
+                '}';
+    }
+}
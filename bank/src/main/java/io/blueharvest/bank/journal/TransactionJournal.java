@@ -0,0 +1,331 @@
+package io.blueharvest.bank.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.blueharvest.bank.constant.Messages.INVALID_JOURNAL_CAPACITY_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_JOURNAL_SEQUENCE_ERROR;
+
+/**
+ * An append-only journal of transactions in a memory-mapped file, which acknowledges a transaction as soon as it is
+ * durable in the journal, while the transaction is applied to the database later on.
+ * <p>
+ * Entries have a fixed size and are written one after the other. An append returns once the entry is forced to disk,
+ * and concurrent appends share a force (group commit): the first waiting appender forces everything appended so far,
+ * while the others wait for it and only force again if their entries were appended after the force started. The cost
+ * of a force is therefore shared by all transactions arriving while the previous force runs.
+ * <p>
+ * The entries are applied in order, and the sequence of the last applied entry is kept by the caller together with the
+ * applied transactions, i.e. in the database. Once the file is full and all of its entries are applied, writing starts
+ * over at the beginning of the file. On opening, the journal reads the chain of consecutive valid entries from the
+ * beginning of the file, and the entries of the chain following the applied sequence are the ones to be replayed.
+ * <p>
+ * The sequence of the last pending entry of every account is tracked as well, so a reader of the database can wait for
+ * the entries of the accounts it reads only, instead of for all entries.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class TransactionJournal implements Closeable {
+    // Sequence, account ID, amount and transaction time, followed by the checksum of these fields and padding
+    static final int ENTRY_SIZE = 40;
+    private static final int CHECKSUM_OFFSET = 32;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition forced = lock.newCondition();
+    private final Condition applied = lock.newCondition();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    // Sequence of the last entry not applied yet per account ID
+    private final Map<Long, Long> pendingSequences = new HashMap<>();
+
+    private int writePosition;
+    private int appliedPosition;
+    private long appendedSequence;
+    private long durableSequence;
+    private long appliedSequence;
+    private boolean forcing;
+
+    /**
+     * Opens the journal in the given file, which is created if it does not exist yet
+     *
+     * @param path            The path of the journal file
+     * @param capacity        The maximum number of entries the file holds
+     * @param appliedSequence The sequence of the last entry applied to the database, 0 if none
+     * @throws IOException If the file cannot be opened or mapped
+     */
+    public TransactionJournal(Path path, int capacity, long appliedSequence) throws IOException {
+        checkArgument(capacity > 0, INVALID_JOURNAL_CAPACITY_ERROR);
+        checkArgument(appliedSequence >= 0, INVALID_JOURNAL_SEQUENCE_ERROR);
+
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * ENTRY_SIZE);
+
+        recover(appliedSequence);
+    }
+
+    /**
+     * Appends a transaction to the journal and waits until it is forced to disk
+     *
+     * @param accountId       The ID of the account
+     * @param amount          The amount in minor units, negative for debits
+     * @param transactionTime The time of the transaction in milliseconds since the epoch
+     * @return The entry of the transaction, which is durable
+     * @throws InterruptedException If interrupted while waiting for free space or for the force
+     */
+    public JournalEntry append(long accountId, long amount, long transactionTime) throws InterruptedException {
+        lock.lock();
+        try {
+            // A full journal starts over once all of its entries are applied
+            while (writePosition + ENTRY_SIZE > buffer.capacity()) {
+                if (appliedSequence == appendedSequence) {
+                    writePosition = 0;
+                    appliedPosition = 0;
+                } else {
+                    applied.await();
+                }
+            }
+
+            JournalEntry entry = new JournalEntry(appendedSequence + 1, accountId, amount, transactionTime);
+            write(writePosition, entry);
+            writePosition += ENTRY_SIZE;
+            appendedSequence = entry.getSequence();
+            pendingSequences.put(accountId, entry.getSequence());
+
+            awaitDurable(entry.getSequence());
+
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the durable entries that are not applied yet, in order
+     *
+     * @param maxEntries The maximum number of entries to return
+     * @return List of at most maxEntries entries, empty if all entries are applied
+     */
+    public List<JournalEntry> readPending(int maxEntries) {
+        lock.lock();
+        try {
+            int count = (int) Math.min(maxEntries, durableSequence - appliedSequence);
+            List<JournalEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(read(appliedPosition + i * ENTRY_SIZE));
+            }
+
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks all entries up to the given sequence as applied, which must happen only after the database transaction
+     * applying them is committed
+     *
+     * @param sequence The sequence of the last applied entry
+     */
+    public void markApplied(long sequence) {
+        lock.lock();
+        try {
+            checkArgument(sequence >= appliedSequence && sequence <= durableSequence,
+                    INVALID_JOURNAL_SEQUENCE_ERROR);
+
+            // An account has no pending entries anymore once its last pending entry is applied
+            for (; appliedSequence < sequence; appliedSequence++, appliedPosition += ENTRY_SIZE) {
+                pendingSequences.remove(buffer.getLong(appliedPosition + 8), buffer.getLong(appliedPosition));
+            }
+            applied.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all entries of the given accounts appended so far are applied. As the entries are applied in order,
+     * this includes the entries of other accounts appended before them, but not the ones appended after them.
+     *
+     * @param accountIds The IDs of the accounts
+     * @param timeout    The maximum time to wait
+     * @param unit       The unit of the timeout
+     * @return True if all entries of the accounts are applied, false if the timeout elapsed before
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean awaitApplied(Collection<Long> accountIds, long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+
+        lock.lock();
+        try {
+            long sequence = 0L;
+            for (long accountId : accountIds) {
+                sequence = Math.max(sequence, pendingSequences.getOrDefault(accountId, 0L));
+            }
+
+            while (appliedSequence < sequence) {
+                if (remainingNanos <= 0L) {
+                    return false;
+                }
+                remainingNanos = applied.awaitNanos(remainingNanos);
+            }
+
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the sequence of the last appended entry
+     */
+    public long getAppendedSequence() {
+        lock.lock();
+        try {
+            return appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the sequence of the last applied entry
+     */
+    public long getAppliedSequence() {
+        lock.lock();
+        try {
+            return appliedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the entry with the given sequence is forced to disk, forcing it if no other appender is doing so.
+     * Must be called while holding the lock, which is released during the force so that further entries can be
+     * appended meanwhile.
+     *
+     * @param sequence The sequence of the entry
+     * @throws InterruptedException If interrupted while waiting for another appender's force
+     */
+    private void awaitDurable(long sequence) throws InterruptedException {
+        while (durableSequence < sequence) {
+            if (forcing) {
+                forced.await();
+                continue;
+            }
+
+            forcing = true;
+            long forcedSequence = appendedSequence; // Everything appended up to now is covered by this force
+            lock.unlock();
+            try {
+                buffer.force();
+            } finally {
+                lock.lock();
+                forcing = false;
+                forced.signalAll(); // Wakes up the others, also to take over if this force failed
+            }
+            durableSequence = Math.max(durableSequence, forcedSequence);
+        }
+    }
+
+    /**
+     * Finds the chain of consecutive valid entries at the beginning of the file and positions the journal after the
+     * applied ones among them
+     */
+    private void recover(long lastAppliedSequence) {
+        int chainEnd = 0;
+        long firstSequence = 0L;
+        long lastSequence = 0L;
+        while (chainEnd + ENTRY_SIZE <= buffer.capacity()) {
+            JournalEntry entry = read(chainEnd);
+            if (entry == null || (lastSequence > 0L && entry.getSequence() != lastSequence + 1)) {
+                break;
+            }
+
+            if (firstSequence == 0L) {
+                firstSequence = entry.getSequence();
+            }
+            lastSequence = entry.getSequence();
+            chainEnd += ENTRY_SIZE;
+        }
+
+        if (lastSequence <= lastAppliedSequence) {
+            // Nothing to replay, so writing starts over at the beginning of the file
+            appendedSequence = Math.max(lastSequence, lastAppliedSequence);
+            appliedSequence = appendedSequence;
+            writePosition = 0;
+            appliedPosition = 0;
+        } else {
+            appendedSequence = lastSequence;
+            appliedSequence = Math.max(lastAppliedSequence, firstSequence - 1);
+            writePosition = chainEnd;
+            appliedPosition = (int) (appliedSequence - (firstSequence - 1)) * ENTRY_SIZE;
+        }
+        durableSequence = appendedSequence;
+
+        for (int position = appliedPosition; position < writePosition; position += ENTRY_SIZE) {
+            pendingSequences.put(buffer.getLong(position + 8), buffer.getLong(position));
+        }
+    }
+
+    private void write(int position, JournalEntry entry) {
+        buffer.putLong(position, entry.getSequence());
+        buffer.putLong(position + 8, entry.getAccountId());
+        buffer.putLong(position + 16, entry.getAmount());
+        buffer.putLong(position + 24, entry.getTransactionTime());
+        buffer.putInt(position + CHECKSUM_OFFSET, checksum(position));
+    }
+
+    /**
+     * Reads the entry at the given position
+     *
+     * @return The entry, or null if there is no valid entry at the position, e.g. as it was torn by a crash
+     */
+    private JournalEntry read(int position) {
+        long sequence = buffer.getLong(position);
+        if (sequence <= 0L || buffer.getInt(position + CHECKSUM_OFFSET) != checksum(position)) {
+            return null;
+        }
+
+        return new JournalEntry(sequence, buffer.getLong(position + 8), buffer.getLong(position + 16),
+                buffer.getLong(position + 24));
+    }
+
+    private int checksum(int position) {
+        CRC32 crc = new CRC32();
+        for (int i = position; i < position + CHECKSUM_OFFSET; i++) {
+            crc.update(buffer.get(i));
+        }
+
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,55 @@
+package io.blueharvest.bank.mapper;
+
+import io.blueharvest.bank.dto.AccountDto;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.ACCOUNT_NULL_ERROR;
+
+/**
+ * Converts between {@link Account}s and {@link AccountDto}s by plain field copies, i.e. without reflection
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class AccountMapper {
+
+    private AccountMapper() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates an account with the details of the given DTO. The customer of the account is only a reference holding
+     * the customer ID, so it has to be replaced with the persistent customer if its details are needed.
+     *
+     * @param accountDto The DTO of the account
+     * @return The account
+     */
+    public static Account toEntity(AccountDto accountDto) {
+        checkNotNull(accountDto, ACCOUNT_NULL_ERROR);
+
+        Account account = new Account(accountDto.getId(), accountDto.getCredit(), new Customer(accountDto.getCustomerId()));
+        account.setVersion(accountDto.getVersion());
+        account.setEstablishDate(accountDto.getEstablishDate());
+
+        return account;
+    }
+
+    /**
+     * Creates a DTO with the details of the given account
+     *
+     * @param account The account
+     * @return The DTO of the account
+     */
+    public static AccountDto toDto(Account account) {
+        checkNotNull(account, ACCOUNT_NULL_ERROR);
+
+        long customerId = (account.getCustomer() != null) ? account.getCustomer().getId() : 0L;
+        AccountDto accountDto = new AccountDto(account.getId(), account.getCredit(), customerId);
+        accountDto.setVersion(account.getVersion());
+        accountDto.setEstablishDate(account.getEstablishDate());
+
+        return accountDto;
+    }
+}
@@ -0,0 +1,52 @@
+package io.blueharvest.bank.mapper;
+
+import io.blueharvest.bank.dto.CustomerDto;
+import io.blueharvest.bank.model.Customer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.CUSTOMER_NULL_ERROR;
+
+/**
+ * Converts between {@link Customer}s and {@link CustomerDto}s by plain field copies, i.e. without reflection
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class CustomerMapper {
+
+    private CustomerMapper() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates a customer with the details of the given DTO
+     *
+     * @param customerDto The DTO of the customer
+     * @return The customer
+     */
+    public static Customer toEntity(CustomerDto customerDto) {
+        checkNotNull(customerDto, CUSTOMER_NULL_ERROR);
+
+        Customer customer = new Customer(customerDto.getId(), customerDto.getName(), customerDto.getSurname(),
+                customerDto.getAddress(), customerDto.getPostcode());
+        customer.setVersion(customerDto.getVersion());
+
+        return customer;
+    }
+
+    /**
+     * Creates a DTO with the details of the given customer
+     *
+     * @param customer The customer
+     * @return The DTO of the customer
+     */
+    public static CustomerDto toDto(Customer customer) {
+        checkNotNull(customer, CUSTOMER_NULL_ERROR);
+
+        CustomerDto customerDto = new CustomerDto(customer.getId(), customer.getName(), customer.getSurname(),
+                customer.getAddress(), customer.getPostcode());
+        customerDto.setVersion(customer.getVersion());
+
+        return customerDto;
+    }
+}
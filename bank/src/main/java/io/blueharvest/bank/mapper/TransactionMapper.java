@@ -0,0 +1,52 @@
+package io.blueharvest.bank.mapper;
+
+import io.blueharvest.bank.dto.TransactionDto;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Transaction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.TRANSACTION_NULL_ERROR;
+
+/**
+ * Converts between {@link Transaction}s and {@link TransactionDto}s by plain field copies, i.e. without reflection
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class TransactionMapper {
+
+    private TransactionMapper() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates a transaction with the details of the given DTO. The account of the transaction is only a reference
+     * holding the account ID.
+     *
+     * @param transactionDto The DTO of the transaction
+     * @return The transaction
+     */
+    public static Transaction toEntity(TransactionDto transactionDto) {
+        checkNotNull(transactionDto, TRANSACTION_NULL_ERROR);
+
+        Transaction transaction = new Transaction(transactionDto.getId(), transactionDto.getAmount(),
+                new Account(transactionDto.getAccountId()));
+        transaction.setTransactionTime(transactionDto.getTransactionTime());
+
+        return transaction;
+    }
+
+    /**
+     * Creates a DTO with the details of the given transaction
+     *
+     * @param transaction The transaction
+     * @return The DTO of the transaction
+     */
+    public static TransactionDto toDto(Transaction transaction) {
+        checkNotNull(transaction, TRANSACTION_NULL_ERROR);
+
+        long accountId = (transaction.getAccount() != null) ? transaction.getAccount().getId() : 0L;
+        return new TransactionDto(transaction.getId(), transaction.getAmount(), accountId,
+                transaction.getTransactionTime());
+    }
+}
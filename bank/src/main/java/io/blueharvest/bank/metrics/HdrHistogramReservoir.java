@@ -0,0 +1,141 @@
+package io.blueharvest.bank.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Reservoir} backed by an HdrHistogram, which records every value with a fixed relative precision instead of
+ * sampling, so that tail percentiles such as p99.9 remain accurate.
+ * <p>
+ * Recording is wait-free. Values are kept in windows of a fixed length, and a snapshot covers the current window and
+ * the previous one, so that the percentiles describe the latest minute or two rather than the whole uptime. Reading a
+ * snapshot does not reset anything, so several scrapers do not interfere with each other.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class HdrHistogramReservoir implements Reservoir {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final long DEFAULT_WINDOW_MINUTES = 1L;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final long windowNanos;
+    private final Clock clock;
+
+    private Histogram intervalHistogram;
+    private Histogram previousWindow = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram currentWindow = new Histogram(SIGNIFICANT_DIGITS);
+    private long currentWindowStart;
+
+    public HdrHistogramReservoir() {
+        this(DEFAULT_WINDOW_MINUTES, TimeUnit.MINUTES, Clock.defaultClock());
+    }
+
+    public HdrHistogramReservoir(long window, TimeUnit windowUnit, Clock clock) {
+        this.windowNanos = windowUnit.toNanos(window);
+        this.clock = clock;
+        this.currentWindowStart = clock.getTick();
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        recorder.recordValue(value);
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        // Values recorded since the last read are attributed to the current window, as windows are only rotated here
+        intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        currentWindow.add(intervalHistogram);
+
+        long now = clock.getTick();
+        if (now - currentWindowStart >= windowNanos) {
+            previousWindow = currentWindow;
+            currentWindow = new Histogram(SIGNIFICANT_DIGITS);
+            currentWindowStart = now;
+        }
+
+        Histogram histogram = previousWindow.copy();
+        histogram.add(currentWindow);
+
+        return new HdrHistogramSnapshot(histogram);
+    }
+
+    /**
+     * A {@link Snapshot} reading its statistics from a copy of the recorded histograms
+     */
+    static class HdrHistogramSnapshot extends Snapshot {
+        private final Histogram histogram;
+
+        HdrHistogramSnapshot(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            return histogram.getValueAtPercentile(quantile * 100.0D);
+        }
+
+        @Override
+        public long[] getValues() {
+            long[] values = new long[size()];
+            int index = 0;
+            for (HistogramIterationValue value : histogram.recordedValues()) {
+                for (long i = 0; i < value.getCountAtValueIteratedTo(); i++) {
+                    values[index++] = value.getValueIteratedTo();
+                }
+            }
+
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(histogram.getTotalCount(), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return histogram.getMaxValue();
+        }
+
+        @Override
+        public double getMean() {
+            return histogram.getMean();
+        }
+
+        @Override
+        public long getMin() {
+            return histogram.getMinValue();
+        }
+
+        @Override
+        public double getStdDev() {
+            return histogram.getStdDeviation();
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (long value : getValues()) {
+                    writer.println(value);
+                }
+            }
+        }
+    }
+}
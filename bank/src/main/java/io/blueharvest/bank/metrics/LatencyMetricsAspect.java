@@ -0,0 +1,110 @@
+package io.blueharvest.bank.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.blueharvest.bank.Application;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.inject.Inject;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aspect timing every controller method, every {@link io.blueharvest.bank.service.CrudService} operation and every
+ * repository query. Each method gets a {@link Timer} named after its layer, type and name, for example
+ * {@code service.CustomerService.get}, which counts the calls and records their latencies in an
+ * {@link HdrHistogramReservoir}.
+ * <p>
+ * Calls returning a {@link CompletionStage} are timed until the stage completes, so that the latency of the JSON API
+ * includes the work done on the API executor.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Aspect
+@Component
+public class LatencyMetricsAspect {
+    public static final String CONTROLLER_METRIC_PREFIX = "controller";
+    public static final String SERVICE_METRIC_PREFIX = "service";
+    public static final String REPOSITORY_METRIC_PREFIX = "repository";
+
+    private static final String APPLICATION_PACKAGE = Application.class.getPackage().getName() + ".";
+
+    private final MetricRegistry metricRegistry;
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, String> typeNames = new ConcurrentHashMap<>();
+
+    @Inject
+    public LatencyMetricsAspect(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Around("execution(public * io.blueharvest.bank.rest.*Controller.*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(CONTROLLER_METRIC_PREFIX, joinPoint);
+    }
+
+    @Around("execution(public * io.blueharvest.bank.service.CrudService+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_METRIC_PREFIX, joinPoint);
+    }
+
+    @Around("execution(public * io.blueharvest.bank.repository.*Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_METRIC_PREFIX, joinPoint);
+    }
+
+    private Object time(String prefix, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer timer = timer(prefix, joinPoint);
+        long start = System.nanoTime();
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable exp) {
+            timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw exp;
+        }
+
+        if (result instanceof CompletionStage) {
+            ((CompletionStage<?>) result).whenComplete((value, exp) ->
+                    timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        } else {
+            timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        return result;
+    }
+
+    private Timer timer(String prefix, ProceedingJoinPoint joinPoint) {
+        String name = MetricRegistry.name(prefix, typeName(joinPoint.getTarget().getClass()),
+                joinPoint.getSignature().getName());
+
+        return timers.computeIfAbsent(name, key -> metricRegistry.register(key, new Timer(new HdrHistogramReservoir())));
+    }
+
+    /**
+     * Returns the simple name of a type, or of the application interface it implements if it is a JDK proxy such as
+     * a Spring Data repository
+     */
+    private String typeName(Class<?> type) {
+        return typeNames.computeIfAbsent(type, key -> {
+            if (Proxy.isProxyClass(key)) {
+                for (Class<?> proxiedInterface : ClassUtils.getAllInterfacesForClassAsSet(key)) {
+                    if (proxiedInterface.getName().startsWith(APPLICATION_PACKAGE)) {
+                        return proxiedInterface.getSimpleName();
+                    }
+                }
+            }
+
+            return ClassUtils.getUserClass(key).getSimpleName();
+        });
+    }
+}
@@ -1,12 +1,18 @@
 package io.blueharvest.bank.model;
 
 import javax.persistence.CascadeType;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Version;
 import javax.validation.constraints.NotNull;
 import java.util.Date;
 import java.util.Set;
@@ -18,38 +24,44 @@ import java.util.Set;
  * Date: 2018-10-05
  **/
 @Entity
+@Table(indexes = @Index(name = "idx_account_customer", columnList = "account_customer_id")) // Created by migration V1
 public class Account {
+    private static final String ID_GENERATOR = "accountIdGenerator";
+    private static final int ID_ALLOCATION_SIZE = 50; // IDs fetched per sequence call, used by the pooled optimizer
+
     private long id;
+    private long version;
     private Customer customer;
     private Set<Transaction> transactions;
 
     @NotNull
-    private Double credit;
+    private Money credit;
 
     @NotNull
     private Date establishDate;
 
     public Account() {
-        this(0L, 0.0D);
+        this(0L, Money.ZERO);
     }
 
     public Account(long id) {
-        this(id, 0.0D);
+        this(id, Money.ZERO);
     }
 
-    public Account(long id, Double credit) {
+    public Account(long id, Money credit) {
         this.id = id;
         this.credit = credit;
         this.establishDate = new Date();
     }
 
-    public Account(long id, Double credit, Customer customer) {
+    public Account(long id, Money credit, Customer customer) {
         this(id, credit);
         this.customer = customer;
     }
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
+    @SequenceGenerator(name = ID_GENERATOR, sequenceName = "account_sequence", allocationSize = ID_ALLOCATION_SIZE)
     public long getId() {
         return id;
     }
@@ -58,11 +70,26 @@ public class Account {
         this.id = id;
     }
 
-    public Double getCredit() {
+    /**
+     * The version is incremented with every update of the account, so an update based on an outdated copy is rejected
+     *
+     * @return The version of the account
+     */
+    @Version
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    @Convert(converter = MoneyConverter.class)
+    public Money getCredit() {
         return credit;
     }
 
-    public void setCredit(Double credit) {
+    public void setCredit(Money credit) {
         this.credit = credit;
     }
 
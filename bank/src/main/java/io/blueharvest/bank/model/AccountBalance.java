@@ -0,0 +1,92 @@
+package io.blueharvest.bank.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+/**
+ * The materialized balance of an {@link Account}, which is updated with every posted {@link Transaction}, so reading
+ * the balance does not require summing up the transactions of the account. The balance is held in minor units of
+ * {@link Money#DEFAULT_CURRENCY}, so it is updated by integer arithmetic.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Entity
+public class AccountBalance {
+    private long accountId;
+    private long version;
+    private long balance;
+
+    public AccountBalance() {
+        this(0L, 0L);
+    }
+
+    public AccountBalance(long accountId, long balance) {
+        this.accountId = accountId;
+        this.balance = balance;
+    }
+
+    @Id
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    /**
+     * Returns the balance in minor units
+     */
+    public long getBalance() {
+        return balance;
+    }
+
+    public void setBalance(long balance) {
+        this.balance = balance;
+    }
+
+    /**
+     * The version is incremented with every change of the balance
+     *
+     * @return The version of the balance
+     */
+    @Version
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof AccountBalance)) {
+            return false;
+        }
+
+        AccountBalance accountBalance = (AccountBalance) o;
+
+        return accountId == accountBalance.accountId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.valueOf(accountId).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AccountBalance{" +
+                "accountId=" + accountId +
+                ", balance=" + balance +
+                ", version=" + version +
+                '}';
+    }
+}
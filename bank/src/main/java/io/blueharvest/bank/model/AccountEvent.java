@@ -0,0 +1,133 @@
+package io.blueharvest.bank.model;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import java.util.Date;
+
+/**
+ * A change of the state of an {@link Account}. The events of an account are numbered from 1 in the order they were
+ * recorded and are never changed, so the state of the account at any point in time is given by its events up to that
+ * time. The amount is held in minor units of {@link Money#DEFAULT_CURRENCY}.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Entity
+@IdClass(AccountEventId.class)
+public class AccountEvent {
+    private long accountId;
+    private long sequence;
+    private AccountEventType eventType;
+    private Date eventTime;
+    private long amount;
+    private long customerId;
+
+    public AccountEvent() {
+        this(0L, 0L, AccountEventType.OPENED, 0L, 0L);
+    }
+
+    public AccountEvent(long accountId, long sequence, AccountEventType eventType, long amount, long customerId) {
+        this.accountId = accountId;
+        this.sequence = sequence;
+        this.eventType = eventType;
+        this.eventTime = new Date();
+        this.amount = amount;
+        this.customerId = customerId;
+    }
+
+    @Id
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    @Id
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Enumerated(EnumType.STRING)
+    public AccountEventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(AccountEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * Returns the time the event was recorded, which for a transaction may differ from the time of the transaction
+     */
+    public Date getEventTime() {
+        return eventTime;
+    }
+
+    public void setEventTime(Date eventTime) {
+        this.eventTime = eventTime;
+    }
+
+    /**
+     * Returns the amount credited or debited in minor units, negative for debits, 0 for other events
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    public void setAmount(long amount) {
+        this.amount = amount;
+    }
+
+    /**
+     * Returns the ID of the customer the account was opened for or reassigned to, 0 for other events
+     */
+    public long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(long customerId) {
+        this.customerId = customerId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof AccountEvent)) {
+            return false;
+        }
+
+        AccountEvent accountEvent = (AccountEvent) o;
+
+        return new AccountEventId(accountId, sequence)
+                .equals(new AccountEventId(accountEvent.accountId, accountEvent.sequence));
+    }
+
+    @Override
+    public int hashCode() {
+        return new AccountEventId(accountId, sequence).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AccountEvent{" +
+                "accountId=" + accountId +
+                ", sequence=" + sequence +
+                ", eventType=" + eventType +
+                ", eventTime=" + eventTime +
+                ", amount=" + amount +
+                ", customerId=" + customerId +
+                '}';
+    }
+}
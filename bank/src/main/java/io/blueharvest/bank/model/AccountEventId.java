@@ -0,0 +1,63 @@
+package io.blueharvest.bank.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Identifier of an {@link AccountEvent}, i.e. the account and the sequence of the event within the events of the
+ * account. It also identifies the {@link AccountSnapshot} taken right after that event.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class AccountEventId implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long accountId;
+    private long sequence;
+
+    public AccountEventId() {
+        // Required by JPA
+    }
+
+    public AccountEventId(long accountId, long sequence) {
+        this.accountId = accountId;
+        this.sequence = sequence;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof AccountEventId)) {
+            return false;
+        }
+
+        AccountEventId id = (AccountEventId) o;
+
+        return accountId == id.accountId && sequence == id.sequence;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, sequence);
+    }
+}
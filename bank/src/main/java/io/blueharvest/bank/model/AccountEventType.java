@@ -0,0 +1,45 @@
+package io.blueharvest.bank.model;
+
+/**
+ * Types of the {@link AccountEvent}s, each of which knows how it changes the state of an account
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public enum AccountEventType {
+    OPENED {
+        @Override
+        void applyTo(AccountSnapshot state, AccountEvent event) {
+            state.setCustomerId(event.getCustomerId());
+        }
+    },
+
+    CREDITED {
+        @Override
+        void applyTo(AccountSnapshot state, AccountEvent event) {
+            state.setBalance(state.getBalance() + event.getAmount());
+        }
+    },
+
+    DEBITED {
+        @Override
+        void applyTo(AccountSnapshot state, AccountEvent event) {
+            state.setBalance(state.getBalance() + event.getAmount()); // The amount of a debit is negative
+        }
+    },
+
+    CUSTOMER_REASSIGNED {
+        @Override
+        void applyTo(AccountSnapshot state, AccountEvent event) {
+            state.setCustomerId(event.getCustomerId());
+        }
+    };
+
+    /**
+     * Changes the state of an account by an event of this type
+     *
+     * @param state The state of the account before the event
+     * @param event The event
+     */
+    abstract void applyTo(AccountSnapshot state, AccountEvent event);
+}
@@ -0,0 +1,141 @@
+package io.blueharvest.bank.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import java.util.Date;
+
+/**
+ * The state of an {@link Account} right after one of its {@link AccountEvent}s, i.e. the result of applying its events
+ * up to that one. Snapshots are stored every few events, so that the state at a point in time is rebuilt from the last
+ * stored snapshot before that time and the events following it, instead of from all events of the account. The balance
+ * is held in minor units of {@link Money#DEFAULT_CURRENCY}.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Entity
+@IdClass(AccountEventId.class)
+public class AccountSnapshot {
+    private long accountId;
+    private long sequence;
+    private Date eventTime;
+    private long customerId;
+    private long balance;
+
+    public AccountSnapshot() {
+        this(0L);
+    }
+
+    /**
+     * Creates the state of an account before its first event
+     */
+    public AccountSnapshot(long accountId) {
+        this(accountId, 0L, new Date(0L), 0L, 0L);
+    }
+
+    public AccountSnapshot(long accountId, long sequence, Date eventTime, long customerId, long balance) {
+        this.accountId = accountId;
+        this.sequence = sequence;
+        this.eventTime = eventTime;
+        this.customerId = customerId;
+        this.balance = balance;
+    }
+
+    /**
+     * Applies an event of the account to this state
+     *
+     * @param event The event following the last one applied to this state
+     * @return This state
+     */
+    public AccountSnapshot apply(AccountEvent event) {
+        event.getEventType().applyTo(this, event);
+        this.sequence = event.getSequence();
+        this.eventTime = event.getEventTime();
+
+        return this;
+    }
+
+    @Id
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    /**
+     * Returns the sequence of the last event applied to this state, 0 if none
+     */
+    @Id
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Returns the time the last event applied to this state was recorded
+     */
+    public Date getEventTime() {
+        return eventTime;
+    }
+
+    public void setEventTime(Date eventTime) {
+        this.eventTime = eventTime;
+    }
+
+    public long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(long customerId) {
+        this.customerId = customerId;
+    }
+
+    /**
+     * Returns the balance in minor units
+     */
+    public long getBalance() {
+        return balance;
+    }
+
+    public void setBalance(long balance) {
+        this.balance = balance;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof AccountSnapshot)) {
+            return false;
+        }
+
+        AccountSnapshot accountSnapshot = (AccountSnapshot) o;
+
+        return new AccountEventId(accountId, sequence)
+                .equals(new AccountEventId(accountSnapshot.accountId, accountSnapshot.sequence));
+    }
+
+    @Override
+    public int hashCode() {
+        return new AccountEventId(accountId, sequence).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AccountSnapshot{" +
+                "accountId=" + accountId +
+                ", sequence=" + sequence +
+                ", eventTime=" + eventTime +
+                ", customerId=" + customerId +
+                ", balance=" + balance +
+                '}';
+    }
+}
@@ -6,8 +6,11 @@ import org.hibernate.validator.constraints.NotBlank;
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Version;
 import java.util.Set;
 
 /**
@@ -18,7 +21,11 @@ import java.util.Set;
  **/
 @Entity
 public class Customer {
+    private static final String ID_GENERATOR = "customerIdGenerator";
+    private static final int ID_ALLOCATION_SIZE = 50; // IDs fetched per sequence call, used by the pooled optimizer
+
     private long id;
+    private long version;
     private Set<Account> accounts;
 
     @NotBlank
@@ -50,7 +57,8 @@ public class Customer {
     }
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
+    @SequenceGenerator(name = ID_GENERATOR, sequenceName = "hibernate_sequence", allocationSize = ID_ALLOCATION_SIZE)
     public long getId() {
         return id;
     }
@@ -59,6 +67,20 @@ public class Customer {
         this.id = id;
     }
 
+    /**
+     * The version is incremented with every update of the customer, so an update based on an outdated copy is rejected
+     *
+     * @return The version of the customer
+     */
+    @Version
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
@@ -128,7 +150,6 @@ public class Customer {
                 ", surname='" + surname + '\'' +
                 ", address='" + address + '\'' +
                 ", postcode='" + postcode + '\'' +
-                ", accounts=" + accounts +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package io.blueharvest.bank.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import java.util.Date;
+
+/**
+ * The rollup of the transactions of an {@link Account} on a single day, which is updated with every posted
+ * {@link Transaction}, so that a statement over a month or a year sums up at most one row per day instead of reading
+ * every transaction. The balances and totals are held in minor units of {@link Money#DEFAULT_CURRENCY}.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Entity
+@IdClass(DailyStatementId.class)
+public class DailyStatement {
+    private long accountId;
+    private Date statementDay;
+    private long openingBalance;
+    private long closingBalance;
+    private long credits;
+    private long debits;
+    private long transactionCount;
+
+    public DailyStatement() {
+        this(0L, new Date(), 0L, 0L, 0L, 0L);
+    }
+
+    public DailyStatement(long accountId, Date statementDay, long openingBalance, long credits, long debits,
+                          long transactionCount) {
+        this.accountId = accountId;
+        this.statementDay = statementDay;
+        this.openingBalance = openingBalance;
+        this.closingBalance = openingBalance + credits + debits;
+        this.credits = credits;
+        this.debits = debits;
+        this.transactionCount = transactionCount;
+    }
+
+    /**
+     * Creates the rollup of a day from the totals of its transactions, the balances are set afterwards
+     */
+    public DailyStatement(long accountId, Date statementDay, Long credits, Long debits, Long transactionCount) {
+        this(accountId, statementDay, 0L, credits, debits, transactionCount);
+    }
+
+    @Id
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    @Id
+    @Temporal(TemporalType.DATE)
+    public Date getStatementDay() {
+        return statementDay;
+    }
+
+    public void setStatementDay(Date statementDay) {
+        this.statementDay = statementDay;
+    }
+
+    public long getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public void setOpeningBalance(long openingBalance) {
+        this.openingBalance = openingBalance;
+    }
+
+    public long getClosingBalance() {
+        return closingBalance;
+    }
+
+    public void setClosingBalance(long closingBalance) {
+        this.closingBalance = closingBalance;
+    }
+
+    /**
+     * Returns the sum of the positive amounts of the day
+     */
+    public long getCredits() {
+        return credits;
+    }
+
+    public void setCredits(long credits) {
+        this.credits = credits;
+    }
+
+    /**
+     * Returns the sum of the negative amounts of the day
+     */
+    public long getDebits() {
+        return debits;
+    }
+
+    public void setDebits(long debits) {
+        this.debits = debits;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof DailyStatement)) {
+            return false;
+        }
+
+        DailyStatement dailyStatement = (DailyStatement) o;
+
+        return new DailyStatementId(accountId, statementDay)
+                .equals(new DailyStatementId(dailyStatement.accountId, dailyStatement.statementDay));
+    }
+
+    @Override
+    public int hashCode() {
+        return new DailyStatementId(accountId, statementDay).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DailyStatement{" +
+                "accountId=" + accountId +
+                ", statementDay=" + statementDay +
+                ", openingBalance=" + openingBalance +
+                ", closingBalance=" + closingBalance +
+                ", credits=" + credits +
+                ", debits=" + debits +
+                ", transactionCount=" + transactionCount +
+                '}';
+    }
+}
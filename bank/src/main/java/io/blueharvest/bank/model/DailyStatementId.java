@@ -0,0 +1,64 @@
+package io.blueharvest.bank.model;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Identifier of a {@link DailyStatement}, i.e. the account and the day
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class DailyStatementId implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long accountId;
+    private Date statementDay;
+
+    public DailyStatementId() {
+        // Required by JPA
+    }
+
+    public DailyStatementId(long accountId, Date statementDay) {
+        this.accountId = accountId;
+        this.statementDay = statementDay;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Date getStatementDay() {
+        return statementDay;
+    }
+
+    public void setStatementDay(Date statementDay) {
+        this.statementDay = statementDay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof DailyStatementId)) {
+            return false;
+        }
+
+        DailyStatementId id = (DailyStatementId) o;
+
+        // Compare the times, as the day may be a java.sql.Date on one side and a java.util.Date on the other
+        return accountId == id.accountId && statementDay.getTime() == id.statementDay.getTime();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, statementDay.getTime());
+    }
+}
@@ -0,0 +1,72 @@
+package io.blueharvest.bank.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * The progress of applying a transaction journal to the database, i.e. the sequence of the last applied journal entry.
+ * It is updated within the transaction storing the applied transactions, so it never runs ahead of or behind them.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Entity
+public class JournalCheckpoint {
+    private String journalName;
+    private long appliedSequence;
+
+    public JournalCheckpoint() {
+        this(null, 0L);
+    }
+
+    public JournalCheckpoint(String journalName, long appliedSequence) {
+        this.journalName = journalName;
+        this.appliedSequence = appliedSequence;
+    }
+
+    @Id
+    public String getJournalName() {
+        return journalName;
+    }
+
+    public void setJournalName(String journalName) {
+        this.journalName = journalName;
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public void setAppliedSequence(long appliedSequence) {
+        this.appliedSequence = appliedSequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof JournalCheckpoint)) {
+            return false;
+        }
+
+        JournalCheckpoint journalCheckpoint = (JournalCheckpoint) o;
+
+        return journalName != null ? journalName.equals(journalCheckpoint.journalName)
+                : journalCheckpoint.journalName == null;
+    }
+
+    @Override
+    public int hashCode() {
+        return journalName != null ? journalName.hashCode() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "JournalCheckpoint{" +
+                "journalName='" + journalName + '\'' +
+                ", appliedSequence=" + appliedSequence +
+                '}';
+    }
+}
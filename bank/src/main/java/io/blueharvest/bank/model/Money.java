@@ -0,0 +1,183 @@
+package io.blueharvest.bank.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.CURRENCY_MISMATCH_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_AMOUNT_ERROR;
+
+/**
+ * An amount of money, held as a whole number of minor units of its currency, e.g. cents, so that amounts are exact
+ * and adding them up is plain integer arithmetic. Amounts are converted to and from decimals only at the edges, i.e.
+ * in JSON, forms and exports, where a money is written as a plain decimal number such as {@code 1000.50}.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class Money implements Comparable<Money>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("EUR"); // The currency of all accounts
+    public static final Money ZERO = new Money(0L, DEFAULT_CURRENCY);
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    /**
+     * Returns a money in the default currency
+     *
+     * @param minorUnits The amount in minor units, e.g. 100050 for 1000.50
+     * @return The money
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return ofMinorUnits(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Returns a money in the given currency
+     *
+     * @param minorUnits The amount in minor units of the currency
+     * @param currency   The currency
+     * @return The money
+     */
+    public static Money ofMinorUnits(long minorUnits, Currency currency) {
+        checkNotNull(currency, CURRENCY_MISMATCH_ERROR);
+
+        return minorUnits == 0L && DEFAULT_CURRENCY.equals(currency) ? ZERO : new Money(minorUnits, currency);
+    }
+
+    /**
+     * Returns a money in the default currency from a decimal amount, e.g. of a JSON request
+     *
+     * @param amount The decimal amount, with no more decimal places than the currency has
+     * @return The money
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Returns a money in the given currency from a decimal amount
+     *
+     * @param amount   The decimal amount, with no more decimal places than the currency has
+     * @param currency The currency
+     * @return The money
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        checkArgument(amount != null, INVALID_AMOUNT_ERROR);
+        checkNotNull(currency, CURRENCY_MISMATCH_ERROR);
+
+        try {
+            return ofMinorUnits(amount.movePointRight(currency.getDefaultFractionDigits()).longValueExact(), currency);
+        } catch (ArithmeticException exp) { // Thrown for fractions of minor units and for amounts beyond a long
+            throw new IllegalArgumentException(INVALID_AMOUNT_ERROR, exp);
+        }
+    }
+
+    /**
+     * Parses a money in the default currency from a decimal amount, e.g. of a form or a request parameter
+     *
+     * @param amount The decimal amount, e.g. "1000.50"
+     * @return The money
+     */
+    public static Money valueOf(String amount) {
+        checkArgument(amount != null, INVALID_AMOUNT_ERROR);
+
+        return of(new BigDecimal(amount.trim())); // NumberFormatException is an IllegalArgumentException as well
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Returns the amount as a decimal with the decimal places of the currency, e.g. 1000.50
+     *
+     * @return The decimal amount
+     */
+    @JsonValue
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    public Money plus(Money other) {
+        checkSameCurrency(other);
+
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        checkSameCurrency(other);
+
+        return ofMinorUnits(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money negate() {
+        return ofMinorUnits(Math.negateExact(minorUnits), currency);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0L;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0L;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkSameCurrency(other);
+
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private void checkSameCurrency(Money other) {
+        checkArgument(currency.equals(other.currency), CURRENCY_MISMATCH_ERROR);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof Money)) {
+            return false;
+        }
+
+        Money money = (Money) o;
+
+        return minorUnits == money.minorUnits && currency.equals(money.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minorUnits, currency);
+    }
+
+    /**
+     * Returns the amount as a plain decimal without the currency, e.g. "1000.50", which is also the format parsed by
+     * {@link #valueOf(String)}
+     */
+    @Override
+    public String toString() {
+        return getAmount().toPlainString();
+    }
+}
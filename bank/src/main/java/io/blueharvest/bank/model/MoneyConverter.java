@@ -0,0 +1,34 @@
+package io.blueharvest.bank.model;
+
+import javax.persistence.AttributeConverter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.blueharvest.bank.constant.Messages.CURRENCY_MISMATCH_ERROR;
+
+/**
+ * Stores a {@link Money} as a BIGINT column holding its minor units. All accounts hold the default currency, so the
+ * currency is not stored.
+ * <p>
+ * The converter is applied through {@code @Convert} on each attribute rather than annotated with {@code @Converter},
+ * as Hibernate 5.0 registers a converter found by the entity scan twice and fails to start.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        if (money == null) {
+            return null;
+        }
+        checkArgument(Money.DEFAULT_CURRENCY.equals(money.getCurrency()), CURRENCY_MISMATCH_ERROR);
+
+        return money.getMinorUnits();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long minorUnits) {
+        return minorUnits != null ? Money.ofMinorUnits(minorUnits) : null;
+    }
+}
@@ -0,0 +1,143 @@
+package io.blueharvest.bank.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import java.util.Date;
+
+/**
+ * A transaction journal entry that was acknowledged to the client but rejected by the database when it was applied,
+ * e.g. as its account was deleted meanwhile. It is kept until it is resolved manually, e.g. by crediting the amount to
+ * another account of the customer, so that no acknowledged transaction is lost. The amount is held in minor units of
+ * {@link Money#DEFAULT_CURRENCY}.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Entity
+@IdClass(RejectedJournalEntryId.class)
+public class RejectedJournalEntry {
+    // Maximum length of the stored reason, which matches the length of its column
+    public static final int MAX_REASON_LENGTH = 255;
+
+    private String journalName;
+    private long sequence;
+    private long accountId;
+    private long amount;
+    private Date transactionTime;
+    private Date rejectedTime;
+    private String reason;
+
+    public RejectedJournalEntry() {
+        this(null, 0L, 0L, 0L, new Date(0L), null);
+    }
+
+    public RejectedJournalEntry(String journalName, long sequence, long accountId, long amount, Date transactionTime,
+                                String reason) {
+        this.journalName = journalName;
+        this.sequence = sequence;
+        this.accountId = accountId;
+        this.amount = amount;
+        this.transactionTime = transactionTime;
+        this.rejectedTime = new Date();
+        this.reason = reason;
+    }
+
+    @Id
+    public String getJournalName() {
+        return journalName;
+    }
+
+    public void setJournalName(String journalName) {
+        this.journalName = journalName;
+    }
+
+    @Id
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    /**
+     * Returns the amount in minor units, negative for debits
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    public void setAmount(long amount) {
+        this.amount = amount;
+    }
+
+    public Date getTransactionTime() {
+        return transactionTime;
+    }
+
+    public void setTransactionTime(Date transactionTime) {
+        this.transactionTime = transactionTime;
+    }
+
+    public Date getRejectedTime() {
+        return rejectedTime;
+    }
+
+    public void setRejectedTime(Date rejectedTime) {
+        this.rejectedTime = rejectedTime;
+    }
+
+    /**
+     * Returns the reason the database gave for rejecting the entry
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof RejectedJournalEntry)) {
+            return false;
+        }
+
+        RejectedJournalEntry rejectedJournalEntry = (RejectedJournalEntry) o;
+
+        return new RejectedJournalEntryId(journalName, sequence)
+                .equals(new RejectedJournalEntryId(rejectedJournalEntry.journalName, rejectedJournalEntry.sequence));
+    }
+
+    @Override
+    public int hashCode() {
+        return new RejectedJournalEntryId(journalName, sequence).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RejectedJournalEntry{" +
+                "journalName='" + journalName + '\'' +
+                ", sequence=" + sequence +
+                ", accountId=" + accountId +
+                ", amount=" + amount +
+                ", transactionTime=" + transactionTime +
+                ", rejectedTime=" + rejectedTime +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+package io.blueharvest.bank.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Identifier of a {@link RejectedJournalEntry}, i.e. the journal and the sequence of the entry within the journal
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class RejectedJournalEntryId implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String journalName;
+    private long sequence;
+
+    public RejectedJournalEntryId() {
+        // Required by JPA
+    }
+
+    public RejectedJournalEntryId(String journalName, long sequence) {
+        this.journalName = journalName;
+        this.sequence = sequence;
+    }
+
+    public String getJournalName() {
+        return journalName;
+    }
+
+    public void setJournalName(String journalName) {
+        this.journalName = journalName;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof RejectedJournalEntryId)) {
+            return false;
+        }
+
+        RejectedJournalEntryId id = (RejectedJournalEntryId) o;
+
+        return Objects.equals(journalName, id.journalName) && sequence == id.sequence;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(journalName, sequence);
+    }
+}
@@ -1,10 +1,15 @@
 package io.blueharvest.bank.model;
 
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import java.util.Date;
 
@@ -15,11 +20,16 @@ import java.util.Date;
  * Date: 2018-10-06
  **/
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_account_time", // Created by migration V2, for the account history
+        columnList = "transaction_account_id, transactionTime, id"))
 public class Transaction {
+    private static final String ID_GENERATOR = "transactionIdGenerator";
+    private static final int ID_ALLOCATION_SIZE = 50; // IDs fetched per sequence call, used by the pooled optimizer
+
     private long id;
 
     @NotNull
-    private Double amount;
+    private Money amount;
 
     @NotNull
     private Date transactionTime;
@@ -29,12 +39,12 @@ public class Transaction {
 
     public Transaction() {
         this.id = 0L;
-        this.amount = 0.0D;
+        this.amount = Money.ZERO;
         this.account = new Account();
         this.transactionTime = new Date();
     }
 
-    public Transaction(long id, Double amount, Account account) {
+    public Transaction(long id, Money amount, Account account) {
         this.id = id;
         this.amount = amount;
         this.account = account;
@@ -42,7 +52,8 @@ public class Transaction {
     }
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
+    @SequenceGenerator(name = ID_GENERATOR, sequenceName = "transaction_sequence", allocationSize = ID_ALLOCATION_SIZE)
     public long getId() {
         return id;
     }
@@ -51,11 +62,12 @@ public class Transaction {
         this.id = id;
     }
 
-    public Double getAmount() {
+    @Convert(converter = MoneyConverter.class)
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(Double amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
@@ -0,0 +1,119 @@
+package io.blueharvest.bank.repository;
+
+import io.blueharvest.bank.dto.BalanceDiscrepancy;
+import io.blueharvest.bank.dto.PostedAmount;
+import io.blueharvest.bank.model.AccountBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository for {@link AccountBalance}s
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public interface AccountBalanceRepository extends JpaRepository<AccountBalance, Long> {
+    AccountBalance findByAccountId(long accountId);
+
+    /**
+     * Adds the given amount to the balance of an account and increments its version in a single statement
+     *
+     * @param accountId The ID of the account
+     * @param amount    The amount to be added in minor units, negative for debits
+     * @return The number of updated rows, 0 if the account has no balance yet
+     */
+    @Modifying
+    @Query("update AccountBalance b set b.balance = b.balance + :amount, b.version = b.version + 1 " +
+            "where b.accountId = :accountId")
+    int addToBalance(@Param("accountId") long accountId, @Param("amount") long amount);
+
+    /**
+     * Deletes the balance of an account in a single statement
+     *
+     * @param accountId The ID of the account
+     * @return The number of deleted rows, 0 if the account has no balance
+     */
+    @Modifying
+    @Query("delete from AccountBalance b where b.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") long accountId);
+
+    /**
+     * Reads the balance of an account and locks it until the end of the current transaction, as updating it does
+     *
+     * @param accountId The ID of the account
+     * @return The balance, null if the account has no balance yet
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from AccountBalance b where b.accountId = :accountId")
+    AccountBalance lockByAccountId(@Param("accountId") long accountId);
+
+    /**
+     * Compares the balances of all accounts against the totals of their transactions in a single query. As the amounts
+     * are whole minor units, any difference is a discrepancy. A balance without any transactions, e.g. left over by a
+     * deleted account, is compared against a total of 0. The totals are summed up by correlated subqueries rather than
+     * by a left join, as HQL cannot join entities without an association before Hibernate 5.1.
+     *
+     * @return List of the accounts whose balances do not match their transactions
+     */
+    @Query("select new io.blueharvest.bank.dto.BalanceDiscrepancy(b.accountId, b.balance, " +
+            "coalesce((select sum(t.amount) from Transaction t where t.account.id = b.accountId), 0L)) " +
+            "from AccountBalance b where b.balance <> " +
+            "coalesce((select sum(t.amount) from Transaction t where t.account.id = b.accountId), 0L)")
+    List<BalanceDiscrepancy> findDiscrepancies();
+
+    /**
+     * Returns the lowest ID of the accounts having a balance
+     *
+     * @return The ID, null if no account has a balance
+     */
+    @Query("select min(b.accountId) from AccountBalance b")
+    Long findFirstAccountId();
+
+    /**
+     * Returns the highest ID of the accounts having a balance
+     *
+     * @return The ID, null if no account has a balance
+     */
+    @Query("select max(b.accountId) from AccountBalance b")
+    Long findLastAccountId();
+
+    /**
+     * Streams the amounts of the transactions of the accounts within a range of IDs along with their balances through
+     * a database cursor, ordered by account as the index on account and time. Reading both in a single statement
+     * keeps the balances consistent with the transactions while transactions are posted. The stream must be consumed
+     * within a transaction and closed afterwards.
+     *
+     * @param firstAccountId The first ID of the range, inclusive
+     * @param lastAccountId  The last ID of the range, inclusive
+     * @return Stream of the amounts of the transactions
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new io.blueharvest.bank.dto.PostedAmount(b.accountId, b.balance, t.amount) " +
+            "from AccountBalance b, Transaction t where t.account.id = b.accountId " +
+            "and b.accountId between :firstAccountId and :lastAccountId " +
+            "order by t.account.id, t.transactionTime, t.id")
+    Stream<PostedAmount> streamPostedAmounts(@Param("firstAccountId") long firstAccountId,
+                                             @Param("lastAccountId") long lastAccountId);
+
+    /**
+     * Returns the balances of the accounts within a range of IDs that have no transactions, e.g. left over by deleted
+     * accounts, which {@link #streamPostedAmounts} does not return
+     *
+     * @param firstAccountId The first ID of the range, inclusive
+     * @param lastAccountId  The last ID of the range, inclusive
+     * @return List of the balances
+     */
+    @Query("select b from AccountBalance b where b.accountId between :firstAccountId and :lastAccountId " +
+            "and not exists (select t.id from Transaction t where t.account.id = b.accountId)")
+    List<AccountBalance> findBalancesWithoutTransactions(@Param("firstAccountId") long firstAccountId,
+                                                         @Param("lastAccountId") long lastAccountId);
+}
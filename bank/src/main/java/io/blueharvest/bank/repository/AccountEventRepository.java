@@ -0,0 +1,44 @@
+package io.blueharvest.bank.repository;
+
+import io.blueharvest.bank.model.AccountEvent;
+import io.blueharvest.bank.model.AccountEventId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Repository for {@link AccountEvent}s. The events are only ever inserted, so there are no update statements.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public interface AccountEventRepository extends JpaRepository<AccountEvent, AccountEventId> {
+    List<AccountEvent> findByAccountIdOrderBySequenceAsc(long accountId);
+
+    /**
+     * Returns the sequence of the last event of an account, read from the primary key index
+     *
+     * @param accountId The ID of the account
+     * @return The sequence of the last event, 0 if the account has no events
+     */
+    @Query("select coalesce(max(e.sequence), 0L) from AccountEvent e where e.accountId = :accountId")
+    long findLastSequence(@Param("accountId") long accountId);
+
+    /**
+     * Returns the events of an account within a range of sequences that were recorded up to a point in time
+     *
+     * @param accountId     The ID of the account
+     * @param afterSequence The sequence after which the events are returned, exclusive
+     * @param lastSequence  The sequence up to which the events are returned, inclusive
+     * @param time          The time up to which the events are returned, inclusive
+     * @return List of the events in sequence order
+     */
+    @Query("select e from AccountEvent e where e.accountId = :accountId " +
+            "and e.sequence > :afterSequence and e.sequence <= :lastSequence and e.eventTime <= :time " +
+            "order by e.sequence")
+    List<AccountEvent> findEvents(@Param("accountId") long accountId, @Param("afterSequence") long afterSequence,
+                                  @Param("lastSequence") long lastSequence, @Param("time") Date time);
+}
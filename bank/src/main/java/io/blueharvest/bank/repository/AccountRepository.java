@@ -2,8 +2,15 @@ package io.blueharvest.bank.repository;
 
 import io.blueharvest.bank.model.Account;
 import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Money;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -17,5 +24,61 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     boolean existsById(long id);
 
+    /**
+     * Updates the details of an account and increments its version in a single statement, if the account still has
+     * the expected version and its customer exists
+     *
+     * @param id            The ID of the account
+     * @param version       The version the account is expected to have
+     * @param credit        The new credit of the account
+     * @param establishDate The new establish date of the account
+     * @param customer      The customer of the account, only its ID is relevant
+     * @return The number of updated rows, 0 if the account or the customer does not exist or the version differs
+     */
+    @Modifying
+    @Query("update Account a set a.credit = :credit, a.establishDate = :establishDate, a.customer = :customer, " +
+            "a.version = a.version + 1 where a.id = :id and a.version = :version " +
+            "and exists (select c.id from Customer c where c = :customer)")
+    int updateIfVersionMatches(@Param("id") long id, @Param("version") long version, @Param("credit") Money credit,
+                               @Param("establishDate") Date establishDate, @Param("customer") Customer customer);
+
+    /**
+     * Deletes an account in a single statement, without loading it first. The transactions of the account have to be
+     * deleted beforehand, as they are not cascaded.
+     *
+     * @param id The ID of the account
+     * @return The number of deleted rows, 0 if the account does not exist
+     */
+    @Modifying
+    @Query("delete from Account a where a.id = :id")
+    int deleteById(@Param("id") long id);
+
+    /**
+     * Returns the IDs of the accounts of a customer, without loading the accounts
+     *
+     * @param customerId The ID of the customer
+     * @return List of the IDs of the accounts of the customer
+     */
+    @Query("select a.id from Account a where a.customer.id = :customerId")
+    List<Long> findIdsByCustomerId(@Param("customerId") long customerId);
+
+    /**
+     * Returns the accounts of a customer, fetching the customer within the same query
+     *
+     * @param customer The customer whose accounts should be returned
+     * @return List of the accounts of the customer
+     */
+    @EntityGraph(attributePaths = "customer")
     List<Account> findByCustomer(Customer customer);
+
+    /**
+     * Returns the accounts whose IDs follow the given ID in ascending ID order (keyset pagination), fetching their
+     * customers within the same query
+     *
+     * @param afterId  The ID after which accounts should be returned
+     * @param pageable The page to be returned, only its size is relevant as the offset is given by afterId
+     * @return List of accounts following the given ID
+     */
+    @EntityGraph(attributePaths = "customer")
+    List<Account> findByIdGreaterThanOrderByIdAsc(long afterId, Pageable pageable);
 }
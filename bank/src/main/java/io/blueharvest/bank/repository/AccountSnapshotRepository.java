@@ -0,0 +1,36 @@
+package io.blueharvest.bank.repository;
+
+import io.blueharvest.bank.model.AccountEventId;
+import io.blueharvest.bank.model.AccountSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Repository for {@link AccountSnapshot}s. The snapshots are read as values rather than as entities, so that the
+ * events following a snapshot can be applied to it without changing the stored snapshot.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public interface AccountSnapshotRepository extends JpaRepository<AccountSnapshot, AccountEventId> {
+
+    /**
+     * Returns the last snapshot of an account up to a sequence that was taken of events recorded up to a point in time
+     *
+     * @param accountId    The ID of the account
+     * @param lastSequence The sequence up to which the snapshot is looked up, inclusive
+     * @param time         The time up to which the snapshot is looked up, inclusive
+     * @param pageable     Should request a single result
+     * @return List containing the snapshot if such a snapshot exists, otherwise an empty list
+     */
+    @Query("select new io.blueharvest.bank.model.AccountSnapshot(s.accountId, s.sequence, s.eventTime, " +
+            "s.customerId, s.balance) from AccountSnapshot s where s.accountId = :accountId " +
+            "and s.sequence <= :lastSequence and s.eventTime <= :time order by s.sequence desc")
+    List<AccountSnapshot> findLatest(@Param("accountId") long accountId, @Param("lastSequence") long lastSequence,
+                                     @Param("time") Date time, Pageable pageable);
+}
@@ -1,7 +1,13 @@
 package io.blueharvest.bank.repository;
 
 import io.blueharvest.bank.model.Customer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 /**
  * Repository for {@link Customer}s
@@ -13,4 +19,42 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Customer findById(long id);
 
     boolean existsById(long id);
+
+    /**
+     * Updates the details of a customer and increments its version in a single statement, if the customer still has
+     * the expected version
+     *
+     * @param id       The ID of the customer
+     * @param version  The version the customer is expected to have
+     * @param name     The new name of the customer
+     * @param surname  The new surname of the customer
+     * @param address  The new address of the customer
+     * @param postcode The new postcode of the customer
+     * @return The number of updated rows, 0 if the customer does not exist or the version differs
+     */
+    @Modifying
+    @Query("update Customer c set c.name = :name, c.surname = :surname, c.address = :address, " +
+            "c.postcode = :postcode, c.version = c.version + 1 where c.id = :id and c.version = :version")
+    int updateIfVersionMatches(@Param("id") long id, @Param("version") long version, @Param("name") String name,
+                               @Param("surname") String surname, @Param("address") String address,
+                               @Param("postcode") String postcode);
+
+    /**
+     * Returns the customers whose IDs follow the given ID in ascending ID order (keyset pagination)
+     *
+     * @param afterId  The ID after which customers should be returned
+     * @param pageable The page to be returned, only its size is relevant as the offset is given by afterId
+     * @return List of customers following the given ID
+     */
+    List<Customer> findByIdGreaterThanOrderByIdAsc(long afterId, Pageable pageable);
+
+    /**
+     * Returns the customers whose IDs lie within the given range in ascending ID order
+     *
+     * @param firstId  The first ID of the range
+     * @param lastId   The last ID of the range
+     * @param pageable The page to be returned, only its size is relevant as the offset is given by firstId
+     * @return List of customers within the range
+     */
+    List<Customer> findByIdBetweenOrderByIdAsc(long firstId, long lastId, Pageable pageable);
 }
@@ -0,0 +1,121 @@
+package io.blueharvest.bank.repository;
+
+import io.blueharvest.bank.dto.TransactionSummary;
+import io.blueharvest.bank.model.DailyStatement;
+import io.blueharvest.bank.model.DailyStatementId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Repository for {@link DailyStatement}s. The balances are read as values rather than as entities, so that they
+ * reflect the updates made by the bulk statements within the same transaction. All amounts are in minor units.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public interface DailyStatementRepository extends JpaRepository<DailyStatement, DailyStatementId> {
+
+    /**
+     * Adds a transaction to the rollup of an account for a day in a single statement
+     *
+     * @param accountId The ID of the account
+     * @param day       The day of the transaction
+     * @param amount    The amount of the transaction in minor units, negative for debits
+     * @param credit    The amount if positive, 0 otherwise
+     * @param debit     The amount if negative, 0 otherwise
+     * @return The number of updated rows, 0 if the account has no rollup for that day yet
+     */
+    @Modifying
+    @Query("update DailyStatement s set s.closingBalance = s.closingBalance + :amount, " +
+            "s.credits = s.credits + :credit, s.debits = s.debits + :debit, " +
+            "s.transactionCount = s.transactionCount + 1 " +
+            "where s.accountId = :accountId and s.statementDay = :day")
+    int addToStatement(@Param("accountId") long accountId, @Param("day") Date day, @Param("amount") long amount,
+                       @Param("credit") long credit, @Param("debit") long debit);
+
+    /**
+     * Shifts the balances of the rollups of an account after a day by an amount, as a transaction posted on that day
+     * changes the balances of all following days
+     *
+     * @param accountId The ID of the account
+     * @param day       The day of the transaction
+     * @param amount    The amount of the transaction
+     * @return The number of updated rows
+     */
+    @Modifying
+    @Query("update DailyStatement s set s.openingBalance = s.openingBalance + :amount, " +
+            "s.closingBalance = s.closingBalance + :amount " +
+            "where s.accountId = :accountId and s.statementDay > :day")
+    int shiftBalancesAfter(@Param("accountId") long accountId, @Param("day") Date day, @Param("amount") long amount);
+
+    /**
+     * Returns the closing balance of the last rollup of an account before a day
+     *
+     * @param accountId The ID of the account
+     * @param day       The day before which the rollup is looked up
+     * @param pageable  Should request a single result
+     * @return List containing the closing balance if such a rollup exists, otherwise an empty list
+     */
+    @Query("select s.closingBalance from DailyStatement s where s.accountId = :accountId and s.statementDay < :day " +
+            "order by s.statementDay desc")
+    List<Long> findClosingBalancesBefore(@Param("accountId") long accountId, @Param("day") Date day,
+                                           Pageable pageable);
+
+    /**
+     * Returns the opening balance of the first rollup of an account on or after a day
+     *
+     * @param accountId The ID of the account
+     * @param day       The day from which the rollup is looked up
+     * @param pageable  Should request a single result
+     * @return List containing the opening balance if such a rollup exists, otherwise an empty list
+     */
+    @Query("select s.openingBalance from DailyStatement s where s.accountId = :accountId and s.statementDay >= :day " +
+            "order by s.statementDay asc")
+    List<Long> findOpeningBalancesFrom(@Param("accountId") long accountId, @Param("day") Date day,
+                                         Pageable pageable);
+
+    /**
+     * Sums up the rollups of an account within a range of days
+     *
+     * @param accountId The ID of the account
+     * @param firstDay  The first day of the range, inclusive
+     * @param lastDay   The last day of the range, inclusive
+     * @return The number and totals of the transactions within the range
+     */
+    @Query("select new io.blueharvest.bank.dto.TransactionSummary(coalesce(sum(s.transactionCount), 0L), " +
+            "coalesce(sum(s.credits + s.debits), 0L), coalesce(sum(s.credits), 0L), coalesce(sum(s.debits), 0L)) " +
+            "from DailyStatement s where s.accountId = :accountId and s.statementDay between :firstDay and :lastDay")
+    TransactionSummary summarizeByAccountId(@Param("accountId") long accountId, @Param("firstDay") Date firstDay,
+                                            @Param("lastDay") Date lastDay);
+
+    /**
+     * Computes the rollups of an account from its transactions, with the balances left at 0. The credits and debits
+     * are told apart by the sign of the amount, see {@link TransactionRepository#summarizeByAccountId}.
+     *
+     * @param accountId The ID of the account
+     * @return List of the rollups in day order
+     */
+    @Query("select new io.blueharvest.bank.model.DailyStatement(t.account.id, cast(t.transactionTime as date), " +
+            "coalesce(sum(case when sign(t.amount) > 0 then t.amount else 0L end), 0L), " +
+            "coalesce(sum(case when sign(t.amount) < 0 then t.amount else 0L end), 0L), count(t)) " +
+            "from Transaction t where t.account.id = :accountId " +
+            "group by t.account.id, cast(t.transactionTime as date) order by cast(t.transactionTime as date)")
+    List<DailyStatement> aggregateTransactions(@Param("accountId") long accountId);
+
+    /**
+     * Deletes the rollups of an account and clears the persistence context, so that no deleted rollup stays managed.
+     * Pending changes must be flushed beforehand.
+     *
+     * @param accountId The ID of the account
+     * @return The number of deleted rows
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("delete from DailyStatement s where s.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") long accountId);
+}
@@ -0,0 +1,29 @@
+package io.blueharvest.bank.repository;
+
+import io.blueharvest.bank.model.JournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository for {@link JournalCheckpoint}s
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public interface JournalCheckpointRepository extends JpaRepository<JournalCheckpoint, String> {
+    JournalCheckpoint findByJournalName(String journalName);
+
+    /**
+     * Moves the checkpoint of a journal forward in a single statement
+     *
+     * @param journalName     The name of the journal
+     * @param appliedSequence The sequence of the last applied entry
+     * @return The number of updated rows, 0 if the journal has no checkpoint yet
+     */
+    @Modifying
+    @Query("update JournalCheckpoint c set c.appliedSequence = :appliedSequence where c.journalName = :journalName")
+    int updateAppliedSequence(@Param("journalName") String journalName,
+                              @Param("appliedSequence") long appliedSequence);
+}
@@ -0,0 +1,17 @@
+package io.blueharvest.bank.repository;
+
+import io.blueharvest.bank.model.RejectedJournalEntry;
+import io.blueharvest.bank.model.RejectedJournalEntryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository for {@link RejectedJournalEntry}s
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public interface RejectedJournalEntryRepository extends JpaRepository<RejectedJournalEntry, RejectedJournalEntryId> {
+    List<RejectedJournalEntry> findAllByOrderByRejectedTimeAsc();
+}
@@ -1,10 +1,24 @@
 package io.blueharvest.bank.repository;
 
+import io.blueharvest.bank.dto.DailyTransactionTotal;
+import io.blueharvest.bank.dto.TransactionDto;
+import io.blueharvest.bank.dto.TransactionSummary;
 import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Money;
 import io.blueharvest.bank.model.Transaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for {@link Transaction}s
@@ -15,5 +29,118 @@ import java.util.List;
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
     Transaction findById(long id);
 
-    List<Transaction> findByAccount(Account account);
+    /**
+     * Returns the transactions of an account in time order, fetching the account and its customer within the same
+     * query. The transactions are read through the index on account and time, so neither the lookup nor the ordering
+     * depends on the size of the table. The order starts with the account, which is fixed by the condition, so that
+     * the order matches the index and the database does not sort the transactions.
+     *
+     * @param account The account whose transactions should be returned
+     * @return List of the transactions of the account
+     */
+    @EntityGraph(attributePaths = {"account", "account.customer"})
+    @Query("select t from Transaction t where t.account = :account order by t.account.id, t.transactionTime, t.id")
+    List<Transaction> findHistoryByAccount(@Param("account") Account account);
+
+    /**
+     * Returns the transactions whose IDs follow the given ID in ascending ID order (keyset pagination), fetching their
+     * accounts and customers within the same query
+     *
+     * @param afterId  The ID after which transactions should be returned
+     * @param pageable The page to be returned, only its size is relevant as the offset is given by afterId
+     * @return List of transactions following the given ID
+     */
+    @EntityGraph(attributePaths = {"account", "account.customer"})
+    List<Transaction> findByIdGreaterThanOrderByIdAsc(long afterId, Pageable pageable);
+
+    /**
+     * Streams the transactions of an account in time order through a database cursor. The transactions are read as
+     * unmanaged DTOs, so the persistence context does not grow while the stream is consumed. The stream must be
+     * consumed within a transaction and closed afterwards. As for {@link #findHistoryByAccount(Account)}, the order
+     * matches the index on account and time.
+     *
+     * @param accountId The ID of the account
+     * @return Stream of the transactions of the account
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new io.blueharvest.bank.dto.TransactionDto(t.id, t.amount, t.account.id, t.transactionTime) " +
+            "from Transaction t where t.account.id = :accountId order by t.account.id, t.transactionTime, t.id")
+    Stream<TransactionDto> streamByAccountId(@Param("accountId") long accountId);
+
+    /**
+     * Returns the transactions of an account within a time range and an amount range in time order. The transactions
+     * are looked up through an index on the account, so the cost depends on the history of the account rather than on
+     * the size of the table.
+     *
+     * @param accountId The ID of the account
+     * @param from      The start of the time range, inclusive
+     * @param to        The end of the time range, exclusive
+     * @param minAmount The lowest amount, inclusive
+     * @param maxAmount The highest amount, inclusive
+     * @return List of the matching transactions
+     */
+    @Query("select new io.blueharvest.bank.dto.TransactionDto(t.id, t.amount, t.account.id, t.transactionTime) " +
+            "from Transaction t where t.account.id = :accountId " +
+            "and t.transactionTime >= :from and t.transactionTime < :to " +
+            "and t.amount between :minAmount and :maxAmount " +
+            "order by t.account.id, t.transactionTime, t.id")
+    List<TransactionDto> findByAccountIdAndRanges(@Param("accountId") long accountId, @Param("from") Date from,
+                                                  @Param("to") Date to, @Param("minAmount") Money minAmount,
+                                                  @Param("maxAmount") Money maxAmount);
+
+    /**
+     * Returns the number, the total, the credited and the debited amount of the transactions of an account within a
+     * time range. The amounts are summed up as minor units, i.e. as integers, by the database. Hibernate only accepts
+     * literals of type {@link Money} in comparisons with the amount, so the sign of the amount is compared instead.
+     *
+     * @param accountId The ID of the account
+     * @param from      The start of the time range, inclusive
+     * @param to        The end of the time range, exclusive
+     * @return The summary of the transactions, with a count and totals of 0 if there are none
+     */
+    @Query("select new io.blueharvest.bank.dto.TransactionSummary(count(t), coalesce(sum(t.amount), 0L), " +
+            "coalesce(sum(case when sign(t.amount) > 0 then t.amount else 0L end), 0L), " +
+            "coalesce(sum(case when sign(t.amount) < 0 then t.amount else 0L end), 0L)) " +
+            "from Transaction t where t.account.id = :accountId " +
+            "and t.transactionTime >= :from and t.transactionTime < :to")
+    TransactionSummary summarizeByAccountId(@Param("accountId") long accountId, @Param("from") Date from,
+                                            @Param("to") Date to);
+
+    /**
+     * Returns the number and the total amount of the transactions of an account per day within a time range, for the
+     * days with transactions only, in day order. The days are those of the time zone of the database.
+     *
+     * @param accountId The ID of the account
+     * @param from      The start of the time range, inclusive
+     * @param to        The end of the time range, exclusive
+     * @return List of the daily totals
+     */
+    @Query("select new io.blueharvest.bank.dto.DailyTransactionTotal(cast(t.transactionTime as date), count(t), " +
+            "sum(t.amount)) " +
+            "from Transaction t where t.account.id = :accountId " +
+            "and t.transactionTime >= :from and t.transactionTime < :to " +
+            "group by cast(t.transactionTime as date) order by cast(t.transactionTime as date)")
+    List<DailyTransactionTotal> findDailyTotalsByAccountId(@Param("accountId") long accountId,
+                                                           @Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * Returns the IDs of the accounts having transactions, following the given account ID in ascending order (keyset
+     * pagination)
+     *
+     * @param afterId  The account ID after which account IDs should be returned
+     * @param pageable The page to be returned, only its size is relevant as the offset is given by afterId
+     * @return List of account IDs following the given ID
+     */
+    @Query("select distinct t.account.id from Transaction t where t.account.id > :afterId order by t.account.id")
+    List<Long> findAccountIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Deletes the transactions of an account in a single statement, without loading them first
+     *
+     * @param accountId The ID of the account
+     * @return The number of deleted rows
+     */
+    @Modifying
+    @Query("delete from Transaction t where t.account.id = :accountId")
+    int deleteByAccountId(@Param("accountId") long accountId);
 }
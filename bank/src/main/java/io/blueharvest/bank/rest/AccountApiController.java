@@ -0,0 +1,159 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.dto.AccountDto;
+import io.blueharvest.bank.mapper.AccountMapper;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.CustomerService;
+import io.blueharvest.bank.service.IdempotencyService;
+import io.blueharvest.bank.validation.AccountValidator;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static io.blueharvest.bank.Application.API_EXECUTOR;
+import static io.blueharvest.bank.constant.Fields.AFTER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.CUSTOMER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.IDEMPOTENCY_KEY_HEADER;
+import static io.blueharvest.bank.constant.Fields.LIMIT_PARAMETER;
+import static io.blueharvest.bank.constant.Messages.ACCOUNT_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Messages.CUSTOMER_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Paths.ACCOUNTS_CONTEXT_PTAH;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static io.blueharvest.bank.service.IdempotencyService.CREATE_ACCOUNT_OPERATION;
+
+/**
+ * JSON API for accounts. The database work runs on the API executor, so the servlet thread is released until the
+ * response is ready.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RestController
+@RequestMapping(value = "/" + API_CONTEXT_PATH + "/" + ACCOUNTS_CONTEXT_PTAH,
+        produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class AccountApiController {
+    private AccountService accountService;
+    private AccountValidator accountValidator;
+    private CustomerService customerService;
+    private IdempotencyService idempotencyService;
+    private Executor executor;
+    private Logger logger;
+
+    @Inject
+    public AccountApiController(AccountService accountService, AccountValidator accountValidator,
+                                CustomerService customerService, IdempotencyService idempotencyService,
+                                @Named(API_EXECUTOR) Executor executor, Logger logger) {
+        this.accountService = accountService;
+        this.accountValidator = accountValidator;
+        this.customerService = customerService;
+        this.idempotencyService = idempotencyService;
+        this.executor = executor;
+        this.logger = logger;
+    }
+
+    @InitBinder("accountDto")
+    protected void initBinder(final WebDataBinder binder) {
+        binder.addValidators(accountValidator);
+    }
+
+    /**
+     * Returns a page of the accounts in the system
+     *
+     * @param afterId The ID after which accounts should be listed, 0 for the first page
+     * @param limit   The maximum number of accounts to list
+     * @return
+     */
+    @GetMapping
+    public CompletableFuture<List<AccountDto>> listAccounts(
+            @RequestParam(value = AFTER_ID_PARAMETER, defaultValue = "0") long afterId,
+            @RequestParam(value = LIMIT_PARAMETER, defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = PageAttributes.capLimit(limit);
+
+        return CompletableFuture.supplyAsync(() -> toDtos(accountService.page(afterId, pageSize)), executor);
+    }
+
+    /**
+     * Returns all accounts of a specific customer
+     *
+     * @param customerId The ID of the customer
+     * @return
+     */
+    @GetMapping(params = CUSTOMER_ID_PARAMETER)
+    public CompletableFuture<List<AccountDto>> getAccountsForCustomer(
+            @RequestParam(CUSTOMER_ID_PARAMETER) long customerId) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!customerService.exists(customerId)) {
+                logger.warn(CUSTOMER_NOT_FOUND_ERROR);
+                throw new ObjectNotFoundException(CUSTOMER_NOT_FOUND_ERROR, StringUtils.EMPTY);
+            }
+
+            return toDtos(accountService.getAccountsForCustomer(customerId));
+        }, executor);
+    }
+
+    /**
+     * Returns a specific account
+     *
+     * @param accountId The ID of the account
+     * @return
+     */
+    @GetMapping("/{accountId}")
+    public CompletableFuture<AccountDto> getAccount(@PathVariable long accountId) {
+        return CompletableFuture.supplyAsync(() -> accountService.get(accountId)
+                .map(AccountMapper::toDto)
+                .orElseThrow(() -> {
+                    logger.warn(ACCOUNT_NOT_FOUND_ERROR);
+                    return new ObjectNotFoundException(ACCOUNT_NOT_FOUND_ERROR, StringUtils.EMPTY);
+                }), executor);
+    }
+
+    /**
+     * Creates an account and its associated transaction
+     *
+     * @param idempotencyKey The key identifying retries of the same request, if any
+     * @param accountDto     The DTO of the account to be created, including the ID of its customer
+     * @return The created account, or the account created by an earlier request with the same idempotency key
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<AccountDto>> createAccount(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Validated @RequestBody AccountDto accountDto, Errors errors) {
+        if (errors.hasErrors()) {
+            throw new IllegalArgumentException(errors.getFieldErrors().get(0).toString());
+        }
+
+        return CompletableFuture.supplyAsync(() -> idempotencyService.execute(CREATE_ACCOUNT_OPERATION, idempotencyKey,
+                Arrays.asList(accountDto.getCustomerId(), accountDto.getCredit()),
+                () -> accountService.create(AccountMapper.toEntity(accountDto))), executor)
+                .thenApply(account -> new ResponseEntity<>(AccountMapper.toDto(account), HttpStatus.CREATED));
+    }
+
+    private static List<AccountDto> toDtos(List<Account> accounts) {
+        return accounts.stream().map(AccountMapper::toDto).collect(Collectors.toList());
+    }
+}
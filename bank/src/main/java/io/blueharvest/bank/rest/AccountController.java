@@ -1,15 +1,16 @@
 package io.blueharvest.bank.rest;
 
 import io.blueharvest.bank.dto.AccountDto;
+import io.blueharvest.bank.mapper.AccountMapper;
 import io.blueharvest.bank.model.Account;
 import io.blueharvest.bank.model.Customer;
 import io.blueharvest.bank.service.AccountService;
 import io.blueharvest.bank.service.CustomerService;
+import io.blueharvest.bank.service.IdempotencyService;
 import io.blueharvest.bank.validation.AccountValidator;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.log4j.Logger;
 import org.hibernate.ObjectNotFoundException;
-import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -19,20 +20,26 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.inject.Inject;
 import javax.validation.constraints.NotNull;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
+import static io.blueharvest.bank.constant.Fields.AFTER_ID_PARAMETER;
 import static io.blueharvest.bank.constant.Fields.CUSTOMER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.IDEMPOTENCY_KEY_HEADER;
+import static io.blueharvest.bank.constant.Fields.LIMIT_PARAMETER;
 import static io.blueharvest.bank.constant.Messages.CUSTOMER_NOT_FOUND_ERROR;
 import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
 import static io.blueharvest.bank.constant.Paths.ACCOUNTS_CONTEXT_PTAH;
 import static io.blueharvest.bank.constant.Paths.LIST_CONTEXT_PATH;
+import static io.blueharvest.bank.service.IdempotencyService.CREATE_ACCOUNT_OPERATION;
 
 /**
  * Controller for {@link Account}s
@@ -49,16 +56,16 @@ public class AccountController {
     private AccountService accountService;
     private AccountValidator accountValidator;
     private CustomerService customerService;
+    private IdempotencyService idempotencyService;
     private Logger logger;
 
-    private ModelMapper mapper = new ModelMapper(); // Mapper for converting between entities and DTOs
-
     @Inject
     public AccountController(AccountService accountService, AccountValidator accountValidator,
-                             CustomerService customerService, Logger logger) {
+                             CustomerService customerService, IdempotencyService idempotencyService, Logger logger) {
         this.accountService = accountService;
         this.accountValidator = accountValidator;
         this.customerService = customerService;
+        this.idempotencyService = idempotencyService;
         this.logger = logger;
     }
 
@@ -68,15 +75,21 @@ public class AccountController {
     }
 
     /**
-     * Return all accounts in the system
+     * Return a page of the accounts in the system
      *
+     * @param afterId The ID after which accounts should be listed, 0 for the first page
+     * @param limit   The maximum number of accounts to list
      * @param model
      * @return
      */
     @GetMapping(path = "/" + LIST_CONTEXT_PATH, name = "getAccounts")
-    public String listAccounts(Model model) {
-        List<Account> accounts = accountService.getAll();
-        model.addAttribute(ACCOUNTS_ATTRIBUTE_NAME, accounts);
+    public String listAccounts(@RequestParam(value = AFTER_ID_PARAMETER, defaultValue = "0") long afterId,
+                               @RequestParam(value = LIMIT_PARAMETER, defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                               Model model) {
+        int pageSize = PageAttributes.capLimit(limit);
+        List<Account> accounts = accountService.page(afterId, pageSize);
+        PageAttributes.addPage(model, ACCOUNTS_ATTRIBUTE_NAME, accounts, pageSize, Account::getId);
+        model.addAttribute(ACCOUNT_DTO_ATTRIBUTE_NAME, new AccountDto()); // Required for rendering the input fields
         return "/" + ACCOUNTS_CONTEXT_PTAH;
     }
 
@@ -119,12 +132,14 @@ public class AccountController {
     /**
      * Creates an account and its associated transaction
      *
-     * @param customerId The ID of the customer
-     * @param accountDto The DTO of account to be created
+     * @param customerId     The ID of the customer
+     * @param idempotencyKey The key identifying retries of the same request, if any
+     * @param accountDto     The DTO of account to be created
      * @return
      */
     @PostMapping(name = "createAccount")
     public String createAccount(@NotNull @RequestParam(CUSTOMER_ID_PARAMETER) String customerId,
+                                @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
                                 @Validated @ModelAttribute AccountDto accountDto, Errors errors) {
 
         // Check if a valid customer ID is passed
@@ -136,29 +151,20 @@ public class AccountController {
             throw new IllegalArgumentException(errors.getFieldErrors().get(0).toString());
         }
 
-        // Get the customer associated with
-        Account account = new Account();
-        mapper.map(accountDto, account);
+        // Associate the account with the customer, whose existence is checked by the insert of the account
+        Account account = AccountMapper.toEntity(accountDto);
 
         long customerIdLong = Long.parseLong(customerId);
-        account.setCustomer(getCustomer(customerIdLong));
+        account.setCustomer(new Customer(customerIdLong));
 
-        accountService.create(account);
+        // A retry with the same key gets the account created by the first attempt
+        Account createdAccount = idempotencyService.execute(CREATE_ACCOUNT_OPERATION, idempotencyKey,
+                Arrays.asList(customerIdLong, account.getCredit()), () -> accountService.create(account));
 
         // Redirect to the same page with the customer ID
         UriComponentsBuilder builder = UriComponentsBuilder.fromPath("redirect:/" + ACCOUNTS_CONTEXT_PTAH);
-        builder.queryParam(CUSTOMER_ID_PARAMETER, account.getCustomer().getId());
+        builder.queryParam(CUSTOMER_ID_PARAMETER, createdAccount.getCustomer().getId());
 
         return builder.build().toUriString();
     }
-
-    private Customer getCustomer(long customerId) {
-        Optional<Customer> existingCustomerOptional = customerService.get(customerId);
-        if (!existingCustomerOptional.isPresent()) {
-            logger.warn(CUSTOMER_NOT_FOUND_ERROR);
-            throw new ObjectNotFoundException(CUSTOMER_NOT_FOUND_ERROR, StringUtils.EMPTY);
-        }
-
-        return existingCustomerOptional.get();
-    }
 }
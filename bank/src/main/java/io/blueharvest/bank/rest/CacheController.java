@@ -0,0 +1,61 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.dto.CacheStatisticsDto;
+import io.blueharvest.bank.service.CacheStatisticsService;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.inject.Inject;
+import java.util.List;
+
+import static io.blueharvest.bank.constant.Messages.CACHE_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Paths.CACHES_CONTEXT_PATH;
+
+/**
+ * Controller exposing the hit, miss and eviction counters of the entity caches as JSON
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RestController
+@RequestMapping(value = "/" + CACHES_CONTEXT_PATH, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class CacheController {
+    private CacheStatisticsService cacheStatisticsService;
+    private Logger logger;
+
+    @Inject
+    public CacheController(CacheStatisticsService cacheStatisticsService, Logger logger) {
+        this.cacheStatisticsService = cacheStatisticsService;
+        this.logger = logger;
+    }
+
+    /**
+     * Returns the statistics of all caches
+     *
+     * @return
+     */
+    @GetMapping
+    public List<CacheStatisticsDto> listCaches() {
+        return cacheStatisticsService.getAll();
+    }
+
+    /**
+     * Returns the statistics of a specific cache
+     *
+     * @param cacheName The name of the cache
+     * @return
+     */
+    @GetMapping("/{cacheName}")
+    public CacheStatisticsDto getCache(@PathVariable String cacheName) {
+        return cacheStatisticsService.get(cacheName).orElseThrow(() -> {
+            logger.warn(CACHE_NOT_FOUND_ERROR);
+            return new ObjectNotFoundException(CACHE_NOT_FOUND_ERROR, StringUtils.EMPTY);
+        });
+    }
+}
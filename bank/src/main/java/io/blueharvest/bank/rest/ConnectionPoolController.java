@@ -0,0 +1,48 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.dto.ConnectionPoolStatisticsDto;
+import io.blueharvest.bank.service.ConnectionPoolStatisticsService;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.Messages.CONNECTION_POOL_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Paths.CONNECTION_POOL_CONTEXT_PATH;
+
+/**
+ * Controller exposing the usage of the database connection pool as JSON
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RestController
+@RequestMapping(value = "/" + CONNECTION_POOL_CONTEXT_PATH, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class ConnectionPoolController {
+    private ConnectionPoolStatisticsService connectionPoolStatisticsService;
+    private Logger logger;
+
+    @Inject
+    public ConnectionPoolController(ConnectionPoolStatisticsService connectionPoolStatisticsService, Logger logger) {
+        this.connectionPoolStatisticsService = connectionPoolStatisticsService;
+        this.logger = logger;
+    }
+
+    /**
+     * Returns the statistics of the connection pool
+     *
+     * @return
+     */
+    @GetMapping
+    public ConnectionPoolStatisticsDto getConnectionPool() {
+        return connectionPoolStatisticsService.get().orElseThrow(() -> {
+            logger.warn(CONNECTION_POOL_NOT_FOUND_ERROR);
+            return new ObjectNotFoundException(CONNECTION_POOL_NOT_FOUND_ERROR, StringUtils.EMPTY);
+        });
+    }
+}
@@ -0,0 +1,182 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.dto.CustomerDto;
+import io.blueharvest.bank.dto.CustomerImportReport;
+import io.blueharvest.bank.mapper.CustomerMapper;
+import io.blueharvest.bank.service.CustomerImportService;
+import io.blueharvest.bank.service.CustomerService;
+import io.blueharvest.bank.validation.CustomerValidator;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static io.blueharvest.bank.Application.API_EXECUTOR;
+import static io.blueharvest.bank.constant.Fields.AFTER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.FILE_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.FUZZY_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.LIMIT_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.NAME_FIELD;
+import static io.blueharvest.bank.constant.Fields.POSTCODE_FIELD;
+import static io.blueharvest.bank.constant.Fields.SURNAME_FIELD;
+import static io.blueharvest.bank.constant.Messages.CUSTOMER_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.CUSTOMERS_CONTEXT_PTAH;
+import static io.blueharvest.bank.constant.Paths.IMPORT_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.SEARCH_CONTEXT_PATH;
+
+/**
+ * JSON API for customers. The database work runs on the API executor, so the servlet thread is released until the
+ * response is ready.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RestController
+@RequestMapping(value = "/" + API_CONTEXT_PATH + "/" + CUSTOMERS_CONTEXT_PTAH,
+        produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class CustomerApiController {
+    private CustomerService customerService;
+    private CustomerImportService customerImportService;
+    private CustomerValidator customerValidator;
+    private Executor executor;
+    private Logger logger;
+
+    @Inject
+    public CustomerApiController(CustomerService customerService, CustomerImportService customerImportService,
+                                 CustomerValidator customerValidator, @Named(API_EXECUTOR) Executor executor,
+                                 Logger logger) {
+        this.customerService = customerService;
+        this.customerImportService = customerImportService;
+        this.customerValidator = customerValidator;
+        this.executor = executor;
+        this.logger = logger;
+    }
+
+    @InitBinder("customerDto")
+    protected void initBinder(final WebDataBinder binder) {
+        binder.addValidators(customerValidator);
+    }
+
+    /**
+     * Returns a page of the customers in the system
+     *
+     * @param afterId The ID after which customers should be listed, 0 for the first page
+     * @param limit   The maximum number of customers to list
+     * @return
+     */
+    @GetMapping
+    public CompletableFuture<List<CustomerDto>> listCustomers(
+            @RequestParam(value = AFTER_ID_PARAMETER, defaultValue = "0") long afterId,
+            @RequestParam(value = LIMIT_PARAMETER, defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = PageAttributes.capLimit(limit);
+
+        return CompletableFuture.supplyAsync(() -> customerService.page(afterId, pageSize).stream()
+                .map(CustomerMapper::toDto)
+                .collect(Collectors.toList()), executor);
+    }
+
+    /**
+     * Searches customers by the beginnings of their names, surnames and postcodes, ignoring case and accents. The
+     * customers must match all given details.
+     *
+     * @param name     The name to be searched for
+     * @param surname  The surname to be searched for
+     * @param postcode The postcode to be searched for
+     * @param fuzzy    True if words differing in a few characters match as well
+     * @param limit    The maximum number of customers to list
+     * @return
+     */
+    @GetMapping("/" + SEARCH_CONTEXT_PATH)
+    public CompletableFuture<List<CustomerDto>> searchCustomers(
+            @RequestParam(value = NAME_FIELD, required = false) String name,
+            @RequestParam(value = SURNAME_FIELD, required = false) String surname,
+            @RequestParam(value = POSTCODE_FIELD, required = false) String postcode,
+            @RequestParam(value = FUZZY_PARAMETER, defaultValue = "false") boolean fuzzy,
+            @RequestParam(value = LIMIT_PARAMETER, defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = PageAttributes.capLimit(limit);
+
+        return CompletableFuture.supplyAsync(() -> customerService.search(name, surname, postcode, fuzzy, pageSize)
+                .stream()
+                .map(CustomerMapper::toDto)
+                .collect(Collectors.toList()), executor);
+    }
+
+    /**
+     * Returns a specific customer
+     *
+     * @param customerId The ID of the customer
+     * @return
+     */
+    @GetMapping("/{customerId}")
+    public CompletableFuture<CustomerDto> getCustomer(@PathVariable long customerId) {
+        return CompletableFuture.supplyAsync(() -> customerService.get(customerId)
+                .map(CustomerMapper::toDto)
+                .orElseThrow(() -> {
+                    logger.warn(CUSTOMER_NOT_FOUND_ERROR);
+                    return new ObjectNotFoundException(CUSTOMER_NOT_FOUND_ERROR, StringUtils.EMPTY);
+                }), executor);
+    }
+
+    /**
+     * Creates a customer
+     *
+     * @param customerDto The DTO of the customer to be created
+     * @return The created customer
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<CustomerDto>> createCustomer(@Validated @RequestBody CustomerDto customerDto,
+                                                                         Errors errors) {
+        if (errors.hasErrors()) {
+            throw new IllegalArgumentException(errors.getFieldErrors().get(0).toString());
+        }
+
+        return CompletableFuture.supplyAsync(() -> customerService.create(CustomerMapper.toEntity(customerDto)), executor)
+                .thenApply(customer -> new ResponseEntity<>(CustomerMapper.toDto(customer), HttpStatus.CREATED));
+    }
+
+    /**
+     * Creates the customers of an uploaded CSV file, whose header names the columns name, surname, address and
+     * postcode. The upload is stored in a temporary file by the servlet container and read from there as a stream.
+     *
+     * @param file The CSV file encoded in UTF-8
+     * @return The report of the import, listing the rejected rows
+     */
+    @PostMapping(path = "/" + IMPORT_CONTEXT_PATH, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CompletableFuture<CustomerImportReport> importCustomers(@RequestParam(FILE_PARAMETER) MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+                return customerImportService.importCustomers(reader);
+            } catch (IOException exp) {
+                throw new UncheckedIOException(exp);
+            }
+        }, executor);
+    }
+}
@@ -1,10 +1,10 @@
 package io.blueharvest.bank.rest;
 
 import io.blueharvest.bank.dto.CustomerDto;
+import io.blueharvest.bank.mapper.CustomerMapper;
 import io.blueharvest.bank.model.Customer;
 import io.blueharvest.bank.service.CustomerService;
 import io.blueharvest.bank.validation.CustomerValidator;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -15,10 +15,15 @@ import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import javax.inject.Inject;
 import java.util.List;
 
+import static io.blueharvest.bank.constant.Fields.AFTER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.LIMIT_PARAMETER;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
 import static io.blueharvest.bank.constant.Paths.CUSTOMERS_CONTEXT_PTAH;
 import static io.blueharvest.bank.constant.Paths.LIST_CONTEXT_PATH;
 
@@ -37,8 +42,6 @@ public class CustomerController {
     private CustomerService customerService;
     private CustomerValidator customerValidator;
 
-    private ModelMapper mapper = new ModelMapper(); // Mapper for converting between entities and DTOs
-
     @Inject
     public CustomerController(CustomerService customerService, CustomerValidator customerValidator) {
         this.customerService = customerService;
@@ -52,25 +55,31 @@ public class CustomerController {
 
     @GetMapping
     public String init(Model model) {
-        List<Customer> customers = customerService.getAll();
+        List<Customer> customers = customerService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE);
 
-        model.addAttribute(CUSTOMERS_ATTRIBUTE_NAME, customers);
+        PageAttributes.addPage(model, CUSTOMERS_ATTRIBUTE_NAME, customers, DEFAULT_PAGE_SIZE, Customer::getId);
         model.addAttribute(CUSTOMER_DTO_ATTRIBUTE_NAME, new CustomerDto());
 
         return "/" + CUSTOMERS_CONTEXT_PTAH;
     }
 
     /**
-     * Return all customers in the system
+     * Return a page of the customers in the system
      *
+     * @param afterId The ID after which customers should be listed, 0 for the first page
+     * @param limit   The maximum number of customers to list
      * @param model
      * @return
      */
     @GetMapping(path = "/" + LIST_CONTEXT_PATH)
-    public String listCustomers(Model model) {
-        List<Customer> customers = customerService.getAll();
+    public String listCustomers(@RequestParam(value = AFTER_ID_PARAMETER, defaultValue = "0") long afterId,
+                                @RequestParam(value = LIMIT_PARAMETER, defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                Model model) {
+        int pageSize = PageAttributes.capLimit(limit);
+        List<Customer> customers = customerService.page(afterId, pageSize);
 
-        model.addAttribute(CUSTOMERS_ATTRIBUTE_NAME, customers);
+        PageAttributes.addPage(model, CUSTOMERS_ATTRIBUTE_NAME, customers, pageSize, Customer::getId);
+        model.addAttribute(CUSTOMER_DTO_ATTRIBUTE_NAME, new CustomerDto()); // Required for rendering the input fields
 
         return "/" + CUSTOMERS_CONTEXT_PTAH;
     }
@@ -88,8 +97,7 @@ public class CustomerController {
             throw new IllegalArgumentException(errors.getFieldErrors().get(0).toString());
         }
 
-        Customer customer = new Customer();
-        mapper.map(customerDto, customer);
+        Customer customer = CustomerMapper.toEntity(customerDto);
 
         customerService.create(customer);
         return "redirect:/" + CUSTOMERS_CONTEXT_PTAH;
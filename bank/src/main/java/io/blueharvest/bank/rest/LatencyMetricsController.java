@@ -0,0 +1,62 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.dto.LatencyMetricsDto;
+import io.blueharvest.bank.service.LatencyMetricsService;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.inject.Inject;
+import java.util.List;
+
+import static io.blueharvest.bank.constant.Messages.METRIC_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Paths.METRICS_CONTEXT_PATH;
+
+/**
+ * Controller exposing the latency histograms and call rates of controllers, services and repositories as JSON, to be
+ * scraped periodically
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RestController
+@RequestMapping(value = "/" + METRICS_CONTEXT_PATH, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class LatencyMetricsController {
+    private LatencyMetricsService latencyMetricsService;
+    private Logger logger;
+
+    @Inject
+    public LatencyMetricsController(LatencyMetricsService latencyMetricsService, Logger logger) {
+        this.latencyMetricsService = latencyMetricsService;
+        this.logger = logger;
+    }
+
+    /**
+     * Returns the metrics of all timed methods
+     *
+     * @return
+     */
+    @GetMapping
+    public List<LatencyMetricsDto> listMetrics() {
+        return latencyMetricsService.getAll();
+    }
+
+    /**
+     * Returns the metrics of a specific timed method
+     *
+     * @param metricName The name of the metric, which contains dots
+     * @return
+     */
+    @GetMapping("/{metricName:.+}")
+    public LatencyMetricsDto getMetric(@PathVariable String metricName) {
+        return latencyMetricsService.get(metricName).orElseThrow(() -> {
+            logger.warn(METRIC_NOT_FOUND_ERROR);
+            return new ObjectNotFoundException(METRIC_NOT_FOUND_ERROR, StringUtils.EMPTY);
+        });
+    }
+}
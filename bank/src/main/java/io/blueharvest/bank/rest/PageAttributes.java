@@ -0,0 +1,52 @@
+package io.blueharvest.bank.rest;
+
+import org.springframework.ui.Model;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static io.blueharvest.bank.constant.Pagination.MAX_PAGE_SIZE;
+
+/**
+ * Helper for adding a keyset page of items and the cursor of the following page to the model of a list view
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class PageAttributes {
+    public static final String NEXT_AFTER_ID_ATTRIBUTE_NAME = "nextAfterId";
+    public static final String LIMIT_ATTRIBUTE_NAME = "limit";
+
+    private PageAttributes() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Caps the requested page size so a single request cannot load an unbounded number of rows
+     *
+     * @param limit The requested page size
+     * @return The page size to be used
+     */
+    static int capLimit(int limit) {
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Adds a page of items to the model along with the ID after which the next page starts. The next page ID is only
+     * added if the page is full, i.e. there may be more items to show.
+     *
+     * @param model             The model of the view
+     * @param itemsAttribute    The name of the attribute holding the items
+     * @param items             The items of the current page
+     * @param limit             The page size used to read the items
+     * @param idGetter          Function returning the ID of an item
+     */
+    static <T> void addPage(Model model, String itemsAttribute, List<T> items, int limit, ToLongFunction<T> idGetter) {
+        model.addAttribute(itemsAttribute, items);
+        model.addAttribute(LIMIT_ATTRIBUTE_NAME, limit);
+
+        if (!items.isEmpty() && items.size() >= limit) {
+            model.addAttribute(NEXT_AFTER_ID_ATTRIBUTE_NAME, idGetter.applyAsLong(items.get(items.size() - 1)));
+        }
+    }
+}
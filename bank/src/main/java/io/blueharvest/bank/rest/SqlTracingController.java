@@ -0,0 +1,56 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.service.SqlTracingService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.Fields.ENABLED_PARAMETER;
+import static io.blueharvest.bank.constant.Paths.LOGGING_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.SQL_CONTEXT_PATH;
+
+/**
+ * Controller switching the tracing of SQL statements on and off without restarting the application
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RestController
+@RequestMapping(value = "/" + LOGGING_CONTEXT_PATH + "/" + SQL_CONTEXT_PATH,
+        produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class SqlTracingController {
+    private SqlTracingService sqlTracingService;
+
+    @Inject
+    public SqlTracingController(SqlTracingService sqlTracingService) {
+        this.sqlTracingService = sqlTracingService;
+    }
+
+    /**
+     * Returns whether SQL statements are currently traced
+     *
+     * @return
+     */
+    @GetMapping
+    public boolean isSqlTracingEnabled() {
+        return sqlTracingService.isEnabled();
+    }
+
+    /**
+     * Switches the tracing of SQL statements on or off
+     *
+     * @param enabled True to trace SQL statements, false otherwise
+     * @return Whether SQL statements are traced afterwards
+     */
+    @PutMapping
+    public boolean setSqlTracingEnabled(@RequestParam(ENABLED_PARAMETER) boolean enabled) {
+        sqlTracingService.setEnabled(enabled);
+
+        return sqlTracingService.isEnabled();
+    }
+}
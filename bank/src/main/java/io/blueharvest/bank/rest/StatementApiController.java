@@ -0,0 +1,75 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.dto.AccountStatement;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.StatementService;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static io.blueharvest.bank.Application.API_EXECUTOR;
+import static io.blueharvest.bank.constant.Fields.ACCOUNT_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.MONTH_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.YEAR_PARAMETER;
+import static io.blueharvest.bank.constant.Messages.ACCOUNT_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.STATEMENTS_CONTEXT_PATH;
+
+/**
+ * JSON API for the monthly and yearly statements of accounts, which are computed from the daily statements
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RestController
+@RequestMapping(value = "/" + API_CONTEXT_PATH + "/" + STATEMENTS_CONTEXT_PATH,
+        produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class StatementApiController {
+    private StatementService statementService;
+    private AccountService accountService;
+    private Executor executor;
+    private Logger logger;
+
+    @Inject
+    public StatementApiController(StatementService statementService, AccountService accountService,
+                                  @Named(API_EXECUTOR) Executor executor, Logger logger) {
+        this.statementService = statementService;
+        this.accountService = accountService;
+        this.executor = executor;
+        this.logger = logger;
+    }
+
+    /**
+     * Returns the statement of a specific account for a month, or for a whole year if no month is given
+     *
+     * @param accountId The ID of the account
+     * @param year      The year of the statement
+     * @param month     The month of the statement, from 1 (January) to 12 (December), if any
+     * @return
+     */
+    @GetMapping(params = {ACCOUNT_ID_PARAMETER, YEAR_PARAMETER})
+    public CompletableFuture<AccountStatement> getStatement(@RequestParam(ACCOUNT_ID_PARAMETER) long accountId,
+                                                            @RequestParam(YEAR_PARAMETER) int year,
+                                                            @RequestParam(value = MONTH_PARAMETER, required = false)
+                                                                    Integer month) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!accountService.get(accountId).isPresent()) {
+                logger.warn(ACCOUNT_NOT_FOUND_ERROR);
+                throw new ObjectNotFoundException(ACCOUNT_NOT_FOUND_ERROR, StringUtils.EMPTY);
+            }
+
+            return month != null ? statementService.getMonthlyStatement(accountId, year, month)
+                    : statementService.getYearlyStatement(accountId, year);
+        }, executor);
+    }
+}
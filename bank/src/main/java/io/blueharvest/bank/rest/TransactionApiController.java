@@ -0,0 +1,226 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.dto.DailyTransactionTotal;
+import io.blueharvest.bank.dto.TransactionDto;
+import io.blueharvest.bank.dto.TransactionSummary;
+import io.blueharvest.bank.mapper.TransactionMapper;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.IdempotencyService;
+import io.blueharvest.bank.service.PostingService;
+import io.blueharvest.bank.service.TransactionService;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static io.blueharvest.bank.Application.API_EXECUTOR;
+import static io.blueharvest.bank.constant.Fields.ACCOUNT_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.AFTER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.FROM_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.IDEMPOTENCY_KEY_HEADER;
+import static io.blueharvest.bank.constant.Fields.LIMIT_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.MAX_AMOUNT_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.MIN_AMOUNT_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.TO_PARAMETER;
+import static io.blueharvest.bank.constant.Messages.ACCOUNT_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Messages.TRANSACTION_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.DAILY_TOTALS_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.SUMMARY_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.TRANSACTIONS_CONTEXT_PTAH;
+import static io.blueharvest.bank.service.IdempotencyService.POST_TRANSACTION_OPERATION;
+
+/**
+ * JSON API for transactions. The database work runs on the API executor, so the servlet thread is released until the
+ * response is ready.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RestController
+@RequestMapping(value = "/" + API_CONTEXT_PATH + "/" + TRANSACTIONS_CONTEXT_PTAH,
+        produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class TransactionApiController {
+    private TransactionService transactionService;
+    private AccountService accountService;
+    private PostingService postingService;
+    private IdempotencyService idempotencyService;
+    private Executor executor;
+    private Logger logger;
+
+    @Inject
+    public TransactionApiController(TransactionService transactionService, AccountService accountService,
+                                    PostingService postingService, IdempotencyService idempotencyService,
+                                    @Named(API_EXECUTOR) Executor executor, Logger logger) {
+        this.transactionService = transactionService;
+        this.accountService = accountService;
+        this.postingService = postingService;
+        this.idempotencyService = idempotencyService;
+        this.executor = executor;
+        this.logger = logger;
+    }
+
+    /**
+     * Returns a page of the transactions in the system
+     *
+     * @param afterId The ID after which transactions should be listed, 0 for the first page
+     * @param limit   The maximum number of transactions to list
+     * @return
+     */
+    @GetMapping
+    public CompletableFuture<List<TransactionDto>> listTransactions(
+            @RequestParam(value = AFTER_ID_PARAMETER, defaultValue = "0") long afterId,
+            @RequestParam(value = LIMIT_PARAMETER, defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = PageAttributes.capLimit(limit);
+
+        return CompletableFuture.supplyAsync(() -> toDtos(transactionService.page(afterId, pageSize)), executor);
+    }
+
+    /**
+     * Returns the transactions of a specific account in time order, optionally only those within a time range and an
+     * amount range
+     *
+     * @param accountId The ID of the account
+     * @param from      The start of the time range in ISO-8601 format, inclusive, if any
+     * @param to        The end of the time range in ISO-8601 format, exclusive, if any
+     * @param minAmount The lowest amount, inclusive, if any
+     * @param maxAmount The highest amount, inclusive, if any
+     * @return
+     */
+    @GetMapping(params = ACCOUNT_ID_PARAMETER)
+    public CompletableFuture<List<TransactionDto>> getTransactionsForAccount(
+            @RequestParam(ACCOUNT_ID_PARAMETER) long accountId,
+            @RequestParam(value = FROM_PARAMETER, required = false) Instant from,
+            @RequestParam(value = TO_PARAMETER, required = false) Instant to,
+            @RequestParam(value = MIN_AMOUNT_PARAMETER, required = false) Money minAmount,
+            @RequestParam(value = MAX_AMOUNT_PARAMETER, required = false) Money maxAmount) {
+        return CompletableFuture.supplyAsync(() -> {
+            checkAccountExists(accountId);
+
+            return transactionService.findTransactionsForAccount(accountId, toDate(from), toDate(to), minAmount,
+                    maxAmount);
+        }, executor);
+    }
+
+    /**
+     * Returns the number and the totals of the transactions of a specific account, optionally only of those within a
+     * time range
+     *
+     * @param accountId The ID of the account
+     * @param from      The start of the time range in ISO-8601 format, inclusive, if any
+     * @param to        The end of the time range in ISO-8601 format, exclusive, if any
+     * @return
+     */
+    @GetMapping(value = "/" + SUMMARY_CONTEXT_PATH, params = ACCOUNT_ID_PARAMETER)
+    public CompletableFuture<TransactionSummary> summarizeTransactionsForAccount(
+            @RequestParam(ACCOUNT_ID_PARAMETER) long accountId,
+            @RequestParam(value = FROM_PARAMETER, required = false) Instant from,
+            @RequestParam(value = TO_PARAMETER, required = false) Instant to) {
+        return CompletableFuture.supplyAsync(() -> {
+            checkAccountExists(accountId);
+
+            return transactionService.summarizeTransactionsForAccount(accountId, toDate(from), toDate(to));
+        }, executor);
+    }
+
+    /**
+     * Returns the number and the total amount of the transactions of a specific account per day, optionally only of
+     * those within a time range
+     *
+     * @param accountId The ID of the account
+     * @param from      The start of the time range in ISO-8601 format, inclusive, if any
+     * @param to        The end of the time range in ISO-8601 format, exclusive, if any
+     * @return
+     */
+    @GetMapping(value = "/" + DAILY_TOTALS_CONTEXT_PATH, params = ACCOUNT_ID_PARAMETER)
+    public CompletableFuture<List<DailyTransactionTotal>> getDailyTotalsForAccount(
+            @RequestParam(ACCOUNT_ID_PARAMETER) long accountId,
+            @RequestParam(value = FROM_PARAMETER, required = false) Instant from,
+            @RequestParam(value = TO_PARAMETER, required = false) Instant to) {
+        return CompletableFuture.supplyAsync(() -> {
+            checkAccountExists(accountId);
+
+            return transactionService.getDailyTotalsForAccount(accountId, toDate(from), toDate(to));
+        }, executor);
+    }
+
+    /**
+     * Returns a specific transaction
+     *
+     * @param transactionId The ID of the transaction
+     * @return
+     */
+    @GetMapping("/{transactionId}")
+    public CompletableFuture<TransactionDto> getTransaction(@PathVariable long transactionId) {
+        return CompletableFuture.supplyAsync(() -> transactionService.get(transactionId)
+                .map(TransactionMapper::toDto)
+                .orElseThrow(() -> {
+                    logger.warn(TRANSACTION_NOT_FOUND_ERROR);
+                    return new ObjectNotFoundException(TRANSACTION_NOT_FOUND_ERROR, StringUtils.EMPTY);
+                }), executor);
+    }
+
+    /**
+     * Posts a transaction to an account, a positive amount is credited and a negative one is debited. A credit that is
+     * only journaled yet is answered with 202 (Accepted) and has no ID, as it is stored in the database later on.
+     *
+     * @param idempotencyKey The key identifying retries of the same request, if any
+     * @param transactionDto The DTO of the transaction to be posted, including the ID of its account
+     * @return The posted transaction, or the transaction posted by an earlier request with the same idempotency key
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<TransactionDto>> postTransaction(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody TransactionDto transactionDto) {
+        long accountId = transactionDto.getAccountId();
+        Money amount = transactionDto.getAmount();
+
+        return CompletableFuture.supplyAsync(() -> idempotencyService.execute(POST_TRANSACTION_OPERATION,
+                idempotencyKey, Arrays.asList(accountId, amount), () -> {
+                    checkAccountExists(accountId);
+
+                    return amount != null && amount.isNegative() ? postingService.debit(accountId, amount.negate())
+                            : postingService.credit(accountId, amount);
+                }), executor)
+                .thenApply(transaction -> new ResponseEntity<>(TransactionMapper.toDto(transaction),
+                        transaction.getId() > 0 ? HttpStatus.CREATED : HttpStatus.ACCEPTED));
+    }
+
+    private void checkAccountExists(long accountId) {
+        if (!accountService.get(accountId).isPresent()) {
+            logger.warn(ACCOUNT_NOT_FOUND_ERROR);
+            throw new ObjectNotFoundException(ACCOUNT_NOT_FOUND_ERROR, StringUtils.EMPTY);
+        }
+    }
+
+    private static Date toDate(Instant instant) {
+        return instant != null ? Date.from(instant) : null;
+    }
+
+    private static List<TransactionDto> toDtos(List<Transaction> transactions) {
+        return transactions.stream().map(TransactionMapper::toDto).collect(Collectors.toList());
+    }
+}
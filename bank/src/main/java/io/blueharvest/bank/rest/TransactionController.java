@@ -1,12 +1,15 @@
 package io.blueharvest.bank.rest;
 
 import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Money;
 import io.blueharvest.bank.model.Transaction;
 import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.LedgerService;
 import io.blueharvest.bank.service.TransactionService;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.log4j.Logger;
 import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,13 +17,25 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import javax.inject.Inject;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.constraints.NotNull;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
 import static io.blueharvest.bank.constant.Fields.ACCOUNT_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.AFTER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.FORMAT_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.LIMIT_PARAMETER;
 import static io.blueharvest.bank.constant.Messages.ACCOUNT_NOT_FOUND_ERROR;
 import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Paths.EXPORT_CONTEXT_PATH;
 import static io.blueharvest.bank.constant.Paths.LIST_CONTEXT_PATH;
 import static io.blueharvest.bank.constant.Paths.TRANSACTIONS_CONTEXT_PTAH;
 
@@ -34,29 +49,37 @@ import static io.blueharvest.bank.constant.Paths.TRANSACTIONS_CONTEXT_PTAH;
 @RequestMapping("/" + TRANSACTIONS_CONTEXT_PTAH)
 public class TransactionController {
     public static final String TRANSACTIONS_ATTRIBUTE_NAME = "transactions";
+    public static final String BALANCE_ATTRIBUTE_NAME = "balance";
 
     private TransactionService transactionService;
     private AccountService accountService;
+    private LedgerService ledgerService;
     private Logger logger;
 
     @Inject
     public TransactionController(TransactionService transactionService, AccountService accountService,
-                                 Logger logger) {
+                                 LedgerService ledgerService, Logger logger) {
         this.transactionService = transactionService;
         this.accountService = accountService;
+        this.ledgerService = ledgerService;
         this.logger = logger;
     }
 
     /**
-     * Return all transactions in the system
+     * Return a page of the transactions in the system
      *
+     * @param afterId The ID after which transactions should be listed, 0 for the first page
+     * @param limit   The maximum number of transactions to list
      * @param model
      * @return
      */
     @GetMapping(path = "/" + LIST_CONTEXT_PATH, name = "getTransactions")
-    public String listTransactions(Model model) {
-        List<Transaction> transactions = transactionService.getAll();
-        model.addAttribute(TRANSACTIONS_ATTRIBUTE_NAME, transactions);
+    public String listTransactions(@RequestParam(value = AFTER_ID_PARAMETER, defaultValue = "0") long afterId,
+                                   @RequestParam(value = LIMIT_PARAMETER, defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                   Model model) {
+        int pageSize = PageAttributes.capLimit(limit);
+        List<Transaction> transactions = transactionService.page(afterId, pageSize);
+        PageAttributes.addPage(model, TRANSACTIONS_ATTRIBUTE_NAME, transactions, pageSize, Transaction::getId);
         return "/" + TRANSACTIONS_CONTEXT_PTAH;
     }
 
@@ -81,9 +104,61 @@ public class TransactionController {
         List<Transaction> accounts = transactionService.getTransactionsForAccount(accountIdLong);
         model.addAttribute(TRANSACTIONS_ATTRIBUTE_NAME, accounts);
 
+        Optional<AccountBalance> balanceOptional = ledgerService.getBalance(accountIdLong);
+        balanceOptional.ifPresent(balance -> model.addAttribute(BALANCE_ATTRIBUTE_NAME,
+                Money.ofMinorUnits(balance.getBalance())));
+
         return "/" + TRANSACTIONS_CONTEXT_PTAH;
     }
 
+    /**
+     * Export all transactions of a specific account as CSV or newline-delimited JSON. The transactions are written to
+     * the response while they are read from the database, so the memory used does not depend on the number of
+     * transactions.
+     *
+     * @param accountId The ID of the account
+     * @param format    The export format, i.e. "csv" or "ndjson"
+     * @param response  The response object
+     * @throws IOException
+     */
+    @GetMapping(path = "/" + EXPORT_CONTEXT_PATH, name = "exportTransactionsForAccount")
+    public void exportTransactionsForAccount(@NotNull @RequestParam(ACCOUNT_ID_PARAMETER) String accountId,
+                                             @RequestParam(value = FORMAT_PARAMETER, defaultValue = "csv") String format,
+                                             HttpServletResponse response) throws IOException {
+
+        // Check if a valid account ID is passed
+        if ((StringUtils.isBlank(accountId)) || (!StringUtils.isNumeric(accountId))) {
+            logger.warn(INVALID_ID_ERROR);
+            throw new IllegalArgumentException(INVALID_ID_ERROR);
+        }
+
+        TransactionExportFormat exportFormat = TransactionExportFormat.fromName(format);
+        long accountIdLong = Long.parseLong(accountId);
+        getAccount(accountIdLong); // call this just to make sure the account already exists in the system
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Content-Disposition", "attachment; filename=\"transactions-" + accountIdLong + "."
+                + exportFormat.getFileExtension() + "\"");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        exportFormat.writeHeader(writer);
+        writer.flush(); // Send the first bytes right away instead of waiting for the first buffer to fill up
+
+        try {
+            transactionService.forEachTransactionForAccount(accountIdLong, transaction -> {
+                try {
+                    exportFormat.writeTransaction(writer, transaction);
+                } catch (IOException exp) {
+                    throw new UncheckedIOException(exp);
+                }
+            });
+        } catch (UncheckedIOException exp) {
+            throw exp.getCause();
+        }
+        writer.flush();
+    }
+
     private Account getAccount(long accountId) {
         Optional<Account> existingAccountOptional = accountService.get(accountId);
         if (!existingAccountOptional.isPresent()) {
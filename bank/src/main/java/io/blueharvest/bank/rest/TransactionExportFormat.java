@@ -0,0 +1,98 @@
+package io.blueharvest.bank.rest;
+
+import io.blueharvest.bank.dto.TransactionDto;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+
+import static io.blueharvest.bank.constant.Messages.INVALID_EXPORT_FORMAT_ERROR;
+
+/**
+ * Formats supported for exporting transactions. Each transaction is written as a single line, so an export can be
+ * written and read as a stream.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public enum TransactionExportFormat {
+    CSV("text/csv", "csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("id,accountId,transactionTime,amount\n");
+        }
+
+        @Override
+        void writeTransaction(Writer writer, TransactionDto transaction) throws IOException {
+            writer.write(Long.toString(transaction.getId()));
+            writer.write(',');
+            writer.write(Long.toString(transaction.getAccountId()));
+            writer.write(',');
+            writer.write(formatTime(transaction));
+            writer.write(',');
+            writer.write(transaction.getAmount().toString());
+            writer.write('\n');
+        }
+    },
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+            // Every line is a self-describing JSON object, so there is no header
+        }
+
+        @Override
+        void writeTransaction(Writer writer, TransactionDto transaction) throws IOException {
+            writer.write("{\"id\":");
+            writer.write(Long.toString(transaction.getId()));
+            writer.write(",\"accountId\":");
+            writer.write(Long.toString(transaction.getAccountId()));
+            writer.write(",\"transactionTime\":\"");
+            writer.write(formatTime(transaction));
+            writer.write("\",\"amount\":");
+            writer.write(transaction.getAmount().toString());
+            writer.write("}\n");
+        }
+    };
+
+    private final String contentType;
+    private final String fileExtension;
+
+    TransactionExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format with the given name, ignoring case
+     *
+     * @param name The name of the format, e.g. "csv"
+     * @return The format with that name
+     * @throws IllegalArgumentException if no format has that name
+     */
+    public static TransactionExportFormat fromName(String name) {
+        for (TransactionExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+
+        throw new IllegalArgumentException(INVALID_EXPORT_FORMAT_ERROR);
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeTransaction(Writer writer, TransactionDto transaction) throws IOException;
+
+    private static String formatTime(TransactionDto transaction) {
+        return DateTimeFormatter.ISO_INSTANT.format(transaction.getTransactionTime().toInstant());
+    }
+}
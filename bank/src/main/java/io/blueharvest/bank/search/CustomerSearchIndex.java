@@ -0,0 +1,469 @@
+package io.blueharvest.bank.search;
+
+import io.blueharvest.bank.model.Customer;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.CUSTOMER_NULL_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_PAGE_SIZE_ERROR;
+
+/**
+ * An in-memory index of the names, surnames and postcodes of the customers, which finds customers by the beginnings of
+ * these details or, for a fuzzy search, by words differing in a few characters, without querying the database.
+ * <p>
+ * The details are split into words, which are compared ignoring case and accents, except for the postcode, which is
+ * taken as a single word ignoring spaces. The words of each detail are kept in sorted order along with the IDs of the
+ * customers having them, so the words beginning with a prefix are found by a single range lookup. For the fuzzy search,
+ * the words are also indexed by their trigrams, i.e. the sequences of three characters they contain, so the words
+ * within a few edits of a searched word are found among those sharing most of its trigrams instead of among all words.
+ * A word too short to have any trigram left in common after the allowed edits, e.g. "tom" and "tim", is compared
+ * against all words of a similar length instead, which are indexed by their lengths.
+ * <p>
+ * The index is thread-safe. Searches run concurrently with each other, while changes are applied one at a time.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class CustomerSearchIndex {
+    // Lengths from which a fuzzy search allows a word to differ in one or two characters
+    private static final int MIN_LENGTH_FOR_ONE_EDIT = 3;
+    private static final int MIN_LENGTH_FOR_TWO_EDITS = 6;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char WORD_BOUNDARY = '$'; // Pads the words, so their first and last characters form trigrams
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICAL_MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * The indexed details of a customer
+     */
+    private enum Field {
+        NAME, SURNAME, POSTCODE
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Words of the indexed details per customer ID, by the ordinal of the field
+    private final Map<Long, String[][]> documents = new HashMap<>();
+    private final Map<Field, FieldIndex> fieldIndexes = new EnumMap<>(Field.class);
+
+    public CustomerSearchIndex() {
+        for (Field field : Field.values()) {
+            fieldIndexes.put(field, new FieldIndex());
+        }
+    }
+
+    /**
+     * Adds a customer to the index, or replaces its details if it is indexed already
+     *
+     * @param customer The customer, whose ID must be assigned
+     */
+    public void add(Customer customer) {
+        checkNotNull(customer, CUSTOMER_NULL_ERROR);
+        checkArgument(customer.getId() > 0, INVALID_ID_ERROR);
+
+        String[][] document = new String[Field.values().length][];
+        document[Field.NAME.ordinal()] = words(Field.NAME, customer.getName());
+        document[Field.SURNAME.ordinal()] = words(Field.SURNAME, customer.getSurname());
+        document[Field.POSTCODE.ordinal()] = words(Field.POSTCODE, customer.getPostcode());
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(customer.getId());
+            for (Field field : Field.values()) {
+                String[] words = document[field.ordinal()];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = fieldIndexes.get(field).add(words[i], customer.getId());
+                }
+            }
+            documents.put(customer.getId(), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a customer from the index
+     *
+     * @param id The ID of the customer
+     * @return True if the customer was removed, false if it was not indexed
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            return removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed customers
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the customers matching all given details. A detail matches if each of its words is the beginning of a word
+     * of the detail of the customer or, for a fuzzy search, differs from such a word in at most one character, or two
+     * for words of six or more characters.
+     *
+     * @param name     The name to be searched for, null or blank if any name matches
+     * @param surname  The surname to be searched for, null or blank if any surname matches
+     * @param postcode The postcode to be searched for, null or blank if any postcode matches
+     * @param fuzzy    True if words differing in a few characters match as well
+     * @param limit    The maximum number of customers to be found
+     * @return List of the IDs of the matching customers in ascending order, an empty list if no details are given
+     */
+    public List<Long> search(String name, String surname, String postcode, boolean fuzzy, int limit) {
+        checkArgument(limit > 0, INVALID_PAGE_SIZE_ERROR);
+
+        List<Criterion> criteria = new ArrayList<>();
+        addCriteria(criteria, Field.NAME, name, fuzzy);
+        addCriteria(criteria, Field.SURNAME, surname, fuzzy);
+        addCriteria(criteria, Field.POSTCODE, postcode, fuzzy);
+
+        List<Long> ids = new ArrayList<>();
+        if (criteria.isEmpty()) {
+            return ids;
+        }
+
+        lock.readLock().lock();
+        try {
+            // The customers matching the most selective criterion are checked against the other criteria
+            Criterion mostSelectiveCriterion = null;
+            List<IdSet> mostSelectiveIdSets = null;
+            int mostSelectiveCount = Integer.MAX_VALUE;
+            for (Criterion criterion : criteria) {
+                List<IdSet> idSets = fieldIndexes.get(criterion.field).find(criterion.word, criterion.maxEdits);
+                int count = idSets.stream().mapToInt(IdSet::size).sum();
+                if (count < mostSelectiveCount) {
+                    mostSelectiveCriterion = criterion;
+                    mostSelectiveIdSets = idSets;
+                    mostSelectiveCount = count;
+                }
+            }
+
+            // The sets are merged lazily, so only the candidates up to the last match are visited
+            IdMerge candidateIds = new IdMerge(mostSelectiveIdSets);
+            while (candidateIds.hasNext() && ids.size() < limit) {
+                long id = candidateIds.next();
+                if (matches(documents.get(id), criteria, mostSelectiveCriterion)) {
+                    ids.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return ids;
+    }
+
+    private boolean removeDocument(long id) {
+        String[][] document = documents.remove(id);
+        if (document == null) {
+            return false;
+        }
+
+        for (Field field : Field.values()) {
+            for (String word : document[field.ordinal()]) {
+                fieldIndexes.get(field).remove(word, id);
+            }
+        }
+
+        return true;
+    }
+
+    private static void addCriteria(List<Criterion> criteria, Field field, String value, boolean fuzzy) {
+        for (String word : words(field, value)) {
+            criteria.add(new Criterion(field, word, fuzzy ? maxEdits(word) : 0));
+        }
+    }
+
+    /**
+     * Checks whether the details of a customer match all criteria but one, which is known to match
+     */
+    private static boolean matches(String[][] document, List<Criterion> criteria, Criterion matchingCriterion) {
+        for (Criterion criterion : criteria) {
+            if (criterion != matchingCriterion && !criterion.matchesAny(document[criterion.field.ordinal()])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Splits a detail into the words to be indexed or searched for, in lower case and without accents
+     */
+    private static String[] words(Field field, String value) {
+        if (StringUtils.isBlank(value)) {
+            return new String[0];
+        }
+
+        String normalizedValue = DIACRITICAL_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD))
+                .replaceAll("").toLowerCase(Locale.ROOT);
+        if (field == Field.POSTCODE) {
+            String postcode = WORD_SEPARATOR.matcher(normalizedValue).replaceAll("");
+            return postcode.isEmpty() ? new String[0] : new String[]{postcode};
+        }
+
+        return Arrays.stream(WORD_SEPARATOR.split(normalizedValue))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static int maxEdits(String word) {
+        if (word.length() >= MIN_LENGTH_FOR_TWO_EDITS) {
+            return 2;
+        }
+
+        return word.length() >= MIN_LENGTH_FOR_ONE_EDIT ? 1 : 0;
+    }
+
+    private static Set<String> grams(String word) {
+        String paddedWord = WORD_BOUNDARY + word + WORD_BOUNDARY;
+
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= paddedWord.length(); i++) {
+            grams.add(paddedWord.substring(i, i + GRAM_LENGTH));
+        }
+
+        return grams;
+    }
+
+    /**
+     * A word to be searched for in a detail, along with the number of characters a matching word may differ in
+     */
+    private static final class Criterion {
+        private final Field field;
+        private final String word;
+        private final int maxEdits;
+
+        private Criterion(Field field, String word, int maxEdits) {
+            this.field = field;
+            this.word = word;
+            this.maxEdits = maxEdits;
+        }
+
+        private boolean matchesAny(String[] words) {
+            for (String candidate : words) {
+                if (matches(candidate)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private boolean matches(String candidate) {
+            return candidate.startsWith(word) || (maxEdits > 0 &&
+                    Math.abs(candidate.length() - word.length()) <= maxEdits &&
+                    StringUtils.getLevenshteinDistance(word, candidate, maxEdits) >= 0);
+        }
+    }
+
+    /**
+     * Iterates over the union of sorted ID sets in ascending order without duplicates, as a customer having several
+     * matching words is in the set of each word. It takes the next ID from the set whose next ID is the lowest.
+     */
+    private static final class IdMerge {
+        private final PriorityQueue<IdCursor> cursors;
+        private long lastId = -1L;
+
+        private IdMerge(List<IdSet> idSets) {
+            cursors = new PriorityQueue<>(Math.max(1, idSets.size()));
+            for (IdSet idSet : idSets) {
+                if (!idSet.isEmpty()) {
+                    cursors.add(new IdCursor(idSet));
+                }
+            }
+            skipDuplicates();
+        }
+
+        private boolean hasNext() {
+            return !cursors.isEmpty();
+        }
+
+        private long next() {
+            IdCursor cursor = cursors.poll();
+            lastId = cursor.current();
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+            skipDuplicates();
+
+            return lastId;
+        }
+
+        private void skipDuplicates() {
+            while (!cursors.isEmpty() && cursors.peek().current() == lastId) {
+                IdCursor cursor = cursors.poll();
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+            }
+        }
+    }
+
+    /**
+     * A position within a non-empty ID set
+     */
+    private static final class IdCursor implements Comparable<IdCursor> {
+        private final IdSet ids;
+        private int position;
+
+        private IdCursor(IdSet ids) {
+            this.ids = ids;
+        }
+
+        private long current() {
+            return ids.get(position);
+        }
+
+        /**
+         * Moves to the next ID
+         *
+         * @return True if there is a next ID, false if the end of the set is reached
+         */
+        private boolean advance() {
+            return ++position < ids.size();
+        }
+
+        @Override
+        public int compareTo(IdCursor other) {
+            return Long.compare(current(), other.current());
+        }
+    }
+
+    /**
+     * The words of a single detail of all customers
+     */
+    private static final class FieldIndex {
+        private final NavigableMap<String, IdSet> idsByWord = new TreeMap<>();
+        private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+        private final Map<Integer, Set<String>> wordsByLength = new HashMap<>();
+
+        /**
+         * Adds a word of a customer
+         *
+         * @return The word as held by the index, which is shared by all customers having the word
+         */
+        private String add(String word, long id) {
+            IdSet ids = idsByWord.get(word);
+            if (ids == null) {
+                ids = new IdSet();
+                idsByWord.put(word, ids);
+                for (String gram : grams(word)) {
+                    wordsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(word);
+                }
+                wordsByLength.computeIfAbsent(word.length(), key -> new HashSet<>()).add(word);
+            } else {
+                word = idsByWord.ceilingKey(word);
+            }
+            ids.add(id);
+
+            return word;
+        }
+
+        private void remove(String word, long id) {
+            IdSet ids = idsByWord.get(word);
+            if (ids == null || !ids.remove(id) || !ids.isEmpty()) {
+                return;
+            }
+
+            idsByWord.remove(word);
+            for (String gram : grams(word)) {
+                Set<String> words = wordsByGram.get(gram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            }
+            Set<String> words = wordsByLength.get(word.length());
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByLength.remove(word.length());
+            }
+        }
+
+        /**
+         * Returns the IDs of the customers having a word matching the given one, one set per matching word
+         */
+        private List<IdSet> find(String word, int maxEdits) {
+            List<IdSet> idSets = new ArrayList<>(
+                    idsByWord.subMap(word, true, word + Character.MAX_VALUE, false).values());
+            if (maxEdits == 0) {
+                return idSets;
+            }
+
+            Criterion criterion = new Criterion(Field.NAME, word, maxEdits);
+
+            // A word within maxEdits edits of the given one has at most GRAM_LENGTH trigrams less in common per edit
+            Set<String> grams = grams(word);
+            int minSharedGrams = grams.size() - GRAM_LENGTH * maxEdits;
+            if (minSharedGrams <= 0) {
+                // A matching word may share no trigram at all, so the words of a similar length are checked
+                for (int length = word.length() - maxEdits; length <= word.length() + maxEdits; length++) {
+                    for (String candidate : wordsByLength.getOrDefault(length, Collections.emptySet())) {
+                        addFuzzyMatch(idSets, criterion, candidate);
+                    }
+                }
+                return idSets;
+            }
+
+            Map<String, Integer> sharedGrams = new HashMap<>();
+            for (String gram : grams) {
+                for (String candidate : wordsByGram.getOrDefault(gram, Collections.emptySet())) {
+                    sharedGrams.merge(candidate, 1, Integer::sum);
+                }
+            }
+            sharedGrams.forEach((candidate, count) -> {
+                if (count >= minSharedGrams) {
+                    addFuzzyMatch(idSets, criterion, candidate);
+                }
+            });
+
+            return idSets;
+        }
+
+        /**
+         * Adds the IDs of the customers having a candidate word, if it matches the criterion but was not found by its
+         * prefix already
+         */
+        private void addFuzzyMatch(List<IdSet> idSets, Criterion criterion, String candidate) {
+            if (!candidate.startsWith(criterion.word) && criterion.matches(candidate)) {
+                idSets.add(idsByWord.get(candidate));
+            }
+        }
+    }
+}
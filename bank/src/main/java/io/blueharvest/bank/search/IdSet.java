@@ -0,0 +1,74 @@
+package io.blueharvest.bank.search;
+
+import java.util.Arrays;
+
+/**
+ * A set of IDs held as a sorted array of primitive longs, which takes a fraction of the memory of a set of boxed IDs.
+ * Adding and removing IDs shifts the following ones, which is cheap for the short lists of the customers sharing a
+ * term. It is not thread-safe.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+final class IdSet {
+    private static final int INITIAL_CAPACITY = 2;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds an ID to the set
+     *
+     * @return True if the ID was added, false if it is already in the set
+     */
+    boolean add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+
+        int insertionIndex = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertionIndex, ids, insertionIndex + 1, size - insertionIndex);
+        ids[insertionIndex] = id;
+        size++;
+
+        return true;
+    }
+
+    /**
+     * Removes an ID from the set
+     *
+     * @return True if the ID was removed, false if it is not in the set
+     */
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ID at a position in ascending order
+     *
+     * @param index The position of the ID, below the size of the set
+     */
+    long get(int index) {
+        return ids[index];
+    }
+}
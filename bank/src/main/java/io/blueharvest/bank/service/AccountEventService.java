@@ -0,0 +1,227 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountEvent;
+import io.blueharvest.bank.model.AccountEventType;
+import io.blueharvest.bank.model.AccountSnapshot;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountEventRepository;
+import io.blueharvest.bank.repository.AccountSnapshotRepository;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.ACCOUNT_SNAPSHOT_TAKEN_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.COUNT_ACCOUNT_EVENTS_READ_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_SNAPSHOT_INTERVAL_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_TIME_RANGE_ERROR;
+import static io.blueharvest.bank.constant.Messages.TRANSACTION_NULL_ERROR;
+
+/**
+ * A service that records the changes of the state of every account as {@link AccountEvent}s, i.e. its opening, its
+ * credits and debits and the reassignments to other customers, which are kept as the audit trail of the account.
+ * <p>
+ * The events are recorded within the transaction making the change, and every few events a snapshot of the state of
+ * the account is stored along with the event, so the state at any point in time is rebuilt from the last snapshot
+ * before that time and at most as many events as there are between two snapshots. The events of an account are
+ * numbered by reading the last number, so recording them is serialized per account by the lock on the balance of the
+ * account, which is taken by applying a transaction to the balance before its event is recorded, or explicitly.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class AccountEventService {
+    // Bound used for the open end of the time up to which the events are applied, see TransactionService
+    static final Date LATEST_EVENT_TIME = Timestamp.valueOf("9999-12-31 00:00:00");
+
+    private static final PageRequest SINGLE_RESULT = new PageRequest(0, 1);
+
+    private AccountEventRepository accountEventRepository;
+    private AccountSnapshotRepository accountSnapshotRepository;
+    private LedgerService ledgerService;
+    private EntityManager entityManager;
+    private int snapshotInterval;
+    private Logger logger;
+
+    @Inject
+    public AccountEventService(AccountEventRepository accountEventRepository,
+                               AccountSnapshotRepository accountSnapshotRepository, LedgerService ledgerService,
+                               EntityManager entityManager,
+                               @Value("${bank.events.snapshot-interval:100}") int snapshotInterval, Logger logger) {
+        checkArgument(snapshotInterval > 0, INVALID_SNAPSHOT_INTERVAL_ERROR);
+
+        this.accountEventRepository = accountEventRepository;
+        this.accountSnapshotRepository = accountSnapshotRepository;
+        this.ledgerService = ledgerService;
+        this.entityManager = entityManager;
+        this.snapshotInterval = snapshotInterval;
+        this.logger = logger;
+    }
+
+    /**
+     * Records the opening of an account. It must run within the transaction inserting the {@link Account}, before any
+     * transaction of the account is posted.
+     *
+     * @param accountId  The ID of the account
+     * @param customerId The ID of the {@link Customer} the account is opened for
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOpened(long accountId, long customerId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkArgument(customerId > 0, INVALID_ID_ERROR);
+
+        record(new AccountEvent(accountId, 1L, AccountEventType.OPENED, 0L, customerId));
+    }
+
+    /**
+     * Records a transaction as a credit or a debit of its account. It must run within the transaction storing the
+     * {@link Transaction} and after its amount is applied to the balance of the account.
+     *
+     * @param transaction The transaction being posted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Transaction transaction) {
+        apply(Collections.singletonList(transaction));
+    }
+
+    /**
+     * Records transactions as credits or debits of their accounts in the given order, reading the last number of the
+     * events of each account only once. It must run within the transaction storing the transactions and after their
+     * amounts are applied to the balances of the accounts.
+     *
+     * @param transactions The transactions being posted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(List<Transaction> transactions) {
+        checkNotNull(transactions, TRANSACTION_NULL_ERROR);
+
+        Map<Long, Long> lastSequences = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            long accountId = transaction.getAccount().getId();
+            long amount = transaction.getAmount().getMinorUnits();
+            long sequence = lastSequences.computeIfAbsent(accountId, accountEventRepository::findLastSequence) + 1;
+
+            record(new AccountEvent(accountId, sequence,
+                    amount < 0 ? AccountEventType.DEBITED : AccountEventType.CREDITED, amount, 0L));
+            lastSequences.put(accountId, sequence);
+        }
+    }
+
+    /**
+     * Records the reassignment of an account to a customer, if the account belongs to another customer so far. It must
+     * run within the transaction updating the {@link Account}, whose lock on the account keeps the customer from being
+     * reassigned concurrently, so only numbering the event requires the lock on the balance.
+     *
+     * @param accountId  The ID of the account
+     * @param customerId The ID of the {@link Customer} the account belongs to from now on
+     * @return True if the reassignment was recorded, false if the account already belonged to the customer
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean recordCustomerReassigned(long accountId, long customerId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkArgument(customerId > 0, INVALID_ID_ERROR);
+
+        if (replay(accountId, Long.MAX_VALUE, LATEST_EVENT_TIME).getCustomerId() == customerId) {
+            return false;
+        }
+
+        // Unlike for credits and debits, the balance is not updated here, so it is locked explicitly
+        ledgerService.lock(accountId);
+        record(new AccountEvent(accountId, accountEventRepository.findLastSequence(accountId) + 1,
+                AccountEventType.CUSTOMER_REASSIGNED, 0L, customerId));
+
+        return true;
+    }
+
+    /**
+     * Returns all events of an account, which remain after the account is deleted
+     *
+     * @param accountId The ID of the {@link Account}
+     * @return List of the events in the order they were recorded, an empty list if the account has no events
+     */
+    public List<AccountEvent> getEvents(long accountId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+
+        List<AccountEvent> events = accountEventRepository.findByAccountIdOrderBySequenceAsc(accountId);
+        logger.debug(COUNT_ACCOUNT_EVENTS_READ_SUCCESSFULLY, events.size());
+
+        return events;
+    }
+
+    /**
+     * Returns the current state of an account
+     *
+     * @param accountId The ID of the {@link Account}
+     * @return The state if the account has any events, {@link Optional#empty()} otherwise
+     */
+    public Optional<AccountSnapshot> getState(long accountId) {
+        return getState(accountId, LATEST_EVENT_TIME);
+    }
+
+    /**
+     * Returns the state of an account at a point in time, i.e. after all its events recorded up to that time, rebuilt
+     * from the last snapshot up to that time and the events following it. Transactions are recorded when they are
+     * posted, so a back-dated transaction changes the state as of its posting rather than as of its transaction time.
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param time      The point in time
+     * @return The state if the account has any events up to that time, {@link Optional#empty()} otherwise
+     */
+    @Transactional(readOnly = true)
+    public Optional<AccountSnapshot> getState(long accountId, Date time) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkNotNull(time, INVALID_TIME_RANGE_ERROR);
+
+        AccountSnapshot state = replay(accountId, Long.MAX_VALUE, time);
+
+        return state.getSequence() > 0 ? Optional.of(state) : Optional.empty();
+    }
+
+    /**
+     * Stores an event, along with a snapshot of the state of its account after the event every snapshotInterval
+     * events. The event is persisted rather than saved, as saving an entity with an assigned ID reads it first.
+     */
+    private void record(AccountEvent event) {
+        entityManager.persist(event);
+
+        if (event.getSequence() % snapshotInterval == 0) {
+            // The pending events of the account are flushed by the queries of the replay
+            entityManager.persist(replay(event.getAccountId(), event.getSequence(), LATEST_EVENT_TIME));
+            logger.debug(ACCOUNT_SNAPSHOT_TAKEN_SUCCESSFULLY, event.getAccountId(), event.getSequence());
+        }
+    }
+
+    /**
+     * Rebuilds the state of an account after its events up to a sequence and a point in time, from the last snapshot
+     * within these bounds and the events following it
+     *
+     * @return The state, whose sequence is 0 if there are no events within the bounds
+     */
+    private AccountSnapshot replay(long accountId, long lastSequence, Date time) {
+        List<AccountSnapshot> snapshots = accountSnapshotRepository.findLatest(accountId, lastSequence, time,
+                SINGLE_RESULT);
+        AccountSnapshot state = snapshots.isEmpty() ? new AccountSnapshot(accountId) : snapshots.get(0);
+
+        accountEventRepository.findEvents(accountId, state.getSequence(), lastSequence, time).forEach(state::apply);
+
+        return state;
+    }
+}
@@ -5,8 +5,15 @@ import io.blueharvest.bank.model.Account;
 import io.blueharvest.bank.model.Customer;
 import io.blueharvest.bank.model.Transaction;
 import io.blueharvest.bank.repository.AccountRepository;
-import org.apache.log4j.Logger;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,13 +23,16 @@ import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Caches.ACCOUNTS_CACHE;
 import static io.blueharvest.bank.constant.Messages.ACCOUNT_CREATED_SUCCESSFULLY;
 import static io.blueharvest.bank.constant.Messages.ACCOUNT_CREATION_FAILED_ERROR;
 import static io.blueharvest.bank.constant.Messages.ACCOUNT_NOT_FOUND_ERROR;
 import static io.blueharvest.bank.constant.Messages.ACCOUNT_NULL_ERROR;
+import static io.blueharvest.bank.constant.Messages.CONCURRENT_UPDATE_ERROR;
 import static io.blueharvest.bank.constant.Messages.COUNT_ACCOUNTS_READ_SUCCESSFULLY;
 import static io.blueharvest.bank.constant.Messages.CUSTOMER_NOT_FOUND_ERROR;
 import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_PAGE_SIZE_ERROR;
 
 /**
  * A service that supports managing bank accounts
@@ -35,18 +45,22 @@ public class AccountService implements CrudService<Account> {
     private AccountRepository accountRepository;
     private CustomerService customerService;
     private TransactionService transactionService;
+    private AccountEventService accountEventService;
     private Logger logger;
 
     @Inject
     public AccountService(AccountRepository accountRepository, CustomerService customerService,
-                          TransactionService transactionService, Logger logger) {
+                          TransactionService transactionService, AccountEventService accountEventService,
+                          Logger logger) {
         this.accountRepository = accountRepository;
         this.customerService = customerService;
         this.transactionService = transactionService;
+        this.accountEventService = accountEventService;
         this.logger = logger;
     }
 
     @Override
+    @Cacheable(cacheNames = ACCOUNTS_CACHE, unless = "#result == null")
     public Optional<Account> get(long id) {
         checkArgument(id > 0, INVALID_ID_ERROR);
 
@@ -57,55 +71,100 @@ public class AccountService implements CrudService<Account> {
     public List<Account> getAll() {
         List<Account> accounts = accountRepository.findAll();
 
-        logger.info(String.format(COUNT_ACCOUNTS_READ_SUCCESSFULLY, accounts.size()));
+        logger.debug(COUNT_ACCOUNTS_READ_SUCCESSFULLY, accounts.size());
 
         return accounts;
     }
 
+    @Override
+    public List<Account> page(long afterId, int limit) {
+        checkArgument(afterId >= 0, INVALID_ID_ERROR);
+        checkArgument(limit > 0, INVALID_PAGE_SIZE_ERROR);
+
+        List<Account> accounts = accountRepository.findByIdGreaterThanOrderByIdAsc(afterId, new PageRequest(0, limit));
+
+        logger.debug(COUNT_ACCOUNTS_READ_SUCCESSFULLY, accounts.size());
+
+        return accounts;
+    }
+
+    /**
+     * Creates an account along with the transaction of its initial credit. The customer of the account is only
+     * referenced by its ID, so it is not read, and a customer that does not exist is detected by the foreign key of
+     * the inserted account.
+     *
+     * @param account The account to be created
+     * @return The created account, whose customer is an uninitialized reference
+     * @throws ObjectNotFoundException If the customer of the account does not exist
+     */
     @Override
     @Transactional(rollbackFor = TransactionalOperationException.class)
     public Account create(Account account) {
         checkNotNull(account, ACCOUNT_NULL_ERROR);
 
-        boolean customerExists = customerService.exists(account.getCustomer().getId());
-        if (!customerExists) {
-            logger.warn(CUSTOMER_NOT_FOUND_ERROR);
-            throw new TransactionalOperationException(CUSTOMER_NOT_FOUND_ERROR);
-        }
+        account.setCustomer(customerService.getReference(account.getCustomer().getId()));
 
         return createAccountWithTransaction(account);
     }
 
+    /**
+     * Updates an account in a single conditional statement, if it still has the version of the given account, i.e. it
+     * was not updated since the given account was read. The version of the given account is incremented on success,
+     * and a change of its customer is recorded as an event of the account.
+     *
+     * @param account The account to be updated
+     * @return True if update was successful, false if the account or its customer does not exist
+     * @throws OptimisticLockingFailureException If the account was updated concurrently
+     */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = ACCOUNTS_CACHE, key = "#account.id")
     public boolean update(Account account) {
         checkNotNull(account, ACCOUNT_NULL_ERROR);
 
+        int updatedRows = accountRepository.updateIfVersionMatches(account.getId(), account.getVersion(),
+                account.getCredit(), account.getEstablishDate(), account.getCustomer());
+        if (updatedRows == 1) {
+            account.setVersion(account.getVersion() + 1);
+            accountEventService.recordCustomerReassigned(account.getId(), account.getCustomer().getId());
+            return true;
+        }
+
+        // Nothing was updated, so only the failure path pays for finding out why
         if (!accountRepository.existsById(account.getId())) {
             logger.warn(ACCOUNT_NOT_FOUND_ERROR);
             return false;
         }
 
-        Optional<Customer> customerOptional = customerService.get(account.getCustomer().getId());
-        if (!customerOptional.isPresent()) {
+        if (!customerService.exists(account.getCustomer().getId())) {
             logger.warn(CUSTOMER_NOT_FOUND_ERROR);
             return false;
         }
 
-        account.setCustomer(customerOptional.get());
-        accountRepository.save(account);
-        return true;
+        logger.warn(CONCURRENT_UPDATE_ERROR);
+        throw new OptimisticLockingFailureException(CONCURRENT_UPDATE_ERROR);
     }
 
+    /**
+     * Deletes an account along with its transactions, its balance and its daily rollups, by one statement each instead
+     * of loading them first, all within a single transaction. Whether the account existed is given by the number of
+     * deleted accounts.
+     *
+     * @param id The ID of the account
+     * @return True if delete was successful, false if the account does not exist
+     */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = ACCOUNTS_CACHE, key = "#id")
     public boolean delete(long id) {
         checkArgument(id > 0, INVALID_ID_ERROR);
 
-        if (!accountRepository.existsById(id)) {
+        transactionService.deleteTransactionsForAccount(id);
+        if (accountRepository.deleteById(id) == 0) {
             logger.warn(ACCOUNT_NOT_FOUND_ERROR);
             return false;
         }
 
-        accountRepository.delete(id);
         return true;
     }
 
@@ -120,7 +179,7 @@ public class AccountService implements CrudService<Account> {
 
         Customer customerToFind = new Customer(customerId); // The customer whose accounts should be returned
         List<Account> accounts = accountRepository.findByCustomer(customerToFind);
-        logger.info(String.format(COUNT_ACCOUNTS_READ_SUCCESSFULLY, accounts.size()));
+        logger.debug(COUNT_ACCOUNTS_READ_SUCCESSFULLY, accounts.size());
 
         return accounts;
     }
@@ -132,7 +191,9 @@ public class AccountService implements CrudService<Account> {
      */
     private Account createAccountWithTransaction(Account account) {
         try {
-            Account insertedAccount = accountRepository.save(account);
+            // Flushed right away, so that the foreign key of the customer is checked by the insert within this block
+            Account insertedAccount = accountRepository.saveAndFlush(account);
+            accountEventService.recordOpened(insertedAccount.getId(), account.getCustomer().getId());
             logger.info(ACCOUNT_CREATED_SUCCESSFULLY);
 
             // Create a transaction associated with that account with the initail credit
@@ -143,6 +204,9 @@ public class AccountService implements CrudService<Account> {
             // Store the transaction
             transactionService.create(initialTransaction);
             return insertedAccount;
+        } catch (DataIntegrityViolationException exp) { // The customer reference is the only constraint not validated
+            logger.warn(CUSTOMER_NOT_FOUND_ERROR);
+            throw new ObjectNotFoundException(CUSTOMER_NOT_FOUND_ERROR, StringUtils.EMPTY);
         } catch (DataAccessException exp) { // This exception is thrown in case of any of the save operations fails
             logger.warn(ACCOUNT_CREATION_FAILED_ERROR);
             throw new TransactionalOperationException(ACCOUNT_CREATION_FAILED_ERROR, exp);
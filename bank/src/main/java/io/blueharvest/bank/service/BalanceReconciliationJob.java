@@ -0,0 +1,30 @@
+package io.blueharvest.bank.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+
+/**
+ * Periodically reconciles the materialized account balances against the transaction history
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class BalanceReconciliationJob {
+    private ReconciliationService reconciliationService;
+
+    @Inject
+    public BalanceReconciliationJob(ReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    /**
+     * Runs the reconciliation, by default every night at 02:00
+     */
+    @Scheduled(cron = "${bank.ledger.reconciliation-cron:0 0 2 * * *}")
+    public void reconcile() {
+        reconciliationService.reconcile();
+    }
+}
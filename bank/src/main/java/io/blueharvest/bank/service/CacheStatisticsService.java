@@ -0,0 +1,65 @@
+package io.blueharvest.bank.service;
+
+import com.google.common.cache.CacheStats;
+import io.blueharvest.bank.dto.CacheStatisticsDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A service that reports the hit, miss and eviction counters of the entity caches
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class CacheStatisticsService {
+    private CacheManager cacheManager;
+
+    @Inject
+    public CacheStatisticsService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Returns the statistics of all caches that record them
+     *
+     * @return List of the statistics of each cache
+     */
+    public List<CacheStatisticsDto> getAll() {
+        List<CacheStatisticsDto> statistics = new ArrayList<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            get(cacheName).ifPresent(statistics::add);
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of a specific cache
+     *
+     * @param cacheName The name of the cache
+     * @return The statistics if the cache exists and records them, {@link Optional#empty()} otherwise
+     */
+    public Optional<CacheStatisticsDto> get(String cacheName) {
+        checkNotNull(cacheName);
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if ((cache == null) || !(cache.getNativeCache() instanceof com.google.common.cache.Cache)) {
+            return Optional.empty();
+        }
+
+        com.google.common.cache.Cache<?, ?> nativeCache = (com.google.common.cache.Cache<?, ?>) cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+
+        return Optional.of(new CacheStatisticsDto(cacheName, nativeCache.size(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount(), stats.hitRate()));
+    }
+}
@@ -0,0 +1,47 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.dto.ConnectionPoolStatisticsDto;
+import org.apache.tomcat.jdbc.pool.ConnectionPool;
+import org.springframework.stereotype.Service;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * A service that reports the usage of the database connection pool, so that its size can be checked against the load.
+ * A growing wait count means that requests queue for connections and the pool is too small.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class ConnectionPoolStatisticsService {
+    private DataSource dataSource;
+
+    @Inject
+    public ConnectionPoolStatisticsService(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Returns the statistics of the connection pool
+     *
+     * @return The statistics if the data source is a started Tomcat JDBC pool, {@link Optional#empty()} otherwise
+     */
+    public Optional<ConnectionPoolStatisticsDto> get() {
+        if (!(dataSource instanceof org.apache.tomcat.jdbc.pool.DataSource)) {
+            return Optional.empty();
+        }
+
+        org.apache.tomcat.jdbc.pool.DataSource poolDataSource = (org.apache.tomcat.jdbc.pool.DataSource) dataSource;
+        ConnectionPool pool = poolDataSource.getPool();
+        if (pool == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new ConnectionPoolStatisticsDto(poolDataSource.getMaxActive(), pool.getSize(),
+                pool.getActive(), pool.getIdle(), pool.getWaitCount(), pool.getBorrowedCount(),
+                pool.getCreatedCount(), pool.getReleasedCount()));
+    }
+}
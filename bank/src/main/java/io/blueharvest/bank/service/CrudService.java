@@ -25,6 +25,16 @@ public interface CrudService<T> {
      */
     List<T> getAll();
 
+    /**
+     * Get a page of items ordered by ID, starting right after the given ID (keyset pagination).
+     * Unlike {@link #getAll()}, the cost of a page does not depend on the total number of items.
+     *
+     * @param afterId The ID after which items should be returned, 0 for the first page
+     * @param limit   The maximum number of items to return
+     * @return A list of at most limit items if any exists, otherwise an empty list
+     */
+    List<T> page(long afterId, int limit);
+
     /**
      * Create a new item and adds it to the system
      *
@@ -0,0 +1,207 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.csv.CsvReader;
+import io.blueharvest.bank.dto.CustomerDto;
+import io.blueharvest.bank.dto.CustomerImportError;
+import io.blueharvest.bank.dto.CustomerImportReport;
+import io.blueharvest.bank.mapper.CustomerMapper;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.validation.CustomerValidator;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Fields.ADDRESS_FIELD;
+import static io.blueharvest.bank.constant.Fields.NAME_FIELD;
+import static io.blueharvest.bank.constant.Fields.POSTCODE_FIELD;
+import static io.blueharvest.bank.constant.Fields.SURNAME_FIELD;
+import static io.blueharvest.bank.constant.Messages.COUNT_CUSTOMERS_IMPORTED_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.INVALID_CUSTOMER_IMPORT_HEADER_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_CUSTOMER_IMPORT_ROW_ERROR;
+
+/**
+ * A service that creates customers from CSV files, e.g. the files of partners onboarding their customers.
+ * <p>
+ * The first row of a file is a header naming the columns, which must include name, surname, address and postcode in any
+ * order. Each following row is validated as a customer created by the UI, and the valid rows are passed on to
+ * {@link CustomerService#createAll(Iterable)} while the file is read, so the customers are inserted in JDBC batches and
+ * neither the file nor the customers are held in memory. The rows that are not valid are skipped and reported along
+ * with the reason.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class CustomerImportService {
+    // Number of errors kept for the report, further rejected rows are only counted
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String CUSTOMER_DTO_NAME = "customerDto";
+
+    private CustomerService customerService;
+    private CustomerValidator customerValidator;
+    private Logger logger;
+
+    @Inject
+    public CustomerImportService(CustomerService customerService, CustomerValidator customerValidator, Logger logger) {
+        this.customerService = customerService;
+        this.customerValidator = customerValidator;
+        this.logger = logger;
+    }
+
+    /**
+     * Creates the customers of the valid rows of a CSV file as a single unit of work
+     *
+     * @param reader The reader of the file, which is read to the end but not closed
+     * @return The report of the import
+     * @throws IllegalArgumentException If the header does not name the required columns or a quoted field is not
+     *                                  terminated, in which case no customer is created
+     * @throws UncheckedIOException     If reading the file fails, in which case no customer is created
+     */
+    public CustomerImportReport importCustomers(Reader reader) {
+        checkNotNull(reader);
+
+        ImportedRows rows = new ImportedRows(new CsvReader(reader));
+        long createdCount = customerService.createAll(rows);
+
+        logger.info(COUNT_CUSTOMERS_IMPORTED_SUCCESSFULLY, createdCount, rows.rejectedCount);
+
+        return new CustomerImportReport(rows.rowCount, createdCount, rows.rejectedCount, rows.errors);
+    }
+
+    /**
+     * The customers of the valid rows of a file, which are read, validated and mapped one at a time while iterating.
+     * It can be iterated once only.
+     */
+    private class ImportedRows implements Iterable<Customer>, Iterator<Customer> {
+        private final CsvReader csvReader;
+        private final int nameColumn;
+        private final int surnameColumn;
+        private final int addressColumn;
+        private final int postcodeColumn;
+        private final int columnCount;
+
+        private final List<CustomerImportError> errors = new ArrayList<>();
+        private long rowCount;
+        private long rejectedCount;
+        private Customer next;
+
+        /**
+         * Reads the header of the file
+         */
+        ImportedRows(CsvReader csvReader) {
+            this.csvReader = csvReader;
+
+            List<String> header = readRecord();
+            checkArgument(header != null, INVALID_CUSTOMER_IMPORT_HEADER_ERROR);
+            List<String> columns = new ArrayList<>();
+            for (String column : header) {
+                columns.add(column.trim().toLowerCase(Locale.ROOT));
+            }
+
+            nameColumn = columns.indexOf(NAME_FIELD);
+            surnameColumn = columns.indexOf(SURNAME_FIELD);
+            addressColumn = columns.indexOf(ADDRESS_FIELD);
+            postcodeColumn = columns.indexOf(POSTCODE_FIELD);
+            checkArgument(nameColumn >= 0 && surnameColumn >= 0 && addressColumn >= 0 && postcodeColumn >= 0,
+                    INVALID_CUSTOMER_IMPORT_HEADER_ERROR);
+
+            columnCount = Math.max(Math.max(nameColumn, surnameColumn), Math.max(addressColumn, postcodeColumn)) + 1;
+        }
+
+        @Override
+        public Iterator<Customer> iterator() {
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                List<String> record = readRecord();
+                if (record == null) {
+                    return false;
+                }
+                next = toCustomer(record);
+            }
+
+            return true;
+        }
+
+        @Override
+        public Customer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Customer customer = next;
+            next = null;
+
+            return customer;
+        }
+
+        /**
+         * Validates a row and maps it to a customer
+         *
+         * @return The customer, null if the row is empty or rejected
+         */
+        private Customer toCustomer(List<String> record) {
+            if (record.size() == 1 && record.get(0).trim().isEmpty()) {
+                return null;
+            }
+            rowCount++;
+
+            long row = csvReader.getRecordLineNumber();
+            if (record.size() < columnCount) {
+                rejectedCount++;
+                report(new CustomerImportError(row, null, INVALID_CUSTOMER_IMPORT_ROW_ERROR));
+                return null;
+            }
+
+            CustomerDto customerDto = new CustomerDto(0L, record.get(nameColumn).trim(),
+                    record.get(surnameColumn).trim(), record.get(addressColumn).trim(),
+                    record.get(postcodeColumn).trim());
+            Errors validationErrors = new BeanPropertyBindingResult(customerDto, CUSTOMER_DTO_NAME);
+            customerValidator.validate(customerDto, validationErrors);
+            if (validationErrors.hasErrors()) {
+                rejectedCount++;
+                for (FieldError fieldError : validationErrors.getFieldErrors()) {
+                    report(new CustomerImportError(row, fieldError.getField(), fieldError.getCode()));
+                }
+                return null;
+            }
+
+            return CustomerMapper.toEntity(customerDto);
+        }
+
+        /**
+         * Keeps an error for the report, as long as the report is not full
+         */
+        private void report(CustomerImportError error) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        private List<String> readRecord() {
+            try {
+                return csvReader.readRecord();
+            } catch (IOException exp) {
+                throw new UncheckedIOException(exp);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.search.CustomerSearchIndex;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+
+/**
+ * Fills the {@link CustomerSearchIndex} with all customers once the application context is ready and before requests
+ * are served, as the index is held in memory only and kept up to date by {@link CustomerService} from then on
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class CustomerSearchIndexLoader {
+    private CustomerService customerService;
+
+    @Inject
+    public CustomerSearchIndexLoader(CustomerService customerService) {
+        this.customerService = customerService;
+    }
+
+    /**
+     * Loads the index
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void load() {
+        customerService.rebuildSearchIndex();
+    }
+}
@@ -1,21 +1,44 @@
 package io.blueharvest.bank.service;
 
 import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.AccountRepository;
 import io.blueharvest.bank.repository.CustomerRepository;
-import org.apache.log4j.Logger;
+import io.blueharvest.bank.search.CustomerSearchIndex;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Caches.ACCOUNTS_CACHE;
+import static io.blueharvest.bank.constant.Caches.CUSTOMERS_CACHE;
+import static io.blueharvest.bank.constant.Caches.CUSTOMER_EXISTENCE_CACHE;
+import static io.blueharvest.bank.constant.Messages.CONCURRENT_UPDATE_ERROR;
+import static io.blueharvest.bank.constant.Messages.BLANK_CUSTOMER_SEARCH_ERROR;
+import static io.blueharvest.bank.constant.Messages.COUNT_CUSTOMERS_CREATED_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.COUNT_CUSTOMERS_INDEXED_SUCCESSFULLY;
 import static io.blueharvest.bank.constant.Messages.COUNT_CUSTOMERS_READ_SUCCESSFULLY;
 import static io.blueharvest.bank.constant.Messages.CUSTOMER_CREATED_SUCCESSFULLY;
 import static io.blueharvest.bank.constant.Messages.CUSTOMER_NOT_FOUND_ERROR;
 import static io.blueharvest.bank.constant.Messages.CUSTOMER_NULL_ERROR;
 import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_PAGE_SIZE_ERROR;
 
 /**
  * A service that supports managing bank customers
@@ -25,17 +48,36 @@ import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
  **/
 @Service
 public class CustomerService implements CrudService<Customer> {
+    // Number of customers inserted between two flushes, matches hibernate.jdbc.batch_size so every flush sends a
+    // single JDBC batch
+    static final int INGESTION_BATCH_SIZE = 50;
+
+    // Number of customers read per query while rebuilding the search index
+    static final int INDEXING_PAGE_SIZE = 1000;
+
     private Logger logger;
     private CustomerRepository customerRepository;
+    private AccountRepository accountRepository;
+    private LedgerService ledgerService;
+    private StatementService statementService;
+    private EntityManager entityManager;
+    private CustomerSearchIndex customerSearchIndex;
 
     @Inject
-    public CustomerService(
-            Logger logger, CustomerRepository customerRepository) {
+    public CustomerService(Logger logger, CustomerRepository customerRepository, AccountRepository accountRepository,
+                           LedgerService ledgerService, StatementService statementService,
+                           EntityManager entityManager, CustomerSearchIndex customerSearchIndex) {
         this.logger = logger;
         this.customerRepository = customerRepository;
+        this.accountRepository = accountRepository;
+        this.ledgerService = ledgerService;
+        this.statementService = statementService;
+        this.entityManager = entityManager;
+        this.customerSearchIndex = customerSearchIndex;
     }
 
     @Override
+    @Cacheable(cacheNames = CUSTOMERS_CACHE, unless = "#result == null")
     public Optional<Customer> get(long id) {
         checkArgument(id > 0, INVALID_ID_ERROR);
 
@@ -46,7 +88,19 @@ public class CustomerService implements CrudService<Customer> {
     public List<Customer> getAll() {
         List<Customer> customers = customerRepository.findAll();
 
-        logger.info(String.format(COUNT_CUSTOMERS_READ_SUCCESSFULLY, customers.size()));
+        logger.debug(COUNT_CUSTOMERS_READ_SUCCESSFULLY, customers.size());
+
+        return customers;
+    }
+
+    @Override
+    public List<Customer> page(long afterId, int limit) {
+        checkArgument(afterId >= 0, INVALID_ID_ERROR);
+        checkArgument(limit > 0, INVALID_PAGE_SIZE_ERROR);
+
+        List<Customer> customers = customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, new PageRequest(0, limit));
+
+        logger.debug(COUNT_CUSTOMERS_READ_SUCCESSFULLY, customers.size());
 
         return customers;
     }
@@ -56,47 +110,264 @@ public class CustomerService implements CrudService<Customer> {
         checkNotNull(customer, CUSTOMER_NULL_ERROR);
 
         Customer createdCustomer = customerRepository.save(customer);
+        afterCommit(() -> customerSearchIndex.add(createdCustomer));
         logger.info(CUSTOMER_CREATED_SUCCESSFULLY);
 
         return createdCustomer;
     }
 
+    /**
+     * Creates a large number of customers as a single unit of work, e.g. for onboarding the customers of a partner.
+     * The customers are inserted in JDBC batches, and the persistence context is flushed and cleared after each batch,
+     * so the memory used does not grow with the number of customers, which may be read from a stream meanwhile. Once
+     * all of them are committed, they are read back page by page and added to the search index. Only the ranges of
+     * consecutive IDs they got are kept for that, which are few as IDs are handed out in blocks, so the customers
+     * created concurrently with IDs in between are left to their own transactions.
+     *
+     * @param customers The customers to be created
+     * @return The number of created customers
+     */
+    @Transactional
+    public long createAll(Iterable<Customer> customers) {
+        checkNotNull(customers, CUSTOMER_NULL_ERROR);
+
+        // Only the ranges of the generated IDs are kept for indexing, as the customers are detached after each batch
+        List<IdRange> idRanges = new ArrayList<>();
+        long count = 0;
+        for (Customer customer : customers) {
+            checkNotNull(customer, CUSTOMER_NULL_ERROR);
+
+            long id = customerRepository.save(customer).getId();
+            IdRange lastRange = idRanges.isEmpty() ? null : idRanges.get(idRanges.size() - 1);
+            if (lastRange != null && id == lastRange.lastId + 1) {
+                lastRange.lastId = id;
+            } else {
+                idRanges.add(new IdRange(id, id));
+            }
+            if (++count % INGESTION_BATCH_SIZE == 0) {
+                flushBatch();
+            }
+        }
+        flushBatch();
+        if (count > 0) {
+            idRanges.sort(Comparator.comparingLong(range -> range.firstId));
+            afterCommit(() -> index(idRanges));
+        }
+
+        logger.info(COUNT_CUSTOMERS_CREATED_SUCCESSFULLY, count);
+
+        return count;
+    }
+
+    /**
+     * Updates a customer in a single conditional statement, if it still has the version of the given customer, i.e.
+     * it was not updated since the given customer was read. The version of the given customer is incremented on
+     * success.
+     *
+     * @param customer The customer to be updated
+     * @return True if update was successful, false if the customer does not exist
+     * @throws OptimisticLockingFailureException If the customer was updated concurrently
+     */
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CUSTOMERS_CACHE, key = "#customer.id"),
+            @CacheEvict(cacheNames = ACCOUNTS_CACHE, allEntries = true) // Cached accounts embed their customer
+    })
     public boolean update(Customer customer) {
         checkNotNull(customer, CUSTOMER_NULL_ERROR);
 
+        int updatedRows = customerRepository.updateIfVersionMatches(customer.getId(), customer.getVersion(),
+                customer.getName(), customer.getSurname(), customer.getAddress(), customer.getPostcode());
+        if (updatedRows == 1) {
+            customer.setVersion(customer.getVersion() + 1);
+            afterCommit(() -> customerSearchIndex.add(customer));
+            return true;
+        }
+
+        // Nothing was updated, so only the failure path pays for finding out why
         if (!customerRepository.existsById(customer.getId())) {
             logger.warn(CUSTOMER_NOT_FOUND_ERROR);
             return false;
         }
 
-        customerRepository.save(customer);
-        return true;
+        logger.warn(CONCURRENT_UPDATE_ERROR);
+        throw new OptimisticLockingFailureException(CONCURRENT_UPDATE_ERROR);
     }
 
+    /**
+     * Deletes a customer along with its accounts, their transactions, balances and daily rollups within a single
+     * transaction. The accounts and transactions are removed by cascading the delete of the customer, which has to be
+     * loaded for that anyway, so whether it exists is told by loading it instead of a separate query. The balances and
+     * rollups are not related to the customer and are deleted beforehand by a statement each per account, which also
+     * clears the persistence context, so the customer is loaded afterwards.
+     *
+     * @param id The ID of the customer
+     * @return True if delete was successful, false if the customer does not exist
+     */
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = {CUSTOMERS_CACHE, CUSTOMER_EXISTENCE_CACHE}, key = "#id"),
+            @CacheEvict(cacheNames = ACCOUNTS_CACHE, allEntries = true) // The customer's accounts are deleted too
+    })
     public boolean delete(long id) {
         checkArgument(id > 0, INVALID_ID_ERROR);
 
-        if (!customerRepository.existsById(id)) {
+        for (long accountId : accountRepository.findIdsByCustomerId(id)) {
+            ledgerService.delete(accountId);
+            statementService.delete(accountId);
+        }
+
+        Customer customer = customerRepository.findById(id);
+        if (customer == null) {
             logger.warn(CUSTOMER_NOT_FOUND_ERROR);
             return false;
         }
 
-        customerRepository.delete(id);
+        customerRepository.delete(customer);
+        afterCommit(() -> customerSearchIndex.remove(id));
         return true;
     }
 
+    /**
+     * Returns a reference to a customer, which can be assigned to an account without reading the customer. The
+     * reference is only initialized if any detail other than the ID is read from it.
+     *
+     * @param id The ID of the customer
+     * @return The reference to the customer, whose existence is not checked
+     */
+    public Customer getReference(long id) {
+        checkArgument(id > 0, INVALID_ID_ERROR);
+
+        return customerRepository.getOne(id);
+    }
+
     /**
      * Checks if a customer with the given ID exists in the system
      *
      * @param id The ID of the customer
      * @return True if the customer exists, false otherwise
      */
+    @Cacheable(cacheNames = CUSTOMER_EXISTENCE_CACHE, unless = "!#result")
     public boolean exists(long id) {
         checkArgument(id > 0, INVALID_ID_ERROR);
 
         return customerRepository.existsById(id);
     }
 
+    /**
+     * Finds customers by the beginnings of their names, surnames and postcodes using the search index, so the search
+     * does not scan the customers in the database. A fuzzy search also finds words differing in a few characters.
+     *
+     * @param name     The name to be searched for, null or blank if any name matches
+     * @param surname  The surname to be searched for, null or blank if any surname matches
+     * @param postcode The postcode to be searched for, null or blank if any postcode matches
+     * @param fuzzy    True if words differing in a few characters match as well
+     * @param limit    The maximum number of customers to be found
+     * @return List of the matching customers ordered by ID
+     */
+    public List<Customer> search(String name, String surname, String postcode, boolean fuzzy, int limit) {
+        checkArgument(StringUtils.isNotBlank(name) || StringUtils.isNotBlank(surname) ||
+                StringUtils.isNotBlank(postcode), BLANK_CUSTOMER_SEARCH_ERROR);
+        checkArgument(limit > 0, INVALID_PAGE_SIZE_ERROR);
+
+        List<Long> ids = customerSearchIndex.search(name, surname, postcode, fuzzy, limit);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Customer> customers = new ArrayList<>(customerRepository.findAll(ids));
+        customers.sort(Comparator.comparingLong(Customer::getId));
+
+        logger.debug(COUNT_CUSTOMERS_READ_SUCCESSFULLY, customers.size());
+
+        return customers;
+    }
+
+    /**
+     * Adds all customers to the search index, reading them page by page
+     *
+     * @return The number of indexed customers
+     */
+    public long rebuildSearchIndex() {
+        long count = index(Collections.singletonList(new IdRange(0L, Long.MAX_VALUE)));
+
+        logger.info(COUNT_CUSTOMERS_INDEXED_SUCCESSFULLY, count);
+
+        return count;
+    }
+
+    /**
+     * Adds the customers within ranges of IDs to the search index, reading them page by page from the first ID of the
+     * first range to the last ID of the last range and skipping the customers in between the ranges
+     *
+     * @param idRanges The ranges of IDs, in ascending order
+     * @return The number of indexed customers
+     */
+    private long index(List<IdRange> idRanges) {
+        long lastId = idRanges.get(idRanges.size() - 1).lastId;
+        long nextId = idRanges.get(0).firstId;
+        int rangeIndex = 0;
+        long count = 0;
+        List<Customer> customers;
+        do {
+            customers = customerRepository.findByIdBetweenOrderByIdAsc(nextId, lastId,
+                    new PageRequest(0, INDEXING_PAGE_SIZE));
+            for (Customer customer : customers) {
+                while (customer.getId() > idRanges.get(rangeIndex).lastId) {
+                    rangeIndex++;
+                }
+                if (customer.getId() >= idRanges.get(rangeIndex).firstId) {
+                    customerSearchIndex.add(customer);
+                    count++;
+                }
+                nextId = customer.getId() + 1;
+            }
+            // After a commit the persistence context of the transaction is still bound, so the customers read would
+            // otherwise stay managed until all pages are read
+            entityManager.clear();
+        } while (customers.size() == INDEXING_PAGE_SIZE);
+
+        return count;
+    }
+
+    /**
+     * Runs an update of the search index once the current transaction is committed, so rolled back changes are never
+     * searchable, or right away if there is no transaction
+     */
+    private void afterCommit(Runnable indexUpdate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexUpdate.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                indexUpdate.run();
+            }
+        });
+    }
+
+    /**
+     * Sends the pending inserts as a JDBC batch and detaches the inserted customers
+     */
+    private void flushBatch() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * A range of consecutive customer IDs
+     */
+    private static final class IdRange {
+        private final long firstId;
+        private long lastId;
+
+        private IdRange(long firstId, long lastId) {
+            this.firstId = firstId;
+            this.lastId = lastId;
+        }
+    }
 }
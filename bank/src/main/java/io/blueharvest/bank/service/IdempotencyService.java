@@ -0,0 +1,125 @@
+package io.blueharvest.bank.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.blueharvest.bank.error.IdempotencyKeyReusedException;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.inject.Inject;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.IDEMPOTENCY_KEY_REUSED_ERROR;
+import static io.blueharvest.bank.constant.Messages.IDEMPOTENT_REQUEST_REPLAYED;
+import static io.blueharvest.bank.constant.Messages.INVALID_IDEMPOTENCY_KEY_ERROR;
+
+/**
+ * A service that makes write operations idempotent for clients passing an idempotency key.
+ * <p>
+ * The result of an operation is remembered under its key in a bounded store whose entries expire after a fixed time.
+ * A retry with the same key returns the remembered result without running the operation again, while a retry that
+ * arrives while the first attempt is still running waits for its result. Failed operations are not remembered, so they
+ * can be retried with the same key. The result is remembered along with a fingerprint of the request, and a request
+ * reusing the key with a different fingerprint is rejected by an {@link IdempotencyKeyReusedException} instead of
+ * being answered with the result of another request.
+ * <p>
+ * The store is held in the memory of this JVM. The keys are neither shared between several instances of the
+ * application nor kept across restarts, so a retry reaching another instance, or arriving after a restart, runs the
+ * operation again.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class IdempotencyService {
+    public static final String CREATE_ACCOUNT_OPERATION = "createAccount";
+    public static final String POST_TRANSACTION_OPERATION = "postTransaction";
+
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private final Cache<String, RememberedResult> results;
+    private Logger logger;
+
+    @Inject
+    public IdempotencyService(@Value("${bank.idempotency.max-keys:100000}") long maxKeys,
+                              @Value("${bank.idempotency.expiry-minutes:1440}") long expiryMinutes, Logger logger) {
+        this.results = CacheBuilder.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(expiryMinutes, TimeUnit.MINUTES)
+                .build();
+        this.logger = logger;
+    }
+
+    /**
+     * Runs an operation at most once per idempotency key
+     *
+     * @param operation      The name of the operation, which scopes the key so that different operations cannot share
+     *                       results
+     * @param idempotencyKey The key passed by the client, null or blank if the client does not retry
+     * @param fingerprint    The fingerprint of the request, i.e. a value holding the fields that the result depends
+     *                       on, which is equal for retries of the same request
+     * @param action         The operation to be run
+     * @return The result of the operation, or the remembered result of an earlier run with the same key
+     * @throws IdempotencyKeyReusedException If the key was used for a request with a different fingerprint
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String idempotencyKey, Object fingerprint, Supplier<T> action) {
+        checkNotNull(operation);
+        checkNotNull(fingerprint);
+        checkNotNull(action);
+
+        if (StringUtils.isBlank(idempotencyKey)) {
+            return action.get();
+        }
+        checkArgument(idempotencyKey.length() <= MAX_IDEMPOTENCY_KEY_LENGTH, INVALID_IDEMPOTENCY_KEY_ERROR);
+
+        boolean[] executed = new boolean[1];
+        try {
+            RememberedResult rememberedResult = results.get(operation + ":" + idempotencyKey, () -> {
+                executed[0] = true;
+                return new RememberedResult(fingerprint, action.get());
+            });
+
+            if (!executed[0]) {
+                if (!rememberedResult.fingerprint.equals(fingerprint)) {
+                    logger.warn(IDEMPOTENCY_KEY_REUSED_ERROR);
+                    throw new IdempotencyKeyReusedException(IDEMPOTENCY_KEY_REUSED_ERROR);
+                }
+                logger.info(IDEMPOTENT_REQUEST_REPLAYED, operation);
+            }
+            return (T) rememberedResult.result;
+        } catch (UncheckedExecutionException | ExecutionError exp) {
+            // Rethrow what the operation threw, so that callers see the same exceptions as without a key
+            if (exp.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exp.getCause();
+            }
+            if (exp.getCause() instanceof Error) {
+                throw (Error) exp.getCause();
+            }
+            throw exp;
+        } catch (ExecutionException exp) { // Only thrown for checked exceptions, which a Supplier cannot throw
+            throw new IllegalStateException(exp.getCause());
+        }
+    }
+
+    /**
+     * The result of an operation along with the fingerprint of the request that produced it
+     */
+    private static class RememberedResult {
+        private final Object fingerprint;
+        private final Object result;
+
+        RememberedResult(Object fingerprint, Object result) {
+            this.fingerprint = fingerprint;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.blueharvest.bank.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+
+/**
+ * Applies the transactions of the journal to the database shortly after they are journaled, if the journal is enabled
+ * by the property bank.journal.enabled
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+@ConditionalOnProperty(name = "bank.journal.enabled", havingValue = "true")
+public class JournalApplyJob {
+    private JournalService journalService;
+
+    @Inject
+    public JournalApplyJob(JournalService journalService) {
+        this.journalService = journalService;
+    }
+
+    /**
+     * Applies the pending transactions, by default 10 milliseconds after the previous run has finished
+     */
+    @Scheduled(fixedDelayString = "${bank.journal.apply-delay-millis:10}")
+    public void apply() {
+        journalService.apply();
+    }
+}
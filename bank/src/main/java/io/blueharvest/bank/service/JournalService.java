@@ -0,0 +1,249 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.journal.JournalEntry;
+import io.blueharvest.bank.journal.TransactionJournal;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.JournalCheckpoint;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.RejectedJournalEntry;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.JournalCheckpointRepository;
+import io.blueharvest.bank.repository.RejectedJournalEntryRepository;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.blueharvest.bank.constant.Messages.COUNT_JOURNAL_ENTRIES_APPLIED_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.COUNT_JOURNAL_ENTRIES_TO_BE_REPLAYED;
+import static io.blueharvest.bank.constant.Messages.INVALID_AMOUNT_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.JOURNAL_APPLY_FAILED_ERROR;
+import static io.blueharvest.bank.constant.Messages.JOURNAL_ENTRY_REJECTED_ERROR;
+import static io.blueharvest.bank.constant.Messages.JOURNAL_OPEN_FAILED_ERROR;
+import static io.blueharvest.bank.constant.Messages.SERVICE_BUSY_ERROR;
+
+/**
+ * A service that posts transactions through a {@link TransactionJournal} (write-behind), if enabled by the property
+ * bank.journal.enabled. A transaction is acknowledged once it is durable in the journal, and the journaled
+ * transactions are applied to the database in batches in the background, a single database transaction per batch.
+ * <p>
+ * The sequence of the last applied entry is stored in the database along with every batch, so that the entries not
+ * applied before a crash or a shutdown are replayed exactly once when the application starts again. An entry the
+ * database rejects, e.g. a credit to an account deleted after the credit was acknowledged, is stored as a
+ * {@link RejectedJournalEntry} in the transaction moving the checkpoint past it, so it is reported by the
+ * reconciliation instead of being lost.
+ * <p>
+ * Enabling the journal trades the latency of credits against that of debits and transfers: these still post to the
+ * database right away, but first wait for the journaled credits of their accounts to be applied, and fail with
+ * {@link TaskRejectedException} if that takes longer than bank.journal.await-timeout-millis, e.g. while an apply batch
+ * is slow or retried. The batches update the balances in journal order without the account locks of
+ * {@link PostingService}, so a batch and a posting touching the same balances may wait for each other's row locks
+ * until one of them commits, or fail on the lock timeout of the database, in which case the batch is retried.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+@ConditionalOnProperty(name = "bank.journal.enabled", havingValue = "true")
+public class JournalService {
+    private String journalName;
+    private TransactionJournal journal;
+    private TransactionService transactionService;
+    private JournalCheckpointRepository journalCheckpointRepository;
+    private RejectedJournalEntryRepository rejectedJournalEntryRepository;
+    private TransactionTemplate transactionTemplate;
+    private int applyBatchSize;
+    private long awaitTimeoutMillis;
+    private Logger logger;
+
+    @Inject
+    public JournalService(TransactionService transactionService,
+                          JournalCheckpointRepository journalCheckpointRepository,
+                          RejectedJournalEntryRepository rejectedJournalEntryRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${bank.journal.path:${bank.data-dir:./data}/transactions.journal}") String path,
+                          @Value("${bank.journal.capacity:1048576}") int capacity,
+                          @Value("${bank.journal.apply-batch-size:500}") int applyBatchSize,
+                          @Value("${bank.journal.await-timeout-millis:5000}") long awaitTimeoutMillis,
+                          Logger logger) {
+        this.transactionService = transactionService;
+        this.journalCheckpointRepository = journalCheckpointRepository;
+        this.rejectedJournalEntryRepository = rejectedJournalEntryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applyBatchSize = applyBatchSize;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.logger = logger;
+
+        // The checkpoint is kept per journal file. The entries following it are replayed by the first runs of apply().
+        Path journalPath = Paths.get(path);
+        this.journalName = journalPath.getFileName().toString();
+        JournalCheckpoint checkpoint = journalCheckpointRepository.findByJournalName(journalName);
+        long appliedSequence = checkpoint != null ? checkpoint.getAppliedSequence() : 0L;
+        this.journal = openJournal(journalPath, capacity, appliedSequence);
+
+        logger.info(COUNT_JOURNAL_ENTRIES_TO_BE_REPLAYED, journal.getAppendedSequence() - journal.getAppliedSequence());
+    }
+
+    /**
+     * Posts a transaction by appending it to the journal. The transaction is durable once this method returns, but it
+     * is stored in the database only later on, so the returned transaction has no ID yet.
+     *
+     * @param accountId The ID of the account, which must exist
+     * @param amount    The amount of the transaction, negative for debits
+     * @return The journaled transaction
+     */
+    public Transaction post(long accountId, Money amount) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkArgument(amount != null, INVALID_AMOUNT_ERROR);
+
+        Transaction transaction = new Transaction(0L, amount, new Account(accountId));
+        try {
+            journal.append(accountId, amount.getMinorUnits(), transaction.getTransactionTime().getTime());
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException(SERVICE_BUSY_ERROR, exp);
+        }
+
+        return transaction;
+    }
+
+    /**
+     * Waits until the transactions of the given accounts journaled so far are applied to the database, so that a
+     * following read of their balances, e.g. the check of the funds of a debit, reflects all their acknowledged
+     * transactions. Accounts without pending transactions do not wait at all.
+     *
+     * @param accountIds The IDs of the accounts
+     * @throws TaskRejectedException If the transactions are not applied within the configured timeout
+     */
+    public void awaitApplied(Collection<Long> accountIds) {
+        try {
+            if (!journal.awaitApplied(accountIds, awaitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new TaskRejectedException(SERVICE_BUSY_ERROR);
+            }
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException(SERVICE_BUSY_ERROR, exp);
+        }
+    }
+
+    /**
+     * Applies the pending journal entries to the database in batches. An entry rejected by the database, e.g. as its
+     * account was deleted meanwhile, is stored as a rejected entry and skipped, while any other failure leaves the
+     * entries pending for the next run.
+     *
+     * @return The number of applied entries
+     */
+    public synchronized long apply() {
+        long count = 0L;
+        try {
+            for (List<JournalEntry> entries = journal.readPending(applyBatchSize); !entries.isEmpty();
+                 entries = journal.readPending(applyBatchSize)) {
+                try {
+                    applyBatch(entries);
+                } catch (DataIntegrityViolationException exp) {
+                    // Find the rejected entries by applying the entries of the batch one by one
+                    for (JournalEntry entry : entries) {
+                        applyEntryOrReject(entry);
+                    }
+                }
+                count += entries.size();
+            }
+        } catch (DataAccessException | TransactionException exp) {
+            logger.error(JOURNAL_APPLY_FAILED_ERROR, exp);
+        }
+
+        if (count > 0L) {
+            logger.debug(COUNT_JOURNAL_ENTRIES_APPLIED_SUCCESSFULLY, count);
+        }
+
+        return count;
+    }
+
+    /**
+     * Applies the pending entries and closes the journal on shutdown. Entries that cannot be applied remain in the
+     * journal and are replayed on the next start.
+     *
+     * @throws IOException If the journal cannot be closed
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        apply();
+        journal.close();
+    }
+
+    private void applyBatch(List<JournalEntry> entries) {
+        long lastSequence = entries.get(entries.size() - 1).getSequence();
+        transactionTemplate.execute(status -> {
+            entries.forEach(entry -> transactionService.create(toTransaction(entry)));
+            saveCheckpoint(lastSequence);
+            return null;
+        });
+        journal.markApplied(lastSequence);
+    }
+
+    private void applyEntryOrReject(JournalEntry entry) {
+        try {
+            applyBatch(Collections.singletonList(entry));
+        } catch (DataIntegrityViolationException exp) {
+            logger.error(JOURNAL_ENTRY_REJECTED_ERROR, entry, exp);
+
+            String reason = StringUtils.abbreviate(exp.getMostSpecificCause().getMessage(),
+                    RejectedJournalEntry.MAX_REASON_LENGTH);
+            transactionTemplate.execute(status -> {
+                rejectedJournalEntryRepository.save(new RejectedJournalEntry(journalName, entry.getSequence(),
+                        entry.getAccountId(), entry.getAmount(), new Date(entry.getTransactionTime()), reason));
+                saveCheckpoint(entry.getSequence());
+                return null;
+            });
+            journal.markApplied(entry.getSequence());
+        }
+    }
+
+    private void saveCheckpoint(long appliedSequence) {
+        if (journalCheckpointRepository.updateAppliedSequence(journalName, appliedSequence) == 0) {
+            journalCheckpointRepository.save(new JournalCheckpoint(journalName, appliedSequence));
+        }
+    }
+
+    private static Transaction toTransaction(JournalEntry entry) {
+        Transaction transaction = new Transaction(0L, Money.ofMinorUnits(entry.getAmount()),
+                new Account(entry.getAccountId()));
+        transaction.setTransactionTime(new Date(entry.getTransactionTime()));
+
+        return transaction;
+    }
+
+    private static TransactionJournal openJournal(Path path, int capacity, long appliedSequence) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            return new TransactionJournal(path, capacity, appliedSequence);
+        } catch (IOException exp) {
+            throw new UncheckedIOException(JOURNAL_OPEN_FAILED_ERROR, exp);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.blueharvest.bank.service;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import io.blueharvest.bank.dto.LatencyMetricsDto;
+import org.springframework.stereotype.Service;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A service that reports the call counts, throughput and latency percentiles recorded by
+ * {@link io.blueharvest.bank.metrics.LatencyMetricsAspect}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class LatencyMetricsService {
+    private static final double NANOSECONDS_PER_MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private MetricRegistry metricRegistry;
+
+    @Inject
+    public LatencyMetricsService(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    /**
+     * Returns the metrics of all timed methods ordered by name
+     *
+     * @return List of the metrics of each timed method
+     */
+    public List<LatencyMetricsDto> getAll() {
+        List<LatencyMetricsDto> metrics = new ArrayList<>();
+        for (Map.Entry<String, Timer> timer : metricRegistry.getTimers().entrySet()) {
+            metrics.add(toDto(timer.getKey(), timer.getValue()));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Returns the metrics of a specific timed method
+     *
+     * @param name The name of the metric, for example {@code service.CustomerService.get}
+     * @return The metrics if the method has been called, {@link Optional#empty()} otherwise
+     */
+    public Optional<LatencyMetricsDto> get(String name) {
+        checkNotNull(name);
+
+        Timer timer = metricRegistry.getTimers().get(name);
+        if (timer == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(toDto(name, timer));
+    }
+
+    private static LatencyMetricsDto toDto(String name, Timer timer) {
+        Snapshot snapshot = timer.getSnapshot();
+
+        return new LatencyMetricsDto(name, timer.getCount(), timer.getMeanRate(), timer.getOneMinuteRate(),
+                toMilliseconds(snapshot.getMedian()), toMilliseconds(snapshot.get99thPercentile()),
+                toMilliseconds(snapshot.get999thPercentile()), toMilliseconds(snapshot.getMax()));
+    }
+
+    private static double toMilliseconds(double nanoseconds) {
+        return nanoseconds / NANOSECONDS_PER_MILLISECOND;
+    }
+}
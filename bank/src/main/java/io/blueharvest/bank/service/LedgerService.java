@@ -0,0 +1,127 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.dto.BalanceDiscrepancy;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.BALANCE_DISCREPANCY_ERROR;
+import static io.blueharvest.bank.constant.Messages.COUNT_BALANCE_DISCREPANCIES_FOUND;
+import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.TRANSACTION_NULL_ERROR;
+
+/**
+ * A service that maintains the running balance of every account, so the balance can be read without scanning the
+ * transactions of the account
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class LedgerService {
+    private AccountBalanceRepository accountBalanceRepository;
+    private Logger logger;
+
+    @Inject
+    public LedgerService(AccountBalanceRepository accountBalanceRepository, Logger logger) {
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.logger = logger;
+    }
+
+    /**
+     * Applies the amount of a transaction to the balance of its account. It must run within the transaction storing
+     * the {@link Transaction}, so the transaction and the balance are always committed together.
+     *
+     * @param transaction The transaction being posted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Transaction transaction) {
+        checkNotNull(transaction, TRANSACTION_NULL_ERROR);
+
+        apply(transaction.getAccount().getId(), transaction.getAmount().getMinorUnits());
+    }
+
+    /**
+     * Applies the total amount of one or more transactions to the balance of an account. It must run within the
+     * transaction storing those transactions.
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param amount    The total amount of the transactions in minor units
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(long accountId, long amount) {
+        int updatedRows = accountBalanceRepository.addToBalance(accountId, amount);
+
+        // The first transaction of an account opens its balance
+        if (updatedRows == 0) {
+            accountBalanceRepository.save(new AccountBalance(accountId, amount));
+        }
+    }
+
+    /**
+     * Deletes the balance of an account along with its transactions. It must run within the transaction deleting
+     * them, so a balance is never left without the transactions it was summed up from.
+     *
+     * @param accountId The ID of the {@link Account}
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(long accountId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+
+        accountBalanceRepository.deleteByAccountId(accountId);
+    }
+
+    /**
+     * Locks the balance of an account until the end of the current transaction, which serializes the caller with the
+     * transactions posted to the account meanwhile, as applying a transaction locks the balance as well
+     *
+     * @param accountId The ID of the {@link Account}
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(long accountId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+
+        accountBalanceRepository.lockByAccountId(accountId);
+    }
+
+    /**
+     * Returns the current balance of a specific account
+     *
+     * @param accountId The ID of the {@link Account}
+     * @return The balance if the account has any transactions, {@link Optional#empty()} otherwise
+     */
+    public Optional<AccountBalance> getBalance(long accountId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+
+        return Optional.ofNullable(accountBalanceRepository.findByAccountId(accountId));
+    }
+
+    /**
+     * Checks the balances of all accounts against the totals of their transactions in a single query. For a large
+     * number of accounts, see {@link ReconciliationService#reconcile()}.
+     *
+     * @return List of the accounts whose balances do not match their transactions, an empty list if all match
+     */
+    @Transactional(readOnly = true)
+    public List<BalanceDiscrepancy> reconcile() {
+        List<BalanceDiscrepancy> discrepancies = accountBalanceRepository.findDiscrepancies();
+
+        for (BalanceDiscrepancy discrepancy : discrepancies) {
+            logger.warn(BALANCE_DISCREPANCY_ERROR, discrepancy);
+        }
+        logger.info(COUNT_BALANCE_DISCREPANCIES_FOUND, discrepancies.size());
+
+        return discrepancies;
+    }
+}
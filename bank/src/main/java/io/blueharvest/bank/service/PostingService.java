@@ -0,0 +1,172 @@
+package io.blueharvest.bank.service;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Striped;
+import io.blueharvest.bank.error.TransactionalOperationException;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.blueharvest.bank.constant.Messages.ACCOUNT_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Messages.INSUFFICIENT_FUNDS_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_AMOUNT_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.SAME_ACCOUNT_TRANSFER_ERROR;
+import static io.blueharvest.bank.constant.Messages.TRANSFER_POSTED_SUCCESSFULLY;
+
+/**
+ * A service that posts credits, debits and transfers to accounts.
+ * <p>
+ * Postings to the same account are serialized by a lock taken from a fixed set of lock stripes keyed by account ID,
+ * while postings to different accounts run in parallel. The lock is held until the database transaction of the
+ * posting is committed, so a debit can safely check the balance before withdrawing.
+ * <p>
+ * If the {@link JournalService} is enabled, credits are only journaled and applied to the database later on. Debits
+ * and transfers still post to the database right away, after waiting for the journaled credits of their accounts to be
+ * applied, so that they check the balance including all acknowledged credits. See {@link JournalService} for the
+ * trade-offs of this.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class PostingService {
+    private final Striped<Lock> accountLocks;
+
+    private AccountService accountService;
+    private TransactionService transactionService;
+    private LedgerService ledgerService;
+    private Optional<JournalService> journalService;
+    private TransactionTemplate transactionTemplate;
+    private Logger logger;
+
+    @Inject
+    public PostingService(AccountService accountService, TransactionService transactionService,
+                          LedgerService ledgerService, Optional<JournalService> journalService,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${bank.posting.lock-stripes:1024}") int lockStripes, Logger logger) {
+        this.accountService = accountService;
+        this.transactionService = transactionService;
+        this.ledgerService = ledgerService;
+        this.journalService = journalService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.accountLocks = Striped.lock(lockStripes);
+        this.logger = logger;
+    }
+
+    /**
+     * Credits an amount to an account
+     *
+     * @param accountId The ID of the account
+     * @param amount    The amount to be credited
+     * @return The posted transaction, which has no ID yet if it was only journaled
+     */
+    public Transaction credit(long accountId, Money amount) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkArgument(amount != null && amount.isPositive(), INVALID_AMOUNT_ERROR);
+
+        if (journalService.isPresent()) {
+            return journalService.get().post(accountId, amount);
+        }
+
+        return withLocks(ImmutableList.of(accountId), status -> post(accountId, amount));
+    }
+
+    /**
+     * Debits an amount from an account if its balance covers the amount
+     *
+     * @param accountId The ID of the account
+     * @param amount    The amount to be debited
+     * @return The posted transaction
+     */
+    public Transaction debit(long accountId, Money amount) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkArgument(amount != null && amount.isPositive(), INVALID_AMOUNT_ERROR);
+
+        return withLocks(ImmutableList.of(accountId), status -> {
+            checkFunds(accountId, amount);
+            return post(accountId, amount.negate());
+        });
+    }
+
+    /**
+     * Transfers an amount between two accounts as a single unit of work
+     *
+     * @param sourceAccountId The ID of the account to be debited
+     * @param targetAccountId The ID of the account to be credited
+     * @param amount          The amount to be transferred
+     * @return The posted debit and credit transactions respectively
+     */
+    public List<Transaction> transfer(long sourceAccountId, long targetAccountId, Money amount) {
+        checkArgument(sourceAccountId > 0, INVALID_ID_ERROR);
+        checkArgument(targetAccountId > 0, INVALID_ID_ERROR);
+        checkArgument(sourceAccountId != targetAccountId, SAME_ACCOUNT_TRANSFER_ERROR);
+        checkArgument(amount != null && amount.isPositive(), INVALID_AMOUNT_ERROR);
+
+        List<Transaction> transactions = withLocks(ImmutableList.of(sourceAccountId, targetAccountId), status -> {
+            checkFunds(sourceAccountId, amount);
+            return ImmutableList.of(post(sourceAccountId, amount.negate()), post(targetAccountId, amount));
+        });
+        logger.info(TRANSFER_POSTED_SUCCESSFULLY);
+
+        return transactions;
+    }
+
+    /**
+     * Runs a posting in a database transaction while holding the locks of the given accounts, once the journaled
+     * transactions of these accounts are applied if the journal is enabled
+     *
+     * @param accountIds The IDs of the accounts involved in the posting
+     * @param posting    The posting to be run
+     * @return The result of the posting
+     */
+    private <T> T withLocks(List<Long> accountIds, TransactionCallback<T> posting) {
+        journalService.ifPresent(service -> service.awaitApplied(accountIds));
+
+        // bulkGet returns the stripes sorted by stripe index, so all postings acquire them in the same global order and
+        // two transfers in opposite directions cannot deadlock. A stripe shared by both accounts is simply re-entered.
+        ImmutableList<Lock> locks = ImmutableList.copyOf(accountLocks.bulkGet(accountIds));
+
+        for (Lock lock : locks) {
+            lock.lock();
+        }
+
+        try {
+            return transactionTemplate.execute(posting);
+        } finally {
+            for (Lock lock : locks.reverse()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void checkFunds(long accountId, Money amount) {
+        long balance = ledgerService.getBalance(accountId).map(AccountBalance::getBalance).orElse(0L);
+        if (balance < amount.getMinorUnits()) {
+            logger.warn(INSUFFICIENT_FUNDS_ERROR);
+            throw new TransactionalOperationException(INSUFFICIENT_FUNDS_ERROR);
+        }
+    }
+
+    private Transaction post(long accountId, Money amount) {
+        Account account = accountService.get(accountId).orElseThrow(() -> {
+            logger.warn(ACCOUNT_NOT_FOUND_ERROR);
+            return new TransactionalOperationException(ACCOUNT_NOT_FOUND_ERROR);
+        });
+
+        return transactionService.create(new Transaction(0L, amount, account));
+    }
+}
@@ -0,0 +1,238 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.dto.BalanceDiscrepancy;
+import io.blueharvest.bank.dto.PartitionReconciliation;
+import io.blueharvest.bank.dto.PostedAmount;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.RejectedJournalEntry;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.RejectedJournalEntryRepository;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.blueharvest.bank.constant.Messages.BALANCE_DISCREPANCY_ERROR;
+import static io.blueharvest.bank.constant.Messages.COUNT_BALANCE_DISCREPANCIES_FOUND;
+import static io.blueharvest.bank.constant.Messages.COUNT_REJECTED_JOURNAL_ENTRIES_FOUND;
+import static io.blueharvest.bank.constant.Messages.INVALID_PARALLELISM_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_PARTITION_SIZE_ERROR;
+import static io.blueharvest.bank.constant.Messages.PARTITION_RECONCILED_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.REJECTED_JOURNAL_ENTRY_ERROR;
+
+/**
+ * A service that checks the materialized {@link AccountBalance} of every account against the sum of its transactions
+ * in bulk, e.g. every night over all accounts.
+ * <p>
+ * The accounts are split into partitions of consecutive IDs, which are reconciled in parallel on a fork-join pool, each
+ * partition within its own read-only transaction. The transactions of a partition are streamed along with the
+ * balances of their accounts in account order and summed up per account in a primitive accumulator, so neither the
+ * transactions nor per account totals are held in memory and a partition costs a single range scan of the index on
+ * account and time. The balances of the partition without any transactions, e.g. left over by deleted accounts, are
+ * read by a second query and compared against a total of 0, as by {@link LedgerService#reconcile()}.
+ * <p>
+ * Every run also reports the {@link RejectedJournalEntry}s, i.e. acknowledged transactions that could not be applied
+ * to their accounts, until they are resolved.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class ReconciliationService {
+    private AccountBalanceRepository accountBalanceRepository;
+    private RejectedJournalEntryRepository rejectedJournalEntryRepository;
+    private TransactionTemplate transactionTemplate;
+    private int partitionSize;
+    private int parallelism;
+    private Logger logger;
+
+    /**
+     * Creates the service
+     *
+     * @param partitionSize The number of account IDs per partition
+     * @param parallelism   The number of partitions reconciled at the same time, which should not exceed the size of
+     *                      the connection pool, as each of them holds a connection
+     */
+    @Inject
+    public ReconciliationService(AccountBalanceRepository accountBalanceRepository,
+                                 RejectedJournalEntryRepository rejectedJournalEntryRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${bank.reconciliation.partition-size:10000}") int partitionSize,
+                                 @Value("${bank.reconciliation.parallelism:4}") int parallelism, Logger logger) {
+        checkArgument(partitionSize > 0, INVALID_PARTITION_SIZE_ERROR);
+        checkArgument(parallelism > 0, INVALID_PARALLELISM_ERROR);
+
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.rejectedJournalEntryRepository = rejectedJournalEntryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism;
+        this.logger = logger;
+    }
+
+    /**
+     * Checks the balances of all accounts against the totals of their transactions, partition by partition
+     *
+     * @return List of the results of the partitions in the order of their IDs, an empty list if no account has a
+     * balance
+     */
+    public List<PartitionReconciliation> reconcile() {
+        reportRejectedJournalEntries();
+
+        Long firstAccountId = accountBalanceRepository.findFirstAccountId();
+        Long lastAccountId = accountBalanceRepository.findLastAccountId();
+        if (firstAccountId == null || lastAccountId == null) {
+            logger.info(COUNT_BALANCE_DISCREPANCIES_FOUND, 0);
+            return new ArrayList<>();
+        }
+
+        long partitionCount = (lastAccountId - firstAccountId) / partitionSize + 1;
+
+        List<PartitionReconciliation> partitions;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            partitions = pool.invoke(new PartitionTask(firstAccountId, 0L, partitionCount));
+        } finally {
+            pool.shutdown();
+        }
+
+        long discrepancyCount = 0;
+        for (PartitionReconciliation partition : partitions) {
+            for (BalanceDiscrepancy discrepancy : partition.getDiscrepancies()) {
+                logger.warn(BALANCE_DISCREPANCY_ERROR, discrepancy);
+            }
+            discrepancyCount += partition.getDiscrepancies().size();
+        }
+        logger.info(COUNT_BALANCE_DISCREPANCIES_FOUND, discrepancyCount);
+
+        return partitions;
+    }
+
+    /**
+     * Checks the balances of the accounts within a range of IDs against the totals of their transactions
+     *
+     * @param firstAccountId The first ID of the range, inclusive
+     * @param lastAccountId  The last ID of the range, inclusive
+     * @return The result of the partition
+     */
+    PartitionReconciliation reconcile(long firstAccountId, long lastAccountId) {
+        long startTime = System.currentTimeMillis();
+
+        return transactionTemplate.execute(status -> {
+            List<BalanceDiscrepancy> discrepancies = new ArrayList<>();
+            long accountCount = 0;
+            long transactionCount = 0;
+
+            try (Stream<PostedAmount> postedAmounts =
+                         accountBalanceRepository.streamPostedAmounts(firstAccountId, lastAccountId)) {
+                Iterator<PostedAmount> iterator = postedAmounts.iterator();
+
+                // The account whose transactions are being summed up, 0 before the first transaction
+                long accountId = 0;
+                long balance = 0;
+                long total = 0;
+                while (iterator.hasNext()) {
+                    PostedAmount postedAmount = iterator.next();
+                    if (postedAmount.getAccountId() != accountId) {
+                        check(accountId, balance, total, discrepancies);
+
+                        accountId = postedAmount.getAccountId();
+                        balance = postedAmount.getBalance();
+                        total = 0;
+                        accountCount++;
+                    }
+                    total += postedAmount.getAmount();
+                    transactionCount++;
+                }
+                check(accountId, balance, total, discrepancies);
+            }
+
+            for (AccountBalance unpostedBalance :
+                    accountBalanceRepository.findBalancesWithoutTransactions(firstAccountId, lastAccountId)) {
+                check(unpostedBalance.getAccountId(), unpostedBalance.getBalance(), 0L, discrepancies);
+                accountCount++;
+            }
+
+            PartitionReconciliation partition = new PartitionReconciliation(firstAccountId, lastAccountId,
+                    accountCount, transactionCount, discrepancies, System.currentTimeMillis() - startTime);
+            logger.info(PARTITION_RECONCILED_SUCCESSFULLY, firstAccountId, lastAccountId, accountCount,
+                    transactionCount, discrepancies.size(), partition.getElapsedMillis(), partition.getThroughput());
+
+            return partition;
+        });
+    }
+
+    /**
+     * Logs the journal entries that were rejected by the database and are not resolved yet
+     */
+    private void reportRejectedJournalEntries() {
+        List<RejectedJournalEntry> rejectedEntries = rejectedJournalEntryRepository.findAllByOrderByRejectedTimeAsc();
+        for (RejectedJournalEntry rejectedEntry : rejectedEntries) {
+            logger.warn(REJECTED_JOURNAL_ENTRY_ERROR, rejectedEntry);
+        }
+        logger.info(COUNT_REJECTED_JOURNAL_ENTRIES_FOUND, rejectedEntries.size());
+    }
+
+    /**
+     * Adds a discrepancy for an account, if its balance does not match the total of its transactions
+     */
+    private static void check(long accountId, long balance, long total, List<BalanceDiscrepancy> discrepancies) {
+        if (accountId != 0 && balance != total) {
+            discrepancies.add(new BalanceDiscrepancy(accountId, balance, total));
+        }
+    }
+
+    /**
+     * Reconciles a range of partitions by splitting it in halves until single partitions are left, which are
+     * reconciled by the threads of the pool
+     */
+    private class PartitionTask extends RecursiveTask<List<PartitionReconciliation>> {
+        private final long firstAccountId;
+        private final long fromPartition;
+        private final long toPartition;
+
+        /**
+         * @param firstAccountId The first ID of the first partition of all partitions
+         * @param fromPartition  The index of the first partition of the range, inclusive
+         * @param toPartition    The index of the last partition of the range, exclusive
+         */
+        PartitionTask(long firstAccountId, long fromPartition, long toPartition) {
+            this.firstAccountId = firstAccountId;
+            this.fromPartition = fromPartition;
+            this.toPartition = toPartition;
+        }
+
+        @Override
+        protected List<PartitionReconciliation> compute() {
+            if (toPartition - fromPartition == 1) {
+                long partitionFirstAccountId = firstAccountId + fromPartition * partitionSize;
+                List<PartitionReconciliation> partitions = new ArrayList<>();
+                partitions.add(reconcile(partitionFirstAccountId, partitionFirstAccountId + partitionSize - 1));
+
+                return partitions;
+            }
+
+            long middlePartition = fromPartition + (toPartition - fromPartition) / 2;
+            PartitionTask lowerHalf = new PartitionTask(firstAccountId, fromPartition, middlePartition);
+            lowerHalf.fork();
+            List<PartitionReconciliation> upperPartitions =
+                    new PartitionTask(firstAccountId, middlePartition, toPartition).compute();
+
+            List<PartitionReconciliation> partitions = lowerHalf.join();
+            partitions.addAll(upperPartitions);
+
+            return partitions;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.blueharvest.bank.service;
+
+import org.slf4j.Logger;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.stereotype.Service;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.Messages.SQL_TRACING_SWITCHED;
+
+/**
+ * A service that switches the logging of the SQL statements issued by Hibernate on and off at runtime. Unlike
+ * {@code spring.jpa.show-sql}, which prints every statement synchronously to stdout, the statements are logged through
+ * the asynchronous appender and cost nothing while tracing is off.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class SqlTracingService {
+    static final String SQL_LOGGER_NAME = "org.hibernate.SQL";
+
+    private LoggingSystem loggingSystem;
+    private Logger logger;
+
+    @Inject
+    public SqlTracingService(LoggingSystem loggingSystem, Logger logger) {
+        this.loggingSystem = loggingSystem;
+        this.logger = logger;
+    }
+
+    /**
+     * Checks whether SQL statements are currently logged
+     *
+     * @return True if SQL statements are logged, false otherwise
+     */
+    public boolean isEnabled() {
+        LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(SQL_LOGGER_NAME);
+
+        return (configuration != null) && (configuration.getEffectiveLevel().compareTo(LogLevel.DEBUG) <= 0);
+    }
+
+    /**
+     * Switches the logging of SQL statements on or off
+     *
+     * @param enabled True to log SQL statements, false to restore the configured level
+     */
+    public void setEnabled(boolean enabled) {
+        loggingSystem.setLogLevel(SQL_LOGGER_NAME, enabled ? LogLevel.DEBUG : null);
+        logger.info(SQL_TRACING_SWITCHED, enabled ? "on" : "off");
+    }
+}
@@ -0,0 +1,35 @@
+package io.blueharvest.bank.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+
+/**
+ * Backfills the daily statements of all accounts once the application context is ready and before requests are
+ * served, if enabled by the property bank.statements.backfill-on-startup, e.g. once after upgrading a database holding
+ * transactions from before the daily statements
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+@ConditionalOnProperty(name = "bank.statements.backfill-on-startup", havingValue = "true")
+public class StatementBackfillJob {
+    private StatementService statementService;
+
+    @Inject
+    public StatementBackfillJob(StatementService statementService) {
+        this.statementService = statementService;
+    }
+
+    /**
+     * Runs the backfill
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void backfill() {
+        statementService.backfill();
+    }
+}
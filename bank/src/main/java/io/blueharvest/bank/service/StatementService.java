@@ -0,0 +1,259 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.dto.AccountStatement;
+import io.blueharvest.bank.dto.TransactionSummary;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.DailyStatement;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.DailyStatementRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.COUNT_DAILY_STATEMENTS_REBUILT_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.COUNT_STATEMENTS_BACKFILLED_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_STATEMENT_PERIOD_ERROR;
+import static io.blueharvest.bank.constant.Messages.TRANSACTION_NULL_ERROR;
+
+/**
+ * A service that maintains a rollup per account and day of the posted transactions, holding the opening and closing
+ * balances, the credits, the debits and the number of transactions of that day. The rollups are updated with every
+ * posted transaction, so a statement over a month or a year sums up at most 366 rows instead of reading every
+ * transaction of the account.
+ * <p>
+ * The days are those of the time zone of the application, which is also the time zone of the embedded database.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class StatementService {
+    // Number of account IDs read per page by the backfill
+    static final int BACKFILL_PAGE_SIZE = 100;
+
+    // Range of the years of the statements, the years representable by the date columns of the database
+    private static final int FIRST_STATEMENT_YEAR = 1;
+    private static final int LAST_STATEMENT_YEAR = 9999;
+
+    private static final PageRequest SINGLE_RESULT = new PageRequest(0, 1);
+
+    private DailyStatementRepository dailyStatementRepository;
+    private TransactionRepository transactionRepository;
+    private LedgerService ledgerService;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Logger logger;
+
+    @Inject
+    public StatementService(DailyStatementRepository dailyStatementRepository,
+                            TransactionRepository transactionRepository, LedgerService ledgerService,
+                            EntityManager entityManager, PlatformTransactionManager transactionManager, Logger logger) {
+        this.dailyStatementRepository = dailyStatementRepository;
+        this.transactionRepository = transactionRepository;
+        this.ledgerService = ledgerService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.logger = logger;
+    }
+
+    /**
+     * Adds a transaction to the rollup of its account for the day of the transaction, and shifts the balances of the
+     * following days of a back-dated transaction. It must run within the transaction storing the {@link Transaction}
+     * and before its amount is applied to the balance of the account, as the balance before the transaction opens the
+     * first rollup of an account.
+     *
+     * @param transaction The transaction being posted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Transaction transaction) {
+        checkNotNull(transaction, TRANSACTION_NULL_ERROR);
+
+        long accountId = transaction.getAccount().getId();
+        Date day = dayOf(transaction.getTransactionTime());
+        long amount = transaction.getAmount().getMinorUnits();
+        long credit = amount > 0 ? amount : 0L;
+        long debit = amount < 0 ? amount : 0L;
+
+        int updatedRows = dailyStatementRepository.addToStatement(accountId, day, amount, credit, debit);
+
+        // The first transaction of a day opens its rollup with the balance at the end of the previous day
+        if (updatedRows == 0) {
+            entityManager.persist(new DailyStatement(accountId, day, balanceBefore(accountId, day), credit, debit,
+                    1L));
+        }
+
+        dailyStatementRepository.shiftBalancesAfter(accountId, day, amount);
+    }
+
+    /**
+     * Recomputes the rollups of an account from its transactions, e.g. after importing transactions in bulk. Pending
+     * changes are flushed and the persistence context is cleared.
+     *
+     * @param accountId The ID of the {@link Account}
+     * @return The number of rollups of the account
+     */
+    @Transactional
+    public int rebuild(long accountId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+
+        entityManager.flush();
+        dailyStatementRepository.deleteByAccountId(accountId);
+
+        // The balance of an account is the total of its transactions, so the first day opens with 0
+        long balance = 0L;
+        List<DailyStatement> dailyStatements = dailyStatementRepository.aggregateTransactions(accountId);
+        for (DailyStatement dailyStatement : dailyStatements) {
+            dailyStatement.setOpeningBalance(balance);
+            balance += dailyStatement.getCredits() + dailyStatement.getDebits();
+            dailyStatement.setClosingBalance(balance);
+
+            entityManager.persist(dailyStatement);
+        }
+        logger.debug(COUNT_DAILY_STATEMENTS_REBUILT_SUCCESSFULLY, dailyStatements.size());
+
+        return dailyStatements.size();
+    }
+
+    /**
+     * Deletes the rollups of an account along with its transactions. It must run within the transaction deleting
+     * them. Pending changes are flushed and the persistence context is cleared.
+     *
+     * @param accountId The ID of the {@link Account}
+     * @return The number of deleted rollups
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int delete(long accountId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+
+        entityManager.flush();
+        return dailyStatementRepository.deleteByAccountId(accountId);
+    }
+
+    /**
+     * Rebuilds the rollups of every account having transactions, each account in its own transaction, e.g. for the
+     * transactions stored before the rollups were introduced
+     *
+     * @return The number of accounts whose rollups were rebuilt
+     */
+    public long backfill() {
+        long count = 0;
+        long afterId = 0;
+
+        List<Long> accountIds;
+        while (!(accountIds = transactionRepository.findAccountIdsAfter(afterId,
+                new PageRequest(0, BACKFILL_PAGE_SIZE))).isEmpty()) {
+            for (long accountId : accountIds) {
+                transactionTemplate.execute(status -> rebuild(accountId));
+                count++;
+            }
+            afterId = accountIds.get(accountIds.size() - 1);
+        }
+        logger.info(COUNT_STATEMENTS_BACKFILLED_SUCCESSFULLY, count);
+
+        return count;
+    }
+
+    /**
+     * Returns the statement of an account for a month
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param year      The year of the month
+     * @param month     The month, from 1 (January) to 12 (December)
+     * @return The statement of the month
+     */
+    public AccountStatement getMonthlyStatement(long accountId, int year, int month) {
+        YearMonth yearMonth = yearMonthOf(year, month);
+
+        return getStatement(accountId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    /**
+     * Returns the statement of an account for a year
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param year      The year
+     * @return The statement of the year
+     */
+    public AccountStatement getYearlyStatement(long accountId, int year) {
+        YearMonth january = yearMonthOf(year, 1);
+
+        return getStatement(accountId, january.atDay(1), january.withMonth(12).atEndOfMonth());
+    }
+
+    /**
+     * Returns the statement of an account for a range of days, computed from the rollups of those days
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param firstDay  The first day of the range, inclusive
+     * @param lastDay   The last day of the range, inclusive
+     * @return The statement of the range of days
+     */
+    @Transactional(readOnly = true)
+    public AccountStatement getStatement(long accountId, LocalDate firstDay, LocalDate lastDay) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkNotNull(firstDay, INVALID_STATEMENT_PERIOD_ERROR);
+        checkNotNull(lastDay, INVALID_STATEMENT_PERIOD_ERROR);
+        checkArgument(!firstDay.isAfter(lastDay), INVALID_STATEMENT_PERIOD_ERROR);
+
+        Date first = java.sql.Date.valueOf(firstDay);
+        Date last = java.sql.Date.valueOf(lastDay);
+        TransactionSummary summary = dailyStatementRepository.summarizeByAccountId(accountId, first, last);
+
+        return new AccountStatement(accountId, first, last, balanceBefore(accountId, first), summary);
+    }
+
+    /**
+     * Returns the balance of an account at the start of a day, i.e. the closing balance of the previous rollup, or
+     * the opening balance of the next rollup if there is no previous one. Without any rollup, the current balance of
+     * the account is used, as it has no transactions or its transactions predate the rollups.
+     */
+    private long balanceBefore(long accountId, Date day) {
+        List<Long> balances = dailyStatementRepository.findClosingBalancesBefore(accountId, day, SINGLE_RESULT);
+        if (balances.isEmpty()) {
+            balances = dailyStatementRepository.findOpeningBalancesFrom(accountId, day, SINGLE_RESULT);
+        }
+
+        if (!balances.isEmpty()) {
+            return balances.get(0);
+        }
+
+        return ledgerService.getBalance(accountId).map(AccountBalance::getBalance).orElse(0L);
+    }
+
+    private static YearMonth yearMonthOf(int year, int month) {
+        checkArgument(year >= FIRST_STATEMENT_YEAR && year <= LAST_STATEMENT_YEAR, INVALID_STATEMENT_PERIOD_ERROR);
+
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException exp) {
+            throw new IllegalArgumentException(INVALID_STATEMENT_PERIOD_ERROR, exp);
+        }
+    }
+
+    /**
+     * Returns the day of a point in time in the time zone of the application
+     */
+    static Date dayOf(Date time) {
+        return java.sql.Date.valueOf(Instant.ofEpochMilli(time.getTime()).atZone(ZoneId.systemDefault())
+                .toLocalDate());
+    }
+}
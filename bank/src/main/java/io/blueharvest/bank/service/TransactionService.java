@@ -1,19 +1,43 @@
 package io.blueharvest.bank.service;
 
+import io.blueharvest.bank.dto.DailyTransactionTotal;
+import io.blueharvest.bank.dto.TransactionDto;
+import io.blueharvest.bank.dto.TransactionSummary;
 import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Money;
 import io.blueharvest.bank.model.Transaction;
 import io.blueharvest.bank.repository.TransactionRepository;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.blueharvest.bank.constant.Messages.COUNT_DAILY_TOTALS_READ_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.COUNT_TRANSACTIONS_CREATED_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.COUNT_TRANSACTIONS_EXPORTED_SUCCESSFULLY;
 import static io.blueharvest.bank.constant.Messages.COUNT_TRANSACTIONS_READ_SUCCESSFULLY;
+import static io.blueharvest.bank.constant.Messages.INVALID_AMOUNT_RANGE_ERROR;
 import static io.blueharvest.bank.constant.Messages.INVALID_ID_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_PAGE_SIZE_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_TIME_RANGE_ERROR;
 import static io.blueharvest.bank.constant.Messages.TRANSACTION_CREATED_SUCCESSFULLY;
 import static io.blueharvest.bank.constant.Messages.TRANSACTION_NULL_ERROR;
 
@@ -25,12 +49,33 @@ import static io.blueharvest.bank.constant.Messages.TRANSACTION_NULL_ERROR;
  **/
 @Service
 public class TransactionService {
+    // Number of transactions inserted between two flushes, matches hibernate.jdbc.batch_size so every flush sends
+    // a single JDBC batch
+    static final int INGESTION_BATCH_SIZE = 50;
+
+    // Bounds used for the open ends of time and amount ranges, so that the range queries always have both bounds
+    // instead of null checks, which would keep the database from using the bounds as index conditions
+    static final Date EARLIEST_TRANSACTION_TIME = Timestamp.valueOf("0001-01-01 00:00:00");
+    static final Date LATEST_TRANSACTION_TIME = Timestamp.valueOf("9999-12-31 00:00:00");
+    static final Money LOWEST_AMOUNT = Money.ofMinorUnits(Long.MIN_VALUE);
+    static final Money HIGHEST_AMOUNT = Money.ofMinorUnits(Long.MAX_VALUE);
+
     private TransactionRepository transactionRepository;
+    private LedgerService ledgerService;
+    private StatementService statementService;
+    private AccountEventService accountEventService;
+    private EntityManager entityManager;
     private Logger logger;
 
     @Inject
-    public TransactionService(TransactionRepository transactionRepository, Logger logger) {
+    public TransactionService(TransactionRepository transactionRepository, LedgerService ledgerService,
+                              StatementService statementService, AccountEventService accountEventService,
+                              EntityManager entityManager, Logger logger) {
         this.transactionRepository = transactionRepository;
+        this.ledgerService = ledgerService;
+        this.statementService = statementService;
+        this.accountEventService = accountEventService;
+        this.entityManager = entityManager;
         this.logger = logger;
     }
 
@@ -56,21 +101,106 @@ public class TransactionService {
     }
 
     /**
-     * Creates a new transaction
+     * Get a page of transactions ordered by ID, starting right after the given ID (keyset pagination)
+     *
+     * @param afterId The ID after which transactions should be returned, 0 for the first page
+     * @param limit   The maximum number of transactions to return
+     * @return List of at most limit transactions if any exists, otherwise an empty list
+     */
+    public List<Transaction> page(long afterId, int limit) {
+        checkArgument(afterId >= 0, INVALID_ID_ERROR);
+        checkArgument(limit > 0, INVALID_PAGE_SIZE_ERROR);
+
+        List<Transaction> transactions =
+                transactionRepository.findByIdGreaterThanOrderByIdAsc(afterId, new PageRequest(0, limit));
+
+        logger.debug(COUNT_TRANSACTIONS_READ_SUCCESSFULLY, transactions.size());
+
+        return transactions;
+    }
+
+    /**
+     * Creates a new transaction and applies its amount to the balance and the daily statement of its account, and
+     * records it as an event of its account, in the same database transaction
      *
      * @param transaction The transaction object to be created
-     * @return True if creation was successful, false otherwise
+     * @return The newly created transaction
      */
+    @Transactional
     public Transaction create(Transaction transaction) {
         checkNotNull(transaction, TRANSACTION_NULL_ERROR);
 
+        Transaction createdTransaction = transactionRepository.save(transaction);
+        statementService.apply(createdTransaction); // Before the ledger, as it may read the balance before the posting
+        ledgerService.apply(createdTransaction);
+        accountEventService.apply(createdTransaction); // After the ledger, whose lock serializes the events
+
         logger.info(TRANSACTION_CREATED_SUCCESSFULLY);
 
-        return transactionRepository.save(transaction);
+        return createdTransaction;
+    }
+
+    /**
+     * Creates a large number of transactions as a single unit of work, e.g. for importing historical transactions.
+     * The transactions are inserted in JDBC batches, and the persistence context is flushed and cleared after each
+     * batch, so the memory used does not grow with the number of transactions. The balance of each account is
+     * updated once per batch with the total amount of its transactions in that batch, and the events of the batch are
+     * recorded right after. The daily statements of each account are rebuilt once all transactions are inserted.
+     *
+     * @param transactions The transactions to be created, their accounts must already exist
+     * @return The number of created transactions
+     */
+    @Transactional
+    public long createAll(Iterable<Transaction> transactions) {
+        checkNotNull(transactions, TRANSACTION_NULL_ERROR);
+
+        long count = 0;
+        // Total amount in minor units per account ID for the current batch, summed up in place without boxing
+        Map<Long, long[]> batchTotals = new HashMap<>();
+        List<Transaction> batch = new ArrayList<>(INGESTION_BATCH_SIZE);
+        Set<Long> accountIds = new HashSet<>();
+
+        for (Transaction transaction : transactions) {
+            checkNotNull(transaction, TRANSACTION_NULL_ERROR);
+
+            transactionRepository.save(transaction);
+            batchTotals.computeIfAbsent(transaction.getAccount().getId(), accountId -> new long[1])[0] +=
+                    transaction.getAmount().getMinorUnits();
+            batch.add(transaction);
+            accountIds.add(transaction.getAccount().getId());
+
+            if (++count % INGESTION_BATCH_SIZE == 0) {
+                flushBatch(batchTotals, batch);
+            }
+        }
+        flushBatch(batchTotals, batch);
+        accountIds.forEach(statementService::rebuild);
+
+        logger.info(COUNT_TRANSACTIONS_CREATED_SUCCESSFULLY, count);
+
+        return count;
+    }
+
+    /**
+     * Applies the batch totals to the balances, records the events of the pending transactions, sends the pending
+     * inserts as a JDBC batch and detaches the inserted transactions. The balances and events are applied before
+     * flushing, as opening a new balance and the events are pending inserts as well.
+     *
+     * @param batchTotals The total amount in minor units per account ID of the pending transactions
+     * @param batch       The pending transactions
+     */
+    private void flushBatch(Map<Long, long[]> batchTotals, List<Transaction> batch) {
+        batchTotals.forEach((accountId, total) -> ledgerService.apply(accountId, total[0]));
+        batchTotals.clear();
+        accountEventService.apply(batch);
+        batch.clear();
+
+        entityManager.flush();
+        entityManager.clear();
     }
 
     /**
-     * Returns a list of all transaction of a specific account
+     * Returns a list of all transaction of a specific account in time order
      *
      * @param accountId The ID of the {@link Account}
      * @return List of all transactions belonging to the specified account if any exists, otherwise an empty list
@@ -79,9 +209,126 @@ public class TransactionService {
         checkArgument(accountId > 0, INVALID_ID_ERROR);
 
         Account accountToFind = new Account(accountId); // The account whose transactions should be returned
-        List<Transaction> transactions = transactionRepository.findByAccount(accountToFind);
-        logger.info(String.format(COUNT_TRANSACTIONS_READ_SUCCESSFULLY, transactions.size()));
+        List<Transaction> transactions = transactionRepository.findHistoryByAccount(accountToFind);
+        logger.debug(COUNT_TRANSACTIONS_READ_SUCCESSFULLY, transactions.size());
 
         return transactions;
     }
+
+    /**
+     * Deletes all transactions of a specific account in a single statement, along with the balance and the daily
+     * rollups of the account. The transactions are not loaded, so the caller has to make sure that none of them is
+     * managed by the current persistence context. It must run within a transaction, so all of them are deleted
+     * together.
+     *
+     * @param accountId The ID of the {@link Account}
+     * @return The number of deleted transactions
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int deleteTransactionsForAccount(long accountId) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+
+        ledgerService.delete(accountId);
+        statementService.delete(accountId);
+        return transactionRepository.deleteByAccountId(accountId);
+    }
+
+    /**
+     * Returns the transactions of a specific account within a time range and an amount range in time order, the
+     * filtering being done by the database
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param from      The start of the time range, inclusive, or null for no start
+     * @param to        The end of the time range, exclusive, or null for no end
+     * @param minAmount The lowest amount, inclusive, or null for no lowest amount
+     * @param maxAmount The highest amount, inclusive, or null for no highest amount
+     * @return List of the matching transactions if any exists, otherwise an empty list
+     */
+    public List<TransactionDto> findTransactionsForAccount(long accountId, Date from, Date to, Money minAmount,
+                                                           Money maxAmount) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkTimeRange(from, to);
+        checkArgument(minAmount == null || maxAmount == null || minAmount.compareTo(maxAmount) <= 0, INVALID_AMOUNT_RANGE_ERROR);
+
+        List<TransactionDto> transactions = transactionRepository.findByAccountIdAndRanges(accountId,
+                startOf(from), endOf(to), minAmount != null ? minAmount : LOWEST_AMOUNT,
+                maxAmount != null ? maxAmount : HIGHEST_AMOUNT);
+        logger.debug(COUNT_TRANSACTIONS_READ_SUCCESSFULLY, transactions.size());
+
+        return transactions;
+    }
+
+    /**
+     * Returns the number and the totals of the transactions of a specific account within a time range, computed by the
+     * database
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param from      The start of the time range, inclusive, or null for no start
+     * @param to        The end of the time range, exclusive, or null for no end
+     * @return The summary of the transactions
+     */
+    public TransactionSummary summarizeTransactionsForAccount(long accountId, Date from, Date to) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkTimeRange(from, to);
+
+        return transactionRepository.summarizeByAccountId(accountId, startOf(from), endOf(to));
+    }
+
+    /**
+     * Returns the number and the total amount of the transactions of a specific account per day within a time range,
+     * computed by the database. Days without transactions are left out.
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param from      The start of the time range, inclusive, or null for no start
+     * @param to        The end of the time range, exclusive, or null for no end
+     * @return List of the daily totals in day order if any transaction exists, otherwise an empty list
+     */
+    public List<DailyTransactionTotal> getDailyTotalsForAccount(long accountId, Date from, Date to) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkTimeRange(from, to);
+
+        List<DailyTransactionTotal> dailyTotals =
+                transactionRepository.findDailyTotalsByAccountId(accountId, startOf(from), endOf(to));
+        logger.debug(COUNT_DAILY_TOTALS_READ_SUCCESSFULLY, dailyTotals.size());
+
+        return dailyTotals;
+    }
+
+    private static void checkTimeRange(Date from, Date to) {
+        checkArgument(from == null || to == null || from.before(to), INVALID_TIME_RANGE_ERROR);
+    }
+
+    private static Date startOf(Date from) {
+        return from != null ? from : EARLIEST_TRANSACTION_TIME;
+    }
+
+    private static Date endOf(Date to) {
+        return to != null ? to : LATEST_TRANSACTION_TIME;
+    }
+
+    /**
+     * Passes every transaction of a specific account to the given action, one at a time and in time order, without
+     * loading the whole history into memory
+     *
+     * @param accountId The ID of the {@link Account}
+     * @param action    The action to be performed for each transaction
+     * @return The number of transactions passed to the action
+     */
+    @Transactional(readOnly = true)
+    public long forEachTransactionForAccount(long accountId, Consumer<TransactionDto> action) {
+        checkArgument(accountId > 0, INVALID_ID_ERROR);
+        checkNotNull(action);
+
+        long count = 0;
+        try (Stream<TransactionDto> transactions = transactionRepository.streamByAccountId(accountId)) {
+            Iterator<TransactionDto> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+        logger.info(COUNT_TRANSACTIONS_EXPORTED_SUCCESSFULLY, count);
+
+        return count;
+    }
 }
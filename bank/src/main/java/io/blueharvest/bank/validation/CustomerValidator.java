@@ -23,6 +23,8 @@ import static io.blueharvest.bank.constant.Messages.BLANK_INVALID_SURNAME_ERROR;
  */
 @Component
 public class CustomerValidator implements Validator {
+    // Length of the columns holding the details of a customer
+    private static final int MAX_LENGTH = 255;
 
     @Override
     public boolean supports(final Class<?> clazz) {
@@ -33,21 +35,24 @@ public class CustomerValidator implements Validator {
     public void validate(final Object obj, final Errors errors) {
         final CustomerDto customer = (CustomerDto) obj;
 
-        if (StringUtils.isBlank(customer.getName())) {
+        if (isBlankOrTooLong(customer.getName())) {
             errors.rejectValue(NAME_FIELD, BLANK_INVALID_NAME_ERROR);
         }
 
-        if (StringUtils.isBlank(customer.getSurname())) {
+        if (isBlankOrTooLong(customer.getSurname())) {
             errors.rejectValue(SURNAME_FIELD, BLANK_INVALID_SURNAME_ERROR);
         }
 
-        if (StringUtils.isBlank(customer.getAddress())) {
+        if (isBlankOrTooLong(customer.getAddress())) {
             errors.rejectValue(ADDRESS_FIELD, BLANK_INVALID_ADDRESS_ERROR);
         }
 
-        if (StringUtils.isBlank(customer.getPostcode())) {
+        if (isBlankOrTooLong(customer.getPostcode())) {
             errors.rejectValue(POSTCODE_FIELD, BLANK_INVALID_POSTCODE_ERROR);
         }
     }
 
+    private static boolean isBlankOrTooLong(String value) {
+        return StringUtils.isBlank(value) || value.length() > MAX_LENGTH;
+    }
 }
@@ -0,0 +1,43 @@
+-- Schema as created by Hibernate before migrations were introduced, so that existing databases can be baselined at
+-- version 1. The constraint names are the ones Hibernate generates.
+create sequence hibernate_sequence start with 1 increment by 1;
+create sequence account_sequence start with 1 increment by 50;
+create sequence transaction_sequence start with 1 increment by 50;
+
+create table customer (
+    id bigint not null,
+    address varchar(255) not null,
+    name varchar(255) not null,
+    postcode varchar(255) not null,
+    surname varchar(255) not null,
+    primary key (id)
+);
+
+create table account (
+    id bigint not null,
+    credit double not null,
+    establish_date timestamp not null,
+    account_customer_id bigint,
+    primary key (id)
+);
+
+create table transaction (
+    id bigint not null,
+    amount double not null,
+    transaction_time timestamp not null,
+    transaction_account_id bigint not null,
+    primary key (id)
+);
+
+create table account_balance (
+    account_id bigint not null,
+    balance double not null,
+    version bigint not null,
+    primary key (account_id)
+);
+
+create index idx_account_customer on account (account_customer_id);
+create index idx_transaction_account on transaction (transaction_account_id, id);
+
+alter table account add constraint FKlpomvhk3twtwoxek9w9rchr4r foreign key (account_customer_id) references customer;
+alter table transaction add constraint FKbe9olsy1g74g0d8e1qhw8uwtv foreign key (transaction_account_id) references account;
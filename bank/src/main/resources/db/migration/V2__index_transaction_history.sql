@@ -0,0 +1,4 @@
+-- The history of an account is read in time order, so the index on the account ID is extended by the transaction time.
+-- The ID keeps the order stable for transactions with the same time.
+create index idx_transaction_account_time on transaction (transaction_account_id, transaction_time, id);
+drop index idx_transaction_account;
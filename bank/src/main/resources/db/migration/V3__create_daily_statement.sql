@@ -0,0 +1,12 @@
+-- Daily rollups of the transactions of every account, so that statements are computed from at most one row per day.
+-- Like the account balance, the rollups are derived data and can be rebuilt from the transactions.
+create table daily_statement (
+    account_id bigint not null,
+    statement_day date not null,
+    opening_balance double not null,
+    closing_balance double not null,
+    credits double not null,
+    debits double not null,
+    transaction_count bigint not null,
+    primary key (account_id, statement_day)
+);
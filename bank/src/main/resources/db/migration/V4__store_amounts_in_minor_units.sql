@@ -0,0 +1,17 @@
+-- Amounts are stored as whole numbers of cents, the minor units of the euro, instead of floating point numbers, so that
+-- they are exact. Existing amounts are rounded to the nearest cent.
+update account set credit = round(credit * 100, 0);
+alter table account alter column credit bigint not null;
+
+update transaction set amount = round(amount * 100, 0);
+alter table transaction alter column amount bigint not null;
+
+update account_balance set balance = round(balance * 100, 0);
+alter table account_balance alter column balance bigint not null;
+
+update daily_statement set opening_balance = round(opening_balance * 100, 0),
+    closing_balance = round(closing_balance * 100, 0), credits = round(credits * 100, 0), debits = round(debits * 100, 0);
+alter table daily_statement alter column opening_balance bigint not null;
+alter table daily_statement alter column closing_balance bigint not null;
+alter table daily_statement alter column credits bigint not null;
+alter table daily_statement alter column debits bigint not null;
@@ -0,0 +1,4 @@
+-- Versions for the optimistic locking of accounts and customers, which are only updated if they still have the
+-- version their writer read. Existing rows start at version 0.
+alter table account add column version bigint default 0 not null;
+alter table customer add column version bigint default 0 not null;
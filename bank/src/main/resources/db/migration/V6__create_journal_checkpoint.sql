@@ -0,0 +1,7 @@
+-- The sequence of the last transaction journal entry applied to the database, which is updated in the same
+-- transaction as the applied transactions, so that replaying the journal after a crash applies every entry once.
+create table journal_checkpoint (
+    journal_name varchar(255) not null,
+    applied_sequence bigint not null,
+    primary key (journal_name)
+);
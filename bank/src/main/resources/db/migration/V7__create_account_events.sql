@@ -0,0 +1,22 @@
+-- The changes of the state of every account as an append-only log of events, numbered per account from 1, along with
+-- snapshots of the state taken every few events, so that the state at any point in time is rebuilt from the last
+-- snapshot before that time and the few events following it. The events are kept when their account is deleted, as
+-- they are the audit trail of the account.
+create table account_event (
+    account_id bigint not null,
+    sequence bigint not null,
+    event_type varchar(32) not null,
+    event_time timestamp not null,
+    amount bigint not null,
+    customer_id bigint not null,
+    primary key (account_id, sequence)
+);
+
+create table account_snapshot (
+    account_id bigint not null,
+    sequence bigint not null,
+    event_time timestamp not null,
+    customer_id bigint not null,
+    balance bigint not null,
+    primary key (account_id, sequence)
+);
@@ -0,0 +1,4 @@
+-- Customer IDs are fetched from the sequence 50 at a time, as for accounts and transactions, so that bulk imports do
+-- not query the sequence for every customer. The next value of the sequence is the upper end of a block of 50 IDs
+-- following the last ID handed out, so the new IDs never collide with the existing ones.
+alter sequence hibernate_sequence increment by 50;
@@ -0,0 +1,13 @@
+-- The transaction journal entries the database rejected when they were applied, e.g. credits to accounts deleted after
+-- the credit was acknowledged. They are kept here, in the transaction moving the journal checkpoint past them, so that
+-- no acknowledged transaction is lost, and are reported by every reconciliation until they are resolved.
+create table rejected_journal_entry (
+    journal_name varchar(255) not null,
+    sequence bigint not null,
+    account_id bigint not null,
+    amount bigint not null,
+    transaction_time timestamp not null,
+    rejected_time timestamp not null,
+    reason varchar(255),
+    primary key (journal_name, sequence)
+);
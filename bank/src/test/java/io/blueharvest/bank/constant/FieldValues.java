@@ -1,5 +1,7 @@
 package io.blueharvest.bank.constant;
 
+import io.blueharvest.bank.model.Money;
+
 /**
  * Container for field values to be used in testing
  *
@@ -21,15 +23,15 @@ public final class FieldValues {
 
     //region field values for accounts
     public static final long ACCOUNT_ID = 1L;
-    public static final Double CREDIT = 1000.50;
-    public static final Double MODIFIED_CREDIT = 1500.10; // Used for updating account details
+    public static final Money CREDIT = Money.valueOf("1000.50");
+    public static final Money MODIFIED_CREDIT = Money.valueOf("1500.10"); // Used for updating account details
 
     public static final int COUNT_OF_ACCOUNTS = 1;
     //endregion
 
     //region field values for transactions
     public static final long TRANSACTION_ID = 1L;
-    public static final Double AMOUNT = 1000.50D;
+    public static final Money AMOUNT = Money.valueOf("1000.50");
 
     public static final int COUNT_OF_TRANSACTIONS = 1;
     //endregion
@@ -0,0 +1,109 @@
+package io.blueharvest.bank.csv;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link CsvReader}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CsvReaderTest {
+
+    /**
+     * Tests {@link CsvReader#readRecord()} for records without quotes, separated by LF and CRLF
+     */
+    @Test
+    public void testReadRecord() throws Exception {
+        List<List<String>> records = readAll("name,surname\r\nJohn,Smith\nJane,\n");
+
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0)).containsExactly("name", "surname");
+        assertThat(records.get(1)).containsExactly("John", "Smith");
+        assertThat(records.get(2)).containsExactly("Jane", "");
+    }
+
+    /**
+     * Tests {@link CsvReader#readRecord()} for quoted fields holding commas, line breaks and quotes
+     */
+    @Test
+    public void testReadQuotedFields() throws Exception {
+        try (CsvReader csvReader = new CsvReader(new StringReader(
+                "\"Smith, John\",\"Main Street 1\nApartment 2\",\"5\"\"\"\r\nlast,\"\"\n"))) {
+            assertThat(csvReader.readRecord()).containsExactly("Smith, John", "Main Street 1\nApartment 2", "5\"");
+            assertThat(csvReader.getRecordLineNumber()).isEqualTo(1L);
+
+            assertThat(csvReader.readRecord()).containsExactly("last", "");
+            assertThat(csvReader.getRecordLineNumber()).isEqualTo(3L);
+
+            assertThat(csvReader.readRecord()).isNull();
+        }
+    }
+
+    /**
+     * Tests {@link CsvReader#readRecord()} for a last record without a line break and for an empty input
+     */
+    @Test
+    public void testReadWithoutTrailingLineBreak() throws Exception {
+        assertThat(readAll("a,b")).containsExactly(listOf("a", "b"));
+        assertThat(readAll("")).isEmpty();
+    }
+
+    /**
+     * Tests {@link CsvReader#readRecord()} for an input starting with a byte order mark, which is skipped before a
+     * quoted first field, but kept anywhere else
+     */
+    @Test
+    public void testReadWithByteOrderMark() throws Exception {
+        assertThat(readAll("\ufeff\"name\",surname\n\ufeffa,b\n"))
+                .containsExactly(listOf("name", "surname"), listOf("\ufeffa", "b"));
+        assertThat(readAll("\ufeff")).isEmpty();
+    }
+
+    /**
+     * Tests {@link CsvReader#readRecord()} for records larger than the buffer of the reader
+     */
+    @Test
+    public void testReadLargeRecords() throws Exception {
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            field.append((char) ('a' + i % 26));
+        }
+
+        List<List<String>> records = readAll(field + ",\"" + field + "\"\n" + field + "\n");
+
+        assertThat(records).containsExactly(listOf(field.toString(), field.toString()), listOf(field.toString()));
+    }
+
+    /**
+     * Tests {@link CsvReader#readRecord()} but for a quoted field that is not terminated
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadUnterminatedQuotedField() throws Exception {
+        readAll("a,\"b\nc\n");
+    }
+
+    private static List<List<String>> readAll(String input) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader csvReader = new CsvReader(new StringReader(input))) {
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+
+        return records;
+    }
+
+    private static List<String> listOf(String... fields) {
+        return Arrays.asList(fields);
+    }
+}
@@ -0,0 +1,261 @@
+package io.blueharvest.bank.journal;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for {@link TransactionJournal}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class TransactionJournalTest {
+    private static final int CAPACITY = 16;
+    private static final int MAX_ENTRIES = 100;
+    private static final long ACCOUNT_ID = 1L;
+    private static final long OTHER_ACCOUNT_ID = 2L;
+    private static final long NEVER_POSTED_ACCOUNT_ID = 3L;
+    private static final long AMOUNT = 5000L;
+    private static final long TRANSACTION_TIME = 1791763200000L;
+
+    @Rule
+    public TemporaryFolder journalDirectory = new TemporaryFolder();
+
+    private Path path;
+
+    @Before
+    public void setUp() throws Exception {
+        path = journalDirectory.getRoot().toPath().resolve("transactions.journal");
+    }
+
+    /**
+     * Tests {@link TransactionJournal#append(long, long, long)} and {@link TransactionJournal#readPending(int)}
+     */
+    @Test
+    public void testAppendAndReadPending() throws Exception {
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            JournalEntry entry = journal.append(ACCOUNT_ID, AMOUNT, TRANSACTION_TIME);
+            journal.append(ACCOUNT_ID, -AMOUNT, TRANSACTION_TIME);
+
+            assertThat(entry.getSequence()).isEqualTo(1L);
+            assertThat(journal.getAppendedSequence()).isEqualTo(2L);
+
+            List<JournalEntry> entries = journal.readPending(MAX_ENTRIES);
+            assertThat(entries).extracting(JournalEntry::getSequence).containsExactly(1L, 2L);
+            assertThat(entries).extracting(JournalEntry::getAmount).containsExactly(AMOUNT, -AMOUNT);
+            assertThat(entries.get(0).getAccountId()).isEqualTo(ACCOUNT_ID);
+            assertThat(entries.get(0).getTransactionTime()).isEqualTo(TRANSACTION_TIME);
+            assertThat(journal.readPending(1)).hasSize(1);
+        }
+    }
+
+    /**
+     * Tests {@link TransactionJournal#markApplied(long)}
+     */
+    @Test
+    public void testMarkApplied() throws Exception {
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            appendEntries(journal, 3);
+
+            journal.markApplied(2L);
+
+            assertThat(journal.getAppliedSequence()).isEqualTo(2L);
+            assertThat(journal.readPending(MAX_ENTRIES)).extracting(JournalEntry::getSequence).containsExactly(3L);
+            assertThat(journal.awaitApplied(Collections.singleton(ACCOUNT_ID), 0L, TimeUnit.MILLISECONDS)).isFalse();
+
+            journal.markApplied(3L);
+
+            assertThat(journal.readPending(MAX_ENTRIES)).isEmpty();
+            assertThat(journal.awaitApplied(Collections.singleton(ACCOUNT_ID), 0L, TimeUnit.MILLISECONDS)).isTrue();
+        }
+    }
+
+    /**
+     * Tests {@link TransactionJournal#awaitApplied(java.util.Collection, long, TimeUnit)}, which only waits for the
+     * entries of the given accounts and the ones before them
+     */
+    @Test
+    public void testAwaitAppliedForAccounts() throws Exception {
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            journal.append(ACCOUNT_ID, AMOUNT, TRANSACTION_TIME);
+            journal.append(OTHER_ACCOUNT_ID, AMOUNT, TRANSACTION_TIME);
+            journal.append(ACCOUNT_ID, AMOUNT, TRANSACTION_TIME);
+            journal.append(OTHER_ACCOUNT_ID, AMOUNT, TRANSACTION_TIME);
+
+            journal.markApplied(2L);
+
+            assertThat(journal.awaitApplied(Collections.singleton(ACCOUNT_ID), 0L, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(journal.awaitApplied(Collections.singleton(NEVER_POSTED_ACCOUNT_ID), 0L,
+                    TimeUnit.MILLISECONDS)).isTrue();
+
+            journal.markApplied(3L);
+
+            assertThat(journal.awaitApplied(Collections.singleton(ACCOUNT_ID), 0L, TimeUnit.MILLISECONDS)).isTrue();
+            assertThat(journal.awaitApplied(Arrays.asList(ACCOUNT_ID, OTHER_ACCOUNT_ID), 0L, TimeUnit.MILLISECONDS))
+                    .isFalse();
+        }
+    }
+
+    /**
+     * Tests {@link TransactionJournal#markApplied(long)} but for a sequence that was not appended yet
+     */
+    @Test
+    public void testMarkAppliedBeyondAppended() throws Exception {
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            appendEntries(journal, 1);
+
+            assertThatThrownBy(() -> journal.markApplied(2L)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * Tests that reopening the journal finds the entries following the applied sequence
+     */
+    @Test
+    public void testRecoverPendingEntries() throws Exception {
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            appendEntries(journal, 5);
+        }
+
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 3L)) {
+            assertThat(journal.getAppendedSequence()).isEqualTo(5L);
+            assertThat(journal.getAppliedSequence()).isEqualTo(3L);
+            assertThat(journal.readPending(MAX_ENTRIES)).extracting(JournalEntry::getSequence)
+                    .containsExactly(4L, 5L);
+
+            // The recovered entries are pending for their account as well
+            assertThat(journal.awaitApplied(Collections.singleton(ACCOUNT_ID), 0L, TimeUnit.MILLISECONDS)).isFalse();
+
+            // The sequence continues after the recovered entries
+            assertThat(journal.append(ACCOUNT_ID, AMOUNT, TRANSACTION_TIME).getSequence()).isEqualTo(6L);
+        }
+    }
+
+    /**
+     * Tests that reopening a journal whose entries are all applied starts over at the beginning of the file, while
+     * keeping the sequence
+     */
+    @Test
+    public void testRecoverFullyAppliedJournal() throws Exception {
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            appendEntries(journal, 5);
+        }
+
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 5L)) {
+            assertThat(journal.readPending(MAX_ENTRIES)).isEmpty();
+            assertThat(journal.append(ACCOUNT_ID, AMOUNT, TRANSACTION_TIME).getSequence()).isEqualTo(6L);
+        }
+
+        // The new entry overwrote the first one, so the older entries no longer belong to the chain
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 5L)) {
+            assertThat(journal.readPending(MAX_ENTRIES)).extracting(JournalEntry::getSequence).containsExactly(6L);
+        }
+    }
+
+    /**
+     * Tests that an entry torn by a crash ends the chain of entries to be replayed
+     */
+    @Test
+    public void testRecoverTornEntry() throws Exception {
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            appendEntries(journal, 3);
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(TransactionJournal.ENTRY_SIZE + 16L); // The amount of the second entry
+            file.writeLong(AMOUNT + 1L);
+        }
+
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            assertThat(journal.readPending(MAX_ENTRIES)).extracting(JournalEntry::getSequence).containsExactly(1L);
+            assertThat(journal.append(ACCOUNT_ID, AMOUNT, TRANSACTION_TIME).getSequence()).isEqualTo(2L);
+        }
+    }
+
+    /**
+     * Tests {@link TransactionJournal#append(long, long, long)} but for a full journal, which starts over at the
+     * beginning of the file once all of its entries are applied
+     */
+    @Test
+    public void testAppendToFullJournal() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            appendEntries(journal, CAPACITY);
+
+            Future<JournalEntry> blockedAppend = executor.submit(() ->
+                    journal.append(ACCOUNT_ID, AMOUNT, TRANSACTION_TIME));
+            assertThat(journal.awaitApplied(Collections.singleton(ACCOUNT_ID), 100L, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(blockedAppend.isDone()).isFalse();
+
+            journal.markApplied(CAPACITY);
+
+            assertThat(blockedAppend.get(5L, TimeUnit.SECONDS).getSequence()).isEqualTo(CAPACITY + 1L);
+            assertThat(journal.readPending(MAX_ENTRIES)).extracting(JournalEntry::getSequence)
+                    .containsExactly(CAPACITY + 1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests {@link TransactionJournal#append(long, long, long)} from concurrent threads, which must get consecutive
+     * sequences in the order of the entries in the journal
+     */
+    @Test
+    public void testConcurrentAppends() throws Exception {
+        int threads = 4;
+        int appendsPerThread = CAPACITY / threads;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    appendEntries(journal, appendsPerThread);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5L, TimeUnit.SECONDS);
+            }
+
+            assertThat(journal.readPending(MAX_ENTRIES)).extracting(JournalEntry::getSequence)
+                    .containsExactlyElementsOf(LongStream.rangeClosed(1L, CAPACITY).boxed()
+                            .collect(Collectors.toList()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests {@link TransactionJournal#TransactionJournal(Path, int, long)} but for an invalid capacity
+     */
+    @Test
+    public void testOpenWithInvalidCapacity() {
+        assertThatThrownBy(() -> new TransactionJournal(path, 0, 0L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void appendEntries(TransactionJournal journal, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            journal.append(ACCOUNT_ID, AMOUNT, TRANSACTION_TIME);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.blueharvest.bank.mapper;
+
+import io.blueharvest.bank.dto.AccountDto;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link AccountMapper}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class AccountMapperTest {
+
+    /**
+     * Tests {@link AccountMapper#toEntity(AccountDto)}
+     */
+    @Test
+    public void testToEntity() {
+        AccountDto accountDto = new AccountDto(ACCOUNT_ID, CREDIT, CUSTOMER_ID);
+        Date establishDate = new Date(0L);
+        accountDto.setEstablishDate(establishDate);
+
+        Account account = AccountMapper.toEntity(accountDto);
+
+        assertThat(account.getId()).isEqualTo(ACCOUNT_ID);
+        assertThat(account.getCredit()).isEqualTo(CREDIT);
+        assertThat(account.getEstablishDate()).isEqualTo(establishDate);
+        assertThat(account.getCustomer().getId()).isEqualTo(CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link AccountMapper#toDto(Account)}
+     */
+    @Test
+    public void testToDto() {
+        Account account = new Account(ACCOUNT_ID, CREDIT, new Customer(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE));
+
+        AccountDto accountDto = AccountMapper.toDto(account);
+
+        assertThat(accountDto.getId()).isEqualTo(ACCOUNT_ID);
+        assertThat(accountDto.getCredit()).isEqualTo(CREDIT);
+        assertThat(accountDto.getEstablishDate()).isEqualTo(account.getEstablishDate());
+        assertThat(accountDto.getCustomerId()).isEqualTo(CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link AccountMapper#toDto(Account)} but for an account without a customer
+     */
+    @Test
+    public void testToDtoWithoutCustomer() {
+        AccountDto accountDto = AccountMapper.toDto(new Account(ACCOUNT_ID, CREDIT));
+
+        assertThat(accountDto.getCustomerId()).isZero();
+    }
+}
@@ -0,0 +1,52 @@
+package io.blueharvest.bank.mapper;
+
+import io.blueharvest.bank.dto.CustomerDto;
+import io.blueharvest.bank.model.Customer;
+import org.junit.Test;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link CustomerMapper}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CustomerMapperTest {
+
+    /**
+     * Tests {@link CustomerMapper#toEntity(CustomerDto)}
+     */
+    @Test
+    public void testToEntity() {
+        Customer customer = CustomerMapper.toEntity(new CustomerDto(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE));
+
+        assertThat(customer).isEqualToComparingOnlyGivenFields(
+                new Customer(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE),
+                "id", "name", "surname", "address", "postcode");
+    }
+
+    /**
+     * Tests {@link CustomerMapper#toDto(Customer)}
+     */
+    @Test
+    public void testToDto() {
+        CustomerDto customerDto = CustomerMapper.toDto(new Customer(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE));
+
+        assertThat(customerDto).isEqualToComparingFieldByField(
+                new CustomerDto(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE));
+    }
+
+    /**
+     * Tests {@link CustomerMapper#toEntity(CustomerDto)} but for a null DTO
+     */
+    @Test(expected = NullPointerException.class)
+    public void testToEntityWithNullDto() {
+        CustomerMapper.toEntity(null);
+    }
+}
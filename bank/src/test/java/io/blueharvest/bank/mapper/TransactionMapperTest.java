@@ -0,0 +1,52 @@
+package io.blueharvest.bank.mapper;
+
+import io.blueharvest.bank.dto.TransactionDto;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Transaction;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.TRANSACTION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link TransactionMapper}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class TransactionMapperTest {
+
+    /**
+     * Tests {@link TransactionMapper#toEntity(TransactionDto)}
+     */
+    @Test
+    public void testToEntity() {
+        Date transactionTime = new Date(0L);
+
+        Transaction transaction = TransactionMapper.toEntity(
+                new TransactionDto(TRANSACTION_ID, AMOUNT, ACCOUNT_ID, transactionTime));
+
+        assertThat(transaction.getId()).isEqualTo(TRANSACTION_ID);
+        assertThat(transaction.getAmount()).isEqualTo(AMOUNT);
+        assertThat(transaction.getTransactionTime()).isEqualTo(transactionTime);
+        assertThat(transaction.getAccount().getId()).isEqualTo(ACCOUNT_ID);
+    }
+
+    /**
+     * Tests {@link TransactionMapper#toDto(Transaction)}
+     */
+    @Test
+    public void testToDto() {
+        Transaction transaction = new Transaction(TRANSACTION_ID, AMOUNT, new Account(ACCOUNT_ID, CREDIT));
+
+        TransactionDto transactionDto = TransactionMapper.toDto(transaction);
+
+        assertThat(transactionDto).isEqualToComparingFieldByField(
+                new TransactionDto(TRANSACTION_ID, AMOUNT, ACCOUNT_ID, transaction.getTransactionTime()));
+    }
+}
@@ -0,0 +1,92 @@
+package io.blueharvest.bank.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Snapshot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Test class for {@link HdrHistogramReservoir}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class HdrHistogramReservoirTest {
+    private static final long WINDOW_SECONDS = 60L;
+    private static final double PRECISION = 0.001D; // HdrHistogram keeps three significant digits
+
+    private ManualClock clock;
+    private HdrHistogramReservoir reservoir;
+
+    @Before
+    public void setUp() throws Exception {
+        clock = new ManualClock();
+        reservoir = new HdrHistogramReservoir(WINDOW_SECONDS, TimeUnit.SECONDS, clock);
+    }
+
+    /**
+     * Tests {@link HdrHistogramReservoir#getSnapshot()}
+     */
+    @Test
+    public void testGetSnapshot() {
+        for (long value = 1; value <= 10000; value++) {
+            reservoir.update(value);
+        }
+
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        assertThat(snapshot.size()).isEqualTo(10000);
+        assertThat(snapshot.getMin()).isEqualTo(1L);
+        assertThat((double) snapshot.getMax()).isCloseTo(10000.0D, within(10000.0D * PRECISION));
+        assertThat(snapshot.getMedian()).isCloseTo(5000.0D, within(5000.0D * PRECISION));
+        assertThat(snapshot.get99thPercentile()).isCloseTo(9900.0D, within(9900.0D * PRECISION));
+        assertThat(snapshot.get999thPercentile()).isCloseTo(9990.0D, within(9990.0D * PRECISION));
+    }
+
+    /**
+     * Tests {@link HdrHistogramReservoir#getSnapshot()} but for repeated reads, which should not reset the values
+     */
+    @Test
+    public void testGetSnapshotRepeatedly() {
+        reservoir.update(1000L);
+
+        assertThat(reservoir.getSnapshot().size()).isEqualTo(1);
+        assertThat(reservoir.getSnapshot().size()).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link HdrHistogramReservoir#getSnapshot()} but after the windows have been rotated, which should drop the
+     * values older than the previous window
+     */
+    @Test
+    public void testGetSnapshotAfterWindowsRotate() {
+        reservoir.update(1000L);
+        clock.advance(WINDOW_SECONDS);
+        assertThat(reservoir.getSnapshot().getMax()).isEqualTo(1000L); // Now in the previous window
+
+        reservoir.update(10L);
+        clock.advance(WINDOW_SECONDS);
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.getMax()).isEqualTo(10L);
+    }
+
+    private static class ManualClock extends Clock {
+        private long tick;
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+
+        void advance(long seconds) {
+            tick += TimeUnit.SECONDS.toNanos(seconds);
+        }
+    }
+}
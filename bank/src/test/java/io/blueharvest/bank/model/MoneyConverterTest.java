@@ -0,0 +1,48 @@
+package io.blueharvest.bank.model;
+
+import org.junit.Test;
+
+import java.util.Currency;
+
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link MoneyConverter}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoneyConverterTest {
+    private final MoneyConverter moneyConverter = new MoneyConverter();
+
+    /**
+     * Tests {@link MoneyConverter#convertToDatabaseColumn(Money)} and
+     * {@link MoneyConverter#convertToEntityAttribute(Long)}
+     */
+    @Test
+    public void testConvert() {
+        Long minorUnits = moneyConverter.convertToDatabaseColumn(AMOUNT);
+
+        assertThat(minorUnits).isEqualTo(100050L);
+        assertThat(moneyConverter.convertToEntityAttribute(minorUnits)).isEqualTo(AMOUNT);
+    }
+
+    /**
+     * Tests {@link MoneyConverter#convertToDatabaseColumn(Money)} and
+     * {@link MoneyConverter#convertToEntityAttribute(Long)} but for null
+     */
+    @Test
+    public void testConvertForNull() {
+        assertThat(moneyConverter.convertToDatabaseColumn(null)).isNull();
+        assertThat(moneyConverter.convertToEntityAttribute(null)).isNull();
+    }
+
+    /**
+     * Tests {@link MoneyConverter#convertToDatabaseColumn(Money)} but for a currency other than the default one
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertForOtherCurrency() {
+        moneyConverter.convertToDatabaseColumn(Money.ofMinorUnits(1L, Currency.getInstance("USD")));
+    }
+}
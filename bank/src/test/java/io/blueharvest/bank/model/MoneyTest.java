@@ -0,0 +1,113 @@
+package io.blueharvest.bank.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link Money}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoneyTest {
+    private static final Currency OTHER_CURRENCY = Currency.getInstance("USD");
+
+    /**
+     * Tests {@link Money#valueOf(String)}
+     */
+    @Test
+    public void testValueOf() {
+        Money money = Money.valueOf("1000.5");
+
+        assertThat(money.getMinorUnits()).isEqualTo(100050L);
+        assertThat(money.getCurrency()).isEqualTo(Money.DEFAULT_CURRENCY);
+        assertThat(money).isEqualTo(AMOUNT);
+        assertThat(money.toString()).isEqualTo("1000.50");
+        assertThat(Money.valueOf("0.00")).isSameAs(Money.ZERO);
+    }
+
+    /**
+     * Tests {@link Money#valueOf(String)} but for a fraction of a minor unit
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOfForFractionOfMinorUnit() {
+        Money.valueOf("1000.505");
+    }
+
+    /**
+     * Tests {@link Money#valueOf(String)} but for a text that is not a number
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOfForInvalidNumber() {
+        Money.valueOf("ten");
+    }
+
+    /**
+     * Tests {@link Money#of(BigDecimal)} but for an amount beyond the range of the minor units
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfForAmountOutOfRange() {
+        Money.of(BigDecimal.valueOf(Long.MAX_VALUE));
+    }
+
+    /**
+     * Tests {@link Money#plus(Money)}, {@link Money#minus(Money)} and {@link Money#negate()}
+     */
+    @Test
+    public void testArithmetic() {
+        assertThat(CREDIT.plus(AMOUNT)).isEqualTo(Money.valueOf("2001.00"));
+        assertThat(CREDIT.minus(AMOUNT)).isEqualTo(Money.ZERO);
+        assertThat(AMOUNT.negate().getMinorUnits()).isEqualTo(-100050L);
+        assertThat(AMOUNT.negate().isNegative()).isTrue();
+        assertThat(AMOUNT.isPositive()).isTrue();
+        assertThat(Money.ZERO.isPositive()).isFalse();
+        assertThat(Money.valueOf("0.10").plus(Money.valueOf("0.20"))).isEqualTo(Money.valueOf("0.30"));
+    }
+
+    /**
+     * Tests {@link Money#plus(Money)} but for an overflowing sum
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testPlusForOverflow() {
+        Money.ofMinorUnits(Long.MAX_VALUE).plus(Money.ofMinorUnits(1L));
+    }
+
+    /**
+     * Tests {@link Money#plus(Money)} but for amounts in different currencies
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPlusForDifferentCurrencies() {
+        AMOUNT.plus(Money.ofMinorUnits(1L, OTHER_CURRENCY));
+    }
+
+    /**
+     * Tests {@link Money#compareTo(Money)}
+     */
+    @Test
+    public void testCompareTo() {
+        assertThat(AMOUNT.negate()).isLessThan(Money.ZERO);
+        assertThat(CREDIT).isEqualByComparingTo(AMOUNT);
+        assertThat(Money.ofMinorUnits(Long.MAX_VALUE)).isGreaterThan(AMOUNT);
+    }
+
+    /**
+     * Tests the JSON representation of a {@link Money}, which is a plain decimal number
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testJson() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(objectMapper.writeValueAsString(AMOUNT)).isEqualTo("1000.50");
+        assertThat(objectMapper.readValue("1000.5", Money.class)).isEqualTo(AMOUNT);
+        assertThat(objectMapper.readValue("-0.01", Money.class)).isEqualTo(Money.ofMinorUnits(-1L));
+    }
+}
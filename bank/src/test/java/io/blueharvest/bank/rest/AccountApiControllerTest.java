@@ -0,0 +1,216 @@
+package io.blueharvest.bank.rest;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.blueharvest.bank.error.BankExceptionHandler;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.CustomerService;
+import io.blueharvest.bank.service.IdempotencyService;
+import io.blueharvest.bank.validation.AccountValidator;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ObjectNotFoundException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.Errors;
+
+import java.util.Optional;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static io.blueharvest.bank.constant.Fields.CUSTOMER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.IDEMPOTENCY_KEY_HEADER;
+import static io.blueharvest.bank.constant.Messages.CUSTOMER_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Paths.ACCOUNTS_CONTEXT_PTAH;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for {@link AccountApiController}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class AccountApiControllerTest {
+    private static final String ACCOUNTS_API_PATH = "/" + API_CONTEXT_PATH + "/" + ACCOUNTS_CONTEXT_PTAH;
+    private static final String IDEMPOTENCY_KEY = "7c1d5e2a-idempotency-key";
+    private static final long MAX_IDEMPOTENCY_KEYS = 100L;
+    private static final long IDEMPOTENCY_EXPIRY_MINUTES = 10L;
+
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private CustomerService customerService;
+    @Mock
+    private Logger logger;
+
+    private MockMvc mockMvc;
+    private Customer testCustomer;
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        testCustomer = new Customer(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE);
+        testAccount = new Account(ACCOUNT_ID, CREDIT, testCustomer);
+
+        AccountApiController accountApiController = new AccountApiController(accountService, new AccountValidator(),
+                customerService, new IdempotencyService(MAX_IDEMPOTENCY_KEYS, IDEMPOTENCY_EXPIRY_MINUTES, logger),
+                MoreExecutors.directExecutor(), logger);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(accountApiController)
+                .setControllerAdvice(new BankExceptionHandler()).build();
+    }
+
+    /**
+     * Tests {@link AccountApiController#getAccountsForCustomer(long)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetAccountsForCustomer() throws Exception {
+        when(customerService.exists(CUSTOMER_ID)).thenReturn(true);
+        when(accountService.getAccountsForCustomer(CUSTOMER_ID)).thenReturn(ImmutableList.of(testAccount));
+
+        MvcResult result = this.mockMvc.perform(get(ACCOUNTS_API_PATH)
+                .param(CUSTOMER_ID_PARAMETER, String.valueOf(CUSTOMER_ID)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].customerId", is((int) CUSTOMER_ID)));
+    }
+
+    /**
+     * Tests {@link AccountApiController#getAccountsForCustomer(long)} but for a customer that does not exist
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetAccountsForNonExistingCustomer() throws Exception {
+        when(customerService.exists(CUSTOMER_ID)).thenReturn(false);
+
+        MvcResult result = this.mockMvc.perform(get(ACCOUNTS_API_PATH)
+                .param(CUSTOMER_ID_PARAMETER, String.valueOf(CUSTOMER_ID)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests {@link AccountApiController#getAccount(long)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetAccount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+
+        MvcResult result = this.mockMvc.perform(get(ACCOUNTS_API_PATH + "/" + ACCOUNT_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.credit", is(CREDIT.getAmount().doubleValue())));
+    }
+
+    /**
+     * Tests {@link AccountApiController#createAccount(String, io.blueharvest.bank.dto.AccountDto, Errors)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCreateAccount() throws Exception {
+        when(accountService.create(any(Account.class))).thenReturn(testAccount);
+
+        MvcResult result = this.mockMvc.perform(post(ACCOUNTS_API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"credit\":" + CREDIT + ",\"customerId\":" + CUSTOMER_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is((int) ACCOUNT_ID)));
+    }
+
+    /**
+     * Tests {@link AccountApiController#createAccount(String, io.blueharvest.bank.dto.AccountDto, Errors)} but for a
+     * retried request, which should return the original account without creating it again
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCreateAccountWithIdempotencyKey() throws Exception {
+        when(accountService.create(any(Account.class))).thenReturn(testAccount);
+
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = this.mockMvc.perform(post(ACCOUNTS_API_PATH)
+                    .header(IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"credit\":" + CREDIT + ",\"customerId\":" + CUSTOMER_ID + "}"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            this.mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id", is((int) ACCOUNT_ID)));
+        }
+
+        verify(accountService, times(1)).create(any(Account.class));
+    }
+
+    /**
+     * Tests {@link AccountApiController#createAccount(String, io.blueharvest.bank.dto.AccountDto, Errors)} but for a
+     * customer that does not exist
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCreateAccountForNonExistingCustomer() throws Exception {
+        when(accountService.create(any(Account.class)))
+                .thenThrow(new ObjectNotFoundException(CUSTOMER_NOT_FOUND_ERROR, StringUtils.EMPTY));
+
+        MvcResult result = this.mockMvc.perform(post(ACCOUNTS_API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"credit\":" + CREDIT + ",\"customerId\":" + CUSTOMER_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+
+        verify(customerService, never()).get(anyLong());
+    }
+}
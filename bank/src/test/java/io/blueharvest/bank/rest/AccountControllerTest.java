@@ -4,21 +4,25 @@ import com.google.common.collect.ImmutableList;
 import io.blueharvest.bank.dto.AccountDto;
 import io.blueharvest.bank.error.BankExceptionHandler;
 import io.blueharvest.bank.error.TransactionalOperationException;
+import io.blueharvest.bank.mapper.AccountMapper;
 import io.blueharvest.bank.model.Account;
 import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Money;
 import io.blueharvest.bank.service.AccountService;
 import io.blueharvest.bank.service.CustomerService;
+import io.blueharvest.bank.service.IdempotencyService;
 import io.blueharvest.bank.utils.StandaloneMvcTestViewResolver;
 import io.blueharvest.bank.validation.AccountValidator;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.log4j.Logger;
+import org.hibernate.ObjectNotFoundException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.ui.Model;
@@ -36,12 +40,19 @@ import static io.blueharvest.bank.constant.FieldValues.NAME;
 import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
 import static io.blueharvest.bank.constant.FieldValues.SURNAME;
 import static io.blueharvest.bank.constant.Fields.CUSTOMER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.IDEMPOTENCY_KEY_HEADER;
 import static io.blueharvest.bank.constant.Messages.ACCOUNT_CREATION_FAILED_ERROR;
+import static io.blueharvest.bank.constant.Messages.CUSTOMER_NOT_FOUND_ERROR;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
 import static io.blueharvest.bank.constant.Paths.ACCOUNTS_CONTEXT_PTAH;
 import static io.blueharvest.bank.constant.Paths.LIST_CONTEXT_PATH;
 import static io.blueharvest.bank.rest.AccountController.ACCOUNTS_ATTRIBUTE_NAME;
 import static io.blueharvest.bank.rest.AccountController.ACCOUNT_DTO_ATTRIBUTE_NAME;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -60,6 +71,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class AccountControllerTest {
 
     private static final String INVALID_CUSTOMER_ID = "NonNumeric";
+    private static final String IDEMPOTENCY_KEY = "7c1d5e2a-idempotency-key";
+    private static final long MAX_IDEMPOTENCY_KEYS = 100L;
+    private static final long IDEMPOTENCY_EXPIRY_MINUTES = 10L;
 
     @Mock
     private AccountService accountService;
@@ -67,12 +81,14 @@ public class AccountControllerTest {
     private CustomerService customerService;
     @Mock
     private Logger logger;
+    @Spy
+    private IdempotencyService idempotencyService = new IdempotencyService(MAX_IDEMPOTENCY_KEYS,
+            IDEMPOTENCY_EXPIRY_MINUTES, mock(Logger.class));
 
     @InjectMocks
     private AccountController accountController;
 
     private MockMvc mockMvc;
-    private ModelMapper mapper = new ModelMapper(); // Mapper for converting between entities and DTOs
     private Customer testCustomer;
     private Account testAccount;
     private AccountDto testAccountDto;
@@ -81,8 +97,7 @@ public class AccountControllerTest {
     public void setUp() throws Exception {
         testCustomer = new Customer(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE);
         testAccount = new Account(ACCOUNT_ID, CREDIT, testCustomer);
-        testAccountDto = new AccountDto();
-        mapper.map(testAccount, testAccountDto);
+        testAccountDto = AccountMapper.toDto(testAccount);
 
         this.mockMvc = MockMvcBuilders.standaloneSetup(accountController)
                 .setViewResolvers(new StandaloneMvcTestViewResolver()).setValidator(new AccountValidator())
@@ -90,12 +105,12 @@ public class AccountControllerTest {
     }
 
     /**
-     * Tests {@link AccountController#listAccounts(Model)}
+     * Tests {@link AccountController#listAccounts(long, int, Model)}
      */
     @Test
     public void testListAccounts() throws Exception {
         List<Account> accounts = ImmutableList.of(testAccount);
-        when(accountService.getAll()).thenReturn(accounts);
+        when(accountService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE)).thenReturn(accounts);
 
         this.mockMvc.perform(get("/" + ACCOUNTS_CONTEXT_PTAH + "/" + LIST_CONTEXT_PATH))
                 .andExpect(status().isOk())
@@ -153,11 +168,10 @@ public class AccountControllerTest {
     }
 
     /**
-     * Tests {@link AccountController#createAccount(String, AccountDto, Errors)}
+     * Tests {@link AccountController#createAccount(String, String, AccountDto, Errors)}
      */
     @Test
     public void testCreateAccount() throws Exception {
-        when(customerService.get(CUSTOMER_ID)).thenReturn(Optional.of(testCustomer));
         when(accountService.create(testAccount)).thenReturn(testAccount);
 
         UriComponentsBuilder targetUrl = UriComponentsBuilder.fromPath("/" + ACCOUNTS_CONTEXT_PTAH);
@@ -171,7 +185,30 @@ public class AccountControllerTest {
     }
 
     /**
-     * Tests {@link AccountController#createAccount(String, AccountDto, Errors)} but with an invalid customer ID
+     * Tests {@link AccountController#createAccount(String, String, AccountDto, Errors)} but for a retried request,
+     * which should not create the account again
+     */
+    @Test
+    public void testCreateAccountWithIdempotencyKey() throws Exception {
+        when(accountService.create(testAccount)).thenReturn(testAccount);
+
+        UriComponentsBuilder targetUrl = UriComponentsBuilder.fromPath("/" + ACCOUNTS_CONTEXT_PTAH);
+        targetUrl.queryParam(CUSTOMER_ID_PARAMETER, CUSTOMER_ID);
+
+        for (int i = 0; i < 2; i++) {
+            this.mockMvc.perform(post("/" + ACCOUNTS_CONTEXT_PTAH)
+                    .header(IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
+                    .param(CUSTOMER_ID_PARAMETER, String.valueOf(CUSTOMER_ID))
+                    .flashAttr(ACCOUNT_DTO_ATTRIBUTE_NAME, testAccountDto))
+                    .andExpect(status().is3xxRedirection())
+                    .andExpect(redirectedUrl(targetUrl.toUriString()));
+        }
+
+        verify(accountService, times(1)).create(testAccount);
+    }
+
+    /**
+     * Tests {@link AccountController#createAccount(String, String, AccountDto, Errors)} but with an invalid customer ID
      */
     @Test
     public void testCreateAccountWithInvalidCustomerId() throws Exception {
@@ -182,7 +219,7 @@ public class AccountControllerTest {
     }
 
     /**
-     * Tests {@link AccountController#createAccount(String, AccountDto, Errors)} but with a blank customer ID
+     * Tests {@link AccountController#createAccount(String, String, AccountDto, Errors)} but with a blank customer ID
      */
     @Test
     public void testCreateAccountWithBlankCustomerId() throws Exception {
@@ -193,11 +230,11 @@ public class AccountControllerTest {
     }
 
     /**
-     * Tests {@link AccountController#createAccount(String, AccountDto, Errors)} but with an invalid credit value
+     * Tests {@link AccountController#createAccount(String, String, AccountDto, Errors)} but with an invalid credit value
      */
     @Test
     public void testCreateAccountWithInvalidCredit() throws Exception {
-        testAccountDto.setCredit(-10.00D);// Set the credit to an invalid value
+        testAccountDto.setCredit(Money.valueOf("-10.00"));// Set the credit to an invalid value
 
         this.mockMvc.perform(post("/" + ACCOUNTS_CONTEXT_PTAH)
                 .param(CUSTOMER_ID_PARAMETER, String.valueOf(CUSTOMER_ID))
@@ -206,11 +243,12 @@ public class AccountControllerTest {
     }
 
     /**
-     * Tests {@link AccountController#createAccount(String, AccountDto, Errors)} but for a nonexistent customer
+     * Tests {@link AccountController#createAccount(String, String, AccountDto, Errors)} but for a nonexistent customer
      */
     @Test
     public void testCreateAccountForNonexistentCustomer() throws Exception {
-        when(customerService.get(CUSTOMER_ID)).thenReturn(Optional.empty());
+        when(accountService.create(testAccount))
+                .thenThrow(new ObjectNotFoundException(CUSTOMER_NOT_FOUND_ERROR, StringUtils.EMPTY));
 
         this.mockMvc.perform(post("/" + ACCOUNTS_CONTEXT_PTAH)
                 .param(CUSTOMER_ID_PARAMETER, String.valueOf(CUSTOMER_ID))
@@ -219,11 +257,10 @@ public class AccountControllerTest {
     }
 
     /**
-     * Tests {@link AccountController#createAccount(String, AccountDto, Errors)} but with transaction failure
+     * Tests {@link AccountController#createAccount(String, String, AccountDto, Errors)} but with transaction failure
      */
     @Test
     public void testCreateAccountWithTransactionFailure() throws Exception {
-        when(customerService.get(CUSTOMER_ID)).thenReturn(Optional.of(testCustomer));
         when(accountService.create(testAccount)).thenThrow(new TransactionalOperationException(ACCOUNT_CREATION_FAILED_ERROR));
 
         UriComponentsBuilder targetUrl = UriComponentsBuilder.fromPath("/" + ACCOUNTS_CONTEXT_PTAH);
@@ -0,0 +1,229 @@
+package io.blueharvest.bank.rest;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.blueharvest.bank.dto.CustomerImportError;
+import io.blueharvest.bank.dto.CustomerImportReport;
+import io.blueharvest.bank.error.BankExceptionHandler;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.service.CustomerImportService;
+import io.blueharvest.bank.service.CustomerService;
+import io.blueharvest.bank.validation.CustomerValidator;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.Errors;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static io.blueharvest.bank.constant.Fields.FILE_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.FUZZY_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.NAME_FIELD;
+import static io.blueharvest.bank.constant.Fields.SURNAME_FIELD;
+import static io.blueharvest.bank.constant.Messages.BLANK_INVALID_NAME_ERROR;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.CUSTOMERS_CONTEXT_PTAH;
+import static io.blueharvest.bank.constant.Paths.IMPORT_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.SEARCH_CONTEXT_PATH;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.fileUpload;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for {@link CustomerApiController}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class CustomerApiControllerTest {
+    private static final String CUSTOMERS_API_PATH = "/" + API_CONTEXT_PATH + "/" + CUSTOMERS_CONTEXT_PTAH;
+
+    @Mock
+    private CustomerService customerService;
+    @Mock
+    private CustomerImportService customerImportService;
+    @Mock
+    private Logger logger;
+
+    private MockMvc mockMvc;
+    private Customer testCustomer;
+
+    @Before
+    public void setUp() throws Exception {
+        testCustomer = new Customer(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE);
+
+        CustomerApiController customerApiController = new CustomerApiController(customerService,
+                customerImportService, new CustomerValidator(), MoreExecutors.directExecutor(), logger);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(customerApiController)
+                .setControllerAdvice(new BankExceptionHandler()).build();
+    }
+
+    /**
+     * Tests {@link CustomerApiController#listCustomers(long, int)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testListCustomers() throws Exception {
+        when(customerService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE)).thenReturn(ImmutableList.of(testCustomer));
+
+        MvcResult result = this.mockMvc.perform(get(CUSTOMERS_API_PATH))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is(NAME)));
+    }
+
+    /**
+     * Tests {@link CustomerApiController#searchCustomers(String, String, String, boolean, int)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSearchCustomers() throws Exception {
+        when(customerService.search(NAME, SURNAME, null, true, DEFAULT_PAGE_SIZE))
+                .thenReturn(ImmutableList.of(testCustomer));
+
+        MvcResult result = this.mockMvc.perform(get(CUSTOMERS_API_PATH + "/" + SEARCH_CONTEXT_PATH)
+                .param(NAME_FIELD, NAME)
+                .param(SURNAME_FIELD, SURNAME)
+                .param(FUZZY_PARAMETER, Boolean.TRUE.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].surname", is(SURNAME)));
+    }
+
+    /**
+     * Tests {@link CustomerApiController#getCustomer(long)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetCustomer() throws Exception {
+        when(customerService.get(CUSTOMER_ID)).thenReturn(Optional.of(testCustomer));
+
+        MvcResult result = this.mockMvc.perform(get(CUSTOMERS_API_PATH + "/" + CUSTOMER_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is((int) CUSTOMER_ID)))
+                .andExpect(jsonPath("$.postcode", is(POSTCODE)));
+    }
+
+    /**
+     * Tests {@link CustomerApiController#getCustomer(long)} but for a customer that does not exist
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetNonExistingCustomer() throws Exception {
+        when(customerService.get(CUSTOMER_ID)).thenReturn(Optional.empty());
+
+        MvcResult result = this.mockMvc.perform(get(CUSTOMERS_API_PATH + "/" + CUSTOMER_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests {@link CustomerApiController#createCustomer(io.blueharvest.bank.dto.CustomerDto, Errors)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCreateCustomer() throws Exception {
+        when(customerService.create(any(Customer.class))).thenReturn(testCustomer);
+
+        MvcResult result = this.mockMvc.perform(post(CUSTOMERS_API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"" + NAME + "\",\"surname\":\"" + SURNAME + "\",\"address\":\"" + ADDRESS +
+                        "\",\"postcode\":\"" + POSTCODE + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is((int) CUSTOMER_ID)));
+    }
+
+    /**
+     * Tests {@link CustomerApiController#createCustomer(io.blueharvest.bank.dto.CustomerDto, Errors)} but with
+     * invalid personal details
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCreateCustomerWithInvalidPersonalDetails() throws Exception {
+        this.mockMvc.perform(post(CUSTOMERS_API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"\",\"surname\":\"\",\"address\":\"" + ADDRESS + "\",\"postcode\":\"" + POSTCODE +
+                        "\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(customerService, never()).create(any(Customer.class));
+    }
+
+    /**
+     * Tests {@link CustomerApiController#importCustomers(org.springframework.web.multipart.MultipartFile)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testImportCustomers() throws Exception {
+        when(customerImportService.importCustomers(any(Reader.class))).thenReturn(new CustomerImportReport(2L, 1L, 1L,
+                ImmutableList.of(new CustomerImportError(3L, NAME_FIELD, BLANK_INVALID_NAME_ERROR))));
+        MockMultipartFile file = new MockMultipartFile(FILE_PARAMETER, "customers.csv", "text/csv",
+                ("name,surname,address,postcode\n" + NAME + "," + SURNAME + "," + ADDRESS + "," + POSTCODE +
+                        "\n," + SURNAME + "," + ADDRESS + "," + POSTCODE + "\n").getBytes(StandardCharsets.UTF_8));
+
+        MvcResult result = this.mockMvc.perform(fileUpload(CUSTOMERS_API_PATH + "/" + IMPORT_CONTEXT_PATH).file(file))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount", is(1)))
+                .andExpect(jsonPath("$.rejectedCount", is(1)))
+                .andExpect(jsonPath("$.errors[0].row", is(3)))
+                .andExpect(jsonPath("$.errors[0].field", is(NAME_FIELD)));
+    }
+}
@@ -3,6 +3,7 @@ package io.blueharvest.bank.rest;
 import com.google.common.collect.ImmutableList;
 import io.blueharvest.bank.dto.CustomerDto;
 import io.blueharvest.bank.error.BankExceptionHandler;
+import io.blueharvest.bank.mapper.CustomerMapper;
 import io.blueharvest.bank.model.Customer;
 import io.blueharvest.bank.service.CustomerService;
 import io.blueharvest.bank.utils.StandaloneMvcTestViewResolver;
@@ -14,7 +15,6 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.modelmapper.ModelMapper;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.ui.Model;
@@ -27,10 +27,15 @@ import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
 import static io.blueharvest.bank.constant.FieldValues.NAME;
 import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
 import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static io.blueharvest.bank.constant.Fields.AFTER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.LIMIT_PARAMETER;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
 import static io.blueharvest.bank.constant.Paths.CUSTOMERS_CONTEXT_PTAH;
 import static io.blueharvest.bank.constant.Paths.LIST_CONTEXT_PATH;
 import static io.blueharvest.bank.rest.CustomerController.CUSTOMERS_ATTRIBUTE_NAME;
 import static io.blueharvest.bank.rest.CustomerController.CUSTOMER_DTO_ATTRIBUTE_NAME;
+import static io.blueharvest.bank.rest.PageAttributes.NEXT_AFTER_ID_ATTRIBUTE_NAME;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -56,7 +61,6 @@ public class CustomerControllerTest {
     private CustomerController customerController;
 
     private MockMvc mockMvc;
-    private ModelMapper mapper = new ModelMapper(); // Mapper for converting between entities and DTOs
     private Customer testCustomer;
     private CustomerDto testCustomerDto;
 
@@ -78,7 +82,7 @@ public class CustomerControllerTest {
     @Test
     public void testInit() throws Exception {
         List<Customer> customers = ImmutableList.of(testCustomer);
-        when(customerService.getAll()).thenReturn(customers);
+        when(customerService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE)).thenReturn(customers);
 
         this.mockMvc.perform(get("/" + CUSTOMERS_CONTEXT_PTAH))
                 .andExpect(status().isOk())
@@ -89,19 +93,39 @@ public class CustomerControllerTest {
 
 
     /**
-     * Tests {@link CustomerController#listCustomers(Model)}
+     * Tests {@link CustomerController#listCustomers(long, int, Model)}
      *
      * @throws Exception
      */
     @Test
     public void testListCustomers() throws Exception {
         List<Customer> customers = ImmutableList.of(testCustomer);
-        when(customerService.getAll()).thenReturn(customers);
+        when(customerService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE)).thenReturn(customers);
 
         this.mockMvc.perform(get("/" + CUSTOMERS_CONTEXT_PTAH + "/" + LIST_CONTEXT_PATH))
                 .andExpect(status().isOk())
                 .andExpect(view().name("/" + CUSTOMERS_CONTEXT_PTAH))
-                .andExpect(model().attribute(CUSTOMERS_ATTRIBUTE_NAME, equalTo(ImmutableList.of(testCustomer))));
+                .andExpect(model().attribute(CUSTOMERS_ATTRIBUTE_NAME, equalTo(ImmutableList.of(testCustomer))))
+                .andExpect(model().attributeDoesNotExist(NEXT_AFTER_ID_ATTRIBUTE_NAME));
+    }
+
+    /**
+     * Tests {@link CustomerController#listCustomers(long, int, Model)} with a full page, so the ID after which the
+     * next page starts should be returned
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testListCustomersWithFullPage() throws Exception {
+        List<Customer> customers = ImmutableList.of(testCustomer);
+        when(customerService.page(FIRST_PAGE_AFTER_ID, 1)).thenReturn(customers);
+
+        this.mockMvc.perform(get("/" + CUSTOMERS_CONTEXT_PTAH + "/" + LIST_CONTEXT_PATH)
+                .param(AFTER_ID_PARAMETER, String.valueOf(FIRST_PAGE_AFTER_ID))
+                .param(LIMIT_PARAMETER, "1"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute(CUSTOMERS_ATTRIBUTE_NAME, equalTo(ImmutableList.of(testCustomer))))
+                .andExpect(model().attribute(NEXT_AFTER_ID_ATTRIBUTE_NAME, equalTo(CUSTOMER_ID)));
     }
 
     /**
@@ -111,7 +135,7 @@ public class CustomerControllerTest {
      */
     @Test
     public void testCreateCustomer() throws Exception {
-        mapper.map(testCustomer, testCustomerDto);
+        testCustomerDto = CustomerMapper.toDto(testCustomer);
         when(customerService.create(testCustomer)).thenReturn(testCustomer);
 
         this.mockMvc.perform(post("/" + CUSTOMERS_CONTEXT_PTAH)
@@ -131,7 +155,7 @@ public class CustomerControllerTest {
         testCustomer.setName(StringUtils.EMPTY);
         testCustomer.setSurname(StringUtils.EMPTY);
 
-        mapper.map(testCustomer, testCustomerDto);
+        testCustomerDto = CustomerMapper.toDto(testCustomer);
         when(customerService.create(testCustomer)).thenReturn(testCustomer);
 
         this.mockMvc.perform(post("/" + CUSTOMERS_CONTEXT_PTAH)
@@ -150,7 +174,7 @@ public class CustomerControllerTest {
         testCustomer.setAddress(StringUtils.EMPTY);
         testCustomer.setPostcode(StringUtils.EMPTY);
 
-        mapper.map(testCustomer, testCustomerDto);
+        testCustomerDto = CustomerMapper.toDto(testCustomer);
         when(customerService.create(testCustomer)).thenReturn(testCustomer);
 
         this.mockMvc.perform(post("/" + CUSTOMERS_CONTEXT_PTAH)
@@ -0,0 +1,167 @@
+package io.blueharvest.bank.rest;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.blueharvest.bank.dto.AccountStatement;
+import io.blueharvest.bank.dto.TransactionSummary;
+import io.blueharvest.bank.error.BankExceptionHandler;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.StatementService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.Fields.ACCOUNT_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.MONTH_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.YEAR_PARAMETER;
+import static io.blueharvest.bank.constant.Messages.INVALID_STATEMENT_PERIOD_ERROR;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.STATEMENTS_CONTEXT_PATH;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for {@link StatementApiController}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class StatementApiControllerTest {
+    private static final String STATEMENTS_API_PATH = "/" + API_CONTEXT_PATH + "/" + STATEMENTS_CONTEXT_PATH;
+    private static final int YEAR = 2026;
+    private static final int MONTH = 10;
+    private static final Date FIRST_DAY = java.sql.Date.valueOf("2026-10-01");
+    private static final Date LAST_DAY = java.sql.Date.valueOf("2026-10-31");
+
+    @Mock
+    private StatementService statementService;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private Logger logger;
+
+    /**
+     * Tests {@link StatementApiController#getStatement(long, int, Integer)} for a month
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetMonthlyStatement() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(new Account(ACCOUNT_ID, CREDIT)));
+        when(statementService.getMonthlyStatement(ACCOUNT_ID, YEAR, MONTH)).thenReturn(new AccountStatement(ACCOUNT_ID,
+                FIRST_DAY, LAST_DAY, CREDIT.getMinorUnits(),
+                new TransactionSummary(1L, AMOUNT.getMinorUnits(), AMOUNT.getMinorUnits(), 0L)));
+        MockMvc mockMvc = buildMockMvc();
+
+        MvcResult result = mockMvc.perform(get(STATEMENTS_API_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID))
+                .param(YEAR_PARAMETER, String.valueOf(YEAR))
+                .param(MONTH_PARAMETER, String.valueOf(MONTH)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountId", is((int) ACCOUNT_ID)))
+                .andExpect(jsonPath("$.openingBalance", is(CREDIT.getAmount().doubleValue())))
+                .andExpect(jsonPath("$.closingBalance", is(CREDIT.plus(AMOUNT).getAmount().doubleValue())))
+                .andExpect(jsonPath("$.transactionCount", is(1)));
+    }
+
+    /**
+     * Tests {@link StatementApiController#getStatement(long, int, Integer)} for a year
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetYearlyStatement() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(new Account(ACCOUNT_ID, CREDIT)));
+        when(statementService.getYearlyStatement(ACCOUNT_ID, YEAR)).thenReturn(new AccountStatement(ACCOUNT_ID,
+                FIRST_DAY, LAST_DAY, CREDIT.getMinorUnits(), new TransactionSummary(0L, 0L, 0L, 0L)));
+        MockMvc mockMvc = buildMockMvc();
+
+        MvcResult result = mockMvc.perform(get(STATEMENTS_API_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID))
+                .param(YEAR_PARAMETER, String.valueOf(YEAR)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.closingBalance", is(CREDIT.getAmount().doubleValue())));
+        verify(statementService, never()).getMonthlyStatement(anyLong(), anyInt(), anyInt());
+    }
+
+    /**
+     * Tests {@link StatementApiController#getStatement(long, int, Integer)} but for invalid month
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetStatementForInvalidMonth() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(new Account(ACCOUNT_ID, CREDIT)));
+        when(statementService.getMonthlyStatement(ACCOUNT_ID, YEAR, 13))
+                .thenThrow(new IllegalArgumentException(INVALID_STATEMENT_PERIOD_ERROR));
+        MockMvc mockMvc = buildMockMvc();
+
+        MvcResult result = mockMvc.perform(get(STATEMENTS_API_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID))
+                .param(YEAR_PARAMETER, String.valueOf(YEAR))
+                .param(MONTH_PARAMETER, "13"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests {@link StatementApiController#getStatement(long, int, Integer)} but for an account that does not exist
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetStatementForNonExistingAccount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.empty());
+        MockMvc mockMvc = buildMockMvc();
+
+        MvcResult result = mockMvc.perform(get(STATEMENTS_API_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID))
+                .param(YEAR_PARAMETER, String.valueOf(YEAR)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+        verify(statementService, never()).getYearlyStatement(anyLong(), anyInt());
+    }
+
+    private MockMvc buildMockMvc() {
+        StatementApiController statementApiController = new StatementApiController(statementService, accountService,
+                MoreExecutors.directExecutor(), logger);
+
+        return MockMvcBuilders.standaloneSetup(statementApiController)
+                .setControllerAdvice(new BankExceptionHandler()).build();
+    }
+}
@@ -0,0 +1,436 @@
+package io.blueharvest.bank.rest;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.blueharvest.bank.dto.DailyTransactionTotal;
+import io.blueharvest.bank.dto.TransactionSummary;
+import io.blueharvest.bank.error.BankExceptionHandler;
+import io.blueharvest.bank.mapper.TransactionMapper;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.IdempotencyService;
+import io.blueharvest.bank.service.PostingService;
+import io.blueharvest.bank.service.TransactionService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.TRANSACTION_ID;
+import static io.blueharvest.bank.constant.Fields.ACCOUNT_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.FROM_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.IDEMPOTENCY_KEY_HEADER;
+import static io.blueharvest.bank.constant.Fields.MAX_AMOUNT_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.MIN_AMOUNT_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.TO_PARAMETER;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.DAILY_TOTALS_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.SUMMARY_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.TRANSACTIONS_CONTEXT_PTAH;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for {@link TransactionApiController}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class TransactionApiControllerTest {
+    private static final String TRANSACTIONS_API_PATH = "/" + API_CONTEXT_PATH + "/" + TRANSACTIONS_CONTEXT_PTAH;
+    private static final String IDEMPOTENCY_KEY = "7c1d5e2a-idempotency-key";
+    private static final long MAX_IDEMPOTENCY_KEYS = 100L;
+    private static final long IDEMPOTENCY_EXPIRY_MINUTES = 10L;
+    private static final String FROM_PARAMETER_VALUE = "2026-10-01T00:00:00Z";
+    private static final String TO_PARAMETER_VALUE = "2026-11-01T00:00:00Z";
+    private static final Date FROM = Date.from(Instant.parse(FROM_PARAMETER_VALUE));
+    private static final Date TO = Date.from(Instant.parse(TO_PARAMETER_VALUE));
+
+    @Mock
+    private TransactionService transactionService;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private PostingService postingService;
+    @Mock
+    private Logger logger;
+
+    private Account testAccount;
+    private Transaction testTransaction;
+
+    @Before
+    public void setUp() throws Exception {
+        testAccount = new Account(ACCOUNT_ID, CREDIT);
+        testTransaction = new Transaction(TRANSACTION_ID, AMOUNT, testAccount);
+    }
+
+    /**
+     * Tests {@link TransactionApiController#listTransactions(long, int)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testListTransactions() throws Exception {
+        when(transactionService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE))
+                .thenReturn(ImmutableList.of(testTransaction));
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(get(TRANSACTIONS_API_PATH))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].amount", is(AMOUNT.getAmount().doubleValue())));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#getTransactionsForAccount(long, Instant, Instant, Money, Money)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetTransactionsForAccount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(transactionService.findTransactionsForAccount(ACCOUNT_ID, null, null, null, null))
+                .thenReturn(ImmutableList.of(TransactionMapper.toDto(testTransaction)));
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(get(TRANSACTIONS_API_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].accountId", is((int) ACCOUNT_ID)));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#getTransactionsForAccount(long, Instant, Instant, Money, Money)} but
+     * with a time range and an amount range
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetTransactionsForAccountWithRanges() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(transactionService.findTransactionsForAccount(ACCOUNT_ID, FROM, TO, Money.ZERO, AMOUNT))
+                .thenReturn(ImmutableList.of(TransactionMapper.toDto(testTransaction)));
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(get(TRANSACTIONS_API_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID))
+                .param(FROM_PARAMETER, FROM_PARAMETER_VALUE)
+                .param(TO_PARAMETER, TO_PARAMETER_VALUE)
+                .param(MIN_AMOUNT_PARAMETER, "0")
+                .param(MAX_AMOUNT_PARAMETER, String.valueOf(AMOUNT)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#summarizeTransactionsForAccount(long, Instant, Instant)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSummarizeTransactionsForAccount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(transactionService.summarizeTransactionsForAccount(ACCOUNT_ID, FROM, TO))
+                .thenReturn(new TransactionSummary(2L, 0L, AMOUNT.getMinorUnits(), -AMOUNT.getMinorUnits()));
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(get(TRANSACTIONS_API_PATH + "/" + SUMMARY_CONTEXT_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID))
+                .param(FROM_PARAMETER, FROM_PARAMETER_VALUE)
+                .param(TO_PARAMETER, TO_PARAMETER_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count", is(2)))
+                .andExpect(jsonPath("$.credits", is(AMOUNT.getAmount().doubleValue())))
+                .andExpect(jsonPath("$.debits", is(AMOUNT.negate().getAmount().doubleValue())));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#summarizeTransactionsForAccount(long, Instant, Instant)} but for an account
+     * that does not exist
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSummarizeTransactionsForNonExistingAccount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.empty());
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(get(TRANSACTIONS_API_PATH + "/" + SUMMARY_CONTEXT_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+        verify(transactionService, never()).summarizeTransactionsForAccount(anyLong(), any(Date.class),
+                any(Date.class));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#getDailyTotalsForAccount(long, Instant, Instant)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetDailyTotalsForAccount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(transactionService.getDailyTotalsForAccount(ACCOUNT_ID, null, null))
+                .thenReturn(ImmutableList.of(new DailyTransactionTotal(FROM, 1L, AMOUNT.getMinorUnits())));
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(get(TRANSACTIONS_API_PATH + "/" + DAILY_TOTALS_CONTEXT_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].total", is(AMOUNT.getAmount().doubleValue())));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#getTransaction(long)} but for an invalid ID, which is rejected by the
+     * service on the executor thread
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetTransactionWithInvalidId() throws Exception {
+        when(transactionService.get(0L)).thenThrow(new IllegalArgumentException());
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(get(TRANSACTIONS_API_PATH + "/0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests {@link TransactionApiController#getTransaction(long)} but with a saturated executor
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetTransactionWithSaturatedExecutor() throws Exception {
+        MockMvc mockMvc = buildMockMvc(command -> {
+            throw new TaskRejectedException("Executor saturated");
+        });
+
+        mockMvc.perform(get(TRANSACTIONS_API_PATH + "/" + TRANSACTION_ID))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    /**
+     * Tests {@link TransactionApiController#postTransaction(String, io.blueharvest.bank.dto.TransactionDto)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPostTransaction() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(postingService.credit(ACCOUNT_ID, AMOUNT)).thenReturn(testTransaction);
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(post(TRANSACTIONS_API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + AMOUNT + ",\"accountId\":" + ACCOUNT_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is((int) TRANSACTION_ID)))
+                .andExpect(jsonPath("$.amount", is(AMOUNT.getAmount().doubleValue())));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#postTransaction(String, io.blueharvest.bank.dto.TransactionDto)} but for a
+     * transaction that is journaled and stored later on, which is only accepted
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPostJournaledTransaction() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(postingService.credit(ACCOUNT_ID, AMOUNT)).thenReturn(new Transaction(0L, AMOUNT, testAccount));
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(post(TRANSACTIONS_API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + AMOUNT + ",\"accountId\":" + ACCOUNT_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.amount", is(AMOUNT.getAmount().doubleValue())));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#postTransaction(String, io.blueharvest.bank.dto.TransactionDto)} but with
+     * a negative amount, which should be debited
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPostTransactionWithNegativeAmount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(postingService.debit(ACCOUNT_ID, AMOUNT))
+                .thenReturn(new Transaction(TRANSACTION_ID, AMOUNT.negate(), testAccount));
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(post(TRANSACTIONS_API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + AMOUNT.negate() + ",\"accountId\":" + ACCOUNT_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.amount", is(AMOUNT.negate().getAmount().doubleValue())));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#postTransaction(String, io.blueharvest.bank.dto.TransactionDto)} but for
+     * a retried request, which should return the original transaction without posting it again
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPostTransactionWithIdempotencyKey() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(postingService.credit(ACCOUNT_ID, AMOUNT)).thenReturn(testTransaction);
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(post(TRANSACTIONS_API_PATH)
+                    .header(IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"amount\":" + AMOUNT + ",\"accountId\":" + ACCOUNT_ID + "}"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id", is((int) TRANSACTION_ID)));
+        }
+
+        verify(postingService, times(1)).credit(ACCOUNT_ID, AMOUNT);
+    }
+
+    /**
+     * Tests {@link TransactionApiController#postTransaction(String, io.blueharvest.bank.dto.TransactionDto)} but for
+     * an idempotency key reused for a different amount, which should be rejected with 422 (Unprocessable Entity)
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPostTransactionWithReusedIdempotencyKey() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(postingService.credit(ACCOUNT_ID, AMOUNT)).thenReturn(testTransaction);
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(post(TRANSACTIONS_API_PATH)
+                .header(IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + AMOUNT + ",\"accountId\":" + ACCOUNT_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated());
+
+        result = mockMvc.perform(post(TRANSACTIONS_API_PATH)
+                .header(IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + AMOUNT.plus(AMOUNT) + ",\"accountId\":" + ACCOUNT_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(postingService, times(1)).credit(anyLong(), any(Money.class));
+    }
+
+    /**
+     * Tests {@link TransactionApiController#postTransaction(String, io.blueharvest.bank.dto.TransactionDto)} but for
+     * an account that does not exist
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPostTransactionForNonExistingAccount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.empty());
+        MockMvc mockMvc = buildMockMvc(MoreExecutors.directExecutor());
+
+        MvcResult result = mockMvc.perform(post(TRANSACTIONS_API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + AMOUNT + ",\"accountId\":" + ACCOUNT_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+
+        verify(postingService, never()).credit(anyLong(), any(Money.class));
+    }
+
+    private MockMvc buildMockMvc(Executor executor) {
+        TransactionApiController transactionApiController = new TransactionApiController(transactionService,
+                accountService, postingService,
+                new IdempotencyService(MAX_IDEMPOTENCY_KEYS, IDEMPOTENCY_EXPIRY_MINUTES, logger), executor, logger);
+
+        return MockMvcBuilders.standaloneSetup(transactionApiController)
+                .setControllerAdvice(new BankExceptionHandler()).build();
+    }
+}
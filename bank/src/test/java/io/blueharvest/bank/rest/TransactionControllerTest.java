@@ -1,38 +1,54 @@
 package io.blueharvest.bank.rest;
 
 import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.dto.TransactionDto;
 import io.blueharvest.bank.error.BankExceptionHandler;
 import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
 import io.blueharvest.bank.model.Transaction;
 import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.LedgerService;
 import io.blueharvest.bank.service.TransactionService;
 import io.blueharvest.bank.utils.StandaloneMvcTestViewResolver;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.log4j.Logger;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.ui.Model;
 
+import javax.servlet.http.HttpServletResponse;
+
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
 import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
 import static io.blueharvest.bank.constant.FieldValues.CREDIT;
 import static io.blueharvest.bank.constant.FieldValues.TRANSACTION_ID;
 import static io.blueharvest.bank.constant.Fields.ACCOUNT_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.FORMAT_PARAMETER;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
+import static io.blueharvest.bank.constant.Paths.EXPORT_CONTEXT_PATH;
 import static io.blueharvest.bank.constant.Paths.LIST_CONTEXT_PATH;
 import static io.blueharvest.bank.constant.Paths.TRANSACTIONS_CONTEXT_PTAH;
+import static io.blueharvest.bank.rest.TransactionController.BALANCE_ATTRIBUTE_NAME;
 import static io.blueharvest.bank.rest.TransactionController.TRANSACTIONS_ATTRIBUTE_NAME;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -47,12 +63,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class TransactionControllerTest {
 
     private static final String INVALID_ACCOUNT_ID = "NonNumeric";
+    private static final Date TRANSACTION_TIME = new Date(0L);
 
     @Mock
     private TransactionService transactionService;
     @Mock
     private AccountService accountService;
     @Mock
+    private LedgerService ledgerService;
+    @Mock
     private Logger logger;
 
     @InjectMocks
@@ -73,14 +92,14 @@ public class TransactionControllerTest {
     }
 
     /**
-     * Tests {@link TransactionController#listTransactions(Model)}
+     * Tests {@link TransactionController#listTransactions(long, int, Model)}
      *
      * @throws Exception
      */
     @Test
     public void testListCustomers() throws Exception {
         List<Transaction> transactions = ImmutableList.of(testTransaction);
-        when(transactionService.getAll()).thenReturn(transactions);
+        when(transactionService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE)).thenReturn(transactions);
 
         this.mockMvc.perform(get("/" + TRANSACTIONS_CONTEXT_PTAH + "/" + LIST_CONTEXT_PATH))
                 .andExpect(status().isOk())
@@ -98,12 +117,15 @@ public class TransactionControllerTest {
         List<Transaction> transactions = ImmutableList.of(testTransaction);
         when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
         when(transactionService.getTransactionsForAccount(ACCOUNT_ID)).thenReturn(transactions);
+        when(ledgerService.getBalance(ACCOUNT_ID))
+                .thenReturn(Optional.of(new AccountBalance(ACCOUNT_ID, AMOUNT.getMinorUnits())));
 
         this.mockMvc.perform(get("/" + TRANSACTIONS_CONTEXT_PTAH)
                 .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID)))
                 .andExpect(status().isOk())
                 .andExpect(view().name("/" + TRANSACTIONS_CONTEXT_PTAH))
-                .andExpect(model().attribute(TRANSACTIONS_ATTRIBUTE_NAME, equalTo(ImmutableList.of(testTransaction))));
+                .andExpect(model().attribute(TRANSACTIONS_ATTRIBUTE_NAME, equalTo(ImmutableList.of(testTransaction))))
+                .andExpect(model().attribute(BALANCE_ATTRIBUTE_NAME, equalTo(AMOUNT)));
     }
 
     /**
@@ -145,4 +167,81 @@ public class TransactionControllerTest {
                 .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID)))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests {@link TransactionController#exportTransactionsForAccount(String, String, HttpServletResponse)} as CSV
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExportTransactionsForAccountAsCsv() throws Exception {
+        mockTransactionsForAccount();
+
+        this.mockMvc.perform(get("/" + TRANSACTIONS_CONTEXT_PTAH + "/" + EXPORT_CONTEXT_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("id,accountId,transactionTime,amount\n"
+                        + TRANSACTION_ID + "," + ACCOUNT_ID + ",1970-01-01T00:00:00Z," + AMOUNT + "\n"));
+    }
+
+    /**
+     * Tests {@link TransactionController#exportTransactionsForAccount(String, String, HttpServletResponse)} as
+     * newline-delimited JSON
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExportTransactionsForAccountAsNdjson() throws Exception {
+        mockTransactionsForAccount();
+
+        this.mockMvc.perform(get("/" + TRANSACTIONS_CONTEXT_PTAH + "/" + EXPORT_CONTEXT_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID))
+                .param(FORMAT_PARAMETER, "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":" + TRANSACTION_ID + ",\"accountId\":" + ACCOUNT_ID
+                        + ",\"transactionTime\":\"1970-01-01T00:00:00Z\",\"amount\":" + AMOUNT + "}\n"));
+    }
+
+    /**
+     * Tests {@link TransactionController#exportTransactionsForAccount(String, String, HttpServletResponse)} but with
+     * an unsupported format
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExportTransactionsForAccountWithInvalidFormat() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+
+        this.mockMvc.perform(get("/" + TRANSACTIONS_CONTEXT_PTAH + "/" + EXPORT_CONTEXT_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID))
+                .param(FORMAT_PARAMETER, "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests {@link TransactionController#exportTransactionsForAccount(String, String, HttpServletResponse)} but for a
+     * nonexistent account
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExportTransactionsForAccountForNonexistentAccount() throws Exception {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        this.mockMvc.perform(get("/" + TRANSACTIONS_CONTEXT_PTAH + "/" + EXPORT_CONTEXT_PATH)
+                .param(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID)))
+                .andExpect(status().isNotFound());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockTransactionsForAccount() {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        doAnswer(invocation -> {
+            Consumer<TransactionDto> action = (Consumer<TransactionDto>) invocation.getArguments()[1];
+            action.accept(new TransactionDto(TRANSACTION_ID, AMOUNT, ACCOUNT_ID, TRANSACTION_TIME));
+            return 1L;
+        }).when(transactionService).forEachTransactionForAccount(eq(ACCOUNT_ID), any(Consumer.class));
+    }
+}
@@ -3,6 +3,8 @@ package io.blueharvest.bank.rest.integration;
 import io.blueharvest.bank.dto.AccountDto;
 import io.blueharvest.bank.dto.CustomerDto;
 import io.blueharvest.bank.error.BankExceptionHandler;
+import io.blueharvest.bank.mapper.AccountMapper;
+import io.blueharvest.bank.mapper.CustomerMapper;
 import io.blueharvest.bank.model.Account;
 import io.blueharvest.bank.model.Customer;
 import io.blueharvest.bank.repository.AccountRepository;
@@ -11,13 +13,13 @@ import io.blueharvest.bank.repository.TransactionRepository;
 import io.blueharvest.bank.rest.AccountController;
 import io.blueharvest.bank.rest.CustomerController;
 import io.blueharvest.bank.rest.TransactionController;
+import io.blueharvest.bank.service.LedgerService;
 import io.blueharvest.bank.utils.StandaloneMvcTestViewResolver;
 import io.blueharvest.bank.validation.CustomerValidator;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
@@ -45,7 +47,9 @@ import static io.blueharvest.bank.rest.AccountController.ACCOUNTS_ATTRIBUTE_NAME
 import static io.blueharvest.bank.rest.AccountController.ACCOUNT_DTO_ATTRIBUTE_NAME;
 import static io.blueharvest.bank.rest.CustomerController.CUSTOMERS_ATTRIBUTE_NAME;
 import static io.blueharvest.bank.rest.CustomerController.CUSTOMER_DTO_ATTRIBUTE_NAME;
+import static io.blueharvest.bank.rest.TransactionController.BALANCE_ATTRIBUTE_NAME;
 import static io.blueharvest.bank.rest.TransactionController.TRANSACTIONS_ATTRIBUTE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -82,6 +86,8 @@ public class CustomerControllerIT {
     private AccountController accountController;
     @Inject
     private TransactionController transactionController;
+    @Inject
+    private LedgerService ledgerService;
 
     private MockMvc mockMvc;
 
@@ -90,17 +96,14 @@ public class CustomerControllerIT {
     private Account testAccount;
     private AccountDto testAccountDto;
     private UriComponentsBuilder builder;
-    private ModelMapper mapper = new ModelMapper(); // Mapper for converting between entities and DTOs
 
     @Before
     public void setUp() throws Exception {
         testCustomer = new Customer(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE);
-        testCustomerDto = new CustomerDto();
-        mapper.map(testCustomer, testCustomerDto);
+        testCustomerDto = CustomerMapper.toDto(testCustomer);
 
         testAccount = new Account(ACCOUNT_ID, CREDIT);
-        testAccountDto = new AccountDto();
-        mapper.map(testAccount, testAccountDto);
+        testAccountDto = AccountMapper.toDto(testAccount);
 
         this.mockMvc = MockMvcBuilders.standaloneSetup(customerController, accountController, transactionController)
                 .setViewResolvers(new StandaloneMvcTestViewResolver()).setValidator(new CustomerValidator())
@@ -124,6 +127,7 @@ public class CustomerControllerIT {
      * <li>Add account</li>
      * <li>Get number of accounts after add</li>
      * <li>Get number of transactions after add</li>
+     * <li>Reconcile balances against transactions</li>
      * </ul>
      */
     @Test
@@ -192,7 +196,10 @@ public class CustomerControllerIT {
         uri = builder.queryParam(ACCOUNT_ID_PARAMETER, String.valueOf(ACCOUNT_ID)).build().toUriString();
         this.mockMvc.perform(get(uri))
                 .andExpect(status().isOk())
-                .andExpect(model().attribute(TRANSACTIONS_ATTRIBUTE_NAME, hasSize(1)));
+                .andExpect(model().attribute(TRANSACTIONS_ATTRIBUTE_NAME, hasSize(1)))
+                .andExpect(model().attribute(BALANCE_ATTRIBUTE_NAME, CREDIT));
 
+        // 8- Reconcile the balance of the account against its transaction -> should match
+        assertThat(ledgerService.reconcile()).isEmpty();
     }
 }
\ No newline at end of file
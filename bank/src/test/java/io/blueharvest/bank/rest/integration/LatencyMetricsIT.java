@@ -0,0 +1,103 @@
+package io.blueharvest.bank.rest.integration;
+
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.CustomerRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static io.blueharvest.bank.constant.Paths.API_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.CUSTOMERS_CONTEXT_PTAH;
+import static io.blueharvest.bank.constant.Paths.METRICS_CONTEXT_PATH;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test class checking that controller, service and repository calls are timed and exposed on the metrics
+ * endpoint
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class LatencyMetricsIT {
+    private static final String METRICS_PATH = "/" + METRICS_CONTEXT_PATH;
+
+    @Inject
+    private MockMvc mockMvc;
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private CacheManager cacheManager;
+
+    private Customer testCustomer;
+
+    @Before
+    public void setUp() throws Exception {
+        testCustomer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    /**
+     * Tests that a request to the JSON API is timed in every layer it passes through
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRequestIsTimedInEveryLayer() throws Exception {
+        MvcResult result = mockMvc.perform(get("/" + API_CONTEXT_PATH + "/" + CUSTOMERS_CONTEXT_PTAH + "/" +
+                testCustomer.getId())).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        mockMvc.perform(get(METRICS_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", hasItems(
+                        "controller.CustomerApiController.getCustomer",
+                        "service.CustomerService.get",
+                        "repository.CustomerRepository.findById",
+                        "repository.CustomerRepository.save")));
+
+        mockMvc.perform(get(METRICS_PATH + "/controller.CustomerApiController.getCustomer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count", is(1)))
+                .andExpect(jsonPath("$.max", greaterThan(0.0D)));
+    }
+
+    /**
+     * Tests that an unknown metric is reported as not found
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetUnknownMetric() throws Exception {
+        mockMvc.perform(get(METRICS_PATH + "/service.CustomerService.unknown"))
+                .andExpect(status().isNotFound());
+    }
+}
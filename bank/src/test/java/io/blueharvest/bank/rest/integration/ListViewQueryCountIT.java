@@ -0,0 +1,145 @@
+package io.blueharvest.bank.rest.integration;
+
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.utils.SqlStatementCounter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.Fields.ACCOUNT_ID_PARAMETER;
+import static io.blueharvest.bank.constant.Fields.CUSTOMER_ID_PARAMETER;
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static io.blueharvest.bank.constant.Paths.ACCOUNTS_CONTEXT_PTAH;
+import static io.blueharvest.bank.constant.Paths.CUSTOMERS_CONTEXT_PTAH;
+import static io.blueharvest.bank.constant.Paths.LIST_CONTEXT_PATH;
+import static io.blueharvest.bank.constant.Paths.TRANSACTIONS_CONTEXT_PTAH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test class that renders the list views against the whole application and checks that the number of
+ * SQL statements each of them issues does not depend on the number of listed rows
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "io.blueharvest.bank.utils.SqlStatementCounter")
+@AutoConfigureMockMvc
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class ListViewQueryCountIT {
+    private static final int COUNT_OF_CUSTOMERS = 10;
+    private static final int COUNT_OF_ACCOUNTS_PER_CUSTOMER = 3;
+    private static final long MAX_STATEMENTS_PER_VIEW = 4L;
+
+    @Inject
+    private MockMvc mockMvc;
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private CacheManager cacheManager;
+
+    private Customer testCustomer;
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        for (int i = 0; i < COUNT_OF_CUSTOMERS; i++) {
+            testCustomer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+            for (int j = 0; j < COUNT_OF_ACCOUNTS_PER_CUSTOMER; j++) {
+                testAccount = accountService.create(new Account(0L, CREDIT, testCustomer));
+            }
+        }
+
+        // Start from cold caches, so that each view pays for all of its lookups
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+    }
+
+    /**
+     * Tests the number of statements issued by the customer list view
+     */
+    @Test
+    public void testListCustomers() throws Exception {
+        assertStatementsWithinBudget("/" + CUSTOMERS_CONTEXT_PTAH + "/" + LIST_CONTEXT_PATH);
+    }
+
+    /**
+     * Tests the number of statements issued by the account list view
+     */
+    @Test
+    public void testListAccounts() throws Exception {
+        assertStatementsWithinBudget("/" + ACCOUNTS_CONTEXT_PTAH + "/" + LIST_CONTEXT_PATH);
+    }
+
+    /**
+     * Tests the number of statements issued by the view of the accounts of a customer
+     */
+    @Test
+    public void testGetAccountsForCustomer() throws Exception {
+        assertStatementsWithinBudget("/" + ACCOUNTS_CONTEXT_PTAH + "?" + CUSTOMER_ID_PARAMETER + "=" +
+                testCustomer.getId());
+    }
+
+    /**
+     * Tests the number of statements issued by the transaction list view
+     */
+    @Test
+    public void testListTransactions() throws Exception {
+        assertStatementsWithinBudget("/" + TRANSACTIONS_CONTEXT_PTAH + "/" + LIST_CONTEXT_PATH);
+    }
+
+    /**
+     * Tests the number of statements issued by the view of the transactions of an account
+     */
+    @Test
+    public void testGetTransactionsForAccount() throws Exception {
+        assertStatementsWithinBudget("/" + TRANSACTIONS_CONTEXT_PTAH + "?" + ACCOUNT_ID_PARAMETER + "=" +
+                testAccount.getId());
+    }
+
+    private void assertStatementsWithinBudget(String uri) throws Exception {
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+        assertThat(SqlStatementCounter.count()).as("SQL statements issued by %s", uri)
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_VIEW);
+    }
+}
@@ -0,0 +1,172 @@
+package io.blueharvest.bank.search;
+
+import io.blueharvest.bank.model.Customer;
+import org.junit.Before;
+import org.junit.Test;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
+import static io.blueharvest.bank.constant.FieldValues.MODIFIED_POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link CustomerSearchIndex}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CustomerSearchIndexTest {
+    private static final long OTHER_CUSTOMER_ID = CUSTOMER_ID + 1;
+    private static final long THIRD_CUSTOMER_ID = CUSTOMER_ID + 2;
+    private static final int LIMIT = 10;
+
+    private CustomerSearchIndex customerSearchIndex;
+
+    @Before
+    public void setUp() throws Exception {
+        customerSearchIndex = new CustomerSearchIndex();
+        customerSearchIndex.add(new Customer(CUSTOMER_ID, NAME, SURNAME, ADDRESS, POSTCODE));
+        customerSearchIndex.add(new Customer(OTHER_CUSTOMER_ID, "Mary Ann", "Smithson", ADDRESS, "1234 CD"));
+        customerSearchIndex.add(new Customer(THIRD_CUSTOMER_ID, "Jos\u00e9", "Jansen", ADDRESS, MODIFIED_POSTCODE));
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)} by the beginning of a word
+     */
+    @Test
+    public void testSearchByPrefix() {
+        assertThat(customerSearchIndex.search(null, "smi", null, false, LIMIT))
+                .containsExactly(CUSTOMER_ID, OTHER_CUSTOMER_ID);
+        assertThat(customerSearchIndex.search("ANN", null, null, false, LIMIT)).containsExactly(OTHER_CUSTOMER_ID);
+        assertThat(customerSearchIndex.search(null, null, "1234", false, LIMIT))
+                .containsExactly(CUSTOMER_ID, OTHER_CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)}, which ignores accents and the
+     * spaces of postcodes
+     */
+    @Test
+    public void testSearchNormalizes() {
+        assertThat(customerSearchIndex.search("jose", null, null, false, LIMIT)).containsExactly(THIRD_CUSTOMER_ID);
+        assertThat(customerSearchIndex.search(null, null, "1234cd", false, LIMIT)).containsExactly(OTHER_CUSTOMER_ID);
+        assertThat(customerSearchIndex.search(null, null, "1234 AB", false, LIMIT)).containsExactly(CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)} for several details, which must
+     * all match
+     */
+    @Test
+    public void testSearchBySeveralDetails() {
+        assertThat(customerSearchIndex.search("jo", "smith", null, false, LIMIT)).containsExactly(CUSTOMER_ID);
+        assertThat(customerSearchIndex.search("mary ann", "smith", "1234", false, LIMIT))
+                .containsExactly(OTHER_CUSTOMER_ID);
+        assertThat(customerSearchIndex.search("mary", "jansen", null, false, LIMIT)).isEmpty();
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)} for words differing in a few
+     * characters, which only match in a fuzzy search
+     */
+    @Test
+    public void testFuzzySearch() {
+        assertThat(customerSearchIndex.search(null, "smyth", null, false, LIMIT)).isEmpty();
+        assertThat(customerSearchIndex.search(null, "smyth", null, true, LIMIT)).containsExactly(CUSTOMER_ID);
+        assertThat(customerSearchIndex.search(null, "jnasen", null, true, LIMIT)).containsExactly(THIRD_CUSTOMER_ID);
+        assertThat(customerSearchIndex.search("jon", "smithsen", null, true, LIMIT)).isEmpty();
+        assertThat(customerSearchIndex.search("mery", "smithsen", null, true, LIMIT))
+                .containsExactly(OTHER_CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)} for a short word differing in a
+     * character in the middle, which shares no trigram with the searched one
+     */
+    @Test
+    public void testFuzzySearchForShortWord() {
+        long fourthCustomerId = CUSTOMER_ID + 3;
+        customerSearchIndex.add(new Customer(fourthCustomerId, "Tim", "Bakker", ADDRESS, POSTCODE));
+
+        assertThat(customerSearchIndex.search("tom", null, null, false, LIMIT)).isEmpty();
+        assertThat(customerSearchIndex.search("tom", null, null, true, LIMIT)).containsExactly(fourthCustomerId);
+
+        customerSearchIndex.remove(fourthCustomerId);
+
+        assertThat(customerSearchIndex.search("tom", null, null, true, LIMIT)).isEmpty();
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)}, which finds at most the given
+     * number of customers with the lowest IDs
+     */
+    @Test
+    public void testSearchWithLimit() {
+        assertThat(customerSearchIndex.search(null, "s", null, false, 1)).containsExactly(CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)} for a customer having several
+     * matching words, which is found once
+     */
+    @Test
+    public void testSearchWithSeveralMatchingWords() {
+        customerSearchIndex.add(new Customer(OTHER_CUSTOMER_ID, "Ann Anna", "Smithson", ADDRESS, "1234 CD"));
+
+        assertThat(customerSearchIndex.search("ann", null, null, false, LIMIT)).containsExactly(OTHER_CUSTOMER_ID);
+        assertThat(customerSearchIndex.search(null, null, null, false, LIMIT)).isEmpty();
+        assertThat(customerSearchIndex.search("j", "s", null, true, LIMIT)).containsExactly(CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)} but without any details
+     */
+    @Test
+    public void testSearchWithoutDetails() {
+        assertThat(customerSearchIndex.search(" ", null, "-", true, LIMIT)).isEmpty();
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#search(String, String, String, boolean, int)} but for an invalid limit
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSearchWithInvalidLimit() {
+        customerSearchIndex.search(NAME, null, null, false, 0);
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#add(Customer)} for an indexed customer, whose former details no longer match
+     */
+    @Test
+    public void testAddReplacesDetails() {
+        customerSearchIndex.add(new Customer(CUSTOMER_ID, NAME, "Jones", ADDRESS, POSTCODE));
+
+        assertThat(customerSearchIndex.size()).isEqualTo(3);
+        assertThat(customerSearchIndex.search(null, SURNAME, null, false, LIMIT)).containsExactly(OTHER_CUSTOMER_ID);
+        assertThat(customerSearchIndex.search(null, "jones", null, false, LIMIT)).containsExactly(CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#add(Customer)} but for a customer without ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddWithoutId() {
+        customerSearchIndex.add(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+    }
+
+    /**
+     * Tests {@link CustomerSearchIndex#remove(long)}
+     */
+    @Test
+    public void testRemove() {
+        assertThat(customerSearchIndex.remove(CUSTOMER_ID)).isTrue();
+        assertThat(customerSearchIndex.remove(CUSTOMER_ID)).isFalse();
+
+        assertThat(customerSearchIndex.size()).isEqualTo(2);
+        assertThat(customerSearchIndex.search(NAME, null, null, true, LIMIT)).isEmpty();
+        assertThat(customerSearchIndex.search(null, SURNAME, null, false, LIMIT)).containsExactly(OTHER_CUSTOMER_ID);
+    }
+}
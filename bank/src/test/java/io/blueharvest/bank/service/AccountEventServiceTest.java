@@ -0,0 +1,252 @@
+package io.blueharvest.bank.service;
+
+import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountEvent;
+import io.blueharvest.bank.model.AccountEventType;
+import io.blueharvest.bank.model.AccountSnapshot;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountEventRepository;
+import io.blueharvest.bank.repository.AccountSnapshotRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityManager;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
+import static io.blueharvest.bank.service.AccountEventService.LATEST_EVENT_TIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link AccountEventService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class AccountEventServiceTest {
+    private static final int SNAPSHOT_INTERVAL = 3;
+    private static final long OTHER_CUSTOMER_ID = CUSTOMER_ID + 1;
+    private static final Date TIME = new Date();
+
+    // The events hold the amounts in minor units
+    private static final long AMOUNT_IN_MINOR_UNITS = AMOUNT.getMinorUnits();
+    private static final long CREDIT_IN_MINOR_UNITS = CREDIT.getMinorUnits();
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private AccountEventRepository accountEventRepository;
+    @Mock
+    private AccountSnapshotRepository accountSnapshotRepository;
+    @Mock
+    private LedgerService ledgerService;
+    @Mock
+    private EntityManager entityManager;
+
+    private AccountEventService accountEventService;
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        accountEventService = new AccountEventService(accountEventRepository, accountSnapshotRepository,
+                ledgerService, entityManager, SNAPSHOT_INTERVAL, logger);
+        testAccount = new Account(ACCOUNT_ID, CREDIT);
+    }
+
+    /**
+     * Tests {@link AccountEventService#AccountEventService} but for an invalid snapshot interval
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithInvalidSnapshotInterval() {
+        new AccountEventService(accountEventRepository, accountSnapshotRepository, ledgerService, entityManager, 0,
+                logger);
+    }
+
+    /**
+     * Tests {@link AccountEventService#recordOpened(long, long)}
+     */
+    @Test
+    public void testRecordOpened() {
+        accountEventService.recordOpened(ACCOUNT_ID, CUSTOMER_ID);
+
+        AccountEvent event = capturePersisted(AccountEvent.class, 1).get(0);
+        assertThat(event.getAccountId()).isEqualTo(ACCOUNT_ID);
+        assertThat(event.getSequence()).isEqualTo(1L);
+        assertThat(event.getEventType()).isEqualTo(AccountEventType.OPENED);
+        assertThat(event.getCustomerId()).isEqualTo(CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link AccountEventService#recordOpened(long, long)} but for an invalid customer ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecordOpenedWithInvalidCustomerId() {
+        accountEventService.recordOpened(ACCOUNT_ID, 0L);
+    }
+
+    /**
+     * Tests {@link AccountEventService#apply(Transaction)} for a credit
+     */
+    @Test
+    public void testApplyCredit() {
+        when(accountEventRepository.findLastSequence(ACCOUNT_ID)).thenReturn(1L);
+
+        accountEventService.apply(new Transaction(0L, AMOUNT, testAccount));
+
+        AccountEvent event = capturePersisted(AccountEvent.class, 1).get(0);
+        assertThat(event.getSequence()).isEqualTo(2L);
+        assertThat(event.getEventType()).isEqualTo(AccountEventType.CREDITED);
+        assertThat(event.getAmount()).isEqualTo(AMOUNT_IN_MINOR_UNITS);
+    }
+
+    /**
+     * Tests {@link AccountEventService#apply(Transaction)} for a debit
+     */
+    @Test
+    public void testApplyDebit() {
+        when(accountEventRepository.findLastSequence(ACCOUNT_ID)).thenReturn(1L);
+
+        accountEventService.apply(new Transaction(0L, AMOUNT.negate(), testAccount));
+
+        AccountEvent event = capturePersisted(AccountEvent.class, 1).get(0);
+        assertThat(event.getEventType()).isEqualTo(AccountEventType.DEBITED);
+        assertThat(event.getAmount()).isEqualTo(-AMOUNT_IN_MINOR_UNITS);
+    }
+
+    /**
+     * Tests {@link AccountEventService#apply(List)}, which reads the last sequence of each account once
+     */
+    @Test
+    public void testApplyBatch() {
+        when(accountEventRepository.findLastSequence(ACCOUNT_ID)).thenReturn(3L);
+
+        accountEventService.apply(ImmutableList.of(new Transaction(0L, AMOUNT, testAccount),
+                new Transaction(0L, AMOUNT.negate(), testAccount)));
+
+        assertThat(capturePersisted(AccountEvent.class, 2)).extracting(AccountEvent::getSequence)
+                .containsExactly(4L, 5L);
+        verify(accountEventRepository).findLastSequence(ACCOUNT_ID);
+    }
+
+    /**
+     * Tests {@link AccountEventService#apply(Transaction)} for an event after which a snapshot is taken
+     */
+    @Test
+    public void testApplyTakesSnapshot() {
+        when(accountEventRepository.findLastSequence(ACCOUNT_ID)).thenReturn(2L);
+        when(accountEventRepository.findEvents(ACCOUNT_ID, 0L, 3L, LATEST_EVENT_TIME)).thenReturn(ImmutableList.of(
+                new AccountEvent(ACCOUNT_ID, 1L, AccountEventType.OPENED, 0L, CUSTOMER_ID),
+                new AccountEvent(ACCOUNT_ID, 2L, AccountEventType.CREDITED, CREDIT_IN_MINOR_UNITS, 0L),
+                new AccountEvent(ACCOUNT_ID, 3L, AccountEventType.CREDITED, AMOUNT_IN_MINOR_UNITS, 0L)));
+
+        accountEventService.apply(new Transaction(0L, AMOUNT, testAccount));
+
+        AccountSnapshot snapshot = capturePersisted(AccountSnapshot.class, 2).get(0);
+        assertThat(snapshot.getSequence()).isEqualTo(3L);
+        assertThat(snapshot.getCustomerId()).isEqualTo(CUSTOMER_ID);
+        assertThat(snapshot.getBalance()).isEqualTo(CREDIT_IN_MINOR_UNITS + AMOUNT_IN_MINOR_UNITS);
+    }
+
+    /**
+     * Tests {@link AccountEventService#recordCustomerReassigned(long, long)}
+     */
+    @Test
+    public void testRecordCustomerReassigned() {
+        when(accountEventRepository.findEvents(ACCOUNT_ID, 0L, Long.MAX_VALUE, LATEST_EVENT_TIME))
+                .thenReturn(ImmutableList.of(new AccountEvent(ACCOUNT_ID, 1L, AccountEventType.OPENED, 0L,
+                        CUSTOMER_ID)));
+
+        when(accountEventRepository.findLastSequence(ACCOUNT_ID)).thenReturn(1L);
+
+        assertThat(accountEventService.recordCustomerReassigned(ACCOUNT_ID, OTHER_CUSTOMER_ID)).isTrue();
+
+        verify(ledgerService).lock(ACCOUNT_ID);
+        AccountEvent event = capturePersisted(AccountEvent.class, 1).get(0);
+        assertThat(event.getSequence()).isEqualTo(2L);
+        assertThat(event.getEventType()).isEqualTo(AccountEventType.CUSTOMER_REASSIGNED);
+        assertThat(event.getCustomerId()).isEqualTo(OTHER_CUSTOMER_ID);
+    }
+
+    /**
+     * Tests {@link AccountEventService#recordCustomerReassigned(long, long)} but for the customer the account already
+     * belongs to
+     */
+    @Test
+    public void testRecordCustomerReassignedToSameCustomer() {
+        when(accountEventRepository.findEvents(ACCOUNT_ID, 0L, Long.MAX_VALUE, LATEST_EVENT_TIME))
+                .thenReturn(ImmutableList.of(new AccountEvent(ACCOUNT_ID, 1L, AccountEventType.OPENED, 0L,
+                        CUSTOMER_ID)));
+
+        assertThat(accountEventService.recordCustomerReassigned(ACCOUNT_ID, CUSTOMER_ID)).isFalse();
+
+        verify(ledgerService, never()).lock(anyLong());
+        verify(entityManager, never()).persist(any());
+    }
+
+    /**
+     * Tests {@link AccountEventService#getState(long, Date)}, which applies the events following the last snapshot
+     */
+    @Test
+    public void testGetState() {
+        when(accountSnapshotRepository.findLatest(eq(ACCOUNT_ID), eq(Long.MAX_VALUE), eq(TIME), any(Pageable.class)))
+                .thenReturn(ImmutableList.of(new AccountSnapshot(ACCOUNT_ID, 3L, TIME, CUSTOMER_ID,
+                        CREDIT_IN_MINOR_UNITS)));
+        when(accountEventRepository.findEvents(ACCOUNT_ID, 3L, Long.MAX_VALUE, TIME)).thenReturn(ImmutableList.of(
+                new AccountEvent(ACCOUNT_ID, 4L, AccountEventType.DEBITED, -AMOUNT_IN_MINOR_UNITS, 0L),
+                new AccountEvent(ACCOUNT_ID, 5L, AccountEventType.CUSTOMER_REASSIGNED, 0L, OTHER_CUSTOMER_ID)));
+
+        Optional<AccountSnapshot> state = accountEventService.getState(ACCOUNT_ID, TIME);
+
+        assertThat(state).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.getSequence()).isEqualTo(5L);
+            assertThat(snapshot.getCustomerId()).isEqualTo(OTHER_CUSTOMER_ID);
+            assertThat(snapshot.getBalance()).isEqualTo(CREDIT_IN_MINOR_UNITS - AMOUNT_IN_MINOR_UNITS);
+        });
+        verify(accountEventRepository, never()).findEvents(eq(ACCOUNT_ID), eq(0L), anyLong(), any(Date.class));
+    }
+
+    /**
+     * Tests {@link AccountEventService#getState(long)} but for an account without events
+     */
+    @Test
+    public void testGetStateForAccountWithoutEvents() {
+        assertThat(accountEventService.getState(ACCOUNT_ID)).isEmpty();
+    }
+
+    /**
+     * Tests {@link AccountEventService#getState(long, Date)} but for a negative account ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetStateForNegativeAccountId() {
+        accountEventService.getState(-1L, TIME);
+    }
+
+    private <T> List<T> capturePersisted(Class<T> type, int count) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, times(count)).persist(captor.capture());
+
+        return captor.getAllValues().stream().filter(type::isInstance).map(type::cast)
+                .collect(Collectors.toList());
+    }
+}
@@ -6,14 +6,18 @@ import io.blueharvest.bank.model.Account;
 import io.blueharvest.bank.model.Customer;
 import io.blueharvest.bank.model.Transaction;
 import io.blueharvest.bank.repository.AccountRepository;
-import org.apache.log4j.Logger;
+import org.hibernate.ObjectNotFoundException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,9 +33,15 @@ import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
 import static io.blueharvest.bank.constant.FieldValues.SURNAME;
 import static io.blueharvest.bank.constant.FieldValues.TRANSACTION_ID;
 import static io.blueharvest.bank.constant.Messages.ACCOUNT_CREATION_FAILED_ERROR;
+import static io.blueharvest.bank.constant.Messages.CUSTOMER_NOT_FOUND_ERROR;
 import static io.blueharvest.bank.constant.Messages.TRANSACTION_CREATION_FAILED_ERROR;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -50,6 +60,8 @@ public class AccountServiceTest {
     private CustomerService customerService;
     @Mock
     private TransactionService transactionService;
+    @Mock
+    private AccountEventService accountEventService;
 
     @InjectMocks
     private AccountService accountService;
@@ -115,13 +127,43 @@ public class AccountServiceTest {
         assertThat(accounts).hasSize(COUNT_OF_ACCOUNTS);
     }
 
+    /**
+     * Tests {@link AccountService#page(long, int)}
+     */
+    @Test
+    public void testPage() {
+        when(accountRepository.findByIdGreaterThanOrderByIdAsc(FIRST_PAGE_AFTER_ID, new PageRequest(0, DEFAULT_PAGE_SIZE)))
+                .thenReturn(ImmutableList.of(testAccount));
+
+        List<Account> accounts = accountService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE);
+
+        assertThat(accounts).hasSize(COUNT_OF_ACCOUNTS);
+        assertThat(accounts.get(0)).isEqualTo(testAccount);
+    }
+
+    /**
+     * Tests {@link AccountService#page(long, int)} but for negative ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageForNegativeAfterId() {
+        accountService.page(-1, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Tests {@link AccountService#page(long, int)} but for an invalid page size
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageForInvalidLimit() {
+        accountService.page(FIRST_PAGE_AFTER_ID, 0);
+    }
+
     /**
      * Tests {@link AccountService#create(Account)}
      */
     @Test
     public void testCreate() {
-        when(customerService.exists(CUSTOMER_ID)).thenReturn(true);
-        when(accountRepository.save(testAccount)).thenReturn(testAccount);
+        when(customerService.getReference(CUSTOMER_ID)).thenReturn(testCustomer);
+        when(accountRepository.saveAndFlush(testAccount)).thenReturn(testAccount);
         when(transactionService.create(any(Transaction.class))).thenReturn(testTransaction);
 
         Account createdAccount = accountService.create(testAccount);
@@ -129,6 +171,8 @@ public class AccountServiceTest {
         assertThat(createdAccount).isNotNull();
         assertThat(createdAccount.getId()).isEqualTo(ACCOUNT_ID);
         assertThat(createdAccount.getCredit()).isEqualTo(CREDIT);
+        verify(customerService, never()).exists(anyLong());
+        verify(accountEventService).recordOpened(ACCOUNT_ID, CUSTOMER_ID);
     }
 
     /**
@@ -142,9 +186,11 @@ public class AccountServiceTest {
     /**
      * Tests {@link AccountService#create(Account)} but for a nonexistent customer
      */
-    @Test(expected = TransactionalOperationException.class)
+    @Test(expected = ObjectNotFoundException.class)
     public void testCreateForNonexistentCustomer() {
-        when(customerService.exists(CUSTOMER_ID)).thenReturn(false);
+        when(customerService.getReference(CUSTOMER_ID)).thenReturn(testCustomer);
+        when(accountRepository.saveAndFlush(testAccount))
+                .thenThrow(new DataIntegrityViolationException(CUSTOMER_NOT_FOUND_ERROR));
 
         accountService.create(testAccount);
     }
@@ -155,8 +201,8 @@ public class AccountServiceTest {
      */
     @Test(expected = TransactionalOperationException.class)
     public void testCreateForTransactionalFailureWithAccountCreationFailure() {
-        when(customerService.exists(CUSTOMER_ID)).thenReturn(true);
-        when(accountRepository.save(testAccount)).
+        when(customerService.getReference(CUSTOMER_ID)).thenReturn(testCustomer);
+        when(accountRepository.saveAndFlush(testAccount)).
                 thenThrow(new EmptyResultDataAccessException(ACCOUNT_CREATION_FAILED_ERROR, 1));
 
         accountService.create(testAccount);
@@ -168,8 +214,8 @@ public class AccountServiceTest {
      */
     @Test(expected = TransactionalOperationException.class)
     public void testCreateForTransactionalFailureWithTransactionCreationFailure() {
-        when(customerService.exists(CUSTOMER_ID)).thenReturn(true);
-        when(accountRepository.save(testAccount)).thenReturn(testAccount);
+        when(customerService.getReference(CUSTOMER_ID)).thenReturn(testCustomer);
+        when(accountRepository.saveAndFlush(testAccount)).thenReturn(testAccount);
         when(transactionService.create(any(Transaction.class)))
                 .thenThrow(new EmptyResultDataAccessException(TRANSACTION_CREATION_FAILED_ERROR, 1));
 
@@ -182,13 +228,15 @@ public class AccountServiceTest {
     @Test
     public void testUpdate() {
         testAccount.setCredit(MODIFIED_CREDIT);
-        when(accountRepository.existsById(ACCOUNT_ID)).thenReturn(true);
-        when(customerService.get(CUSTOMER_ID)).thenReturn(Optional.of(testCustomer));
-        when(accountRepository.save(testAccount)).thenReturn(testAccount);
+        when(accountRepository.updateIfVersionMatches(ACCOUNT_ID, 0L, MODIFIED_CREDIT, testAccount.getEstablishDate(),
+                testCustomer)).thenReturn(1);
 
         boolean updateSuccessful = accountService.update(testAccount);
 
         assertThat(updateSuccessful).isTrue();
+        assertThat(testAccount.getVersion()).isEqualTo(1L);
+        verify(accountRepository, never()).existsById(anyLong());
+        verify(accountEventService).recordCustomerReassigned(ACCOUNT_ID, CUSTOMER_ID);
     }
 
     /**
@@ -204,7 +252,6 @@ public class AccountServiceTest {
      */
     @Test
     public void testUpdateForNonexistentAccount() {
-        when(accountRepository.save(testAccount)).thenReturn(testAccount);
         when(accountRepository.existsById(ACCOUNT_ID)).thenReturn(false);
 
         boolean updateSuccessful = accountService.update(testAccount);
@@ -218,23 +265,36 @@ public class AccountServiceTest {
     @Test
     public void testUpdateForNonexistentCustomer() {
         when(accountRepository.existsById(ACCOUNT_ID)).thenReturn(true);
-        when(customerService.get(CUSTOMER_ID)).thenReturn(Optional.empty());
+        when(customerService.exists(CUSTOMER_ID)).thenReturn(false);
 
         boolean updateSuccessful = accountService.update(testAccount);
 
         assertThat(updateSuccessful).isFalse();
     }
 
+    /**
+     * Tests {@link AccountService#update(Account)} but for an account updated concurrently
+     */
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void testUpdateForConcurrentUpdate() {
+        when(accountRepository.existsById(ACCOUNT_ID)).thenReturn(true);
+        when(customerService.exists(CUSTOMER_ID)).thenReturn(true);
+
+        accountService.update(testAccount);
+    }
+
     /**
      * Tests {@link AccountService#delete(long)}
      */
     @Test
     public void testDelete() {
-        when(accountRepository.existsById(ACCOUNT_ID)).thenReturn(true);
+        when(accountRepository.deleteById(ACCOUNT_ID)).thenReturn(1);
 
         boolean updateSuccessful = accountService.delete(ACCOUNT_ID);
 
         assertThat(updateSuccessful).isTrue();
+        verify(transactionService).deleteTransactionsForAccount(ACCOUNT_ID);
+        verify(accountRepository, never()).existsById(anyLong());
     }
 
     /**
@@ -250,7 +310,7 @@ public class AccountServiceTest {
      */
     @Test
     public void testDeleteForNonexistentAccount() {
-        when(accountRepository.existsById(ACCOUNT_ID)).thenReturn(false);
+        when(accountRepository.deleteById(ACCOUNT_ID)).thenReturn(0);
 
         boolean updateSuccessful = accountService.delete(ACCOUNT_ID);
 
@@ -0,0 +1,73 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.dto.CacheStatisticsDto;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.guava.GuavaCacheManager;
+
+import java.util.List;
+
+import static io.blueharvest.bank.constant.Caches.ACCOUNTS_CACHE;
+import static io.blueharvest.bank.constant.Caches.CUSTOMERS_CACHE;
+import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link CacheStatisticsService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CacheStatisticsServiceTest {
+    private static final String UNKNOWN_CACHE = "unknown";
+
+    private GuavaCacheManager cacheManager;
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Before
+    public void setUp() throws Exception {
+        cacheManager = new GuavaCacheManager(CUSTOMERS_CACHE, ACCOUNTS_CACHE); // Static, no caches created on demand
+        cacheManager.setCacheSpecification("maximumSize=10,recordStats");
+        cacheStatisticsService = new CacheStatisticsService(cacheManager);
+    }
+
+    /**
+     * Tests {@link CacheStatisticsService#get(String)}
+     */
+    @Test
+    public void testGet() {
+        Cache cache = cacheManager.getCache(CUSTOMERS_CACHE);
+        cache.get(CUSTOMER_ID); // Miss
+        cache.put(CUSTOMER_ID, NAME);
+        cache.get(CUSTOMER_ID); // Hit
+        cache.get(CUSTOMER_ID); // Hit
+
+        assertThat(cacheStatisticsService.get(CUSTOMERS_CACHE)).hasValueSatisfying(statistics -> {
+            assertThat(statistics.getName()).isEqualTo(CUSTOMERS_CACHE);
+            assertThat(statistics.getSize()).isEqualTo(1L);
+            assertThat(statistics.getHitCount()).isEqualTo(2L);
+            assertThat(statistics.getMissCount()).isEqualTo(1L);
+            assertThat(statistics.getHitRate()).isEqualTo(2.0D / 3.0D);
+        });
+    }
+
+    /**
+     * Tests {@link CacheStatisticsService#get(String)} but for a cache that does not exist
+     */
+    @Test
+    public void testGetUnknownCache() {
+        assertThat(cacheStatisticsService.get(UNKNOWN_CACHE)).isEmpty();
+    }
+
+    /**
+     * Tests {@link CacheStatisticsService#getAll()}
+     */
+    @Test
+    public void testGetAll() {
+        List<CacheStatisticsDto> statistics = cacheStatisticsService.getAll();
+
+        assertThat(statistics).extracting(CacheStatisticsDto::getName).containsOnly(CUSTOMERS_CACHE, ACCOUNTS_CACHE);
+    }
+}
@@ -0,0 +1,73 @@
+package io.blueharvest.bank.service;
+
+import org.apache.tomcat.jdbc.pool.DataSource;
+import org.apache.tomcat.jdbc.pool.PoolProperties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link ConnectionPoolStatisticsService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class ConnectionPoolStatisticsServiceTest {
+    private static final int MAX_ACTIVE = 4;
+    private static final int INITIAL_SIZE = 2;
+
+    private DataSource dataSource;
+
+    @Before
+    public void setUp() throws Exception {
+        PoolProperties poolProperties = new PoolProperties();
+        poolProperties.setUrl("jdbc:h2:mem:pooltest");
+        poolProperties.setDriverClassName("org.h2.Driver");
+        poolProperties.setMaxActive(MAX_ACTIVE);
+        poolProperties.setMaxIdle(MAX_ACTIVE);
+        poolProperties.setInitialSize(INITIAL_SIZE);
+        poolProperties.setMinIdle(INITIAL_SIZE);
+        dataSource = new DataSource(poolProperties);
+    }
+
+    @After
+    public void teardown() {
+        dataSource.close();
+    }
+
+    /**
+     * Tests {@link ConnectionPoolStatisticsService#get()}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGet() throws Exception {
+        ConnectionPoolStatisticsService connectionPoolStatisticsService = new ConnectionPoolStatisticsService(dataSource);
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connectionPoolStatisticsService.get()).hasValueSatisfying(statistics -> {
+                assertThat(statistics.getMaxActive()).isEqualTo(MAX_ACTIVE);
+                assertThat(statistics.getSize()).isEqualTo(INITIAL_SIZE);
+                assertThat(statistics.getActive()).isEqualTo(1);
+                assertThat(statistics.getIdle()).isEqualTo(INITIAL_SIZE - 1);
+                assertThat(statistics.getBorrowedCount()).isEqualTo(1L);
+            });
+        }
+    }
+
+    /**
+     * Tests {@link ConnectionPoolStatisticsService#get()} but for a data source that is not a connection pool
+     */
+    @Test
+    public void testGetWithoutPool() {
+        ConnectionPoolStatisticsService connectionPoolStatisticsService =
+                new ConnectionPoolStatisticsService(new DriverManagerDataSource("jdbc:h2:mem:pooltest"));
+
+        assertThat(connectionPoolStatisticsService.get()).isEmpty();
+    }
+}
@@ -0,0 +1,183 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.dto.CustomerImportError;
+import io.blueharvest.bank.dto.CustomerImportReport;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.validation.CustomerValidator;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static io.blueharvest.bank.constant.Fields.NAME_FIELD;
+import static io.blueharvest.bank.constant.Fields.POSTCODE_FIELD;
+import static io.blueharvest.bank.constant.Messages.BLANK_INVALID_NAME_ERROR;
+import static io.blueharvest.bank.constant.Messages.BLANK_INVALID_POSTCODE_ERROR;
+import static io.blueharvest.bank.constant.Messages.INVALID_CUSTOMER_IMPORT_ROW_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link CustomerImportService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class CustomerImportServiceTest {
+    private static final String HEADER = "name,surname,address,postcode\n";
+    private static final String VALID_ROW = NAME + "," + SURNAME + ",\"" + ADDRESS + "\"," + POSTCODE + "\n";
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private CustomerService customerService;
+
+    private CustomerImportService customerImportService;
+    private List<Customer> createdCustomers;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        customerImportService = new CustomerImportService(customerService, new CustomerValidator(), logger);
+
+        // Consumes the customers as the real service does, while the file is read
+        createdCustomers = new ArrayList<>();
+        when(customerService.createAll(any(Iterable.class))).thenAnswer(invocation -> {
+            ((Iterable<Customer>) invocation.getArguments()[0]).forEach(createdCustomers::add);
+            return (long) createdCustomers.size();
+        });
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} for valid rows
+     */
+    @Test
+    public void testImportCustomers() {
+        CustomerImportReport report = customerImportService.importCustomers(new StringReader(HEADER + VALID_ROW +
+                "\n" + VALID_ROW));
+
+        assertThat(report.getRowCount()).isEqualTo(2L);
+        assertThat(report.getCreatedCount()).isEqualTo(2L);
+        assertThat(report.getRejectedCount()).isZero();
+        assertThat(report.getErrors()).isEmpty();
+        assertThat(createdCustomers).hasSize(2);
+        assertThat(createdCustomers.get(0).getId()).isZero();
+        assertThat(createdCustomers.get(0).getName()).isEqualTo(NAME);
+        assertThat(createdCustomers.get(0).getAddress()).isEqualTo(ADDRESS);
+        assertThat(createdCustomers.get(0).getPostcode()).isEqualTo(POSTCODE);
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} for a header naming the columns in another
+     * order and further columns
+     */
+    @Test
+    public void testImportCustomersWithReorderedColumns() {
+        CustomerImportReport report = customerImportService.importCustomers(new StringReader(
+                " Postcode ,Reference,Surname,Name,Address\n" + POSTCODE + ",42," + SURNAME + "," + NAME + "," +
+                        ADDRESS + "\n"));
+
+        assertThat(report.getCreatedCount()).isEqualTo(1L);
+        assertThat(createdCustomers.get(0).getName()).isEqualTo(NAME);
+        assertThat(createdCustomers.get(0).getSurname()).isEqualTo(SURNAME);
+        assertThat(createdCustomers.get(0).getPostcode()).isEqualTo(POSTCODE);
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} for a file starting with a byte order mark,
+     * which is not part of the name of the first column
+     */
+    @Test
+    public void testImportCustomersWithByteOrderMark() {
+        CustomerImportReport report = customerImportService.importCustomers(new StringReader("\ufeff" + HEADER +
+                VALID_ROW));
+
+        assertThat(report.getCreatedCount()).isEqualTo(1L);
+        assertThat(createdCustomers.get(0).getName()).isEqualTo(NAME);
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} for a file starting with a byte order mark
+     * followed by a quoted header
+     */
+    @Test
+    public void testImportCustomersWithByteOrderMarkAndQuotedHeader() {
+        CustomerImportReport report = customerImportService.importCustomers(new StringReader(
+                "\ufeff\"name\",\"surname\",\"address\",\"postcode\"\n" + VALID_ROW));
+
+        assertThat(report.getCreatedCount()).isEqualTo(1L);
+        assertThat(createdCustomers.get(0).getName()).isEqualTo(NAME);
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} for invalid rows, which are skipped and
+     * reported
+     */
+    @Test
+    public void testImportCustomersWithInvalidRows() {
+        CustomerImportReport report = customerImportService.importCustomers(new StringReader(HEADER +
+                "  ," + SURNAME + "," + ADDRESS + ",\n" +
+                VALID_ROW +
+                NAME + "," + SURNAME + "\n"));
+
+        assertThat(report.getRowCount()).isEqualTo(3L);
+        assertThat(report.getCreatedCount()).isEqualTo(1L);
+        assertThat(report.getRejectedCount()).isEqualTo(2L);
+        assertThat(report.getErrors()).extracting(CustomerImportError::getRow).containsExactly(2L, 2L, 4L);
+        assertThat(report.getErrors()).extracting(CustomerImportError::getField)
+                .containsExactly(NAME_FIELD, POSTCODE_FIELD, null);
+        assertThat(report.getErrors()).extracting(CustomerImportError::getMessage).containsExactly(
+                BLANK_INVALID_NAME_ERROR, BLANK_INVALID_POSTCODE_ERROR, INVALID_CUSTOMER_IMPORT_ROW_ERROR);
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} for more rejected rows than reported
+     */
+    @Test
+    public void testImportCustomersReportsLimitedErrors() {
+        StringBuilder csv = new StringBuilder(HEADER);
+        int rejectedRows = CustomerImportService.MAX_REPORTED_ERRORS + 1;
+        for (int i = 0; i < rejectedRows; i++) {
+            csv.append(NAME).append('\n');
+        }
+
+        CustomerImportReport report = customerImportService.importCustomers(new StringReader(csv.toString()));
+
+        assertThat(report.getRejectedCount()).isEqualTo(rejectedRows);
+        assertThat(report.getErrors()).hasSize(CustomerImportService.MAX_REPORTED_ERRORS);
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} but for a header missing a column
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testImportCustomersWithMissingColumn() {
+        try {
+            customerImportService.importCustomers(new StringReader("name,surname,address\n"));
+        } finally {
+            verify(customerService, never()).createAll(any(Iterable.class));
+        }
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} but for an empty file
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testImportCustomersFromEmptyFile() {
+        customerImportService.importCustomers(new StringReader(""));
+    }
+}
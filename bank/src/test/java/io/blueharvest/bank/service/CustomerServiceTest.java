@@ -2,18 +2,26 @@ package io.blueharvest.bank.service;
 
 import com.google.common.collect.ImmutableList;
 import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.AccountRepository;
 import io.blueharvest.bank.repository.CustomerRepository;
-import org.apache.log4j.Logger;
+import io.blueharvest.bank.search.CustomerSearchIndex;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
 import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
 import static io.blueharvest.bank.constant.FieldValues.COUNT_OF_CUSTOMERS;
 import static io.blueharvest.bank.constant.FieldValues.CUSTOMER_ID;
@@ -21,7 +29,14 @@ import static io.blueharvest.bank.constant.FieldValues.MODIFIED_POSTCODE;
 import static io.blueharvest.bank.constant.FieldValues.NAME;
 import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
 import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -36,6 +51,16 @@ public class CustomerServiceTest {
     private Logger logger;
     @Mock
     private CustomerRepository customerRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private LedgerService ledgerService;
+    @Mock
+    private StatementService statementService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private CustomerSearchIndex customerSearchIndex;
 
     @InjectMocks
     private CustomerService customerService;
@@ -97,6 +122,36 @@ public class CustomerServiceTest {
         assertThat(customers).hasSize(COUNT_OF_CUSTOMERS);
     }
 
+    /**
+     * Tests {@link CustomerService#page(long, int)}
+     */
+    @Test
+    public void testPage() {
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(FIRST_PAGE_AFTER_ID, new PageRequest(0, DEFAULT_PAGE_SIZE)))
+                .thenReturn(ImmutableList.of(testCustomer));
+
+        List<Customer> customers = customerService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE);
+
+        assertThat(customers).hasSize(COUNT_OF_CUSTOMERS);
+        assertThat(customers.get(0)).isEqualTo(testCustomer);
+    }
+
+    /**
+     * Tests {@link CustomerService#page(long, int)} but for negative ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageForNegativeAfterId() {
+        customerService.page(-1, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Tests {@link CustomerService#page(long, int)} but for an invalid page size
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageForInvalidLimit() {
+        customerService.page(FIRST_PAGE_AFTER_ID, 0);
+    }
+
     /**
      * Tests {@link CustomerService#create(Customer)}}
      */
@@ -109,6 +164,7 @@ public class CustomerServiceTest {
         assertThat(createdCustomer).isNotNull();
         assertThat(createdCustomer.getName()).isEqualTo(NAME);
         assertThat(createdCustomer.getSurname()).isEqualTo(SURNAME);
+        verify(customerSearchIndex).add(testCustomer);
     }
 
     /**
@@ -119,18 +175,64 @@ public class CustomerServiceTest {
         customerService.create(null);
     }
 
+    /**
+     * Tests {@link CustomerService#createAll(Iterable)} with customers spanning several batches, which are indexed by
+     * reading back the ranges of their IDs, except a customer created concurrently with an ID in between
+     */
+    @Test
+    public void testCreateAll() {
+        int batches = 3;
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < batches * CustomerService.INGESTION_BATCH_SIZE; i++) {
+            customers.add(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        }
+        long concurrentCustomerId = CustomerService.INGESTION_BATCH_SIZE + 1L;
+        AtomicLong nextId = new AtomicLong(1L);
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> {
+            Customer customer = (Customer) invocation.getArguments()[0];
+            long id = nextId.getAndIncrement();
+            customer.setId(id == concurrentCustomerId ? nextId.getAndIncrement() : id);
+            return customer;
+        });
+        // The customer created concurrently is read back as well, but not indexed
+        Customer concurrentCustomer = new Customer(concurrentCustomerId, NAME, SURNAME, ADDRESS, POSTCODE);
+        List<Customer> storedCustomers = new ArrayList<>(customers);
+        storedCustomers.add(CustomerService.INGESTION_BATCH_SIZE, concurrentCustomer);
+        when(customerRepository.findByIdBetweenOrderByIdAsc(1L, customers.size() + 1L,
+                new PageRequest(0, CustomerService.INDEXING_PAGE_SIZE))).thenReturn(storedCustomers);
+
+        long createdCustomers = customerService.createAll(customers);
+
+        assertThat(createdCustomers).isEqualTo(customers.size());
+        verify(customerRepository, times(customers.size())).save(any(Customer.class));
+        verify(entityManager, times(batches + 1)).flush(); // The final flush has nothing left to send
+        verify(entityManager, times(batches + 2)).clear(); // Once more after reading back the customers
+        verify(customerSearchIndex, times(customers.size())).add(any(Customer.class));
+        verify(customerSearchIndex, never()).add(concurrentCustomer);
+    }
+
+    /**
+     * Tests {@link CustomerService#createAll(Iterable)} but for null customers
+     */
+    @Test(expected = NullPointerException.class)
+    public void testCreateAllForNullCustomers() {
+        customerService.createAll(null);
+    }
+
     /**
      * Tests {@link CustomerService#update(Customer)}
      */
     @Test
     public void testUpdate() {
         testCustomer.setPostcode(MODIFIED_POSTCODE);
-        when(customerRepository.existsById(CUSTOMER_ID)).thenReturn(true);
-        when(customerRepository.save(testCustomer)).thenReturn(testCustomer);
+        when(customerRepository.updateIfVersionMatches(CUSTOMER_ID, 0L, NAME, SURNAME, ADDRESS, MODIFIED_POSTCODE))
+                .thenReturn(1);
 
         boolean updateSuccessful = customerService.update(testCustomer);
 
         assertThat(updateSuccessful).isTrue();
+        assertThat(testCustomer.getVersion()).isEqualTo(1L);
+        verify(customerSearchIndex).add(testCustomer);
     }
 
     /**
@@ -146,7 +248,6 @@ public class CustomerServiceTest {
      */
     @Test
     public void testUpdateForNonexistentCustomer() {
-        when(customerRepository.save(testCustomer)).thenReturn(testCustomer);
         when(customerRepository.existsById(CUSTOMER_ID)).thenReturn(false);
 
         boolean updateSuccessful = customerService.update(testCustomer);
@@ -154,16 +255,32 @@ public class CustomerServiceTest {
         assertThat(updateSuccessful).isFalse();
     }
 
+    /**
+     * Tests {@link CustomerService#update(Customer)} but for a customer updated concurrently
+     */
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void testUpdateForConcurrentUpdate() {
+        when(customerRepository.existsById(CUSTOMER_ID)).thenReturn(true);
+
+        customerService.update(testCustomer);
+    }
+
     /**
      * Tests {@link CustomerService#delete(long)}
      */
     @Test
     public void testDelete() {
-        when(customerRepository.existsById(CUSTOMER_ID)).thenReturn(true);
+        when(accountRepository.findIdsByCustomerId(CUSTOMER_ID)).thenReturn(ImmutableList.of(ACCOUNT_ID));
+        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(testCustomer);
 
         boolean updateSuccessful = customerService.delete(CUSTOMER_ID);
 
         assertThat(updateSuccessful).isTrue();
+        verify(ledgerService).delete(ACCOUNT_ID);
+        verify(statementService).delete(ACCOUNT_ID);
+        verify(customerRepository).delete(testCustomer);
+        verify(customerRepository, never()).existsById(anyLong());
+        verify(customerSearchIndex).remove(CUSTOMER_ID);
     }
 
     /**
@@ -179,11 +296,81 @@ public class CustomerServiceTest {
      */
     @Test
     public void testDeleteForNonexistentCustomer() {
-        when(customerRepository.existsById(CUSTOMER_ID)).thenReturn(false);
+        when(accountRepository.findIdsByCustomerId(CUSTOMER_ID)).thenReturn(ImmutableList.of());
+        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(null);
 
         boolean updateSuccessful = customerService.delete(CUSTOMER_ID);
 
         assertThat(updateSuccessful).isFalse();
+        verify(customerRepository, never()).delete(any(Customer.class));
+        verify(customerSearchIndex, never()).remove(anyLong());
+    }
+
+    /**
+     * Tests {@link CustomerService#search(String, String, String, boolean, int)}
+     */
+    @Test
+    public void testSearch() {
+        Customer otherCustomer = new Customer(CUSTOMER_ID + 1, NAME, SURNAME, ADDRESS, POSTCODE);
+        when(customerSearchIndex.search(NAME, SURNAME, null, true, DEFAULT_PAGE_SIZE))
+                .thenReturn(ImmutableList.of(CUSTOMER_ID, otherCustomer.getId()));
+        when(customerRepository.findAll(ImmutableList.of(CUSTOMER_ID, otherCustomer.getId())))
+                .thenReturn(ImmutableList.of(otherCustomer, testCustomer));
+
+        List<Customer> customers = customerService.search(NAME, SURNAME, null, true, DEFAULT_PAGE_SIZE);
+
+        assertThat(customers).containsExactly(testCustomer, otherCustomer);
+    }
+
+    /**
+     * Tests {@link CustomerService#search(String, String, String, boolean, int)} but without matching customers, for
+     * which the database is not queried
+     */
+    @Test
+    public void testSearchWithoutMatches() {
+        when(customerSearchIndex.search(NAME, null, null, false, DEFAULT_PAGE_SIZE)).thenReturn(ImmutableList.of());
+
+        assertThat(customerService.search(NAME, null, null, false, DEFAULT_PAGE_SIZE)).isEmpty();
+        verify(customerRepository, never()).findAll(any(Iterable.class));
+    }
+
+    /**
+     * Tests {@link CustomerService#search(String, String, String, boolean, int)} but without any details to search for
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSearchWithoutDetails() {
+        customerService.search(null, " ", "", false, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Tests {@link CustomerService#rebuildSearchIndex()} with customers spanning several pages
+     */
+    @Test
+    public void testRebuildSearchIndex() {
+        List<Customer> firstPage = new ArrayList<>();
+        for (long id = 1; id <= CustomerService.INDEXING_PAGE_SIZE; id++) {
+            firstPage.add(new Customer(id, NAME, SURNAME, ADDRESS, POSTCODE));
+        }
+        PageRequest pageRequest = new PageRequest(0, CustomerService.INDEXING_PAGE_SIZE);
+        when(customerRepository.findByIdBetweenOrderByIdAsc(FIRST_PAGE_AFTER_ID, Long.MAX_VALUE, pageRequest))
+                .thenReturn(firstPage);
+        when(customerRepository.findByIdBetweenOrderByIdAsc(CustomerService.INDEXING_PAGE_SIZE + 1L, Long.MAX_VALUE,
+                pageRequest)).thenReturn(ImmutableList.of(testCustomer));
+
+        assertThat(customerService.rebuildSearchIndex()).isEqualTo(CustomerService.INDEXING_PAGE_SIZE + 1L);
+        verify(customerSearchIndex, times(CustomerService.INDEXING_PAGE_SIZE + 1)).add(any(Customer.class));
+        verify(entityManager, times(2)).clear();
+    }
+
+    /**
+     * Tests {@link CustomerService#getReference(long)}
+     */
+    @Test
+    public void testGetReference() {
+        when(customerRepository.getOne(CUSTOMER_ID)).thenReturn(testCustomer);
+
+        assertThat(customerService.getReference(CUSTOMER_ID)).isSameAs(testCustomer);
+        verify(customerRepository, never()).findById(anyLong());
     }
 
     /**
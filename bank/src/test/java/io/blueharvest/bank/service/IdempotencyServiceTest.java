@@ -0,0 +1,192 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.error.IdempotencyKeyReusedException;
+import io.blueharvest.bank.error.TransactionalOperationException;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.Messages.ACCOUNT_CREATION_FAILED_ERROR;
+import static io.blueharvest.bank.constant.Messages.IDEMPOTENCY_KEY_REUSED_ERROR;
+import static io.blueharvest.bank.service.IdempotencyService.CREATE_ACCOUNT_OPERATION;
+import static io.blueharvest.bank.service.IdempotencyService.MAX_IDEMPOTENCY_KEY_LENGTH;
+import static io.blueharvest.bank.service.IdempotencyService.POST_TRANSACTION_OPERATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for {@link IdempotencyService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class IdempotencyServiceTest {
+    private static final String IDEMPOTENCY_KEY = "7c1d5e2a-idempotency-key";
+    private static final String OTHER_IDEMPOTENCY_KEY = "9f3b8a41-idempotency-key";
+    private static final List<Object> FINGERPRINT = Arrays.asList(ACCOUNT_ID, AMOUNT);
+    private static final List<Object> OTHER_FINGERPRINT = Arrays.asList(ACCOUNT_ID, AMOUNT.negate());
+    private static final long MAX_KEYS = 100L;
+    private static final long EXPIRY_MINUTES = 10L;
+
+    @Mock
+    private Logger logger;
+
+    private IdempotencyService idempotencyService;
+    private AtomicInteger executions;
+
+    @Before
+    public void setUp() throws Exception {
+        idempotencyService = new IdempotencyService(MAX_KEYS, EXPIRY_MINUTES, logger);
+        executions = new AtomicInteger();
+    }
+
+    /**
+     * Tests {@link IdempotencyService#execute(String, String, Object, java.util.function.Supplier)}
+     */
+    @Test
+    public void testExecute() {
+        long firstResult = idempotencyService.execute(CREATE_ACCOUNT_OPERATION, IDEMPOTENCY_KEY, FINGERPRINT,
+                this::run);
+        long secondResult = idempotencyService.execute(CREATE_ACCOUNT_OPERATION, IDEMPOTENCY_KEY, FINGERPRINT,
+                this::run);
+
+        assertThat(firstResult).isEqualTo(ACCOUNT_ID);
+        assertThat(secondResult).isEqualTo(ACCOUNT_ID);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link IdempotencyService#execute(String, String, Object, java.util.function.Supplier)} but with different
+     * keys and operations
+     */
+    @Test
+    public void testExecuteWithDifferentKeys() {
+        idempotencyService.execute(CREATE_ACCOUNT_OPERATION, IDEMPOTENCY_KEY, FINGERPRINT, this::run);
+        idempotencyService.execute(CREATE_ACCOUNT_OPERATION, OTHER_IDEMPOTENCY_KEY, FINGERPRINT, this::run);
+        idempotencyService.execute(POST_TRANSACTION_OPERATION, IDEMPOTENCY_KEY, FINGERPRINT, this::run);
+
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    /**
+     * Tests {@link IdempotencyService#execute(String, String, Object, java.util.function.Supplier)} but with a key
+     * reused for a different request, which should be rejected instead of getting the result of the first request
+     */
+    @Test
+    public void testExecuteWithReusedKey() {
+        idempotencyService.execute(CREATE_ACCOUNT_OPERATION, IDEMPOTENCY_KEY, FINGERPRINT, this::run);
+
+        assertThatThrownBy(() -> idempotencyService.execute(CREATE_ACCOUNT_OPERATION, IDEMPOTENCY_KEY,
+                OTHER_FINGERPRINT, this::run))
+                .isInstanceOf(IdempotencyKeyReusedException.class).hasMessage(IDEMPOTENCY_KEY_REUSED_ERROR);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link IdempotencyService#execute(String, String, Object, java.util.function.Supplier)} but without a key
+     */
+    @Test
+    public void testExecuteWithoutKey() {
+        idempotencyService.execute(CREATE_ACCOUNT_OPERATION, null, FINGERPRINT, this::run);
+        idempotencyService.execute(CREATE_ACCOUNT_OPERATION, StringUtils.EMPTY, FINGERPRINT, this::run);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    /**
+     * Tests {@link IdempotencyService#execute(String, String, Object, java.util.function.Supplier)} but with a too long
+     * key
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testExecuteWithTooLongKey() {
+        idempotencyService.execute(CREATE_ACCOUNT_OPERATION, StringUtils.repeat('k', MAX_IDEMPOTENCY_KEY_LENGTH + 1),
+                FINGERPRINT, this::run);
+    }
+
+    /**
+     * Tests {@link IdempotencyService#execute(String, String, Object, java.util.function.Supplier)} but with a failing
+     * operation, which should be run again on retry
+     */
+    @Test
+    public void testExecuteWithFailure() {
+        assertThatThrownBy(() -> idempotencyService.execute(CREATE_ACCOUNT_OPERATION, IDEMPOTENCY_KEY, FINGERPRINT,
+                () -> {
+                    executions.incrementAndGet();
+                    throw new TransactionalOperationException(ACCOUNT_CREATION_FAILED_ERROR);
+                })).isInstanceOf(TransactionalOperationException.class).hasMessage(ACCOUNT_CREATION_FAILED_ERROR);
+
+        long result = idempotencyService.execute(CREATE_ACCOUNT_OPERATION, IDEMPOTENCY_KEY, FINGERPRINT,
+                this::run);
+
+        assertThat(result).isEqualTo(ACCOUNT_ID);
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    /**
+     * Tests {@link IdempotencyService#execute(String, String, Object, java.util.function.Supplier)} but with concurrent
+     * requests having the same key, which should wait for the first one instead of running the operation again
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExecuteConcurrently() throws Exception {
+        int requests = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(requests);
+
+        try {
+            Future<Long> first = executorService.submit(() -> idempotencyService.execute(CREATE_ACCOUNT_OPERATION,
+                    IDEMPOTENCY_KEY, FINGERPRINT, () -> {
+                        started.countDown();
+                        awaitQuietly(release);
+                        return run();
+                    }));
+            started.await(5, TimeUnit.SECONDS);
+
+            Future<?>[] retries = new Future<?>[requests - 1];
+            for (int i = 0; i < retries.length; i++) {
+                retries[i] = executorService.submit(() -> idempotencyService.execute(CREATE_ACCOUNT_OPERATION,
+                        IDEMPOTENCY_KEY, FINGERPRINT, this::run));
+            }
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(ACCOUNT_ID);
+            for (Future<?> retry : retries) {
+                assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo(ACCOUNT_ID);
+            }
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private long run() {
+        executions.incrementAndGet();
+        return ACCOUNT_ID;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.blueharvest.bank.service;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.blueharvest.bank.dto.LatencyMetricsDto;
+import io.blueharvest.bank.metrics.HdrHistogramReservoir;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Test class for {@link LatencyMetricsService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class LatencyMetricsServiceTest {
+    private static final String GET_METRIC = "service.CustomerService.get";
+    private static final String CREATE_METRIC = "service.CustomerService.create";
+    private static final String UNKNOWN_METRIC = "service.CustomerService.unknown";
+    private static final double PRECISION = 0.01D; // HdrHistogram keeps three significant digits
+
+    private MetricRegistry metricRegistry;
+    private LatencyMetricsService latencyMetricsService;
+
+    @Before
+    public void setUp() throws Exception {
+        metricRegistry = new MetricRegistry();
+        latencyMetricsService = new LatencyMetricsService(metricRegistry);
+    }
+
+    /**
+     * Tests {@link LatencyMetricsService#get(String)}
+     */
+    @Test
+    public void testGet() {
+        Timer timer = metricRegistry.register(GET_METRIC, new Timer(new HdrHistogramReservoir()));
+        for (int i = 1; i <= 1000; i++) {
+            timer.update(i, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(latencyMetricsService.get(GET_METRIC)).hasValueSatisfying(metrics -> {
+            assertThat(metrics.getName()).isEqualTo(GET_METRIC);
+            assertThat(metrics.getCount()).isEqualTo(1000L);
+            assertThat(metrics.getP50()).isCloseTo(500.0D, within(500.0D * PRECISION));
+            assertThat(metrics.getP99()).isCloseTo(990.0D, within(990.0D * PRECISION));
+            assertThat(metrics.getP999()).isCloseTo(999.0D, within(999.0D * PRECISION));
+            assertThat(metrics.getMax()).isCloseTo(1000.0D, within(1000.0D * PRECISION));
+        });
+    }
+
+    /**
+     * Tests {@link LatencyMetricsService#get(String)} but for a metric that does not exist
+     */
+    @Test
+    public void testGetUnknownMetric() {
+        assertThat(latencyMetricsService.get(UNKNOWN_METRIC)).isEmpty();
+    }
+
+    /**
+     * Tests {@link LatencyMetricsService#getAll()}
+     */
+    @Test
+    public void testGetAll() {
+        metricRegistry.register(GET_METRIC, new Timer(new HdrHistogramReservoir()));
+        metricRegistry.register(CREATE_METRIC, new Timer(new HdrHistogramReservoir()));
+
+        List<LatencyMetricsDto> metrics = latencyMetricsService.getAll();
+
+        assertThat(metrics).extracting(LatencyMetricsDto::getName).containsExactly(CREATE_METRIC, GET_METRIC);
+    }
+}
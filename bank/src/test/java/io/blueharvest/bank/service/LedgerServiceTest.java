@@ -0,0 +1,140 @@
+package io.blueharvest.bank.service;
+
+import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.dto.BalanceDiscrepancy;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Optional;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.TRANSACTION_ID;
+import static io.blueharvest.bank.constant.Messages.BALANCE_DISCREPANCY_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link LedgerService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class LedgerServiceTest {
+    @Mock
+    private Logger logger;
+    @Mock
+    private AccountBalanceRepository accountBalanceRepository;
+
+    @InjectMocks
+    private LedgerService ledgerService;
+
+    private Transaction testTransaction;
+
+    @Before
+    public void setUp() throws Exception {
+        Account testAccount = new Account(ACCOUNT_ID, CREDIT);
+        testTransaction = new Transaction(TRANSACTION_ID, AMOUNT, testAccount);
+    }
+
+    /**
+     * Tests {@link LedgerService#apply(Transaction)} for an account that already has a balance
+     */
+    @Test
+    public void testApply() {
+        when(accountBalanceRepository.addToBalance(ACCOUNT_ID, AMOUNT.getMinorUnits())).thenReturn(1);
+
+        ledgerService.apply(testTransaction);
+
+        verify(accountBalanceRepository, never()).save(any(AccountBalance.class));
+    }
+
+    /**
+     * Tests {@link LedgerService#apply(Transaction)} for the first transaction of an account
+     */
+    @Test
+    public void testApplyForAccountWithoutBalance() {
+        when(accountBalanceRepository.addToBalance(ACCOUNT_ID, AMOUNT.getMinorUnits())).thenReturn(0);
+
+        ledgerService.apply(testTransaction);
+
+        verify(accountBalanceRepository).save(new AccountBalance(ACCOUNT_ID, AMOUNT.getMinorUnits()));
+    }
+
+    /**
+     * Tests {@link LedgerService#apply(Transaction)} but for null transaction
+     */
+    @Test(expected = NullPointerException.class)
+    public void testApplyForNullTransaction() {
+        ledgerService.apply(null);
+    }
+
+    /**
+     * Tests {@link LedgerService#delete(long)}
+     */
+    @Test
+    public void testDelete() {
+        ledgerService.delete(ACCOUNT_ID);
+
+        verify(accountBalanceRepository).deleteByAccountId(ACCOUNT_ID);
+    }
+
+    /**
+     * Tests {@link LedgerService#delete(long)} but for negative ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteForNegativeId() {
+        ledgerService.delete(-1);
+    }
+
+    /**
+     * Tests {@link LedgerService#getBalance(long)}
+     */
+    @Test
+    public void testGetBalance() {
+        when(accountBalanceRepository.findByAccountId(ACCOUNT_ID)).thenReturn(new AccountBalance(ACCOUNT_ID, AMOUNT.getMinorUnits()));
+
+        Optional<AccountBalance> balanceOptional = ledgerService.getBalance(ACCOUNT_ID);
+
+        assertThat(balanceOptional).hasValueSatisfying(
+                balance -> assertThat(balance.getBalance()).isEqualTo(AMOUNT.getMinorUnits()));
+    }
+
+    /**
+     * Tests {@link LedgerService#getBalance(long)} but for negative ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetBalanceForNegativeId() {
+        ledgerService.getBalance(-1);
+    }
+
+    /**
+     * Tests {@link LedgerService#reconcile()}
+     */
+    @Test
+    public void testReconcile() {
+        BalanceDiscrepancy discrepancy =
+                new BalanceDiscrepancy(ACCOUNT_ID, CREDIT.getMinorUnits(), AMOUNT.getMinorUnits() + 1);
+        when(accountBalanceRepository.findDiscrepancies()).thenReturn(ImmutableList.of(discrepancy));
+
+        List<BalanceDiscrepancy> discrepancies = ledgerService.reconcile();
+
+        assertThat(discrepancies).containsExactly(discrepancy);
+        verify(logger).warn(BALANCE_DISCREPANCY_ERROR, discrepancy);
+    }
+}
@@ -0,0 +1,194 @@
+package io.blueharvest.bank.service;
+
+import io.blueharvest.bank.error.TransactionalOperationException;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency stress test for {@link PostingService}. The database is replaced by in-memory fakes, so the test checks
+ * that the locking of the service neither loses updates nor deadlocks. How the throughput scales with the number of
+ * threads is measured by the benchmarks of the module "bank-benchmarks".
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class PostingServiceConcurrencyTest {
+    private static final int LOCK_STRIPES = 1024;
+    private static final int THREADS = 8;
+    private static final int POSTINGS_PER_THREAD = 200;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(PostingServiceConcurrencyTest.class);
+
+    /**
+     * Credits to disjoint accounts by concurrent threads must all be posted
+     */
+    @Test
+    public void testConcurrentCreditsToDisjointAccounts() throws Exception {
+        InMemoryLedger ledger = new InMemoryLedger(THREADS);
+        PostingService postingService = createPostingService(ledger);
+
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int thread = 1; thread <= THREADS; thread++) {
+            long accountId = thread;
+            workers.add(() -> {
+                for (int i = 0; i < POSTINGS_PER_THREAD; i++) {
+                    postingService.credit(accountId, Money.ofMinorUnits(1L));
+                }
+                return null;
+            });
+        }
+        runAll(workers);
+
+        for (int accountId = 1; accountId <= THREADS; accountId++) {
+            assertThat(ledger.balance(accountId)).isEqualTo(POSTINGS_PER_THREAD);
+        }
+    }
+
+    /**
+     * Transfers in both directions between a few shared accounts must neither deadlock nor lose updates
+     */
+    @Test
+    public void testConcurrentTransfersBetweenSharedAccounts() throws Exception {
+        int accounts = 4;
+        long initialBalance = 100000L; // In minor units
+        InMemoryLedger ledger = new InMemoryLedger(accounts);
+        PostingService postingService = createPostingService(ledger);
+        for (long accountId = 1; accountId <= accounts; accountId++) {
+            postingService.credit(accountId, Money.ofMinorUnits(initialBalance));
+        }
+
+        AtomicLongArray netTransfers = new AtomicLongArray(accounts + 1);
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            Random random = new Random(thread);
+            workers.add(() -> {
+                for (int i = 0; i < POSTINGS_PER_THREAD; i++) {
+                    long source = 1 + random.nextInt(accounts);
+                    long target = 1 + (source + random.nextInt(accounts - 1)) % accounts;
+                    try {
+                        postingService.transfer(source, target, Money.ofMinorUnits(1L));
+                        netTransfers.decrementAndGet((int) source);
+                        netTransfers.incrementAndGet((int) target);
+                    } catch (TransactionalOperationException exp) {
+                        // Insufficient funds, the transfer was not posted
+                    }
+                }
+                return null;
+            });
+        }
+        runAll(workers);
+
+        for (int accountId = 1; accountId <= accounts; accountId++) {
+            assertThat(ledger.balance(accountId)).isEqualTo(initialBalance + netTransfers.get(accountId));
+        }
+    }
+
+    private void runAll(List<Callable<Void>> workers) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> worker : workers) {
+                futures.add(executor.submit(worker));
+            }
+
+            // A deadlock shows up as a timeout here
+            for (Future<Void> future : futures) {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PostingService createPostingService(InMemoryLedger ledger) {
+        AccountService accountService = new AccountService(null, null, null, null, logger) {
+            @Override
+            public Optional<Account> get(long id) {
+                return Optional.of(new Account(id));
+            }
+        };
+
+        TransactionService transactionService = new TransactionService(null, ledger, null, null, null, logger) {
+            @Override
+            public Transaction create(Transaction transaction) {
+                ledger.apply(transaction);
+                return transaction;
+            }
+        };
+
+        return new PostingService(accountService, transactionService, ledger, Optional.empty(),
+                new NoOpTransactionManager(), LOCK_STRIPES, logger);
+    }
+
+    /**
+     * Ledger keeping balances in a plain array. Updates are deliberately not atomic, so postings to the same account
+     * that are not serialized by the service would lose updates.
+     */
+    private static class InMemoryLedger extends LedgerService {
+        private final long[] balances;
+
+        InMemoryLedger(int accounts) {
+            super(null, null);
+            balances = new long[accounts + 1];
+        }
+
+        @Override
+        public void apply(Transaction transaction) {
+            int accountId = (int) transaction.getAccount().getId();
+            balances[accountId] = balances[accountId] + transaction.getAmount().getMinorUnits();
+        }
+
+        @Override
+        public Optional<AccountBalance> getBalance(long accountId) {
+            return Optional.of(new AccountBalance(accountId, balances[(int) accountId]));
+        }
+
+        long balance(int accountId) {
+            return balances[accountId];
+        }
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            // Nothing to begin
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            // Nothing to commit
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            // Nothing to roll back
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package io.blueharvest.bank.service;
+
+import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.error.TransactionalOperationException;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link PostingService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class PostingServiceTest {
+    private static final long TARGET_ACCOUNT_ID = 2L;
+    private static final int LOCK_STRIPES = 16;
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private TransactionService transactionService;
+    @Mock
+    private LedgerService ledgerService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private JournalService journalService;
+
+    private PostingService postingService;
+
+    private Account testAccount;
+    private Account targetAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        testAccount = new Account(ACCOUNT_ID, CREDIT);
+        targetAccount = new Account(TARGET_ACCOUNT_ID, CREDIT);
+
+        postingService = new PostingService(accountService, transactionService, ledgerService, Optional.empty(),
+                transactionManager, LOCK_STRIPES, logger);
+
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.of(testAccount));
+        when(accountService.get(TARGET_ACCOUNT_ID)).thenReturn(Optional.of(targetAccount));
+        when(transactionService.create(any(Transaction.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+    }
+
+    /**
+     * Tests {@link PostingService#credit(long, Money)}
+     */
+    @Test
+    public void testCredit() {
+        Transaction transaction = postingService.credit(ACCOUNT_ID, AMOUNT);
+
+        assertThat(transaction.getAccount()).isEqualTo(testAccount);
+        assertThat(transaction.getAmount()).isEqualTo(AMOUNT);
+    }
+
+    /**
+     * Tests {@link PostingService#credit(long, Money)} but for a nonexistent account
+     */
+    @Test(expected = TransactionalOperationException.class)
+    public void testCreditForNonexistentAccount() {
+        when(accountService.get(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        postingService.credit(ACCOUNT_ID, AMOUNT);
+    }
+
+    /**
+     * Tests {@link PostingService#credit(long, Money)} but for a negative amount
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreditForNegativeAmount() {
+        postingService.credit(ACCOUNT_ID, AMOUNT.negate());
+    }
+
+    /**
+     * Tests {@link PostingService#credit(long, Money)} but with the journal enabled
+     */
+    @Test
+    public void testCreditWithJournal() {
+        Transaction journaledTransaction = new Transaction(0L, AMOUNT, new Account(ACCOUNT_ID));
+        when(journalService.post(ACCOUNT_ID, AMOUNT)).thenReturn(journaledTransaction);
+        postingService = new PostingService(accountService, transactionService, ledgerService,
+                Optional.of(journalService), transactionManager, LOCK_STRIPES, logger);
+
+        assertThat(postingService.credit(ACCOUNT_ID, AMOUNT)).isSameAs(journaledTransaction);
+        verify(transactionService, never()).create(any(Transaction.class));
+    }
+
+    /**
+     * Tests {@link PostingService#debit(long, Money)}
+     */
+    @Test
+    public void testDebit() {
+        when(ledgerService.getBalance(ACCOUNT_ID)).thenReturn(Optional.of(new AccountBalance(ACCOUNT_ID, CREDIT.getMinorUnits())));
+
+        Transaction transaction = postingService.debit(ACCOUNT_ID, AMOUNT);
+
+        assertThat(transaction.getAmount()).isEqualTo(AMOUNT.negate());
+    }
+
+    /**
+     * Tests {@link PostingService#debit(long, Money)} but with the journal enabled, which must apply the journaled
+     * credits of the account before the balance is checked
+     */
+    @Test
+    public void testDebitWithJournal() {
+        when(ledgerService.getBalance(ACCOUNT_ID)).thenReturn(Optional.of(new AccountBalance(ACCOUNT_ID, CREDIT.getMinorUnits())));
+        postingService = new PostingService(accountService, transactionService, ledgerService,
+                Optional.of(journalService), transactionManager, LOCK_STRIPES, logger);
+
+        postingService.debit(ACCOUNT_ID, AMOUNT);
+
+        InOrder inOrder = inOrder(journalService, ledgerService);
+        inOrder.verify(journalService).awaitApplied(ImmutableList.of(ACCOUNT_ID));
+        inOrder.verify(ledgerService).getBalance(ACCOUNT_ID);
+    }
+
+    /**
+     * Tests {@link PostingService#debit(long, Money)} but for an amount exceeding the balance
+     */
+    @Test
+    public void testDebitWithInsufficientFunds() {
+        when(ledgerService.getBalance(ACCOUNT_ID)).thenReturn(Optional.of(new AccountBalance(ACCOUNT_ID, AMOUNT.getMinorUnits())));
+
+        try {
+            postingService.debit(ACCOUNT_ID, AMOUNT.plus(CREDIT));
+        } catch (TransactionalOperationException exp) {
+            verify(transactionService, never()).create(any(Transaction.class));
+            return;
+        }
+
+        throw new AssertionError("Debit exceeding the balance should fail");
+    }
+
+    /**
+     * Tests {@link PostingService#transfer(long, long, Money)}
+     */
+    @Test
+    public void testTransfer() {
+        when(ledgerService.getBalance(ACCOUNT_ID)).thenReturn(Optional.of(new AccountBalance(ACCOUNT_ID, CREDIT.getMinorUnits())));
+
+        List<Transaction> transactions = postingService.transfer(ACCOUNT_ID, TARGET_ACCOUNT_ID, AMOUNT);
+
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionService, times(2)).create(captor.capture());
+        assertThat(transactions).containsExactlyElementsOf(captor.getAllValues());
+        assertThat(transactions.get(0).getAccount()).isEqualTo(testAccount);
+        assertThat(transactions.get(0).getAmount()).isEqualTo(AMOUNT.negate());
+        assertThat(transactions.get(1).getAccount()).isEqualTo(targetAccount);
+        assertThat(transactions.get(1).getAmount()).isEqualTo(AMOUNT);
+    }
+
+    /**
+     * Tests {@link PostingService#transfer(long, long, Money)} but from an account to itself
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTransferToSameAccount() {
+        postingService.transfer(ACCOUNT_ID, ACCOUNT_ID, AMOUNT);
+    }
+}
@@ -0,0 +1,180 @@
+package io.blueharvest.bank.service;
+
+import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.dto.PartitionReconciliation;
+import io.blueharvest.bank.dto.PostedAmount;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.RejectedJournalEntry;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.RejectedJournalEntryRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.Messages.BALANCE_DISCREPANCY_ERROR;
+import static io.blueharvest.bank.constant.Messages.COUNT_REJECTED_JOURNAL_ENTRIES_FOUND;
+import static io.blueharvest.bank.constant.Messages.REJECTED_JOURNAL_ENTRY_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link ReconciliationService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class ReconciliationServiceTest {
+    private static final int PARTITION_SIZE = 10;
+    private static final int PARALLELISM = 2;
+    private static final long OTHER_ACCOUNT_ID = ACCOUNT_ID + 1;
+    private static final long LAST_ACCOUNT_ID = ACCOUNT_ID + 2 * PARTITION_SIZE;
+
+    // The posted amounts hold the balances in minor units
+    private static final long AMOUNT_IN_MINOR_UNITS = AMOUNT.getMinorUnits();
+    private static final long CREDIT_IN_MINOR_UNITS = CREDIT.getMinorUnits();
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private AccountBalanceRepository accountBalanceRepository;
+    @Mock
+    private RejectedJournalEntryRepository rejectedJournalEntryRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReconciliationService reconciliationService;
+
+    @Before
+    public void setUp() throws Exception {
+        reconciliationService = new ReconciliationService(accountBalanceRepository, rejectedJournalEntryRepository,
+                transactionManager, PARTITION_SIZE, PARALLELISM, logger);
+    }
+
+    /**
+     * Tests {@link ReconciliationService#ReconciliationService} but for an invalid partition size
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithInvalidPartitionSize() {
+        new ReconciliationService(accountBalanceRepository, rejectedJournalEntryRepository, transactionManager, 0,
+                PARALLELISM, logger);
+    }
+
+    /**
+     * Tests {@link ReconciliationService#ReconciliationService} but for an invalid parallelism
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithInvalidParallelism() {
+        new ReconciliationService(accountBalanceRepository, rejectedJournalEntryRepository, transactionManager,
+                PARTITION_SIZE, 0, logger);
+    }
+
+    /**
+     * Tests {@link ReconciliationService#reconcile()}, which splits the accounts into partitions of consecutive IDs
+     */
+    @Test
+    public void testReconcile() {
+        when(accountBalanceRepository.findFirstAccountId()).thenReturn(ACCOUNT_ID);
+        when(accountBalanceRepository.findLastAccountId()).thenReturn(LAST_ACCOUNT_ID);
+        when(accountBalanceRepository.streamPostedAmounts(anyLong(), anyLong())).thenAnswer(invocation ->
+                Stream.empty());
+        when(accountBalanceRepository.streamPostedAmounts(ACCOUNT_ID, ACCOUNT_ID + PARTITION_SIZE - 1))
+                .thenAnswer(invocation -> Stream.of(
+                        new PostedAmount(ACCOUNT_ID, CREDIT_IN_MINOR_UNITS + AMOUNT_IN_MINOR_UNITS,
+                                CREDIT),
+                        new PostedAmount(ACCOUNT_ID, CREDIT_IN_MINOR_UNITS + AMOUNT_IN_MINOR_UNITS,
+                                AMOUNT),
+                        new PostedAmount(OTHER_ACCOUNT_ID, CREDIT_IN_MINOR_UNITS + 1, CREDIT)));
+        when(accountBalanceRepository.streamPostedAmounts(LAST_ACCOUNT_ID, LAST_ACCOUNT_ID + PARTITION_SIZE - 1))
+                .thenAnswer(invocation -> Stream.of(
+                        new PostedAmount(LAST_ACCOUNT_ID, CREDIT_IN_MINOR_UNITS, CREDIT)));
+
+        List<PartitionReconciliation> partitions = reconciliationService.reconcile();
+
+        assertThat(partitions).extracting(PartitionReconciliation::getFirstAccountId)
+                .containsExactly(ACCOUNT_ID, ACCOUNT_ID + PARTITION_SIZE, LAST_ACCOUNT_ID);
+        assertThat(partitions).extracting(PartitionReconciliation::getAccountCount).containsExactly(2L, 0L, 1L);
+        assertThat(partitions).extracting(PartitionReconciliation::getTransactionCount).containsExactly(3L, 0L, 1L);
+
+        PartitionReconciliation firstPartition = partitions.get(0);
+        assertThat(firstPartition.getLastAccountId()).isEqualTo(ACCOUNT_ID + PARTITION_SIZE - 1);
+        assertThat(firstPartition.getDiscrepancies()).hasSize(1);
+        assertThat(firstPartition.getDiscrepancies().get(0).getAccountId()).isEqualTo(OTHER_ACCOUNT_ID);
+        assertThat(firstPartition.getDiscrepancies().get(0).getBalance().getMinorUnits())
+                .isEqualTo(CREDIT_IN_MINOR_UNITS + 1);
+        assertThat(firstPartition.getDiscrepancies().get(0).getTransactionsTotal()).isEqualTo(CREDIT);
+        assertThat(partitions.get(2).getDiscrepancies()).isEmpty();
+        verify(logger).warn(BALANCE_DISCREPANCY_ERROR, firstPartition.getDiscrepancies().get(0));
+    }
+
+    /**
+     * Tests {@link ReconciliationService#reconcile()} for balances without any transactions, which are compared
+     * against a total of 0
+     */
+    @Test
+    public void testReconcileWithBalancesWithoutTransactions() {
+        when(accountBalanceRepository.findFirstAccountId()).thenReturn(ACCOUNT_ID);
+        when(accountBalanceRepository.findLastAccountId()).thenReturn(OTHER_ACCOUNT_ID);
+        when(accountBalanceRepository.streamPostedAmounts(ACCOUNT_ID, ACCOUNT_ID + PARTITION_SIZE - 1))
+                .thenAnswer(invocation -> Stream.empty());
+        when(accountBalanceRepository.findBalancesWithoutTransactions(ACCOUNT_ID, ACCOUNT_ID + PARTITION_SIZE - 1))
+                .thenReturn(ImmutableList.of(new AccountBalance(ACCOUNT_ID, 0L),
+                        new AccountBalance(OTHER_ACCOUNT_ID, CREDIT_IN_MINOR_UNITS)));
+
+        List<PartitionReconciliation> partitions = reconciliationService.reconcile();
+
+        assertThat(partitions).hasSize(1);
+        assertThat(partitions.get(0).getAccountCount()).isEqualTo(2L);
+        assertThat(partitions.get(0).getTransactionCount()).isEqualTo(0L);
+        assertThat(partitions.get(0).getDiscrepancies()).hasSize(1);
+        assertThat(partitions.get(0).getDiscrepancies().get(0).getAccountId()).isEqualTo(OTHER_ACCOUNT_ID);
+        assertThat(partitions.get(0).getDiscrepancies().get(0).getBalance()).isEqualTo(CREDIT);
+        assertThat(partitions.get(0).getDiscrepancies().get(0).getTransactionsTotal()).isEqualTo(Money.ZERO);
+    }
+
+    /**
+     * Tests {@link ReconciliationService#reconcile()} but without any balances
+     */
+    @Test
+    public void testReconcileWithoutBalances() {
+        when(accountBalanceRepository.findFirstAccountId()).thenReturn(null);
+        when(accountBalanceRepository.findLastAccountId()).thenReturn(null);
+
+        assertThat(reconciliationService.reconcile()).isEmpty();
+
+        verify(accountBalanceRepository, never()).streamPostedAmounts(anyLong(), anyLong());
+    }
+
+    /**
+     * Tests {@link ReconciliationService#reconcile()}, which reports the rejected journal entries
+     */
+    @Test
+    public void testReconcileReportsRejectedJournalEntries() {
+        when(accountBalanceRepository.findFirstAccountId()).thenReturn(null);
+        when(accountBalanceRepository.findLastAccountId()).thenReturn(null);
+        RejectedJournalEntry rejectedEntry = new RejectedJournalEntry("transactions.journal", 1L, ACCOUNT_ID,
+                AMOUNT_IN_MINOR_UNITS, new Date(), null);
+        when(rejectedJournalEntryRepository.findAllByOrderByRejectedTimeAsc())
+                .thenReturn(ImmutableList.of(rejectedEntry));
+
+        reconciliationService.reconcile();
+
+        verify(logger).warn(REJECTED_JOURNAL_ENTRY_ERROR, rejectedEntry);
+        verify(logger).info(COUNT_REJECTED_JOURNAL_ENTRIES_FOUND, 1);
+    }
+}
@@ -0,0 +1,75 @@
+package io.blueharvest.bank.service;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+
+import static io.blueharvest.bank.service.SqlTracingService.SQL_LOGGER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link SqlTracingService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class SqlTracingServiceTest {
+    @Mock
+    private LoggingSystem loggingSystem;
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private SqlTracingService sqlTracingService;
+
+    /**
+     * Tests {@link SqlTracingService#isEnabled()}
+     */
+    @Test
+    public void testIsEnabled() {
+        when(loggingSystem.getLoggerConfiguration(SQL_LOGGER_NAME))
+                .thenReturn(new LoggerConfiguration(SQL_LOGGER_NAME, LogLevel.DEBUG, LogLevel.DEBUG));
+
+        assertThat(sqlTracingService.isEnabled()).isTrue();
+    }
+
+    /**
+     * Tests {@link SqlTracingService#isEnabled()} but for an SQL logger inheriting a level above debug
+     */
+    @Test
+    public void testIsEnabledWithInheritedLevel() {
+        when(loggingSystem.getLoggerConfiguration(SQL_LOGGER_NAME))
+                .thenReturn(new LoggerConfiguration(SQL_LOGGER_NAME, null, LogLevel.INFO));
+
+        assertThat(sqlTracingService.isEnabled()).isFalse();
+    }
+
+    /**
+     * Tests {@link SqlTracingService#setEnabled(boolean)}
+     */
+    @Test
+    public void testSetEnabled() {
+        sqlTracingService.setEnabled(true);
+
+        verify(loggingSystem).setLogLevel(SQL_LOGGER_NAME, LogLevel.DEBUG);
+    }
+
+    /**
+     * Tests {@link SqlTracingService#setEnabled(boolean)} but for switching tracing off
+     */
+    @Test
+    public void testSetDisabled() {
+        sqlTracingService.setEnabled(false);
+
+        verify(loggingSystem).setLogLevel(SQL_LOGGER_NAME, null);
+    }
+}
@@ -0,0 +1,285 @@
+package io.blueharvest.bank.service;
+
+import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.dto.AccountStatement;
+import io.blueharvest.bank.dto.TransactionSummary;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.DailyStatement;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.DailyStatementRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.TRANSACTION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link StatementService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class StatementServiceTest {
+    private static final Date FIRST_DAY = java.sql.Date.valueOf("2026-10-01");
+    private static final Date SECOND_DAY = java.sql.Date.valueOf("2026-10-02");
+    private static final Date LAST_DAY_OF_MONTH = java.sql.Date.valueOf("2026-10-31");
+    private static final Date FIRST_DAY_OF_YEAR = java.sql.Date.valueOf("2026-01-01");
+    private static final Date LAST_DAY_OF_YEAR = java.sql.Date.valueOf("2026-12-31");
+
+    // The rollups hold the amounts in minor units
+    private static final long AMOUNT_IN_MINOR_UNITS = AMOUNT.getMinorUnits();
+    private static final long CREDIT_IN_MINOR_UNITS = CREDIT.getMinorUnits();
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private DailyStatementRepository dailyStatementRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private LedgerService ledgerService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private StatementService statementService;
+
+    private Transaction testTransaction;
+    private Date testDay;
+
+    @Before
+    public void setUp() throws Exception {
+        testTransaction = new Transaction(TRANSACTION_ID, AMOUNT, new Account(ACCOUNT_ID, CREDIT));
+        testDay = StatementService.dayOf(testTransaction.getTransactionTime());
+    }
+
+    /**
+     * Tests {@link StatementService#apply(Transaction)} for a day that already has a rollup
+     */
+    @Test
+    public void testApply() {
+        when(dailyStatementRepository.addToStatement(ACCOUNT_ID, testDay, AMOUNT_IN_MINOR_UNITS, AMOUNT_IN_MINOR_UNITS, 0L)).thenReturn(1);
+
+        statementService.apply(testTransaction);
+
+        verify(entityManager, never()).persist(any(DailyStatement.class));
+        verify(dailyStatementRepository).shiftBalancesAfter(ACCOUNT_ID, testDay, AMOUNT_IN_MINOR_UNITS);
+    }
+
+    /**
+     * Tests {@link StatementService#apply(Transaction)} for the first transaction of a day
+     */
+    @Test
+    public void testApplyForFirstTransactionOfDay() {
+        when(dailyStatementRepository.addToStatement(ACCOUNT_ID, testDay, AMOUNT_IN_MINOR_UNITS, AMOUNT_IN_MINOR_UNITS, 0L)).thenReturn(0);
+        when(dailyStatementRepository.findClosingBalancesBefore(eq(ACCOUNT_ID), eq(testDay), any(Pageable.class)))
+                .thenReturn(ImmutableList.of(CREDIT_IN_MINOR_UNITS));
+
+        statementService.apply(testTransaction);
+
+        DailyStatement dailyStatement = capturePersistedStatements(1).get(0);
+        assertThat(dailyStatement.getStatementDay()).isEqualTo(testDay);
+        assertThat(dailyStatement.getOpeningBalance()).isEqualTo(CREDIT_IN_MINOR_UNITS);
+        assertThat(dailyStatement.getClosingBalance()).isEqualTo(CREDIT_IN_MINOR_UNITS + AMOUNT_IN_MINOR_UNITS);
+        assertThat(dailyStatement.getCredits()).isEqualTo(AMOUNT_IN_MINOR_UNITS);
+        assertThat(dailyStatement.getDebits()).isEqualTo(0L);
+        assertThat(dailyStatement.getTransactionCount()).isEqualTo(1L);
+        verify(dailyStatementRepository).shiftBalancesAfter(ACCOUNT_ID, testDay, AMOUNT_IN_MINOR_UNITS);
+    }
+
+    /**
+     * Tests {@link StatementService#apply(Transaction)} for the first rollup of an account whose earlier transactions
+     * predate the rollups
+     */
+    @Test
+    public void testApplyForFirstRollupOfAccount() {
+        when(dailyStatementRepository.addToStatement(ACCOUNT_ID, testDay, AMOUNT_IN_MINOR_UNITS, AMOUNT_IN_MINOR_UNITS, 0L)).thenReturn(0);
+        when(dailyStatementRepository.findClosingBalancesBefore(eq(ACCOUNT_ID), eq(testDay), any(Pageable.class)))
+                .thenReturn(ImmutableList.of());
+        when(dailyStatementRepository.findOpeningBalancesFrom(eq(ACCOUNT_ID), eq(testDay), any(Pageable.class)))
+                .thenReturn(ImmutableList.of());
+        when(ledgerService.getBalance(ACCOUNT_ID)).thenReturn(Optional.of(new AccountBalance(ACCOUNT_ID, CREDIT_IN_MINOR_UNITS)));
+
+        statementService.apply(testTransaction);
+
+        assertThat(capturePersistedStatements(1).get(0).getOpeningBalance()).isEqualTo(CREDIT_IN_MINOR_UNITS);
+    }
+
+    /**
+     * Tests {@link StatementService#apply(Transaction)} but for null transaction
+     */
+    @Test(expected = NullPointerException.class)
+    public void testApplyForNullTransaction() {
+        statementService.apply(null);
+    }
+
+    /**
+     * Tests {@link StatementService#rebuild(long)}
+     */
+    @Test
+    public void testRebuild() {
+        when(dailyStatementRepository.aggregateTransactions(ACCOUNT_ID)).thenReturn(ImmutableList.of(
+                new DailyStatement(ACCOUNT_ID, FIRST_DAY, AMOUNT_IN_MINOR_UNITS, -CREDIT_IN_MINOR_UNITS, 2L),
+                new DailyStatement(ACCOUNT_ID, SECOND_DAY, AMOUNT_IN_MINOR_UNITS, 0L, 1L)));
+
+        int rebuiltStatements = statementService.rebuild(ACCOUNT_ID);
+
+        assertThat(rebuiltStatements).isEqualTo(2);
+        verify(entityManager).flush();
+        verify(dailyStatementRepository).deleteByAccountId(ACCOUNT_ID);
+
+        List<DailyStatement> dailyStatements = capturePersistedStatements(2);
+        assertThat(dailyStatements.get(0).getOpeningBalance()).isEqualTo(0L);
+        assertThat(dailyStatements.get(0).getClosingBalance()).isEqualTo(AMOUNT_IN_MINOR_UNITS - CREDIT_IN_MINOR_UNITS);
+        assertThat(dailyStatements.get(1).getOpeningBalance()).isEqualTo(AMOUNT_IN_MINOR_UNITS - CREDIT_IN_MINOR_UNITS);
+        assertThat(dailyStatements.get(1).getClosingBalance()).isEqualTo(AMOUNT_IN_MINOR_UNITS - CREDIT_IN_MINOR_UNITS + AMOUNT_IN_MINOR_UNITS);
+    }
+
+    /**
+     * Tests {@link StatementService#rebuild(long)} but for negative account ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRebuildForNegativeAccountId() {
+        statementService.rebuild(-1);
+    }
+
+    /**
+     * Tests {@link StatementService#delete(long)}
+     */
+    @Test
+    public void testDelete() {
+        when(dailyStatementRepository.deleteByAccountId(ACCOUNT_ID)).thenReturn(2);
+
+        assertThat(statementService.delete(ACCOUNT_ID)).isEqualTo(2);
+
+        verify(entityManager).flush();
+    }
+
+    /**
+     * Tests {@link StatementService#delete(long)} but for negative account ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteForNegativeAccountId() {
+        statementService.delete(-1);
+    }
+
+    /**
+     * Tests {@link StatementService#backfill()}
+     */
+    @Test
+    public void testBackfill() {
+        when(transactionRepository.findAccountIdsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(ImmutableList.of(ACCOUNT_ID));
+        when(transactionRepository.findAccountIdsAfter(eq(ACCOUNT_ID), any(Pageable.class)))
+                .thenReturn(ImmutableList.of());
+        when(dailyStatementRepository.aggregateTransactions(ACCOUNT_ID)).thenReturn(ImmutableList.of());
+
+        long backfilledAccounts = statementService.backfill();
+
+        assertThat(backfilledAccounts).isEqualTo(1L);
+        verify(dailyStatementRepository).deleteByAccountId(ACCOUNT_ID);
+        verify(dailyStatementRepository).aggregateTransactions(ACCOUNT_ID);
+    }
+
+    /**
+     * Tests {@link StatementService#getMonthlyStatement(long, int, int)}
+     */
+    @Test
+    public void testGetMonthlyStatement() {
+        when(dailyStatementRepository.summarizeByAccountId(ACCOUNT_ID, FIRST_DAY, LAST_DAY_OF_MONTH))
+                .thenReturn(new TransactionSummary(3L, AMOUNT_IN_MINOR_UNITS - CREDIT_IN_MINOR_UNITS, AMOUNT_IN_MINOR_UNITS, -CREDIT_IN_MINOR_UNITS));
+        when(dailyStatementRepository.findClosingBalancesBefore(eq(ACCOUNT_ID), eq(FIRST_DAY), any(Pageable.class)))
+                .thenReturn(ImmutableList.of(CREDIT_IN_MINOR_UNITS));
+
+        AccountStatement statement = statementService.getMonthlyStatement(ACCOUNT_ID, 2026, 10);
+
+        assertThat(statement.getAccountId()).isEqualTo(ACCOUNT_ID);
+        assertThat(statement.getFirstDay()).isEqualTo(FIRST_DAY);
+        assertThat(statement.getLastDay()).isEqualTo(LAST_DAY_OF_MONTH);
+        assertThat(statement.getOpeningBalance()).isEqualTo(Money.ofMinorUnits(CREDIT_IN_MINOR_UNITS));
+        assertThat(statement.getClosingBalance()).isEqualTo(Money.ofMinorUnits(AMOUNT_IN_MINOR_UNITS));
+        assertThat(statement.getCredits()).isEqualTo(Money.ofMinorUnits(AMOUNT_IN_MINOR_UNITS));
+        assertThat(statement.getDebits()).isEqualTo(Money.ofMinorUnits(-CREDIT_IN_MINOR_UNITS));
+        assertThat(statement.getTransactionCount()).isEqualTo(3L);
+    }
+
+    /**
+     * Tests {@link StatementService#getMonthlyStatement(long, int, int)} but for invalid month
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetMonthlyStatementForInvalidMonth() {
+        statementService.getMonthlyStatement(ACCOUNT_ID, 2026, 13);
+    }
+
+    /**
+     * Tests {@link StatementService#getYearlyStatement(long, int)}
+     */
+    @Test
+    public void testGetYearlyStatement() {
+        when(dailyStatementRepository.summarizeByAccountId(ACCOUNT_ID, FIRST_DAY_OF_YEAR, LAST_DAY_OF_YEAR))
+                .thenReturn(new TransactionSummary(0L, 0L, 0L, 0L));
+        when(dailyStatementRepository.findClosingBalancesBefore(eq(ACCOUNT_ID), eq(FIRST_DAY_OF_YEAR),
+                any(Pageable.class))).thenReturn(ImmutableList.of());
+        when(dailyStatementRepository.findOpeningBalancesFrom(eq(ACCOUNT_ID), eq(FIRST_DAY_OF_YEAR),
+                any(Pageable.class))).thenReturn(ImmutableList.of());
+        when(ledgerService.getBalance(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        AccountStatement statement = statementService.getYearlyStatement(ACCOUNT_ID, 2026);
+
+        assertThat(statement.getFirstDay()).isEqualTo(FIRST_DAY_OF_YEAR);
+        assertThat(statement.getLastDay()).isEqualTo(LAST_DAY_OF_YEAR);
+        assertThat(statement.getOpeningBalance()).isEqualTo(Money.ZERO);
+        assertThat(statement.getClosingBalance()).isEqualTo(Money.ZERO);
+    }
+
+    /**
+     * Tests {@link StatementService#getYearlyStatement(long, int)} but for year beyond the range of the database
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetYearlyStatementForInvalidYear() {
+        statementService.getYearlyStatement(ACCOUNT_ID, 10000);
+    }
+
+    /**
+     * Tests {@link StatementService#getYearlyStatement(long, int)} but for negative account ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetYearlyStatementForNegativeAccountId() {
+        statementService.getYearlyStatement(-1, 2026);
+    }
+
+    private List<DailyStatement> capturePersistedStatements(int count) {
+        ArgumentCaptor<DailyStatement> captor = ArgumentCaptor.forClass(DailyStatement.class);
+        verify(entityManager, times(count)).persist(captor.capture());
+
+        return captor.getAllValues();
+    }
+}
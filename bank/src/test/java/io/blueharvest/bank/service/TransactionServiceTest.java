@@ -1,26 +1,47 @@
 package io.blueharvest.bank.service;
 
 import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.dto.DailyTransactionTotal;
+import io.blueharvest.bank.dto.TransactionDto;
+import io.blueharvest.bank.dto.TransactionSummary;
 import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Money;
 import io.blueharvest.bank.model.Transaction;
 import io.blueharvest.bank.repository.TransactionRepository;
-import org.apache.log4j.Logger;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.springframework.data.domain.PageRequest;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static io.blueharvest.bank.constant.FieldValues.ACCOUNT_ID;
 import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
 import static io.blueharvest.bank.constant.FieldValues.COUNT_OF_TRANSACTIONS;
 import static io.blueharvest.bank.constant.FieldValues.CREDIT;
 import static io.blueharvest.bank.constant.FieldValues.TRANSACTION_ID;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static io.blueharvest.bank.constant.Pagination.FIRST_PAGE_AFTER_ID;
+import static io.blueharvest.bank.service.TransactionService.EARLIEST_TRANSACTION_TIME;
+import static io.blueharvest.bank.service.TransactionService.HIGHEST_AMOUNT;
+import static io.blueharvest.bank.service.TransactionService.LATEST_TRANSACTION_TIME;
+import static io.blueharvest.bank.service.TransactionService.LOWEST_AMOUNT;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -31,10 +52,21 @@ import static org.mockito.Mockito.when;
  **/
 @RunWith(MockitoJUnitRunner.class)
 public class TransactionServiceTest {
+    private static final Date FROM = new Date(1_000_000L);
+    private static final Date TO = new Date(2_000_000L);
+
     @Mock
     private Logger logger;
     @Mock
     private TransactionRepository transactionRepository;
+    @Mock
+    private LedgerService ledgerService;
+    @Mock
+    private StatementService statementService;
+    @Mock
+    private AccountEventService accountEventService;
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private TransactionService transactionService;
@@ -98,6 +130,36 @@ public class TransactionServiceTest {
         assertThat(transactions).hasSize(COUNT_OF_TRANSACTIONS);
     }
 
+    /**
+     * Tests {@link TransactionService#page(long, int)}
+     */
+    @Test
+    public void testPage() {
+        when(transactionRepository.findByIdGreaterThanOrderByIdAsc(FIRST_PAGE_AFTER_ID, new PageRequest(0, DEFAULT_PAGE_SIZE)))
+                .thenReturn(ImmutableList.of(testTransaction));
+
+        List<Transaction> transactions = transactionService.page(FIRST_PAGE_AFTER_ID, DEFAULT_PAGE_SIZE);
+
+        assertThat(transactions).hasSize(COUNT_OF_TRANSACTIONS);
+        assertThat(transactions.get(0)).isEqualTo(testTransaction);
+    }
+
+    /**
+     * Tests {@link TransactionService#page(long, int)} but for negative ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageForNegativeAfterId() {
+        transactionService.page(-1, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Tests {@link TransactionService#page(long, int)} but for an invalid page size
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageForInvalidLimit() {
+        transactionService.page(FIRST_PAGE_AFTER_ID, 0);
+    }
+
     /**
      * Tests {@link TransactionService#create(Transaction)}
      */
@@ -110,6 +172,43 @@ public class TransactionServiceTest {
         assertThat(createdTransaction).isNotNull();
         assertThat(createdTransaction.getId()).isEqualTo(TRANSACTION_ID);
         assertThat(createdTransaction.getAmount()).isEqualTo(AMOUNT);
+
+        // The daily statement is updated before the ledger, so it can still read the balance before the transaction
+        InOrder inOrder = inOrder(statementService, ledgerService, accountEventService);
+        inOrder.verify(statementService).apply(testTransaction);
+        inOrder.verify(ledgerService).apply(testTransaction);
+        inOrder.verify(accountEventService).apply(testTransaction);
+    }
+
+    /**
+     * Tests {@link TransactionService#createAll(Iterable)} with transactions spanning several batches
+     */
+    @Test
+    public void testCreateAll() {
+        int batches = 3;
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < batches * TransactionService.INGESTION_BATCH_SIZE; i++) {
+            transactions.add(new Transaction(0L, AMOUNT, testAccount));
+        }
+
+        long createdTransactions = transactionService.createAll(transactions);
+
+        assertThat(createdTransactions).isEqualTo(transactions.size());
+        verify(transactionRepository, times(transactions.size())).save(any(Transaction.class));
+        verify(entityManager, times(batches + 1)).flush(); // The final flush has nothing left to send
+        verify(entityManager, times(batches + 1)).clear();
+        verify(ledgerService, times(batches)).apply(ACCOUNT_ID,
+                AMOUNT.getMinorUnits() * TransactionService.INGESTION_BATCH_SIZE);
+        verify(accountEventService, times(batches + 1)).apply(anyListOf(Transaction.class));
+        verify(statementService).rebuild(ACCOUNT_ID); // Once for the whole import
+    }
+
+    /**
+     * Tests {@link TransactionService#createAll(Iterable)} but for null transactions
+     */
+    @Test(expected = NullPointerException.class)
+    public void testCreateAllForNullTransactions() {
+        transactionService.createAll(null);
     }
 
     /**
@@ -125,7 +224,7 @@ public class TransactionServiceTest {
      */
     @Test
     public void testGetTransactionsForAccount() {
-        when(transactionRepository.findByAccount(testAccount)).thenReturn(ImmutableList.of(testTransaction));
+        when(transactionRepository.findHistoryByAccount(testAccount)).thenReturn(ImmutableList.of(testTransaction));
 
         List<Transaction> transactionsForAccount = transactionService.getTransactionsForAccount(ACCOUNT_ID);
 
@@ -147,10 +246,143 @@ public class TransactionServiceTest {
      */
     @Test
     public void testDeleteForCustomerWithNoAccounts() {
-        when(transactionRepository.findByAccount(testAccount)).thenReturn(ImmutableList.of());
+        when(transactionRepository.findHistoryByAccount(testAccount)).thenReturn(ImmutableList.of());
 
         List<Transaction> transactionsForAccount = transactionService.getTransactionsForAccount(ACCOUNT_ID);
 
         assertThat(transactionsForAccount).isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests {@link TransactionService#forEachTransactionForAccount(long, java.util.function.Consumer)}
+     */
+    @Test
+    public void testForEachTransactionForAccount() {
+        TransactionDto testTransactionDto = new TransactionDto(TRANSACTION_ID, AMOUNT, ACCOUNT_ID);
+        when(transactionRepository.streamByAccountId(ACCOUNT_ID)).thenReturn(Stream.of(testTransactionDto));
+
+        List<TransactionDto> transactionsForAccount = new ArrayList<>();
+        long count = transactionService.forEachTransactionForAccount(ACCOUNT_ID, transactionsForAccount::add);
+
+        assertThat(count).isEqualTo(COUNT_OF_TRANSACTIONS);
+        assertThat(transactionsForAccount).containsExactly(testTransactionDto);
+    }
+
+    /**
+     * Tests {@link TransactionService#forEachTransactionForAccount(long, java.util.function.Consumer)} but with
+     * negative account ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testForEachTransactionForAccountWithNegativeAccountId() {
+        transactionService.forEachTransactionForAccount(-1, transaction -> {
+        });
+    }
+
+    /**
+     * Tests {@link TransactionService#findTransactionsForAccount(long, Date, Date, Money, Money)}
+     */
+    @Test
+    public void testFindTransactionsForAccount() {
+        TransactionDto testTransactionDto = new TransactionDto(TRANSACTION_ID, AMOUNT, ACCOUNT_ID);
+        when(transactionRepository.findByAccountIdAndRanges(ACCOUNT_ID, FROM, TO, Money.ZERO, AMOUNT))
+                .thenReturn(ImmutableList.of(testTransactionDto));
+
+        List<TransactionDto> transactionsForAccount =
+                transactionService.findTransactionsForAccount(ACCOUNT_ID, FROM, TO, Money.ZERO, AMOUNT);
+
+        assertThat(transactionsForAccount).containsExactly(testTransactionDto);
+    }
+
+    /**
+     * Tests {@link TransactionService#findTransactionsForAccount(long, Date, Date, Money, Money)} but without
+     * bounds, which are replaced by the earliest and latest time and the lowest and highest amount
+     */
+    @Test
+    public void testFindTransactionsForAccountWithoutBounds() {
+        when(transactionRepository.findByAccountIdAndRanges(ACCOUNT_ID, EARLIEST_TRANSACTION_TIME,
+                LATEST_TRANSACTION_TIME, LOWEST_AMOUNT, HIGHEST_AMOUNT)).thenReturn(ImmutableList.of());
+
+        List<TransactionDto> transactionsForAccount =
+                transactionService.findTransactionsForAccount(ACCOUNT_ID, null, null, null, null);
+
+        assertThat(transactionsForAccount).isEmpty();
+        verify(transactionRepository).findByAccountIdAndRanges(ACCOUNT_ID, EARLIEST_TRANSACTION_TIME,
+                LATEST_TRANSACTION_TIME, LOWEST_AMOUNT, HIGHEST_AMOUNT);
+    }
+
+    /**
+     * Tests {@link TransactionService#findTransactionsForAccount(long, Date, Date, Money, Money)} but with a time
+     * range ending before it starts
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindTransactionsForAccountWithInvalidTimeRange() {
+        transactionService.findTransactionsForAccount(ACCOUNT_ID, TO, FROM, null, null);
+    }
+
+    /**
+     * Tests {@link TransactionService#findTransactionsForAccount(long, Date, Date, Money, Money)} but with a lowest
+     * amount above the highest amount
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindTransactionsForAccountWithInvalidAmountRange() {
+        transactionService.findTransactionsForAccount(ACCOUNT_ID, null, null, AMOUNT, Money.ZERO);
+    }
+
+    /**
+     * Tests {@link TransactionService#summarizeTransactionsForAccount(long, Date, Date)}
+     */
+    @Test
+    public void testSummarizeTransactionsForAccount() {
+        TransactionSummary testSummary = new TransactionSummary(1L, AMOUNT.getMinorUnits(), AMOUNT.getMinorUnits(), 0L);
+        when(transactionRepository.summarizeByAccountId(ACCOUNT_ID, FROM, LATEST_TRANSACTION_TIME))
+                .thenReturn(testSummary);
+
+        TransactionSummary summary = transactionService.summarizeTransactionsForAccount(ACCOUNT_ID, FROM, null);
+
+        assertThat(summary).isSameAs(testSummary);
+    }
+
+    /**
+     * Tests {@link TransactionService#summarizeTransactionsForAccount(long, Date, Date)} but with negative account ID
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSummarizeTransactionsForAccountWithNegativeAccountId() {
+        transactionService.summarizeTransactionsForAccount(-1, null, null);
+    }
+
+    /**
+     * Tests {@link TransactionService#getDailyTotalsForAccount(long, Date, Date)}
+     */
+    @Test
+    public void testGetDailyTotalsForAccount() {
+        DailyTransactionTotal testDailyTotal = new DailyTransactionTotal(FROM, 1L, AMOUNT.getMinorUnits());
+        when(transactionRepository.findDailyTotalsByAccountId(ACCOUNT_ID, EARLIEST_TRANSACTION_TIME, TO))
+                .thenReturn(ImmutableList.of(testDailyTotal));
+
+        List<DailyTransactionTotal> dailyTotals = transactionService.getDailyTotalsForAccount(ACCOUNT_ID, null, TO);
+
+        assertThat(dailyTotals).containsExactly(testDailyTotal);
+    }
+
+    /**
+     * Tests {@link TransactionService#getDailyTotalsForAccount(long, Date, Date)} but with an empty time range
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetDailyTotalsForAccountWithEmptyTimeRange() {
+        transactionService.getDailyTotalsForAccount(ACCOUNT_ID, FROM, FROM);
+    }
+
+    /**
+     * Tests {@link TransactionService#deleteTransactionsForAccount(long)}, which deletes the balance and the daily
+     * rollups of the account as well
+     */
+    @Test
+    public void testDeleteTransactionsForAccount() {
+        when(transactionRepository.deleteByAccountId(ACCOUNT_ID)).thenReturn(2);
+
+        assertThat(transactionService.deleteTransactionsForAccount(ACCOUNT_ID)).isEqualTo(2);
+
+        verify(ledgerService).delete(ACCOUNT_ID);
+        verify(statementService).delete(ACCOUNT_ID);
+    }
+}
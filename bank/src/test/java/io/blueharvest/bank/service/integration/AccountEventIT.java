@@ -0,0 +1,204 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountEvent;
+import io.blueharvest.bank.model.AccountEventType;
+import io.blueharvest.bank.model.AccountSnapshot;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountEventRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.AccountSnapshotRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.DailyStatementRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountEventService;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.LedgerService;
+import io.blueharvest.bank.service.PostingService;
+import io.blueharvest.bank.service.TransactionService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link AccountEventService}, which records the events of the accounts along with the
+ * changes made by {@link AccountService} and {@link TransactionService} in the embedded database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "bank.events.snapshot-interval=" + AccountEventIT.SNAPSHOT_INTERVAL)
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class AccountEventIT {
+    static final int SNAPSHOT_INTERVAL = 3;
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private DailyStatementRepository dailyStatementRepository;
+    @Inject
+    private AccountEventRepository accountEventRepository;
+    @Inject
+    private AccountSnapshotRepository accountSnapshotRepository;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private TransactionService transactionService;
+    @Inject
+    private PostingService postingService;
+    @Inject
+    private LedgerService ledgerService;
+    @Inject
+    private AccountEventService accountEventService;
+    @Inject
+    private CacheManager cacheManager;
+
+    private Customer testCustomer;
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        testCustomer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        testAccount = accountService.create(new Account(0L, CREDIT, testCustomer));
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+        dailyStatementRepository.deleteAll();
+        accountEventRepository.deleteAll();
+        accountSnapshotRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    /**
+     * Tests that opening, crediting, debiting and reassigning an account are recorded as its events, along with a
+     * snapshot every few events, and that the state rebuilt from them matches the account
+     */
+    @Test
+    public void testRecordEvents() {
+        Customer otherCustomer = customerRepository.save(new Customer(0L, SURNAME, NAME, ADDRESS, POSTCODE));
+        postingService.credit(testAccount.getId(), AMOUNT);
+        postingService.debit(testAccount.getId(), AMOUNT);
+
+        Account account = accountRepository.findById(testAccount.getId());
+        account.setCustomer(otherCustomer);
+        assertThat(accountService.update(account)).isTrue();
+
+        List<AccountEvent> events = accountEventService.getEvents(testAccount.getId());
+        assertThat(events).extracting(AccountEvent::getEventType).containsExactly(AccountEventType.OPENED,
+                AccountEventType.CREDITED, AccountEventType.CREDITED, AccountEventType.DEBITED,
+                AccountEventType.CUSTOMER_REASSIGNED);
+        assertThat(events).extracting(AccountEvent::getSequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(getSnapshots()).extracting(AccountSnapshot::getSequence).containsExactly((long) SNAPSHOT_INTERVAL);
+
+        assertThat(accountEventService.getState(testAccount.getId())).hasValueSatisfying(state -> {
+            assertThat(state.getSequence()).isEqualTo(5L);
+            assertThat(state.getCustomerId()).isEqualTo(otherCustomer.getId());
+            assertThat(state.getBalance()).isEqualTo(ledgerService.getBalance(testAccount.getId()).get().getBalance());
+        });
+    }
+
+    /**
+     * Tests {@link AccountService#update(Account)} but without a change of the customer, which records no event
+     */
+    @Test
+    public void testUpdateWithoutReassignment() {
+        Account account = accountRepository.findById(testAccount.getId());
+        account.setCredit(AMOUNT);
+        assertThat(accountService.update(account)).isTrue();
+
+        assertThat(accountEventService.getEvents(testAccount.getId())).extracting(AccountEvent::getEventType)
+                .containsExactly(AccountEventType.OPENED, AccountEventType.CREDITED);
+    }
+
+    /**
+     * Tests {@link AccountEventService#getState(long, Date)} for a point in time before the last events
+     */
+    @Test
+    public void testGetStateAtPointInTime() throws Exception {
+        for (int i = 0; i < SNAPSHOT_INTERVAL; i++) {
+            postingService.credit(testAccount.getId(), AMOUNT);
+        }
+        Date time = new Date();
+        Thread.sleep(10L); // So that the following events are recorded after that time
+        postingService.debit(testAccount.getId(), CREDIT);
+
+        assertThat(accountEventService.getState(testAccount.getId(), time)).hasValueSatisfying(state -> {
+            assertThat(state.getSequence()).isEqualTo(SNAPSHOT_INTERVAL + 2L);
+            assertThat(state.getBalance()).isEqualTo(CREDIT.getMinorUnits() + AMOUNT.getMinorUnits() *
+                    SNAPSHOT_INTERVAL);
+        });
+        assertThat(accountEventService.getState(testAccount.getId(), new Date(0L))).isEmpty();
+    }
+
+    /**
+     * Tests {@link TransactionService#createAll(Iterable)}, whose transactions are recorded as events as well
+     */
+    @Test
+    public void testRecordEventsOfBulkImport() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 2 * SNAPSHOT_INTERVAL; i++) {
+            transactions.add(new Transaction(0L, AMOUNT, testAccount));
+        }
+        transactionService.createAll(transactions);
+
+        assertThat(accountEventService.getEvents(testAccount.getId())).hasSize(transactions.size() + 2);
+        assertThat(getSnapshots()).hasSize(2);
+        assertThat(accountEventService.getState(testAccount.getId())).hasValueSatisfying(state ->
+                assertThat(state.getBalance()).isEqualTo(ledgerService.getBalance(testAccount.getId()).get()
+                        .getBalance()));
+    }
+
+    /**
+     * Tests that the events of an account remain after the account is deleted
+     */
+    @Test
+    public void testEventsRemainAfterDelete() {
+        assertThat(accountService.delete(testAccount.getId())).isTrue();
+
+        assertThat(accountEventService.getEvents(testAccount.getId())).hasSize(2);
+        assertThat(accountEventService.getState(testAccount.getId())).hasValueSatisfying(state ->
+                assertThat(state.getCustomerId()).isEqualTo(testCustomer.getId()));
+    }
+
+    /**
+     * Returns the snapshots of the test account, as the database is shared with the other integration tests
+     */
+    private List<AccountSnapshot> getSnapshots() {
+        return accountSnapshotRepository.findAll().stream()
+                .filter(snapshot -> snapshot.getAccountId() == testAccount.getId())
+                .collect(Collectors.toList());
+    }
+}
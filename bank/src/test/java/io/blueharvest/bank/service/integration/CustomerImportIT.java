@@ -0,0 +1,96 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.dto.CustomerImportReport;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.service.CustomerImportService;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link CustomerImportService} that imports customers into the embedded database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class CustomerImportIT {
+    // Surname of the imported customers, as the database is shared with the other integration tests
+    private static final String IMPORTED_SURNAME = "Imported";
+    private static final int ROW_COUNT = 120;
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private CustomerImportService customerImportService;
+    @Inject
+    private CacheManager cacheManager;
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} for a file spanning several batches with a
+     * rejected row
+     */
+    @Test
+    public void testImportCustomers() {
+        StringBuilder csv = new StringBuilder("name,surname,address,postcode\r\n");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            csv.append(NAME).append(i).append(',').append(IMPORTED_SURNAME).append(",\"").append(ADDRESS)
+                    .append(", ").append(i).append("\",").append(i == ROW_COUNT / 2 ? "" : POSTCODE).append("\r\n");
+        }
+
+        CustomerImportReport report = customerImportService.importCustomers(new StringReader(csv.toString()));
+
+        assertThat(report.getRowCount()).isEqualTo(ROW_COUNT);
+        assertThat(report.getCreatedCount()).isEqualTo(ROW_COUNT - 1);
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.getErrors().get(0).getRow()).isEqualTo(ROW_COUNT / 2 + 2L); // Counting from the header
+
+        List<Customer> customers = customerRepository.findAll().stream()
+                .filter(customer -> IMPORTED_SURNAME.equals(customer.getSurname()))
+                .collect(Collectors.toList());
+        assertThat(customers).hasSize(ROW_COUNT - 1);
+        assertThat(customers).extracting(Customer::getId).doesNotHaveDuplicates();
+        assertThat(customers).extracting(Customer::getAddress).contains(ADDRESS + ", 0");
+    }
+
+    /**
+     * Tests {@link CustomerImportService#importCustomers(java.io.Reader)} but for an unterminated quoted field, which
+     * rejects the whole file
+     */
+    @Test
+    public void testImportMalformedFile() {
+        String csv = "name,surname,address,postcode\n" + NAME + "," + IMPORTED_SURNAME + "," + ADDRESS + "," + POSTCODE +
+                "\n" + NAME + "," + IMPORTED_SURNAME + ",\"" + ADDRESS + "," + POSTCODE + "\n";
+
+        try {
+            customerImportService.importCustomers(new StringReader(csv));
+        } catch (IllegalArgumentException exp) {
+            // Expected, as the file is malformed
+        }
+
+        assertThat(customerRepository.findAll()).extracting(Customer::getSurname).doesNotContain(IMPORTED_SURNAME);
+    }
+}
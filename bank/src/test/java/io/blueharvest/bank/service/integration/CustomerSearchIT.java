@@ -0,0 +1,119 @@
+package io.blueharvest.bank.service.integration;
+
+import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.search.CustomerSearchIndex;
+import io.blueharvest.bank.service.CustomerService;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.MODIFIED_POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.Pagination.DEFAULT_PAGE_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link CustomerSearchIndex}, which is kept up to date by {@link CustomerService} along
+ * with the customers in the embedded database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class CustomerSearchIT {
+    // Surnames of the test customers, as the database is shared with the other integration tests
+    private static final String SURNAME = "Searchable";
+    private static final String OTHER_SURNAME = "Findable";
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private CustomerService customerService;
+    @Inject
+    private CustomerSearchIndex customerSearchIndex;
+    @Inject
+    private PlatformTransactionManager transactionManager;
+    @Inject
+    private CacheManager cacheManager;
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    /**
+     * Tests that created, updated and deleted customers are found by {@link CustomerService#search} accordingly
+     */
+    @Test
+    public void testSearchFollowsChanges() {
+        Customer customer = customerService.create(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        assertThat(customerService.search(null, "searcha", null, false, DEFAULT_PAGE_SIZE))
+                .extracting(Customer::getId).containsExactly(customer.getId());
+
+        customer.setPostcode(MODIFIED_POSTCODE);
+        assertThat(customerService.update(customer)).isTrue();
+        assertThat(customerService.search(null, SURNAME, POSTCODE, false, DEFAULT_PAGE_SIZE)).isEmpty();
+        assertThat(customerService.search(null, SURNAME, MODIFIED_POSTCODE, false, DEFAULT_PAGE_SIZE))
+                .extracting(Customer::getPostcode).containsExactly(MODIFIED_POSTCODE);
+
+        assertThat(customerService.delete(customer.getId())).isTrue();
+        assertThat(customerService.search(null, SURNAME, null, true, DEFAULT_PAGE_SIZE)).isEmpty();
+    }
+
+    /**
+     * Tests that the customers created by {@link CustomerService#createAll(Iterable)} are found by a fuzzy search
+     */
+    @Test
+    public void testFuzzySearchOfBulkCreatedCustomers() {
+        customerService.createAll(ImmutableList.of(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE),
+                new Customer(0L, NAME, OTHER_SURNAME, ADDRESS, POSTCODE)));
+
+        assertThat(customerService.search(null, "Fidnable", null, true, DEFAULT_PAGE_SIZE))
+                .extracting(Customer::getSurname).containsExactly(OTHER_SURNAME);
+    }
+
+    /**
+     * Tests that customers created in a transaction that is rolled back are not added to the index
+     */
+    @Test
+    public void testRolledBackCreateIsNotIndexed() {
+        int indexedCustomers = customerSearchIndex.size();
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            customerService.create(new Customer(0L, NAME, OTHER_SURNAME, ADDRESS, POSTCODE));
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertThat(customerSearchIndex.size()).isEqualTo(indexedCustomers);
+    }
+
+    /**
+     * Tests {@link CustomerService#rebuildSearchIndex()}, which adds the customers stored without the service
+     */
+    @Test
+    public void testRebuildSearchIndex() {
+        Customer customer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        assertThat(customerService.search(null, SURNAME, null, false, DEFAULT_PAGE_SIZE)).isEmpty();
+
+        customerService.rebuildSearchIndex();
+
+        assertThat(customerService.search(null, SURNAME, null, false, DEFAULT_PAGE_SIZE))
+                .extracting(Customer::getId).containsExactly(customer.getId());
+    }
+}
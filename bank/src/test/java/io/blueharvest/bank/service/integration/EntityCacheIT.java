@@ -0,0 +1,123 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.CacheStatisticsService;
+import io.blueharvest.bank.service.CustomerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.Caches.ACCOUNTS_CACHE;
+import static io.blueharvest.bank.constant.Caches.CUSTOMERS_CACHE;
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.MODIFIED_POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for the read-through caching of {@link CustomerService} and {@link AccountService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class EntityCacheIT {
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private CustomerService customerService;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private CacheStatisticsService cacheStatisticsService;
+    @Inject
+    private CacheManager cacheManager;
+
+    private Customer testCustomer;
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        testCustomer = customerService.create(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        testAccount = accountService.create(new Account(0L, CREDIT, testCustomer));
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    /**
+     * Tests that repeated {@link CustomerService#get(long)} calls are served from the cache
+     */
+    @Test
+    public void testGetCustomerIsCached() {
+        long hitsBefore = hitCount(CUSTOMERS_CACHE);
+
+        customerService.get(testCustomer.getId()); // Miss, loads the customer into the cache
+        customerService.get(testCustomer.getId()); // Hit
+
+        assertThat(hitCount(CUSTOMERS_CACHE)).isEqualTo(hitsBefore + 1);
+    }
+
+    /**
+     * Tests that {@link CustomerService#update(Customer)} evicts the cached customer
+     */
+    @Test
+    public void testUpdateCustomerEvictsCache() {
+        customerService.get(testCustomer.getId());
+
+        testCustomer.setPostcode(MODIFIED_POSTCODE);
+        customerService.update(testCustomer);
+
+        assertThat(customerService.get(testCustomer.getId())).hasValueSatisfying(customer ->
+                assertThat(customer.getPostcode()).isEqualTo(MODIFIED_POSTCODE));
+    }
+
+    /**
+     * Tests that {@link AccountService#delete(long)} evicts the cached account
+     */
+    @Test
+    public void testDeleteAccountEvictsCache() {
+        long hitsBefore = hitCount(ACCOUNTS_CACHE);
+        accountService.get(testAccount.getId());
+        accountService.get(testAccount.getId());
+        assertThat(hitCount(ACCOUNTS_CACHE)).isEqualTo(hitsBefore + 1);
+
+        accountService.delete(testAccount.getId());
+
+        assertThat(accountService.get(testAccount.getId())).isEmpty();
+    }
+
+    private long hitCount(String cacheName) {
+        return cacheStatisticsService.get(cacheName).map(statistics -> statistics.getHitCount()).orElse(-1L);
+    }
+}
@@ -0,0 +1,53 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.Application;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.service.CustomerService;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for the file-backed database of the production profile
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class FilePersistenceIT {
+    private static final String PRODUCTION_PROFILE = "production";
+
+    @Rule
+    public TemporaryFolder dataDirectory = new TemporaryFolder();
+
+    /**
+     * Tests that the data written by one run of the application is read by the next one
+     */
+    @Test
+    public void testDataSurvivesRestart() {
+        long customerId;
+        try (ConfigurableApplicationContext context = start()) {
+            customerId = context.getBean(CustomerService.class)
+                    .create(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE)).getId();
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            assertThat(context.getBean(CustomerService.class).get(customerId))
+                    .hasValueSatisfying(customer -> assertThat(customer.getName()).isEqualTo(NAME));
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(Application.class)
+                .web(false)
+                .profiles(PRODUCTION_PROFILE)
+                .run("--bank.data-dir=" + dataDirectory.getRoot().getAbsolutePath(), "--spring.jmx.enabled=false");
+    }
+}
@@ -0,0 +1,219 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.journal.TransactionJournal;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.RejectedJournalEntry;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.DailyStatementRepository;
+import io.blueharvest.bank.repository.JournalCheckpointRepository;
+import io.blueharvest.bank.repository.RejectedJournalEntryRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.JournalService;
+import io.blueharvest.bank.service.LedgerService;
+import io.blueharvest.bank.service.PostingService;
+import io.blueharvest.bank.service.TransactionService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.inject.Inject;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link JournalService}, which posts the credits through the transaction journal and
+ * applies them to the embedded database in the background
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"bank.journal.enabled=true", "bank.journal.path=" + JournalServiceIT.JOURNAL_PATH})
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class JournalServiceIT {
+    static final String JOURNAL_PATH = "target/journal/transactions.journal";
+    private static final String REPLAYED_JOURNAL_NAME = "replayed.journal";
+    private static final int CAPACITY = 1024;
+    private static final int APPLY_BATCH_SIZE = 2;
+    private static final long AWAIT_TIMEOUT_MILLIS = 5000L;
+    private static final long NONEXISTENT_ID = Long.MAX_VALUE;
+
+    @Rule
+    public TemporaryFolder journalDirectory = new TemporaryFolder();
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private DailyStatementRepository dailyStatementRepository;
+    @Inject
+    private JournalCheckpointRepository journalCheckpointRepository;
+    @Inject
+    private RejectedJournalEntryRepository rejectedJournalEntryRepository;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private TransactionService transactionService;
+    @Inject
+    private LedgerService ledgerService;
+    @Inject
+    private PostingService postingService;
+    @Inject
+    private JournalService journalService;
+    @Inject
+    private PlatformTransactionManager transactionManager;
+    @Inject
+    private CacheManager cacheManager;
+
+    private Account testAccount;
+
+    @BeforeClass
+    public static void deleteJournal() throws Exception {
+        // The journal of a previous build would be replayed against an empty database
+        Files.deleteIfExists(Paths.get(JOURNAL_PATH));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        Customer testCustomer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        testAccount = accountService.create(new Account(0L, CREDIT, testCustomer));
+    }
+
+    @After
+    public void teardown() {
+        journalService.apply();
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+        dailyStatementRepository.deleteAll();
+        journalCheckpointRepository.deleteAll();
+        rejectedJournalEntryRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    /**
+     * Tests {@link PostingService#credit(long, Money)}, which journals the credit and applies it in the background
+     */
+    @Test
+    public void testCredit() {
+        long countOfTransactions = transactionRepository.count();
+
+        Transaction transaction = postingService.credit(testAccount.getId(), AMOUNT);
+        assertThat(transaction.getId()).isZero();
+
+        journalService.awaitApplied(Collections.singleton(testAccount.getId()));
+
+        assertThat(transactionRepository.count()).isEqualTo(countOfTransactions + 1);
+        assertThat(ledgerService.getBalance(testAccount.getId())).hasValueSatisfying(balance ->
+                assertThat(balance.getBalance()).isEqualTo(CREDIT.getMinorUnits() + AMOUNT.getMinorUnits()));
+        assertThat(journalCheckpointRepository.findByJournalName(Paths.get(JOURNAL_PATH).getFileName().toString())
+                .getAppliedSequence()).isPositive();
+    }
+
+    /**
+     * Tests {@link PostingService#debit(long, Money)} right after a journaled credit, which the debit has to see, as
+     * the balance covers the debit only along with the credit
+     */
+    @Test
+    public void testDebitAfterCredit() {
+        postingService.credit(testAccount.getId(), AMOUNT);
+        Transaction debit = postingService.debit(testAccount.getId(),
+                Money.ofMinorUnits(CREDIT.getMinorUnits() + AMOUNT.getMinorUnits()));
+
+        assertThat(debit.getId()).isPositive();
+        assertThat(ledgerService.getBalance(testAccount.getId()))
+                .hasValueSatisfying(balance -> assertThat(balance.getBalance()).isZero());
+    }
+
+    /**
+     * Tests {@link JournalService#apply()} but for an entry of a nonexistent account, which is skipped and kept as a
+     * rejected entry
+     */
+    @Test
+    public void testApplyRejectedEntry() {
+        long countOfTransactions = transactionRepository.count();
+
+        journalService.post(NONEXISTENT_ID, AMOUNT);
+        postingService.credit(testAccount.getId(), AMOUNT);
+
+        journalService.awaitApplied(Collections.singleton(testAccount.getId()));
+
+        assertThat(transactionRepository.count()).isEqualTo(countOfTransactions + 1);
+        assertThat(transactionRepository.findAll()).extracting(transaction -> transaction.getAccount().getId())
+                .containsOnly(testAccount.getId());
+
+        List<RejectedJournalEntry> rejectedEntries = rejectedJournalEntryRepository.findAllByOrderByRejectedTimeAsc();
+        assertThat(rejectedEntries).hasSize(1);
+        assertThat(rejectedEntries.get(0).getAccountId()).isEqualTo(NONEXISTENT_ID);
+        assertThat(rejectedEntries.get(0).getAmount()).isEqualTo(AMOUNT.getMinorUnits());
+        assertThat(rejectedEntries.get(0).getReason()).isNotEmpty();
+    }
+
+    /**
+     * Tests that the entries of a journal that were not applied before the application stopped are applied exactly
+     * once when the journal is opened again
+     */
+    @Test
+    public void testReplay() throws Exception {
+        long countOfTransactions = transactionRepository.count();
+        Path path = journalDirectory.getRoot().toPath().resolve(REPLAYED_JOURNAL_NAME);
+        long time = System.currentTimeMillis();
+        try (TransactionJournal journal = new TransactionJournal(path, CAPACITY, 0L)) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(testAccount.getId(), AMOUNT.getMinorUnits(), time);
+            }
+        }
+
+        JournalService replayingService = openJournalService(path);
+        assertThat(replayingService.apply()).isEqualTo(3L);
+        replayingService.close();
+
+        // Opening the journal again replays nothing, as the checkpoint was stored along with the transactions
+        JournalService reopenedService = openJournalService(path);
+        assertThat(reopenedService.apply()).isZero();
+        reopenedService.close();
+
+        assertThat(transactionRepository.count()).isEqualTo(countOfTransactions + 3);
+        assertThat(journalCheckpointRepository.findByJournalName(REPLAYED_JOURNAL_NAME).getAppliedSequence())
+                .isEqualTo(3L);
+    }
+
+    private JournalService openJournalService(Path path) {
+        return new JournalService(transactionService, journalCheckpointRepository, rejectedJournalEntryRepository,
+                transactionManager, path.toString(), CAPACITY, APPLY_BATCH_SIZE, AWAIT_TIMEOUT_MILLIS,
+                LoggerFactory.getLogger(JournalService.class));
+    }
+}
@@ -0,0 +1,138 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.DailyStatementRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.CustomerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.MODIFIED_CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.MODIFIED_POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration test class for the optimistic locking of {@link AccountService#update(Account)} and
+ * {@link CustomerService#update(Customer)} against the embedded database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class OptimisticLockingIT {
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private DailyStatementRepository dailyStatementRepository;
+    @Inject
+    private CustomerService customerService;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private CacheManager cacheManager;
+
+    private Customer testCustomer;
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        testCustomer = customerService.create(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        testAccount = accountService.create(new Account(0L, CREDIT, testCustomer));
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+        dailyStatementRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    /**
+     * Tests {@link CustomerService#update(Customer)} with two copies of the same customer, of which only the first
+     * update succeeds
+     */
+    @Test
+    public void testUpdateCustomerWithStaleCopy() {
+        Customer firstCopy = customerRepository.findById(testCustomer.getId());
+        Customer secondCopy = customerRepository.findById(testCustomer.getId());
+
+        firstCopy.setPostcode(MODIFIED_POSTCODE);
+        assertThat(customerService.update(firstCopy)).isTrue();
+        assertThat(firstCopy.getVersion()).isEqualTo(secondCopy.getVersion() + 1);
+
+        secondCopy.setName(SURNAME);
+        assertThatThrownBy(() -> customerService.update(secondCopy))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        Customer storedCustomer = customerRepository.findById(testCustomer.getId());
+        assertThat(storedCustomer.getVersion()).isEqualTo(firstCopy.getVersion());
+        assertThat(storedCustomer.getName()).isEqualTo(NAME);
+        assertThat(storedCustomer.getPostcode()).isEqualTo(MODIFIED_POSTCODE);
+
+        // Updating the current copy again succeeds
+        assertThat(customerService.update(firstCopy)).isTrue();
+    }
+
+    /**
+     * Tests {@link AccountService#update(Account)} with two copies of the same account, of which only the first
+     * update succeeds
+     */
+    @Test
+    public void testUpdateAccountWithStaleCopy() {
+        Account firstCopy = accountRepository.findById(testAccount.getId());
+        Account secondCopy = accountRepository.findById(testAccount.getId());
+
+        firstCopy.setCredit(MODIFIED_CREDIT);
+        assertThat(accountService.update(firstCopy)).isTrue();
+        assertThat(firstCopy.getVersion()).isEqualTo(secondCopy.getVersion() + 1);
+
+        assertThatThrownBy(() -> accountService.update(secondCopy))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        Account storedAccount = accountRepository.findById(testAccount.getId());
+        assertThat(storedAccount.getVersion()).isEqualTo(firstCopy.getVersion());
+        assertThat(storedAccount.getCredit()).isEqualTo(MODIFIED_CREDIT);
+    }
+
+    /**
+     * Tests {@link AccountService#update(Account)} but for an account that was deleted in the meantime
+     */
+    @Test
+    public void testUpdateDeletedAccount() {
+        Account staleCopy = accountRepository.findById(testAccount.getId());
+        accountService.delete(testAccount.getId());
+
+        assertThat(accountService.update(staleCopy)).isFalse();
+    }
+}
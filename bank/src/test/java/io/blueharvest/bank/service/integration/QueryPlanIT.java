@@ -0,0 +1,172 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.utils.SqlStatementCounter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class that checks the query plans of the foreign-key lookups against the schema created by the
+ * migrations, so that a dropped or reordered index, or a query that cannot use it, is noticed before the tables grow
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "io.blueharvest.bank.utils.SqlStatementCounter")
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class QueryPlanIT {
+    private static final int COUNT_OF_CUSTOMERS = 10;
+    private static final int COUNT_OF_ACCOUNTS_PER_CUSTOMER = 5;
+    private static final int COUNT_OF_TRANSACTIONS_PER_ACCOUNT = 40;
+    private static final String TRANSACTION_HISTORY_INDEX = "IDX_TRANSACTION_ACCOUNT_TIME";
+    private static final String ACCOUNT_CUSTOMER_INDEX = "IDX_ACCOUNT_CUSTOMER";
+    private static final String ACCOUNT_ID_LOOKUP = "TRANSACTION_ACCOUNT_ID = ?1 */";
+    private static final String INDEX_SORTED = "index sorted";
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private PlatformTransactionManager transactionManager;
+    @Inject
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer testCustomer;
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        // The planner chooses between indexes by the estimated number of rows per key, so the rows are spread over
+        // several customers and accounts, and the statistics are updated afterwards
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < COUNT_OF_CUSTOMERS; i++) {
+            testCustomer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+            for (int j = 0; j < COUNT_OF_ACCOUNTS_PER_CUSTOMER; j++) {
+                testAccount = accountRepository.save(new Account(0L, CREDIT, testCustomer));
+                for (int k = 0; k < COUNT_OF_TRANSACTIONS_PER_ACCOUNT; k++) {
+                    transactions.add(new Transaction(0L, AMOUNT, testAccount));
+                }
+            }
+        }
+        transactionRepository.save(transactions);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @After
+    public void teardown() {
+        transactionRepository.deleteAllInBatch();
+        accountBalanceRepository.deleteAll();
+        accountRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    /**
+     * Tests that {@link TransactionRepository#findHistoryByAccount(Account)} seeks the index on account and time, which
+     * also delivers the transactions in the requested order
+     */
+    @Test
+    public void testFindTransactionsByAccountUsesIndex() throws Exception {
+        SqlStatementCounter.reset();
+        transactionRepository.findHistoryByAccount(testAccount);
+
+        String plan = explainLastStatement(testAccount.getId());
+
+        assertThat(plan).contains(TRANSACTION_HISTORY_INDEX).contains(INDEX_SORTED).doesNotContain(TABLE_SCAN);
+    }
+
+    /**
+     * Tests {@link TransactionRepository#findHistoryByAccount(Account)} but for
+     * {@link TransactionRepository#streamByAccountId(long)}
+     */
+    @Test
+    public void testStreamTransactionsByAccountUsesIndex() throws Exception {
+        SqlStatementCounter.reset();
+        new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<?> transactions = transactionRepository.streamByAccountId(testAccount.getId())) {
+                return transactions.count();
+            }
+        });
+
+        String plan = explainLastStatement(testAccount.getId());
+
+        assertThat(plan).contains(TRANSACTION_HISTORY_INDEX).contains(INDEX_SORTED).doesNotContain(TABLE_SCAN);
+    }
+
+    /**
+     * Tests that {@link TransactionRepository#findByAccountIdAndRanges(long, Date, Date, Money, Money)} only reads
+     * the transactions of the account through an index. The planner of H2 1.4.197 underestimates the selectivity of a
+     * range on the second column of an index, so the index backing the foreign key may be chosen instead of the one on
+     * account and time.
+     */
+    @Test
+    public void testFindTransactionsByAccountAndRangesUsesIndex() throws Exception {
+        Date from = new Date(0L);
+        Date to = new Date();
+        SqlStatementCounter.reset();
+        transactionRepository.findByAccountIdAndRanges(testAccount.getId(), from, to, Money.ZERO, AMOUNT);
+
+        String plan = explainLastStatement(testAccount.getId(), from, to, 0L, AMOUNT.getMinorUnits());
+
+        assertThat(plan).contains(ACCOUNT_ID_LOOKUP).doesNotContain(TABLE_SCAN);
+    }
+
+    /**
+     * Tests that {@link AccountRepository#findByCustomer(Customer)} seeks the index on the customer of the account
+     */
+    @Test
+    public void testFindAccountsByCustomerUsesIndex() throws Exception {
+        SqlStatementCounter.reset();
+        accountRepository.findByCustomer(testCustomer);
+
+        String plan = explainLastStatement(testCustomer.getId());
+
+        assertThat(plan).contains(ACCOUNT_CUSTOMER_INDEX).doesNotContain(TABLE_SCAN);
+    }
+
+    /**
+     * Returns the query plan of the last statement Hibernate prepared, with its parameters bound to the given values
+     */
+    private String explainLastStatement(Object... parameters) {
+        String sql = SqlStatementCounter.lastStatement();
+        assertThat(sql).isNotNull();
+
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+}
@@ -0,0 +1,200 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.dto.BalanceDiscrepancy;
+import io.blueharvest.bank.dto.PartitionReconciliation;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.AccountBalance;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountEventRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.AccountSnapshotRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.DailyStatementRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.CustomerService;
+import io.blueharvest.bank.service.LedgerService;
+import io.blueharvest.bank.service.PostingService;
+import io.blueharvest.bank.service.ReconciliationService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link ReconciliationService} that reconciles the balances maintained while posting
+ * transactions against the embedded database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"bank.reconciliation.partition-size=" + ReconciliationIT.PARTITION_SIZE,
+        "bank.reconciliation.parallelism=2"})
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class ReconciliationIT {
+    static final int PARTITION_SIZE = 2;
+    private static final int ACCOUNT_COUNT = 5;
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private DailyStatementRepository dailyStatementRepository;
+    @Inject
+    private AccountEventRepository accountEventRepository;
+    @Inject
+    private AccountSnapshotRepository accountSnapshotRepository;
+    @Inject
+    private CustomerService customerService;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private PostingService postingService;
+    @Inject
+    private LedgerService ledgerService;
+    @Inject
+    private ReconciliationService reconciliationService;
+    @Inject
+    private CacheManager cacheManager;
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    private Customer testCustomer;
+    private List<Long> testAccountIds;
+
+    @Before
+    public void setUp() throws Exception {
+        testCustomer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+
+        testAccountIds = new ArrayList<>();
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            long accountId = accountService.create(new Account(0L, CREDIT, testCustomer)).getId();
+            postingService.credit(accountId, AMOUNT);
+            testAccountIds.add(accountId);
+        }
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+        dailyStatementRepository.deleteAll();
+        accountEventRepository.deleteAll();
+        accountSnapshotRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    /**
+     * Tests {@link ReconciliationService#reconcile()} for balances matching their transactions
+     */
+    @Test
+    public void testReconcile() {
+        List<PartitionReconciliation> partitions = reconciliationService.reconcile();
+
+        assertThat(getDiscrepancies(partitions)).isEmpty();
+        assertThat(partitions.size()).isGreaterThanOrEqualTo(ACCOUNT_COUNT / PARTITION_SIZE);
+        assertThat(partitions.stream().mapToLong(PartitionReconciliation::getTransactionCount).sum())
+                .isGreaterThanOrEqualTo(2L * ACCOUNT_COUNT);
+        for (int i = 1; i < partitions.size(); i++) {
+            assertThat(partitions.get(i).getFirstAccountId()).isEqualTo(partitions.get(i - 1).getLastAccountId() + 1);
+        }
+    }
+
+    /**
+     * Tests {@link ReconciliationService#reconcile()} for a balance not matching its transactions, which is found by
+     * {@link LedgerService#reconcile()} as well
+     */
+    @Test
+    public void testReconcileWithDiscrepancy() {
+        long accountId = testAccountIds.get(ACCOUNT_COUNT / 2);
+        AccountBalance balance = accountBalanceRepository.findByAccountId(accountId);
+        balance.setBalance(balance.getBalance() + 1);
+        accountBalanceRepository.save(balance);
+
+        List<BalanceDiscrepancy> discrepancies = getDiscrepancies(reconciliationService.reconcile());
+
+        assertThat(discrepancies).extracting(BalanceDiscrepancy::getAccountId).containsExactly(accountId);
+        assertThat(discrepancies.get(0).getBalance()).isEqualTo(CREDIT.plus(AMOUNT).plus(Money.ofMinorUnits(1L)));
+        assertThat(discrepancies.get(0).getTransactionsTotal()).isEqualTo(CREDIT.plus(AMOUNT));
+        assertThat(ledgerService.reconcile()).extracting(BalanceDiscrepancy::getAccountId).contains(accountId);
+    }
+
+    /**
+     * Tests {@link ReconciliationService#reconcile()} for a balance whose transactions are gone, which is compared
+     * against a total of 0 and found by {@link LedgerService#reconcile()} as well
+     */
+    @Test
+    public void testReconcileWithBalanceWithoutTransactions() {
+        long accountId = testAccountIds.get(ACCOUNT_COUNT / 2);
+        new TransactionTemplate(transactionManager).execute(status ->
+                transactionRepository.deleteByAccountId(accountId));
+
+        List<BalanceDiscrepancy> discrepancies = getDiscrepancies(reconciliationService.reconcile());
+
+        assertThat(discrepancies).extracting(BalanceDiscrepancy::getAccountId).containsExactly(accountId);
+        assertThat(discrepancies.get(0).getBalance()).isEqualTo(CREDIT.plus(AMOUNT));
+        assertThat(discrepancies.get(0).getTransactionsTotal()).isEqualTo(Money.ZERO);
+        List<BalanceDiscrepancy> ledgerDiscrepancies = ledgerService.reconcile().stream()
+                .filter(discrepancy -> discrepancy.getAccountId() == accountId)
+                .collect(Collectors.toList());
+        assertThat(ledgerDiscrepancies).hasSize(1);
+        assertThat(ledgerDiscrepancies.get(0).getTransactionsTotal()).isEqualTo(Money.ZERO);
+    }
+
+    /**
+     * Tests {@link ReconciliationService#reconcile()} after deleting a customer, whose accounts leave neither balances
+     * behind that would be compared against a total of 0 nor daily rollups
+     */
+    @Test
+    public void testReconcileAfterCustomerDelete() {
+        assertThat(customerService.delete(testCustomer.getId())).isTrue();
+
+        assertThat(getDiscrepancies(reconciliationService.reconcile())).isEmpty();
+        assertThat(ledgerService.reconcile()).extracting(BalanceDiscrepancy::getAccountId)
+                .doesNotContainAnyElementsOf(testAccountIds);
+        for (long accountId : testAccountIds) {
+            assertThat(accountBalanceRepository.findByAccountId(accountId)).isNull();
+        }
+        assertThat(dailyStatementRepository.findAll()).noneMatch(dailyStatement ->
+                testAccountIds.contains(dailyStatement.getAccountId()));
+    }
+
+    /**
+     * Returns the discrepancies of the test accounts, as the database is shared with the other integration tests
+     */
+    private List<BalanceDiscrepancy> getDiscrepancies(List<PartitionReconciliation> partitions) {
+        return partitions.stream()
+                .flatMap(partition -> partition.getDiscrepancies().stream())
+                .filter(discrepancy -> testAccountIds.contains(discrepancy.getAccountId()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,174 @@
+package io.blueharvest.bank.service.integration;
+
+import com.google.common.collect.ImmutableList;
+import io.blueharvest.bank.dto.AccountStatement;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.DailyStatement;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.DailyStatementRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.LedgerService;
+import io.blueharvest.bank.service.StatementService;
+import io.blueharvest.bank.service.TransactionService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link StatementService} that tests the daily statements maintained while posting
+ * transactions against the embedded database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class StatementServiceIT {
+    private static final int STATEMENT_YEAR = 2020;
+    private static final int STATEMENT_MONTH = 3;
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private DailyStatementRepository dailyStatementRepository;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private TransactionService transactionService;
+    @Inject
+    private LedgerService ledgerService;
+    @Inject
+    private StatementService statementService;
+
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        Customer testCustomer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        testAccount = accountService.create(new Account(0L, CREDIT, testCustomer)); // Posts the initial credit now
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+        dailyStatementRepository.deleteAll();
+    }
+
+    /**
+     * Tests {@link StatementService#apply(Transaction)} through {@link TransactionService#create(Transaction)} with
+     * back-dated transactions, which shift the balances of the following days, against the statements rebuilt from
+     * the transactions
+     */
+    @Test
+    public void testIncrementalStatements() {
+        long amount = AMOUNT.getMinorUnits();
+        postTransaction(amount, "2020-03-01 09:00:00");
+        postTransaction(-amount / 2, "2020-03-01 10:00:00");
+        postTransaction(amount * 2, "2020-03-15 12:00:00");
+        postTransaction(-amount / 4, "2020-02-10 08:00:00"); // Before all days posted so far
+        postTransaction(amount, "2020-12-31 23:00:00");
+
+        AccountStatement monthlyStatement =
+                statementService.getMonthlyStatement(testAccount.getId(), STATEMENT_YEAR, STATEMENT_MONTH);
+        assertThat(monthlyStatement.getTransactionCount()).isEqualTo(3L);
+        assertThat(monthlyStatement.getOpeningBalance()).isEqualTo(Money.ofMinorUnits(-amount / 4));
+        assertThat(monthlyStatement.getCredits()).isEqualTo(Money.ofMinorUnits(amount * 3));
+        assertThat(monthlyStatement.getDebits()).isEqualTo(Money.ofMinorUnits(-amount / 2));
+        assertThat(monthlyStatement.getClosingBalance())
+                .isEqualTo(Money.ofMinorUnits(-amount / 4 + amount * 3 - amount / 2));
+
+        AccountStatement yearlyStatement = statementService.getYearlyStatement(testAccount.getId(), STATEMENT_YEAR);
+        assertThat(yearlyStatement.getTransactionCount()).isEqualTo(5L);
+        assertThat(yearlyStatement.getOpeningBalance()).isEqualTo(Money.ZERO);
+        assertThat(yearlyStatement.getClosingBalance())
+                .isEqualTo(Money.ofMinorUnits(-amount / 4 + amount * 4 - amount / 2));
+
+        // The statement of the current year closes with the balance of the account, including the initial credit
+        AccountStatement currentStatement =
+                statementService.getYearlyStatement(testAccount.getId(), LocalDate.now().getYear());
+        assertThat(ledgerService.getBalance(testAccount.getId())).hasValueSatisfying(balance ->
+                assertThat(currentStatement.getClosingBalance().getMinorUnits()).isEqualTo(balance.getBalance()));
+
+        // Rebuilding the statements from the transactions -> the same rollups as maintained incrementally
+        List<String> incrementalStatements = readDailyStatements();
+        statementService.rebuild(testAccount.getId());
+        assertThat(readDailyStatements()).hasSize(5).isEqualTo(incrementalStatements);
+    }
+
+    /**
+     * Tests {@link StatementService#backfill()} for transactions imported through
+     * {@link TransactionService#createAll(Iterable)} and for statements deleted afterwards
+     */
+    @Test
+    public void testCreateAllAndBackfill() {
+        long amount = AMOUNT.getMinorUnits();
+        transactionService.createAll(ImmutableList.of(transaction(amount, "2020-03-01 09:00:00"),
+                transaction(-amount / 2, "2020-03-31 23:59:59")));
+
+        AccountStatement importedStatement =
+                statementService.getMonthlyStatement(testAccount.getId(), STATEMENT_YEAR, STATEMENT_MONTH);
+        assertThat(importedStatement.getTransactionCount()).isEqualTo(2L);
+        assertThat(importedStatement.getOpeningBalance()).isEqualTo(Money.ZERO);
+        assertThat(importedStatement.getClosingBalance()).isEqualTo(Money.ofMinorUnits(amount - amount / 2));
+
+        List<String> importedStatements = readDailyStatements();
+        dailyStatementRepository.deleteAll();
+
+        assertThat(statementService.backfill()).isPositive();
+        assertThat(readDailyStatements()).isEqualTo(importedStatements);
+    }
+
+    private void postTransaction(long amount, String transactionTime) {
+        transactionService.create(transaction(amount, transactionTime));
+    }
+
+    private Transaction transaction(long amount, String transactionTime) {
+        Transaction transaction = new Transaction(0L, Money.ofMinorUnits(amount), new Account(testAccount.getId()));
+        transaction.setTransactionTime(Timestamp.valueOf(transactionTime));
+
+        return transaction;
+    }
+
+    private List<String> readDailyStatements() {
+        return dailyStatementRepository.findAll().stream()
+                .filter(dailyStatement -> dailyStatement.getAccountId() == testAccount.getId())
+                .sorted(Comparator.comparing(DailyStatement::getStatementDay))
+                .map(DailyStatement::toString)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,154 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.dto.DailyTransactionTotal;
+import io.blueharvest.bank.dto.TransactionDto;
+import io.blueharvest.bank.dto.TransactionSummary;
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.model.Money;
+import io.blueharvest.bank.model.Transaction;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.LedgerService;
+import io.blueharvest.bank.service.TransactionService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.AMOUNT;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link TransactionService} that tests bulk ingestion and the range and aggregate queries
+ * against the embedded database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class TransactionServiceIT {
+    private static final int COUNT_OF_IMPORTED_TRANSACTIONS = 1234;
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private TransactionService transactionService;
+    @Inject
+    private LedgerService ledgerService;
+
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        Customer testCustomer = customerRepository.save(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        testAccount = accountService.create(new Account(0L, CREDIT, testCustomer));
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+    }
+
+    /**
+     * Tests {@link TransactionService#createAll(Iterable)} with several batches and a partial last batch
+     */
+    @Test
+    public void testCreateAll() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < COUNT_OF_IMPORTED_TRANSACTIONS; i++) {
+            transactions.add(new Transaction(0L, AMOUNT, new Account(testAccount.getId())));
+        }
+
+        long createdTransactions = transactionService.createAll(transactions);
+
+        assertThat(createdTransactions).isEqualTo(COUNT_OF_IMPORTED_TRANSACTIONS);
+        assertThat(transactionRepository.count()).isEqualTo(COUNT_OF_IMPORTED_TRANSACTIONS + 1L); // Plus the initial
+        assertThat(ledgerService.getBalance(testAccount.getId())).hasValueSatisfying(balance ->
+                assertThat(balance.getBalance())
+                        .isEqualTo(CREDIT.getMinorUnits() + COUNT_OF_IMPORTED_TRANSACTIONS * AMOUNT.getMinorUnits()));
+        assertThat(ledgerService.reconcile()).isEmpty();
+
+        // Stream the history back -> the initial transaction plus all imported ones, in ID order
+        List<Long> exportedIds = new ArrayList<>();
+        transactionService.forEachTransactionForAccount(testAccount.getId(), transaction -> {
+            assertThat(transaction.getAccountId()).isEqualTo(testAccount.getId());
+            exportedIds.add(transaction.getId());
+        });
+        assertThat(exportedIds).hasSize(COUNT_OF_IMPORTED_TRANSACTIONS + 1).isSorted();
+    }
+
+    /**
+     * Tests {@link TransactionService#findTransactionsForAccount(long, Date, Date, Money, Money)},
+     * {@link TransactionService#summarizeTransactionsForAccount(long, Date, Date)} and
+     * {@link TransactionService#getDailyTotalsForAccount(long, Date, Date)} against transactions on two days
+     */
+    @Test
+    public void testRangeAndAggregateQueries() {
+        Date firstDay = Timestamp.valueOf("2026-10-01 09:00:00");
+        Date secondDay = Timestamp.valueOf("2026-10-02 09:00:00");
+        long amount = AMOUNT.getMinorUnits();
+        saveTransaction(amount, firstDay);
+        saveTransaction(-amount / 2, firstDay);
+        saveTransaction(amount * 2, secondDay);
+
+        List<TransactionDto> creditsOnFirstDay = transactionService.findTransactionsForAccount(testAccount.getId(),
+                firstDay, secondDay, Money.ZERO, null);
+        assertThat(creditsOnFirstDay).extracting(TransactionDto::getAmount).containsExactly(AMOUNT);
+
+        // The initial credit is now, so it is excluded by the end of the range
+        TransactionSummary summary = transactionService.summarizeTransactionsForAccount(testAccount.getId(), null,
+                Timestamp.valueOf("2026-10-03 00:00:00"));
+        assertThat(summary.getCount()).isEqualTo(3L);
+        assertThat(summary.getTotal()).isEqualTo(Money.ofMinorUnits(amount * 3 - amount / 2));
+        assertThat(summary.getCredits()).isEqualTo(Money.ofMinorUnits(amount * 3));
+        assertThat(summary.getDebits()).isEqualTo(Money.ofMinorUnits(-amount / 2));
+
+        List<DailyTransactionTotal> dailyTotals = transactionService.getDailyTotalsForAccount(testAccount.getId(),
+                firstDay, Timestamp.valueOf("2026-10-03 00:00:00"));
+        assertThat(dailyTotals).extracting(DailyTransactionTotal::getCount).containsExactly(2L, 1L);
+        assertThat(dailyTotals).extracting(DailyTransactionTotal::getTotal)
+                .containsExactly(Money.ofMinorUnits(amount - amount / 2), Money.ofMinorUnits(amount * 2));
+
+        TransactionSummary emptySummary = transactionService.summarizeTransactionsForAccount(testAccount.getId(),
+                Timestamp.valueOf("2026-09-01 00:00:00"), firstDay);
+        assertThat(emptySummary.getCount()).isZero();
+        assertThat(emptySummary.getTotal()).isEqualTo(Money.ZERO);
+    }
+
+    private void saveTransaction(long amount, Date transactionTime) {
+        Transaction transaction = new Transaction(0L, Money.ofMinorUnits(amount), new Account(testAccount.getId()));
+        transaction.setTransactionTime(transactionTime);
+        transactionRepository.save(transaction);
+    }
+}
@@ -0,0 +1,165 @@
+package io.blueharvest.bank.service.integration;
+
+import io.blueharvest.bank.model.Account;
+import io.blueharvest.bank.model.Customer;
+import io.blueharvest.bank.repository.AccountBalanceRepository;
+import io.blueharvest.bank.repository.AccountRepository;
+import io.blueharvest.bank.repository.CustomerRepository;
+import io.blueharvest.bank.repository.DailyStatementRepository;
+import io.blueharvest.bank.repository.TransactionRepository;
+import io.blueharvest.bank.service.AccountService;
+import io.blueharvest.bank.service.CustomerService;
+import io.blueharvest.bank.utils.SqlStatementCounter;
+import org.hibernate.Hibernate;
+import org.hibernate.ObjectNotFoundException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+
+import static io.blueharvest.bank.constant.FieldValues.ADDRESS;
+import static io.blueharvest.bank.constant.FieldValues.CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.MODIFIED_CREDIT;
+import static io.blueharvest.bank.constant.FieldValues.NAME;
+import static io.blueharvest.bank.constant.FieldValues.POSTCODE;
+import static io.blueharvest.bank.constant.FieldValues.SURNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration test class that checks that the write operations of {@link AccountService} and {@link CustomerService}
+ * tell whether their objects exist from their writes, instead of reading the objects beforehand
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "io.blueharvest.bank.utils.SqlStatementCounter")
+@DirtiesContext // Recreate the database afterwards, as the other integration tests expect fresh ID sequences
+public class WriteStatementCountIT {
+    private static final long NONEXISTENT_ID = Long.MAX_VALUE;
+
+    @Inject
+    private CustomerRepository customerRepository;
+    @Inject
+    private AccountRepository accountRepository;
+    @Inject
+    private TransactionRepository transactionRepository;
+    @Inject
+    private AccountBalanceRepository accountBalanceRepository;
+    @Inject
+    private DailyStatementRepository dailyStatementRepository;
+    @Inject
+    private CustomerService customerService;
+    @Inject
+    private AccountService accountService;
+    @Inject
+    private CacheManager cacheManager;
+
+    private Customer testCustomer;
+    private Account testAccount;
+
+    @Before
+    public void setUp() throws Exception {
+        testCustomer = customerService.create(new Customer(0L, NAME, SURNAME, ADDRESS, POSTCODE));
+        testAccount = accountService.create(new Account(0L, CREDIT, new Customer(testCustomer.getId())));
+
+        // Start from cold caches, so that no lookup is saved by a cache
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    @After
+    public void teardown() {
+        customerRepository.deleteAll();
+        accountRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountBalanceRepository.deleteAll();
+        dailyStatementRepository.deleteAll();
+    }
+
+    /**
+     * Tests {@link AccountService#create(Account)}, which must not read the customer of the account
+     */
+    @Test
+    public void testCreateAccount() {
+        Account createdAccount = accountService.create(new Account(0L, CREDIT, new Customer(testCustomer.getId())));
+
+        assertThat(Hibernate.isInitialized(createdAccount.getCustomer())).isFalse();
+        assertThat(createdAccount.getCustomer().getId()).isEqualTo(testCustomer.getId());
+        assertThat(accountRepository.findById(createdAccount.getId())).isNotNull();
+    }
+
+    /**
+     * Tests {@link AccountService#create(Account)} but for a nonexistent customer, which is told by the insert of the
+     * account
+     */
+    @Test
+    public void testCreateAccountForNonexistentCustomer() {
+        long countOfAccounts = accountRepository.count();
+
+        assertThatThrownBy(() -> accountService.create(new Account(0L, CREDIT, new Customer(NONEXISTENT_ID))))
+                .isInstanceOf(ObjectNotFoundException.class);
+        assertThat(accountRepository.count()).isEqualTo(countOfAccounts);
+    }
+
+    /**
+     * Tests {@link AccountService#update(Account)}, which updates the account by a single statement, followed by the
+     * lookups of the last snapshot and the following events of the account that tell whether its customer changed
+     */
+    @Test
+    public void testUpdateAccount() {
+        Account account = accountRepository.findById(testAccount.getId());
+        account.setCredit(MODIFIED_CREDIT);
+
+        SqlStatementCounter.reset();
+        assertThat(accountService.update(account)).isTrue();
+        assertThat(SqlStatementCounter.count()).isEqualTo(3L);
+    }
+
+    /**
+     * Tests {@link AccountService#delete(long)}, which deletes the balance, the daily rollups, the transactions and
+     * the account by a statement each
+     */
+    @Test
+    public void testDeleteAccount() {
+        SqlStatementCounter.reset();
+        assertThat(accountService.delete(testAccount.getId())).isTrue();
+        assertThat(SqlStatementCounter.count()).isEqualTo(4L);
+
+        assertThat(accountRepository.findById(testAccount.getId())).isNull();
+        assertThat(transactionRepository.findAll()).noneMatch(transaction ->
+                transaction.getAccount().getId() == testAccount.getId());
+        assertThat(accountBalanceRepository.findByAccountId(testAccount.getId())).isNull();
+        assertThat(dailyStatementRepository.findAll()).noneMatch(dailyStatement ->
+                dailyStatement.getAccountId() == testAccount.getId());
+    }
+
+    /**
+     * Tests {@link AccountService#delete(long)} but for a nonexistent account
+     */
+    @Test
+    public void testDeleteNonexistentAccount() {
+        SqlStatementCounter.reset();
+        assertThat(accountService.delete(NONEXISTENT_ID)).isFalse();
+        assertThat(SqlStatementCounter.count()).isEqualTo(4L);
+    }
+
+    /**
+     * Tests {@link CustomerService#delete(long)}, which deletes the accounts and transactions of the customer too
+     */
+    @Test
+    public void testDeleteCustomer() {
+        assertThat(customerService.delete(testCustomer.getId())).isTrue();
+
+        assertThat(customerRepository.findById(testCustomer.getId())).isNull();
+        assertThat(accountRepository.findById(testAccount.getId())).isNull();
+        assertThat(customerService.delete(testCustomer.getId())).isFalse();
+    }
+}
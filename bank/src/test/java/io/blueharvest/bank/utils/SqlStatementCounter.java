@@ -0,0 +1,53 @@
+package io.blueharvest.bank.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hibernate {@link StatementInspector} that counts the SQL statements prepared by Hibernate and keeps the last of them,
+ * so that its query plan can be checked. It is registered through
+ * the "hibernate.session_factory.statement_inspector" property, so Hibernate instantiates it itself and the counter
+ * and the last statement have to be static.
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class SqlStatementCounter implements StatementInspector {
+    private static final AtomicLong COUNT_OF_STATEMENTS = new AtomicLong();
+    private static final AtomicReference<String> LAST_STATEMENT = new AtomicReference<>();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT_OF_STATEMENTS.incrementAndGet();
+        LAST_STATEMENT.set(sql);
+        return sql;
+    }
+
+    /**
+     * Resets the number of counted statements to 0 and forgets the last statement
+     */
+    public static void reset() {
+        COUNT_OF_STATEMENTS.set(0L);
+        LAST_STATEMENT.set(null);
+    }
+
+    /**
+     * Returns the number of statements counted since the last reset
+     *
+     * @return The number of statements
+     */
+    public static long count() {
+        return COUNT_OF_STATEMENTS.get();
+    }
+
+    /**
+     * Returns the last statement prepared since the last reset
+     *
+     * @return The SQL of the statement, or null if no statement was prepared
+     */
+    public static String lastStatement() {
+        return LAST_STATEMENT.get();
+    }
+}